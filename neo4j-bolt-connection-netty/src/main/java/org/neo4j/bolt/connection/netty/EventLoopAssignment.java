@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.neo4j.bolt.connection.values.Type;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * A strategy assigning new connections to the event loops of {@link NettyBoltConnectionProviderFactory} providers.
+ * <p>
+ * The strategy maps every new connection to a key. Connections with equal keys are pinned to the same event loop, so
+ * that their IO and the continuations run on it share a single thread. The keys are spread over the event loops by
+ * their hash codes, distinct keys may share an event loop. The {@literal null} key leaves the assignment to the default
+ * round-robin chooser of the event loop group.
+ * <p>
+ * The key is computed on the thread that requests the connection.
+ * @since 11.0.0
+ */
+@FunctionalInterface
+public interface EventLoopAssignment {
+    /**
+     * Returns the key of a new connection.
+     *
+     * @param uri the target {@link URI}
+     * @param authToken the auth token map or {@literal null}
+     * @return the key or {@literal null} to use the default assignment
+     */
+    Object key(URI uri, Map<String, Value> authToken);
+
+    /**
+     * Returns the default strategy that assigns connections to event loops in a round-robin fashion.
+     *
+     * @return the strategy
+     */
+    static EventLoopAssignment roundRobin() {
+        return (uri, authToken) -> null;
+    }
+
+    /**
+     * Returns a strategy that pins the connections with the same target {@link URI} and auth token, which form a
+     * partition of a connection pool, to the same event loop.
+     *
+     * @return the strategy
+     */
+    static EventLoopAssignment perPartition() {
+        return (uri, authToken) -> {
+            var authKey = new TreeMap<String, String>();
+            if (authToken != null) {
+                for (var entry : authToken.entrySet()) {
+                    var value = entry.getValue();
+                    if (value != null && value.boltValueType() == Type.STRING) {
+                        authKey.put(entry.getKey(), value.asString());
+                    }
+                }
+            }
+            return List.of(uri, authKey);
+        };
+    }
+
+    /**
+     * Returns a strategy that pins the connections requested by threads of the same {@link ThreadGroup} to the same
+     * event loop.
+     * <p>
+     * Threads inherit the group of the thread that creates them, so unless the application creates its thread pools
+     * with dedicated groups, almost all of its threads belong to the {@literal main} group and this strategy pins all
+     * connections to a single event loop. Likewise, all virtual threads share a single group. It is only useful when the
+     * application partitions its threads into groups, for instance with a thread factory per workload.
+     *
+     * @return the strategy
+     */
+    static EventLoopAssignment perThreadGroup() {
+        return (uri, authToken) -> Thread.currentThread().getThreadGroup();
+    }
+}
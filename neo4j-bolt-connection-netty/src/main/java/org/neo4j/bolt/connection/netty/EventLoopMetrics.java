@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty;
+
+/**
+ * A live view of the utilization of a single event loop created by {@link NettyBoltConnectionProviderFactory}.
+ * <p>
+ * The time counters are cumulative since the event loop has started, so utilization over an interval is the
+ * difference of {@link #busyNanos()} divided by the difference of {@link #busyNanos()} and {@link #idleNanos()}
+ * between two samples.
+ * @since 11.0.0
+ */
+public interface EventLoopMetrics {
+    /**
+     * Returns the name of the event loop thread.
+     *
+     * @return the thread name or {@literal null} if the event loop has not started yet
+     */
+    String threadName();
+
+    /**
+     * Returns the time the event loop has spent processing IO events and executing tasks.
+     *
+     * @return the busy time in nanoseconds
+     */
+    long busyNanos();
+
+    /**
+     * Returns the time the event loop has spent waiting for IO events or tasks.
+     *
+     * @return the idle time in nanoseconds
+     */
+    long idleNanos();
+
+    /**
+     * Returns the number of tasks waiting in the event loop queue.
+     *
+     * @return the pending tasks
+     */
+    int pendingTasks();
+
+    /**
+     * Returns the time between submitting a task to the event loop and its execution, as measured by the most recent
+     * probe.
+     * <p>
+     * A probe task is submitted on every call, unless the previous one is still pending. Therefore, the value reflects
+     * the latency observed at the previous call and is {@literal 0} until the first probe completes.
+     *
+     * @return the task latency in nanoseconds
+     */
+    long taskLatencyNanos();
+
+    /**
+     * Returns the highest task latency measured by the probes.
+     *
+     * @return the maximum task latency in nanoseconds
+     */
+    long maxTaskLatencyNanos();
+
+    /**
+     * Returns the number of channels registered with the event loop.
+     *
+     * @return the registered channels
+     */
+    int registeredChannels();
+}
@@ -21,9 +21,11 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.local.LocalAddress;
 import java.net.URI;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.neo4j.bolt.connection.BoltCapability;
 import org.neo4j.bolt.connection.BoltConnection;
@@ -39,6 +41,8 @@ import org.neo4j.bolt.connection.netty.impl.NettyBoltConnectionProvider;
 import org.neo4j.bolt.connection.netty.impl.Scheme;
 import org.neo4j.bolt.connection.netty.impl.async.connection.EventLoopGroupFactory;
 import org.neo4j.bolt.connection.netty.impl.async.connection.NettyTransport;
+import org.neo4j.bolt.connection.netty.impl.async.connection.SslEngineFactory;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
@@ -85,9 +89,31 @@ import org.neo4j.bolt.connection.values.ValueFactory;
  *     false (default). Note that only Netty native transports support this and extra system configuration may be
  *     needed. When either native transport or TCP Fast Open is unavaible, this option is ignored and is effectively
  *     false.</li>
+ *     <li><b>connectionAttemptDelay</b> - Enables racing connection attempts to all resolved addresses of a host as
+ *     described in RFC 8305 (Happy Eyeballs) and sets the {@link Duration} to wait before starting the next attempt.
+ *     The attempts alternate between IPv6 and IPv4 addresses and the next attempt also starts as soon as the previous
+ *     one fails. The first connection that completes the Bolt handshake is used and the others are closed. Defaults to
+ *     {@literal null}, which connects to the first resolved address only. RFC 8305 recommends 250 milliseconds.</li>
  *     <li> <b>preferredCapabilities</b> - A {@link Set} of preferred {@link BoltCapability} that should be
  *     selected when server offers support for them during Bolt handshake. This set or individual entries in the set are
  *     ignored when no support is available or handshake does not support this feature at all.</li>
+ *     <li><b>sslEngine</b> - Defines the TLS engine to be used. Supported values: jdk (default), openssl (requires
+ *     adding netty-tcnative-boringssl-static or another netty-tcnative dependency explicitly), auto. The auto mode
+ *     selects openssl when it is available in runtime and falls back to jdk otherwise. The openssl engine shares a
+ *     single client session cache between all connections using the same {@link javax.net.ssl.SSLContext}, so that
+ *     TLS sessions get resumed on reconnects. It is only used with {@link org.neo4j.bolt.connection.SecurityPlan}
+ *     instances that expose their trust managers, the jdk engine is used otherwise. When openssl is unavailable, this
+ *     option is ignored and is effectively jdk.</li>
+ *     <li><b>eventLoopMetricsConsumer</b> - A {@link Consumer} of {@link EventLoopMetrics} that is notified with a live
+ *     view of every event loop created by the provider. It enables measuring busy and idle time, pending tasks, task
+ *     latency and registered channels of each event loop with all transports. Defaults to {@literal null}, which
+ *     disables the instrumentation. This option is used only when eventLoopGroup is {@literal null}.</li>
+ *     <li><b>eventLoopAssignment</b> - Sets the {@link EventLoopAssignment} that pins new connections to event loops,
+ *     for instance all connections of a pool partition or of a calling thread group. Defaults to {@literal null},
+ *     which uses the round-robin assignment of the event loop group.</li>
+ *     <li><b>valueEncoders</b> - A {@link Map} of {@link org.neo4j.bolt.connection.values.Value} classes to the
+ *     {@link ValueEncoder} instances writing their instances directly to the PackStream output. Defaults to an empty
+ *     map.</li>
  * </ul>
  *
  * @since 4.0.0
@@ -149,21 +175,36 @@ public final class NettyBoltConnectionProviderFactory implements BoltConnectionP
                 "domainNameResolver",
                 DomainNameResolver.class,
                 DefaultDomainNameResolver::getInstance);
+        var connectionAttemptDelay =
+                getConfigEntry(logger, additionalConfig, "connectionAttemptDelay", Duration.class, () -> null);
+        if (connectionAttemptDelay != null && connectionAttemptDelay.isNegative()) {
+            throw new IllegalArgumentException("connectionAttemptDelay must not be negative");
+        }
         var maxVersion = getConfigEntry(logger, additionalConfig, "maxVersion", BoltProtocolVersion.class, () -> null);
         @SuppressWarnings("unchecked")
         Set<BoltCapability> preferredCapabilities =
                 getConfigEntry(logger, additionalConfig, "preferredCapabilities", Set.class, Set::of);
         var preferredCapabilitiesMask = toBoltCapabilitiesMask(preferredCapabilities);
+        var eventLoopAssignment =
+                getConfigEntry(logger, additionalConfig, "eventLoopAssignment", EventLoopAssignment.class, () -> null);
+        var valueEncoders =
+                ValueEncoders.of(getConfigEntry(logger, additionalConfig, "valueEncoders", Map.class, Map::of));
+        var sslEngineFactory = determineSslEngineFactory(logger, additionalConfig);
+        logger.log(System.Logger.Level.TRACE, "Selected sslEngine %s", sslEngineFactory.type());
 
         return new NettyBoltConnectionProvider(
                 eventLoopGroup,
                 nettyTransport,
+                sslEngineFactory,
                 clock,
                 domainNameResolver,
                 localAddress,
                 maxVersion,
                 fastOpen,
+                connectionAttemptDelay,
                 preferredCapabilitiesMask,
+                eventLoopAssignment,
+                valueEncoders,
                 loggingProvider,
                 valueFactory,
                 shutdownEventLoopGroupOnClose,
@@ -176,7 +217,10 @@ public final class NettyBoltConnectionProviderFactory implements BoltConnectionP
                 getConfigEntry(logger, additionalConfig, "eventLoopThreadNamePrefix", String.class, () -> null);
         var nettyTransport = determineTransportType(logger, localAddress, additionalConfig, "auto");
         logger.log(System.Logger.Level.TRACE, "Selected nettyTransport %s", nettyTransport);
-        return new EventLoopGroupFactory(eventLoopThreadNamePrefix, nettyTransport);
+        @SuppressWarnings("unchecked")
+        Consumer<EventLoopMetrics> metricsConsumer =
+                getConfigEntry(logger, additionalConfig, "eventLoopMetricsConsumer", Consumer.class, () -> null);
+        return new EventLoopGroupFactory(eventLoopThreadNamePrefix, nettyTransport, metricsConsumer);
     }
 
     private NettyTransport determineTransportType(
@@ -209,6 +253,23 @@ public final class NettyBoltConnectionProviderFactory implements BoltConnectionP
         };
     }
 
+    private SslEngineFactory determineSslEngineFactory(System.Logger logger, Map<String, ?> additionalConfig) {
+        var sslEngine = getConfigEntry(logger, additionalConfig, "sslEngine", String.class, () -> "jdk");
+        return switch (sslEngine) {
+            case "auto" -> SslEngineFactory.isOpenSslAvailable() ? SslEngineFactory.openSsl() : SslEngineFactory.jdk();
+            case "jdk" -> SslEngineFactory.jdk();
+            case "openssl" -> {
+                if (SslEngineFactory.isOpenSslAvailable()) {
+                    yield SslEngineFactory.openSsl();
+                } else {
+                    logger.log(System.Logger.Level.WARNING, "OpenSSL is not available and will be ignored");
+                    yield SslEngineFactory.jdk();
+                }
+            }
+            default -> throw new IllegalArgumentException("Unexpected sslEngine value: " + sslEngine);
+        };
+    }
+
     private static long toBoltCapabilitiesMask(Set<BoltCapability> boltConnectionCapabilities) {
         var mask = 0L;
         for (var boltConnectionCapability : boltConnectionCapabilities) {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty;
+
+import java.io.IOException;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * An encoder writing application specific {@link Value} implementations directly to the PackStream output of
+ * {@link NettyBoltConnectionProviderFactory} connections.
+ * <p>
+ * Encoders are registered for {@link Value} classes and apply to the instances of the registered classes and their
+ * subclasses, including values nested in lists and maps. They enable applications to send their domain objects
+ * without converting them to the {@link Value} instances of a {@link org.neo4j.bolt.connection.values.ValueFactory}
+ * first. The encoder is resolved once per class and it MUST write exactly one PackStream value for every encoded
+ * value.
+ * <p>
+ * Encoders are invoked on the event loop threads and MUST NOT block.
+ *
+ * @param <T> the value type
+ * @since 11.0.0
+ */
+@FunctionalInterface
+public interface ValueEncoder<T extends Value> {
+    /**
+     * Writes the given value to the output.
+     *
+     * @param value the value
+     * @param output the output
+     * @throws IOException if writing fails
+     */
+    void encode(T value, Output output) throws IOException;
+
+    /**
+     * The PackStream output of a {@link ValueEncoder}.
+     *
+     * @since 11.0.0
+     */
+    interface Output {
+        /**
+         * Writes a null value.
+         *
+         * @throws IOException if writing fails
+         */
+        void packNull() throws IOException;
+
+        /**
+         * Writes a boolean value.
+         *
+         * @param value the value
+         * @throws IOException if writing fails
+         */
+        void pack(boolean value) throws IOException;
+
+        /**
+         * Writes an integer value.
+         *
+         * @param value the value
+         * @throws IOException if writing fails
+         */
+        void pack(long value) throws IOException;
+
+        /**
+         * Writes a float value.
+         *
+         * @param value the value
+         * @throws IOException if writing fails
+         */
+        void pack(double value) throws IOException;
+
+        /**
+         * Writes a bytes value.
+         *
+         * @param value the value
+         * @throws IOException if writing fails
+         */
+        void pack(byte[] value) throws IOException;
+
+        /**
+         * Writes a string value.
+         *
+         * @param value the value
+         * @throws IOException if writing fails
+         */
+        void pack(String value) throws IOException;
+
+        /**
+         * Writes a {@link Value} using the registered encoders or the default encoding.
+         *
+         * @param value the value
+         * @throws IOException if writing fails
+         */
+        void pack(Value value) throws IOException;
+
+        /**
+         * Writes a list header, which MUST be followed by the given number of values.
+         *
+         * @param size the list size
+         * @throws IOException if writing fails
+         */
+        void packListHeader(int size) throws IOException;
+
+        /**
+         * Writes a map header, which MUST be followed by the given number of string keys and values.
+         *
+         * @param size the map size
+         * @throws IOException if writing fails
+         */
+        void packMapHeader(int size) throws IOException;
+
+        /**
+         * Writes a structure header, which MUST be followed by the given number of values.
+         *
+         * @param size the number of structure fields
+         * @param signature the structure signature
+         * @throws IOException if writing fails
+         */
+        void packStructHeader(int size, byte signature) throws IOException;
+    }
+}
@@ -16,10 +16,12 @@
  */
 package org.neo4j.bolt.connection.netty.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.CodecException;
 import io.netty.handler.codec.EncoderException;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayDeque;
@@ -30,7 +32,9 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.neo4j.bolt.connection.AuthInfo;
@@ -41,6 +45,7 @@ import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
 import org.neo4j.bolt.connection.DatabaseName;
 import org.neo4j.bolt.connection.LoggingProvider;
+import org.neo4j.bolt.connection.RecordBuffer;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.exception.BoltClientException;
 import org.neo4j.bolt.connection.exception.BoltConnectionReadTimeoutException;
@@ -61,9 +66,12 @@ import org.neo4j.bolt.connection.message.RollbackMessage;
 import org.neo4j.bolt.connection.message.RouteMessage;
 import org.neo4j.bolt.connection.message.RunMessage;
 import org.neo4j.bolt.connection.message.TelemetryMessage;
+import org.neo4j.bolt.connection.netty.impl.async.inbound.OffHeapRecordBuffer;
 import org.neo4j.bolt.connection.netty.impl.messaging.BoltProtocol;
+import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageHandler;
 import org.neo4j.bolt.connection.netty.impl.messaging.PullMessageHandler;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.spi.Connection;
 import org.neo4j.bolt.connection.netty.impl.util.FutureUtil;
 import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
@@ -140,6 +148,10 @@ public final class BoltConnectionImpl implements BoltConnection {
             ResponseHandler handler, List<Message> messages, ImmutableObservation parentObservation) {
         var flushFuture = new CompletableFuture<Void>();
         return executeInEventLoop(() -> {
+                    var queuedMessages = this.messages.size();
+                    if (queuedMessages > 0) {
+                        handler.onQueuedMessages(queuedMessages);
+                    }
                     this.messages.addAll(messages);
                     flush(handler, flushFuture, parentObservation);
                 })
@@ -177,6 +189,7 @@ public final class BoltConnectionImpl implements BoltConnection {
                     protocolVersion,
                     (key, value) -> {});
             var responseHandler = new ResponseHandleImpl(handler, messages.size(), observation);
+            connection.bindExchangeObservation(observation);
 
             for (var message : messages) {
                 flushStage = flushStage.thenCompose(ignored -> writeMessage(responseHandler, message, observation));
@@ -184,6 +197,7 @@ public final class BoltConnectionImpl implements BoltConnection {
             messages.clear();
 
             flushStage.thenCompose(ignored -> connection.flush()).whenComplete((ignored, throwable) -> {
+                connection.unbindExchangeObservation(observation);
                 if (throwable != null) {
                     throwable = FutureUtil.completionExceptionCause(throwable);
                     if (throwable instanceof CodecException && throwable.getCause() instanceof IOException) {
@@ -353,20 +367,98 @@ public final class BoltConnectionImpl implements BoltConnection {
                 pullMessage.qid(),
                 pullMessage.request(),
                 new PullMessageHandler() {
+                    // queried with the first record, when the handler is already answering this PULL
+                    private long recordBufferLimit = -1L;
+                    private OffHeapRecordBuffer recordBuffer;
+                    private boolean recordBufferHandedOver;
+                    private boolean recordBufferFull;
+                    private boolean recordSpillFailed;
+
                     @Override
                     public void onRecord(List<Value> fields) {
                         handler.onRecord(fields);
                     }
 
+                    @Override
+                    public boolean onEncodedRecord(
+                            ByteBuf message, Function<PackInput, MessageFormat.Reader> readerFactory) {
+                        if (recordSpillFailed) {
+                            // the handler has failed already, the remaining records are dropped
+                            return true;
+                        }
+                        if (recordBufferLimit < 0) {
+                            recordBufferLimit = handler.recordBufferLimit();
+                        }
+                        if (recordBufferLimit <= 0 || recordBufferFull) {
+                            return false;
+                        }
+                        if (recordBuffer == null) {
+                            recordBuffer = new OffHeapRecordBuffer(
+                                    message.alloc(),
+                                    recordBufferLimit,
+                                    handler.recordSpillDirectory(),
+                                    OffHeapRecordBuffer.DEFAULT_SPILL_EXECUTOR,
+                                    OffHeapRecordBuffer.DEFAULT_MAX_PENDING_SPILL_BYTES,
+                                    backlogged -> {
+                                        // the spill writer is left to catch up before more records are read
+                                        if (backlogged) {
+                                            connection.disableAutoRead();
+                                        } else {
+                                            connection.enableAutoRead();
+                                        }
+                                    },
+                                    readerFactory);
+                        }
+                        var spillFailure = recordBuffer.spillFailure();
+                        if (spillFailure != null) {
+                            // fails this exchange only, the connection keeps reading the PULL response
+                            recordSpillFailed = true;
+                            handler.onError(spillFailure);
+                            return true;
+                        }
+                        if (recordBuffer.append(message)) {
+                            if (recordBuffer.spilling()) {
+                                // the spilled records are replayed by the buffer as soon as they are written
+                                handOverRecordBuffer();
+                            }
+                            return true;
+                        }
+                        // the remaining records are delivered individually after the buffered ones
+                        recordBufferFull = true;
+                        completeRecordBuffer();
+                        return false;
+                    }
+
                     @Override
                     public void onError(Throwable throwable) {
+                        completeRecordBuffer();
                         updateState(throwable);
-                        handler.onError(throwable);
+                        if (!recordSpillFailed) {
+                            handler.onError(throwable);
+                        }
                     }
 
                     @Override
                     public void onSummary(PullSummary success) {
-                        handler.onPullSummary(success);
+                        completeRecordBuffer();
+                        if (!recordSpillFailed) {
+                            handler.onPullSummary(success);
+                        }
+                    }
+
+                    private void handOverRecordBuffer() {
+                        if (!recordBufferHandedOver) {
+                            recordBufferHandedOver = true;
+                            handler.onRecordBuffer(recordBuffer);
+                        }
+                    }
+
+                    private void completeRecordBuffer() {
+                        if (recordBuffer != null) {
+                            recordBuffer.complete();
+                            handOverRecordBuffer();
+                            recordBuffer = null;
+                        }
                     }
                 },
                 valueFactory,
@@ -522,7 +614,8 @@ public final class BoltConnectionImpl implements BoltConnection {
 
     @Override
     public CompletionStage<Void> forceClose(String reason) {
-        if (stateRef.getAndSet(BoltConnectionState.CLOSED) != BoltConnectionState.CLOSED) {
+        // the connection may still be open when a graceful close is in progress
+        if (stateRef.getAndSet(BoltConnectionState.CLOSED) != BoltConnectionState.CLOSED || connection.isOpen()) {
             try {
                 return connection.forceClose(reason).exceptionally(ignored -> null);
             } catch (Throwable throwable) {
@@ -599,6 +692,11 @@ public final class BoltConnectionImpl implements BoltConnection {
         return connection.defaultReadTimeoutMillis();
     }
 
+    @Override
+    public Optional<Executor> ioExecutor() {
+        return Optional.of(eventLoop);
+    }
+
     private <T> CompletionStage<T> executeInEventLoop(Runnable runnable) {
         return executeInEventLoop(() -> {
             runnable.run();
@@ -710,6 +808,25 @@ public final class BoltConnectionImpl implements BoltConnection {
             }
         }
 
+        @Override
+        public long recordBufferLimit() {
+            return delegate.recordBufferLimit();
+        }
+
+        @Override
+        public Path recordSpillDirectory() {
+            return delegate.recordSpillDirectory();
+        }
+
+        @Override
+        public void onRecordBuffer(RecordBuffer buffer) {
+            if (!summariesFuture.isDone()) {
+                runIgnoringError(() -> delegate.onRecordBuffer(buffer));
+            } else {
+                buffer.close();
+            }
+        }
+
         @Override
         public void onPullSummary(PullSummary summary) {
             if (!summariesFuture.isDone()) {
@@ -19,10 +19,14 @@ package org.neo4j.bolt.connection.netty.impl;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.local.LocalAddress;
 import java.time.Clock;
+import java.time.Duration;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.DomainNameResolver;
 import org.neo4j.bolt.connection.LoggingProvider;
+import org.neo4j.bolt.connection.netty.EventLoopAssignment;
 import org.neo4j.bolt.connection.netty.impl.async.connection.NettyTransport;
+import org.neo4j.bolt.connection.netty.impl.async.connection.SslEngineFactory;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
@@ -30,24 +34,32 @@ public class ConnectionProviders {
     public static ConnectionProvider netty(
             EventLoopGroup group,
             NettyTransport nettyTransport,
+            SslEngineFactory sslEngineFactory,
             Clock clock,
             DomainNameResolver domainNameResolver,
             LocalAddress localAddress,
             BoltProtocolVersion maxVersion,
             boolean fastOpen,
+            Duration connectionAttemptDelay,
             long preferredCapabilitiesMask,
+            EventLoopAssignment eventLoopAssignment,
+            ValueEncoders valueEncoders,
             LoggingProvider logging,
             ValueFactory valueFactory,
             ObservationProvider observationProvider) {
         return new NettyConnectionProvider(
                 group,
                 nettyTransport,
+                sslEngineFactory,
                 clock,
                 domainNameResolver,
                 localAddress,
                 maxVersion,
                 fastOpen,
+                connectionAttemptDelay,
                 preferredCapabilitiesMask,
+                eventLoopAssignment,
+                valueEncoders,
                 logging,
                 valueFactory,
                 observationProvider);
@@ -21,6 +21,7 @@ import io.netty.channel.local.LocalAddress;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import java.net.URI;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -36,7 +37,10 @@ import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.NotificationConfig;
 import org.neo4j.bolt.connection.SecurityPlan;
 import org.neo4j.bolt.connection.exception.MinVersionAcquisitionException;
+import org.neo4j.bolt.connection.netty.EventLoopAssignment;
 import org.neo4j.bolt.connection.netty.impl.async.connection.NettyTransport;
+import org.neo4j.bolt.connection.netty.impl.async.connection.SslEngineFactory;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.util.FutureUtil;
 import org.neo4j.bolt.connection.observation.ImmutableObservation;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
@@ -57,12 +61,16 @@ public final class NettyBoltConnectionProvider implements BoltConnectionProvider
     public NettyBoltConnectionProvider(
             EventLoopGroup eventLoopGroup,
             NettyTransport nettyTransport,
+            SslEngineFactory sslEngineFactory,
             Clock clock,
             DomainNameResolver domainNameResolver,
             LocalAddress localAddress,
             BoltProtocolVersion maxVersion,
             boolean fastOpen,
+            Duration connectionAttemptDelay,
             long preferredCapabilitiesMask,
+            EventLoopAssignment eventLoopAssignment,
+            ValueEncoders valueEncoders,
             LoggingProvider logging,
             ValueFactory valueFactory,
             boolean shutdownEventLoopGroupOnClose,
@@ -75,12 +83,16 @@ public final class NettyBoltConnectionProvider implements BoltConnectionProvider
         this.connectionProvider = ConnectionProviders.netty(
                 eventLoopGroup,
                 nettyTransport,
+                sslEngineFactory,
                 clock,
                 domainNameResolver,
                 localAddress,
                 maxVersion,
                 fastOpen,
+                connectionAttemptDelay,
                 preferredCapabilitiesMask,
+                eventLoopAssignment,
+                valueEncoders,
                 logging,
                 valueFactory,
                 observationProvider);
@@ -17,21 +17,28 @@
 package org.neo4j.bolt.connection.netty.impl;
 
 import static java.util.Objects.requireNonNull;
+import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes.clearExchangeObservation;
+import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes.setExchangeObservation;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.local.LocalAddress;
 import io.netty.channel.local.LocalChannel;
 import io.netty.resolver.AddressResolverGroup;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -44,13 +51,17 @@ import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.NotificationConfig;
 import org.neo4j.bolt.connection.SecurityPlan;
 import org.neo4j.bolt.connection.exception.BoltClientException;
+import org.neo4j.bolt.connection.netty.EventLoopAssignment;
 import org.neo4j.bolt.connection.netty.impl.async.NetworkConnection;
 import org.neo4j.bolt.connection.netty.impl.async.connection.ChannelConnectedListener;
 import org.neo4j.bolt.connection.netty.impl.async.connection.ChannelPipelineBuilderImpl;
 import org.neo4j.bolt.connection.netty.impl.async.connection.NettyChannelInitializer;
 import org.neo4j.bolt.connection.netty.impl.async.connection.NettyDomainNameResolverGroup;
 import org.neo4j.bolt.connection.netty.impl.async.connection.NettyTransport;
+import org.neo4j.bolt.connection.netty.impl.async.connection.SslEngineFactory;
+import org.neo4j.bolt.connection.netty.impl.async.connection.StaggeredConnector;
 import org.neo4j.bolt.connection.netty.impl.messaging.BoltProtocol;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.spi.Connection;
 import org.neo4j.bolt.connection.netty.impl.util.FutureUtil;
 import org.neo4j.bolt.connection.observation.ImmutableObservation;
@@ -60,14 +71,19 @@ import org.neo4j.bolt.connection.values.ValueFactory;
 
 public final class NettyConnectionProvider implements ConnectionProvider {
     private final EventLoopGroup eventLoopGroup;
+    private final EventLoopAssignment eventLoopAssignment;
+    private final List<EventLoop> eventLoops;
     private final NettyTransport nettyTransport;
+    private final SslEngineFactory sslEngineFactory;
     private final Clock clock;
     private final DomainNameResolver domainNameResolver;
     private final AddressResolverGroup<InetSocketAddress> addressResolverGroup;
     private final LocalAddress localAddress;
     private final BoltProtocolVersion maxVersion;
     private final boolean fastOpen;
+    private final Duration connectionAttemptDelay;
     private final long preferredCapabilitiesMask;
+    private final ValueEncoders valueEncoders;
 
     private final LoggingProvider logging;
     private final ValueFactory valueFactory;
@@ -76,24 +92,33 @@ public final class NettyConnectionProvider implements ConnectionProvider {
     public NettyConnectionProvider(
             EventLoopGroup eventLoopGroup,
             NettyTransport nettyTransport,
+            SslEngineFactory sslEngineFactory,
             Clock clock,
             DomainNameResolver domainNameResolver,
             LocalAddress localAddress,
             BoltProtocolVersion maxVersion,
             boolean fastOpen,
+            Duration connectionAttemptDelay,
             long preferredCapabilitiesMask,
+            EventLoopAssignment eventLoopAssignment,
+            ValueEncoders valueEncoders,
             LoggingProvider logging,
             ValueFactory valueFactory,
             ObservationProvider observationProvider) {
         this.eventLoopGroup = eventLoopGroup;
+        this.eventLoopAssignment = eventLoopAssignment;
+        this.eventLoops = eventLoopAssignment != null ? eventLoops(eventLoopGroup) : List.of();
         this.nettyTransport = Objects.requireNonNull(nettyTransport);
+        this.sslEngineFactory = Objects.requireNonNull(sslEngineFactory);
         this.clock = requireNonNull(clock);
         this.domainNameResolver = requireNonNull(domainNameResolver);
         this.addressResolverGroup = new NettyDomainNameResolverGroup(this.domainNameResolver);
         this.localAddress = localAddress;
         this.maxVersion = maxVersion;
         this.fastOpen = fastOpen;
+        this.connectionAttemptDelay = connectionAttemptDelay;
         this.preferredCapabilitiesMask = preferredCapabilitiesMask;
+        this.valueEncoders = requireNonNull(valueEncoders);
         this.logging = logging;
         this.valueFactory = requireNonNull(valueFactory);
         this.observationProvider = Objects.requireNonNull(observationProvider);
@@ -132,55 +157,71 @@ public final class NettyConnectionProvider implements ConnectionProvider {
         var address = securityPlan != null && securityPlan.expectedHostname() != null
                 ? new BoltServerAddress(securityPlan.expectedHostname(), uriAddress.connectionHost(), uriAddress.port())
                 : uriAddress;
-        var scheme = uri.getScheme();
-        var sslHandshakeFuture = new CompletableFuture<Duration>();
-        var handshakeCompleted = new CompletableFuture<Channel>();
-        var bootstrap = new Bootstrap();
-        bootstrap
-                .group(this.eventLoopGroup)
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.max(connectTimeoutMillis, 0))
-                .option(ChannelOption.SO_KEEPALIVE, true)
-                .option(ChannelOption.SO_REUSEADDR, true)
-                .channel(localAddress != null ? LocalChannel.class : nettyTransport.channelClass(scheme))
-                .resolver(addressResolverGroup)
-                .handler(new NettyChannelInitializer(
-                        address,
-                        securityPlan,
-                        initialisationTimeoutMillis,
-                        clock,
-                        logging,
-                        sslHandshakeFuture,
-                        handshakeCompleted,
-                        maxVersion,
-                        preferredCapabilitiesMask,
-                        valueFactory));
-        if (fastOpen) {
-            bootstrap.option(ChannelOption.TCP_FASTOPEN_CONNECT, true);
+        EventLoopGroup group;
+        try {
+            group = assignEventLoopGroup(uri, authMap);
+        } catch (Throwable throwable) {
+            return CompletableFuture.failedStage(
+                    new BoltClientException("Failed to assign event loop for: " + uri, throwable));
         }
-
-        SocketAddress socketAddress;
-        if (localAddress == null) {
-            if (boltUnixScheme) {
-                socketAddress = nettyTransport.domainSocketAddress(uri.getPath());
+        var scheme = uri.getScheme();
+        CompletableFuture<Channel> handshakeCompleted;
+        if (localAddress != null) {
+            handshakeCompleted = connect(
+                            group,
+                            address,
+                            localAddress,
+                            scheme,
+                            securityPlan,
+                            connectTimeoutMillis,
+                            initialisationTimeoutMillis)
+                    .handshakeCompleted();
+        } else if (boltUnixScheme) {
+            handshakeCompleted = connect(
+                            group,
+                            address,
+                            nettyTransport.domainSocketAddress(uri.getPath()),
+                            scheme,
+                            securityPlan,
+                            connectTimeoutMillis,
+                            initialisationTimeoutMillis)
+                    .handshakeCompleted();
+        } else {
+            List<InetAddress> inetAddresses;
+            try {
+                inetAddresses = Arrays.asList(domainNameResolver.resolve(address.connectionHost()));
+            } catch (Throwable t) {
+                inetAddresses = List.of();
+            }
+            if (connectionAttemptDelay != null && inetAddresses.size() > 1) {
+                handshakeCompleted = new StaggeredConnector<>(
+                                StaggeredConnector.interleaveAddressFamilies(inetAddresses),
+                                inetAddress -> connect(
+                                        group,
+                                        address,
+                                        new InetSocketAddress(inetAddress, address.port()),
+                                        scheme,
+                                        securityPlan,
+                                        connectTimeoutMillis,
+                                        initialisationTimeoutMillis),
+                                connectionAttemptDelay.toMillis(),
+                                group)
+                        .connect();
             } else {
-                try {
-                    socketAddress = new InetSocketAddress(
-                            domainNameResolver.resolve(address.connectionHost())[0], address.port());
-                } catch (Throwable t) {
-                    socketAddress = InetSocketAddress.createUnresolved(address.connectionHost(), address.port());
-                }
+                var socketAddress = inetAddresses.isEmpty()
+                        ? InetSocketAddress.createUnresolved(address.connectionHost(), address.port())
+                        : new InetSocketAddress(inetAddresses.get(0), address.port());
+                handshakeCompleted = connect(
+                                group,
+                                address,
+                                socketAddress,
+                                scheme,
+                                securityPlan,
+                                connectTimeoutMillis,
+                                initialisationTimeoutMillis)
+                        .handshakeCompleted();
             }
-        } else {
-            socketAddress = localAddress;
         }
-        var appendBoltHanshake = !fastOpen || securityPlan != null;
-        installChannelConnectedListener(
-                address,
-                bootstrap.connect(socketAddress),
-                initialisationTimeoutMillis,
-                sslHandshakeFuture,
-                handshakeCompleted,
-                appendBoltHanshake);
         return handshakeCompleted
                 .thenCompose(channel -> {
                     var boltProtocol = BoltProtocol.forChannel(channel);
@@ -190,6 +231,7 @@ public final class NettyConnectionProvider implements ConnectionProvider {
                             address.port(),
                             boltProtocol.version(),
                             (k, v) -> {});
+                    setExchangeObservation(channel, exchangeObservation);
                     return boltProtocol
                             .initializeChannel(
                                     channel,
@@ -207,12 +249,82 @@ public final class NettyConnectionProvider implements ConnectionProvider {
                                     throwable = FutureUtil.completionExceptionCause(throwable);
                                     exchangeObservation.error(throwable);
                                 }
+                                clearExchangeObservation(channel, exchangeObservation);
                                 exchangeObservation.stop();
                             });
                 })
                 .thenApply(channel -> new NetworkConnection(channel, logging));
     }
 
+    private EventLoopGroup assignEventLoopGroup(URI uri, Map<String, Value> authMap) {
+        if (eventLoops.isEmpty()) {
+            return eventLoopGroup;
+        }
+        var key = eventLoopAssignment.key(uri, authMap);
+        if (key == null) {
+            return eventLoopGroup;
+        }
+        var hash = key.hashCode();
+        return eventLoops.get(Math.floorMod(hash ^ (hash >>> 16), eventLoops.size()));
+    }
+
+    private static List<EventLoop> eventLoops(EventLoopGroup eventLoopGroup) {
+        var eventLoops = new ArrayList<EventLoop>();
+        for (var executor : eventLoopGroup) {
+            if (executor instanceof EventLoop eventLoop) {
+                eventLoops.add(eventLoop);
+            }
+        }
+        return List.copyOf(eventLoops);
+    }
+
+    private StaggeredConnector.ConnectionAttempt connect(
+            EventLoopGroup group,
+            BoltServerAddress address,
+            SocketAddress socketAddress,
+            String scheme,
+            SecurityPlan securityPlan,
+            int connectTimeoutMillis,
+            long initialisationTimeoutMillis) {
+        var sslHandshakeFuture = new CompletableFuture<Duration>();
+        var handshakeCompleted = new CompletableFuture<Channel>();
+        var bootstrap = new Bootstrap();
+        bootstrap
+                .group(group)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.max(connectTimeoutMillis, 0))
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.SO_REUSEADDR, true)
+                .channel(localAddress != null ? LocalChannel.class : nettyTransport.channelClass(scheme))
+                .resolver(addressResolverGroup)
+                .handler(new NettyChannelInitializer(
+                        address,
+                        securityPlan,
+                        sslEngineFactory,
+                        initialisationTimeoutMillis,
+                        clock,
+                        logging,
+                        sslHandshakeFuture,
+                        handshakeCompleted,
+                        maxVersion,
+                        preferredCapabilitiesMask,
+                        valueFactory,
+                        valueEncoders));
+        if (fastOpen) {
+            bootstrap.option(ChannelOption.TCP_FASTOPEN_CONNECT, true);
+        }
+
+        var appendBoltHanshake = !fastOpen || securityPlan != null;
+        var channelConnected = bootstrap.connect(socketAddress);
+        installChannelConnectedListener(
+                address,
+                channelConnected,
+                initialisationTimeoutMillis,
+                sslHandshakeFuture,
+                handshakeCompleted,
+                appendBoltHanshake);
+        return new StaggeredConnector.ConnectionAttempt(channelConnected.channel(), handshakeCompleted);
+    }
+
     private void installChannelConnectedListener(
             BoltServerAddress address,
             ChannelFuture channelConnected,
@@ -225,7 +337,7 @@ public final class NettyConnectionProvider implements ConnectionProvider {
         // add listener that sends Bolt handshake bytes when channel is connected
         channelConnected.addListener(new ChannelConnectedListener(
                 address,
-                new ChannelPipelineBuilderImpl(),
+                new ChannelPipelineBuilderImpl(valueEncoders),
                 handshakeCompleted,
                 maxVersion,
                 preferredCapabilitiesMask,
@@ -43,6 +43,7 @@ import org.neo4j.bolt.connection.netty.impl.messaging.Message;
 import org.neo4j.bolt.connection.netty.impl.messaging.request.GoodbyeMessage;
 import org.neo4j.bolt.connection.netty.impl.spi.Connection;
 import org.neo4j.bolt.connection.netty.impl.spi.ResponseHandler;
+import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
 
 /**
  * This connection represents a simple network connection to a remote server. It wraps a channel obtained from a connection pool. The life cycle of this
@@ -104,6 +105,16 @@ public class NetworkConnection implements Connection {
         return writeMessageInEventLoop(message, handler);
     }
 
+    @Override
+    public void bindExchangeObservation(BoltExchangeObservation observation) {
+        ChannelAttributes.setExchangeObservation(channel, observation);
+    }
+
+    @Override
+    public void unbindExchangeObservation(BoltExchangeObservation observation) {
+        ChannelAttributes.clearExchangeObservation(channel, observation);
+    }
+
     @Override
     public CompletionStage<Void> flush() {
         var future = new CompletableFuture<Void>();
@@ -26,6 +26,7 @@ import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.InboundMessageDispatcher;
 import org.neo4j.bolt.connection.netty.impl.messaging.BoltPatchesListener;
+import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
 
 public final class ChannelAttributes {
     private static final AttributeKey<String> CONNECTION_ID = AttributeKey.valueOf("connectionId");
@@ -47,6 +48,8 @@ public final class ChannelAttributes {
     private static final AttributeKey<Long> CONNECTION_READ_TIMEOUT = AttributeKey.valueOf("connectionReadTimeout");
     private static final AttributeKey<Boolean> TELEMETRY_ENABLED = AttributeKey.valueOf("telemetryEnabled");
     private static final AttributeKey<Boolean> SSR_ENABLED = AttributeKey.valueOf("ssr.enabled");
+    private static final AttributeKey<BoltExchangeObservation> EXCHANGE_OBSERVATION =
+            AttributeKey.valueOf("exchangeObservation");
 
     private ChannelAttributes() {}
 
@@ -169,6 +172,18 @@ public final class ChannelAttributes {
         return Optional.ofNullable(get(channel, CLOSING)).orElse(false);
     }
 
+    public static BoltExchangeObservation exchangeObservation(Channel channel) {
+        return get(channel, EXCHANGE_OBSERVATION);
+    }
+
+    public static void setExchangeObservation(Channel channel, BoltExchangeObservation observation) {
+        set(channel, EXCHANGE_OBSERVATION, observation);
+    }
+
+    public static void clearExchangeObservation(Channel channel, BoltExchangeObservation observation) {
+        channel.attr(EXCHANGE_OBSERVATION).compareAndSet(observation, null);
+    }
+
     private static <T> T get(Channel channel, AttributeKey<T> key) {
         return channel.attr(key).get();
     }
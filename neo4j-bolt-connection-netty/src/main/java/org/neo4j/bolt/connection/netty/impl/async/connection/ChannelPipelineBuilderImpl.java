@@ -19,33 +19,64 @@ package org.neo4j.bolt.connection.netty.impl.async.connection;
 import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes.addBoltPatchesListener;
 
 import io.netty.channel.ChannelPipeline;
+import java.util.Objects;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.ChannelErrorHandler;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.ChunkDecoder;
+import org.neo4j.bolt.connection.netty.impl.async.inbound.FusedInboundMessageDecoder;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.InboundMessageHandler;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.MessageDecoder;
 import org.neo4j.bolt.connection.netty.impl.async.outbound.OutboundMessageHandler;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder {
+    private static final boolean DEFAULT_FUSED_INBOUND_DECODER = determineDefaultFusedInboundDecoder();
+
+    private final boolean fusedInboundDecoder;
+    private final ValueEncoders valueEncoders;
+
+    public ChannelPipelineBuilderImpl() {
+        this(DEFAULT_FUSED_INBOUND_DECODER, ValueEncoders.NONE);
+    }
+
+    public ChannelPipelineBuilderImpl(ValueEncoders valueEncoders) {
+        this(DEFAULT_FUSED_INBOUND_DECODER, valueEncoders);
+    }
+
+    public ChannelPipelineBuilderImpl(boolean fusedInboundDecoder, ValueEncoders valueEncoders) {
+        this.fusedInboundDecoder = fusedInboundDecoder;
+        this.valueEncoders = Objects.requireNonNull(valueEncoders);
+    }
+
     @Override
     public void build(
             MessageFormat messageFormat, ChannelPipeline pipeline, LoggingProvider logging, ValueFactory valueFactory) {
         // inbound handlers
-        pipeline.addLast(new ChunkDecoder(logging));
-        pipeline.addLast(new MessageDecoder());
         var channel = pipeline.channel();
-        var inboundMessageHandler = new InboundMessageHandler(messageFormat, logging, valueFactory);
-        addBoltPatchesListener(channel, inboundMessageHandler);
-        pipeline.addLast(inboundMessageHandler);
+        if (fusedInboundDecoder) {
+            var inboundMessageDecoder = new FusedInboundMessageDecoder(messageFormat, logging, valueFactory);
+            addBoltPatchesListener(channel, inboundMessageDecoder);
+            pipeline.addLast(inboundMessageDecoder);
+        } else {
+            pipeline.addLast(new ChunkDecoder(logging));
+            pipeline.addLast(new MessageDecoder());
+            var inboundMessageHandler = new InboundMessageHandler(messageFormat, logging, valueFactory);
+            addBoltPatchesListener(channel, inboundMessageHandler);
+            pipeline.addLast(inboundMessageHandler);
+        }
 
         // outbound handlers
-        var outboundMessageHandler = new OutboundMessageHandler(messageFormat, logging, valueFactory);
+        var outboundMessageHandler = new OutboundMessageHandler(messageFormat, logging, valueFactory, valueEncoders);
         addBoltPatchesListener(channel, outboundMessageHandler);
         pipeline.addLast(OutboundMessageHandler.NAME, outboundMessageHandler);
 
         // last one - error handler
         pipeline.addLast(new ChannelErrorHandler(logging));
     }
+
+    private static boolean determineDefaultFusedInboundDecoder() {
+        return "fused".equals(System.getProperty("inboundMessageDecoder", ""));
+    }
 }
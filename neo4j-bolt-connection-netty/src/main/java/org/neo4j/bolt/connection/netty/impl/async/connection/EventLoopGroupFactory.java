@@ -17,17 +17,24 @@
 package org.neo4j.bolt.connection.netty.impl.async.connection;
 
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollIoHandler;
 import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueIoHandler;
 import io.netty.channel.local.LocalEventLoopGroup;
+import io.netty.channel.local.LocalIoHandler;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.uring.IoUringIoHandler;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.FastThreadLocalThread;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import org.neo4j.bolt.connection.netty.EventLoopMetrics;
 import org.neo4j.bolt.connection.netty.impl.EventLoopThread;
 
 /**
@@ -40,10 +47,17 @@ public final class EventLoopGroupFactory {
 
     private final String threadNamePrefix;
     private final NettyTransport nettyTransport;
+    private final Consumer<EventLoopMetrics> metricsConsumer;
 
     public EventLoopGroupFactory(String threadNamePrefix, NettyTransport nettyTransport) {
+        this(threadNamePrefix, nettyTransport, null);
+    }
+
+    public EventLoopGroupFactory(
+            String threadNamePrefix, NettyTransport nettyTransport, Consumer<EventLoopMetrics> metricsConsumer) {
         this.threadNamePrefix = Objects.requireNonNullElse(threadNamePrefix, THREAD_NAME_PREFIX);
         this.nettyTransport = Objects.requireNonNull(nettyTransport);
+        this.metricsConsumer = metricsConsumer;
     }
 
     public NettyTransport nettyTransport() {
@@ -52,6 +66,13 @@ public final class EventLoopGroupFactory {
 
     @SuppressWarnings("deprecation")
     public EventLoopGroup newEventLoopGroup(int threadCount) {
+        if (metricsConsumer != null) {
+            // instrumentation wraps the transport IoHandler, which requires the Netty 4.2 IoEventLoopGroup
+            return new MultiThreadIoEventLoopGroup(
+                    threadCount,
+                    new DriverThreadFactory(threadNamePrefix),
+                    InstrumentedIoHandler.newFactory(newIoHandlerFactory(), metricsConsumer));
+        }
         return switch (nettyTransport.type()) {
             case NIO -> new DriverEventLoopGroup(threadCount);
             case EPOLL -> new EpollEventLoopGroup(threadCount, new DriverThreadFactory(threadNamePrefix));
@@ -62,6 +83,16 @@ public final class EventLoopGroupFactory {
         };
     }
 
+    private IoHandlerFactory newIoHandlerFactory() {
+        return switch (nettyTransport.type()) {
+            case NIO -> NioIoHandler.newFactory();
+            case EPOLL -> EpollIoHandler.newFactory();
+            case IO_URING -> IoUringIoHandler.newFactory();
+            case KQUEUE -> KQueueIoHandler.newFactory();
+            case LOCAL -> LocalIoHandler.newFactory();
+        };
+    }
+
     /**
      * Assert that current thread is not an event loop used for async IO operations. This check is needed because
      * blocking API methods are implemented on top of corresponding async API methods. Deadlocks might happen when
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.connection;
+
+import io.netty.channel.IoHandle;
+import io.netty.channel.IoHandler;
+import io.netty.channel.IoHandlerContext;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.IoOps;
+import io.netty.channel.IoRegistration;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.netty.util.concurrent.ThreadAwareExecutor;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.neo4j.bolt.connection.netty.EventLoopMetrics;
+
+/**
+ * An {@link IoHandler} that measures the utilization of the event loop it runs in.
+ * <p>
+ * The event loop alternates between running the {@link IoHandler} and executing tasks. The time outside of
+ * {@link #run(IoHandlerContext)} is accounted as busy, while the time inside of it is split into busy and idle using
+ * the active IO time reported by the delegate. All time counters are updated by the event loop thread only
+ * and include the ongoing phase when sampled, so the sampled values are approximate.
+ */
+final class InstrumentedIoHandler implements IoHandler, IoHandlerContext, EventLoopMetrics {
+    private final IoHandler delegate;
+    private final ThreadAwareExecutor executor;
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private final Set<IoRegistration> registrations = ConcurrentHashMap.newKeySet();
+
+    private IoHandlerContext context;
+    private long activeIoNanos;
+
+    private volatile String threadName;
+    private volatile boolean running;
+    private volatile long runStartNanos;
+    private volatile long lastRunEndNanos;
+    private volatile long busyNanos;
+    private volatile long idleNanos;
+    private volatile long taskLatencyNanos;
+    private volatile long maxTaskLatencyNanos;
+
+    InstrumentedIoHandler(IoHandler delegate, ThreadAwareExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    static IoHandlerFactory newFactory(IoHandlerFactory delegate, Consumer<EventLoopMetrics> metricsConsumer) {
+        return executor -> {
+            var handler = new InstrumentedIoHandler(delegate.newHandler(executor), executor);
+            metricsConsumer.accept(handler);
+            return handler;
+        };
+    }
+
+    @Override
+    public void initialize() {
+        threadName = Thread.currentThread().getName();
+        delegate.initialize();
+    }
+
+    @Override
+    public int run(IoHandlerContext context) {
+        var startNanos = System.nanoTime();
+        if (lastRunEndNanos != 0) {
+            busyNanos += startNanos - lastRunEndNanos;
+        }
+        runStartNanos = startNanos;
+        running = true;
+        this.context = context;
+        activeIoNanos = 0;
+        try {
+            return delegate.run(this);
+        } finally {
+            this.context = null;
+            var endNanos = System.nanoTime();
+            var activeNanos = Math.min(activeIoNanos, endNanos - startNanos);
+            busyNanos += activeNanos;
+            idleNanos += endNanos - startNanos - activeNanos;
+            lastRunEndNanos = endNanos;
+            running = false;
+        }
+    }
+
+    @Override
+    public void prepareToDestroy() {
+        delegate.prepareToDestroy();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    @Override
+    public IoRegistration register(IoHandle handle) throws Exception {
+        var registration = new TrackedIoRegistration(delegate.register(handle));
+        registrations.add(registration);
+        return registration;
+    }
+
+    @Override
+    public void wakeup() {
+        delegate.wakeup();
+    }
+
+    @Override
+    public boolean isCompatible(Class<? extends IoHandle> handleType) {
+        return delegate.isCompatible(handleType);
+    }
+
+    // ----- IoHandlerContext passed to the delegate -----
+
+    @Override
+    public boolean canBlock() {
+        return context.canBlock();
+    }
+
+    @Override
+    public long delayNanos(long currentTimeNanos) {
+        return context.delayNanos(currentTimeNanos);
+    }
+
+    @Override
+    public long deadlineNanos() {
+        return context.deadlineNanos();
+    }
+
+    @Override
+    public boolean shouldReportActiveIoTime() {
+        return true;
+    }
+
+    @Override
+    public void reportActiveIoTime(long activeNanos) {
+        activeIoNanos += activeNanos;
+        if (context.shouldReportActiveIoTime()) {
+            context.reportActiveIoTime(activeNanos);
+        }
+    }
+
+    // ----- EventLoopMetrics -----
+
+    @Override
+    public String threadName() {
+        return threadName;
+    }
+
+    @Override
+    public long busyNanos() {
+        var busyNanos = this.busyNanos;
+        var lastRunEndNanos = this.lastRunEndNanos;
+        // include the tasks that are being executed since the last run
+        if (!running && lastRunEndNanos != 0) {
+            busyNanos += Math.max(0, System.nanoTime() - lastRunEndNanos);
+        }
+        return busyNanos;
+    }
+
+    @Override
+    public long idleNanos() {
+        var idleNanos = this.idleNanos;
+        // include the ongoing run, which is mostly spent waiting when it takes long enough to be sampled
+        if (running) {
+            idleNanos += Math.max(0, System.nanoTime() - runStartNanos);
+        }
+        return idleNanos;
+    }
+
+    @Override
+    public int pendingTasks() {
+        return executor instanceof SingleThreadEventExecutor eventExecutor ? eventExecutor.pendingTasks() : 0;
+    }
+
+    @Override
+    public long taskLatencyNanos() {
+        probeTaskLatency();
+        return taskLatencyNanos;
+    }
+
+    @Override
+    public long maxTaskLatencyNanos() {
+        return maxTaskLatencyNanos;
+    }
+
+    @Override
+    public int registeredChannels() {
+        // registrations are removed on cancellation, the ones that became invalid otherwise are pruned when sampled
+        registrations.removeIf(registration -> !registration.isValid());
+        return registrations.size();
+    }
+
+    /**
+     * An {@link IoRegistration} that is no longer counted once cancelled.
+     */
+    private final class TrackedIoRegistration implements IoRegistration {
+        private final IoRegistration delegate;
+
+        private TrackedIoRegistration(IoRegistration delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> T attachment() {
+            return delegate.attachment();
+        }
+
+        @Override
+        public long submit(IoOps ops) {
+            return delegate.submit(ops);
+        }
+
+        @Override
+        public boolean isValid() {
+            return delegate.isValid();
+        }
+
+        @Override
+        public boolean cancel() {
+            registrations.remove(this);
+            return delegate.cancel();
+        }
+    }
+
+    private void probeTaskLatency() {
+        if (probeInFlight.compareAndSet(false, true)) {
+            var submittedNanos = System.nanoTime();
+            try {
+                executor.execute(() -> {
+                    var latencyNanos = System.nanoTime() - submittedNanos;
+                    taskLatencyNanos = latencyNanos;
+                    if (latencyNanos > maxTaskLatencyNanos) {
+                        maxTaskLatencyNanos = latencyNanos;
+                    }
+                    probeInFlight.set(false);
+                });
+            } catch (RejectedExecutionException e) {
+                probeInFlight.set(false);
+            }
+        }
+    }
+}
@@ -30,11 +30,13 @@ import org.neo4j.bolt.connection.BoltServerAddress;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.SecurityPlan;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.InboundMessageDispatcher;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class NettyChannelInitializer extends ChannelInitializer<Channel> {
     private final BoltServerAddress address;
     private final SecurityPlan securityPlan;
+    private final SslEngineFactory sslEngineFactory;
     private final long sslHandshakeTimeoutMillis;
     private final Clock clock;
     private final LoggingProvider logging;
@@ -43,10 +45,12 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel> {
     private final BoltProtocolVersion maxVersion;
     private final long preferredCapabilitiesMask;
     private final ValueFactory valueFactory;
+    private final ValueEncoders valueEncoders;
 
     public NettyChannelInitializer(
             BoltServerAddress address,
             SecurityPlan securityPlan,
+            SslEngineFactory sslEngineFactory,
             long sslHandshakeTimeoutMillis,
             Clock clock,
             LoggingProvider logging,
@@ -55,8 +59,37 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel> {
             BoltProtocolVersion maxVersion,
             long preferredCapabilitiesMask,
             ValueFactory valueFactory) {
+        this(
+                address,
+                securityPlan,
+                sslEngineFactory,
+                sslHandshakeTimeoutMillis,
+                clock,
+                logging,
+                sslHandshakeFuture,
+                handshakeCompleted,
+                maxVersion,
+                preferredCapabilitiesMask,
+                valueFactory,
+                ValueEncoders.NONE);
+    }
+
+    public NettyChannelInitializer(
+            BoltServerAddress address,
+            SecurityPlan securityPlan,
+            SslEngineFactory sslEngineFactory,
+            long sslHandshakeTimeoutMillis,
+            Clock clock,
+            LoggingProvider logging,
+            CompletableFuture<Duration> sslHandshakeFuture,
+            CompletableFuture<Channel> handshakeCompleted,
+            BoltProtocolVersion maxVersion,
+            long preferredCapabilitiesMask,
+            ValueFactory valueFactory,
+            ValueEncoders valueEncoders) {
         this.address = address;
         this.securityPlan = securityPlan;
+        this.sslEngineFactory = Objects.requireNonNull(sslEngineFactory);
         this.sslHandshakeTimeoutMillis = sslHandshakeTimeoutMillis;
         this.clock = clock;
         this.logging = logging;
@@ -65,12 +98,13 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel> {
         this.maxVersion = maxVersion;
         this.preferredCapabilitiesMask = preferredCapabilitiesMask;
         this.valueFactory = Objects.requireNonNull(valueFactory);
+        this.valueEncoders = Objects.requireNonNull(valueEncoders);
     }
 
     @Override
     protected void initChannel(Channel channel) {
         if (securityPlan != null) {
-            var sslHandler = createSslHandler();
+            var sslHandler = createSslHandler(channel);
             var sslHandshakeDurationHandler = new SslHandshakeDurationHandler(channel, sslHandshakeFuture);
             channel.pipeline().addFirst(sslHandler, sslHandshakeDurationHandler);
         } else {
@@ -78,7 +112,7 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel> {
             var fastOpen = Boolean.TRUE.equals(channel.config().getOption(ChannelOption.TCP_FASTOPEN_CONNECT));
             if (fastOpen) {
                 var handshakeHandler = new HandshakeHandler(
-                        new ChannelPipelineBuilderImpl(),
+                        new ChannelPipelineBuilderImpl(valueEncoders),
                         handshakeCompleted,
                         maxVersion,
                         true,
@@ -93,8 +127,8 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel> {
         updateChannelAttributes(channel);
     }
 
-    private SslHandler createSslHandler() {
-        var sslEngine = createSslEngine();
+    private SslHandler createSslHandler(Channel channel) {
+        var sslEngine = createSslEngine(channel);
         var sslHandler = new SslHandler(sslEngine);
         if (sslHandshakeTimeoutMillis >= 0) {
             sslHandler.setHandshakeTimeoutMillis(sslHandshakeTimeoutMillis);
@@ -102,13 +136,12 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel> {
         return sslHandler;
     }
 
-    private SSLEngine createSslEngine() {
-        var sslContext = securityPlan.sslContext();
+    private SSLEngine createSslEngine(Channel channel) {
         var host = securityPlan.expectedHostname();
         if (host == null) {
             host = address.host();
         }
-        var sslEngine = sslContext.createSSLEngine(host, address.port());
+        var sslEngine = sslEngineFactory.newEngine(securityPlan, channel.alloc(), host, address.port());
         sslEngine.setUseClientMode(true);
         if (securityPlan.verifyHostname()) {
             var sslParameters = sslEngine.getSSLParameters();
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.connection;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import org.neo4j.bolt.connection.SecurityPlan;
+
+/**
+ * Creates client {@link SSLEngine} instances for a {@link SecurityPlan}.
+ * <p>
+ * The engines are always created for the peer host and port, so that the TLS sessions are cached per server address
+ * and may be resumed by subsequent connections to the same server.
+ */
+public interface SslEngineFactory {
+    static SslEngineFactory jdk() {
+        return new JdkSslEngineFactory();
+    }
+
+    static boolean isOpenSslAvailable() {
+        return OpenSslEngineFactory.isOpenSslAvailable();
+    }
+
+    static SslEngineFactory openSsl() {
+        return new OpenSslEngineFactory();
+    }
+
+    Type type();
+
+    SSLEngine newEngine(SecurityPlan securityPlan, ByteBufAllocator allocator, String host, int port);
+
+    enum Type {
+        JDK,
+        OPENSSL
+    }
+
+    record JdkSslEngineFactory() implements SslEngineFactory {
+        @Override
+        public Type type() {
+            return Type.JDK;
+        }
+
+        @Override
+        public SSLEngine newEngine(SecurityPlan securityPlan, ByteBufAllocator allocator, String host, int port) {
+            // the client session cache of the SSLContext is keyed by the peer host and port
+            return securityPlan.sslContext().createSSLEngine(host, port);
+        }
+    }
+
+    /**
+     * Uses the netty-tcnative OpenSSL (or BoringSSL) engine when the {@link SecurityPlan} exposes its trust managers
+     * and falls back to the {@link SSLContext} engine otherwise.
+     * <p>
+     * A single {@link SslContext} is shared between all connections using the same {@link SSLContext}, making its
+     * client session cache and session tickets shared too.
+     */
+    final class OpenSslEngineFactory implements SslEngineFactory {
+        private final Map<SSLContext, SslContext> sslContexts = Collections.synchronizedMap(new WeakHashMap<>());
+
+        static boolean isOpenSslAvailable() {
+            // the classes are always present, the native library must be added explicitly
+            return OpenSsl.isAvailable();
+        }
+
+        @Override
+        public Type type() {
+            return Type.OPENSSL;
+        }
+
+        @Override
+        public SSLEngine newEngine(SecurityPlan securityPlan, ByteBufAllocator allocator, String host, int port) {
+            if (securityPlan.trustManagers().isEmpty()) {
+                return securityPlan.sslContext().createSSLEngine(host, port);
+            }
+            var sslContext =
+                    sslContexts.computeIfAbsent(securityPlan.sslContext(), ignored -> newSslContext(securityPlan));
+            return sslContext.newEngine(allocator, host, port);
+        }
+
+        private static SslContext newSslContext(SecurityPlan securityPlan) {
+            // like SSLContext, only the first manager of each kind is used
+            var builder = SslContextBuilder.forClient()
+                    .sslProvider(SslProvider.OPENSSL)
+                    .trustManager(securityPlan.trustManagers().get(0))
+                    // hostname verification is configured per engine
+                    .endpointIdentificationAlgorithm(null);
+            var keyManagers = securityPlan.keyManagers();
+            if (!keyManagers.isEmpty()) {
+                builder.keyManager(keyManagers.get(0));
+            }
+            try {
+                return builder.build();
+            } catch (SSLException e) {
+                throw new IllegalStateException("Failed to create OpenSSL context", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.connection;
+
+import io.netty.channel.Channel;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.neo4j.bolt.connection.netty.impl.util.FutureUtil;
+
+/**
+ * Races staggered connection attempts to multiple addresses of the same server as described in RFC 8305.
+ * <p>
+ * The attempts are started one after another, either when the connection attempt delay elapses or when the previous
+ * attempt fails, whichever happens first. The first attempt that completes the Bolt handshake wins and all other
+ * attempts are closed.
+ *
+ * @param <T> the address type
+ */
+public final class StaggeredConnector<T> {
+    private final List<T> addresses;
+    private final Function<T, ConnectionAttempt> connector;
+    private final long attemptDelayMillis;
+    private final ScheduledExecutorService scheduler;
+    private final CompletableFuture<Channel> result = new CompletableFuture<>();
+    private final List<ConnectionAttempt> attempts = new ArrayList<>();
+
+    private int nextAddressIndex;
+    private int failedAttempts;
+    private Throwable error;
+    private ScheduledFuture<?> nextAttemptFuture;
+    private boolean done;
+
+    public StaggeredConnector(
+            List<T> addresses,
+            Function<T, ConnectionAttempt> connector,
+            long attemptDelayMillis,
+            ScheduledExecutorService scheduler) {
+        if (addresses.isEmpty()) {
+            throw new IllegalArgumentException("At least one address is required");
+        }
+        this.addresses = List.copyOf(addresses);
+        this.connector = Objects.requireNonNull(connector);
+        this.attemptDelayMillis = attemptDelayMillis;
+        this.scheduler = Objects.requireNonNull(scheduler);
+    }
+
+    /**
+     * Sorts the addresses so that the address families alternate, starting with the family of the first address.
+     *
+     * @param addresses the resolved addresses in the preferred order
+     * @return the interleaved addresses
+     */
+    public static List<InetAddress> interleaveAddressFamilies(List<InetAddress> addresses) {
+        if (addresses.isEmpty()) {
+            return addresses;
+        }
+        var preferIpv6 = addresses.get(0) instanceof Inet6Address;
+        var preferred = new ArrayDeque<InetAddress>();
+        var other = new ArrayDeque<InetAddress>();
+        for (var address : addresses) {
+            if (address instanceof Inet6Address == preferIpv6) {
+                preferred.add(address);
+            } else {
+                other.add(address);
+            }
+        }
+        var interleaved = new ArrayList<InetAddress>(addresses.size());
+        while (!preferred.isEmpty() || !other.isEmpty()) {
+            if (!preferred.isEmpty()) {
+                interleaved.add(preferred.poll());
+            }
+            if (!other.isEmpty()) {
+                interleaved.add(other.poll());
+            }
+        }
+        return interleaved;
+    }
+
+    public CompletableFuture<Channel> connect() {
+        startNextAttempt();
+        return result;
+    }
+
+    private void startNextAttempt() {
+        ConnectionAttempt attempt;
+        synchronized (this) {
+            if (done || nextAddressIndex == addresses.size()) {
+                return;
+            }
+            if (nextAttemptFuture != null) {
+                nextAttemptFuture.cancel(false);
+                nextAttemptFuture = null;
+            }
+            attempt = connector.apply(addresses.get(nextAddressIndex++));
+            attempts.add(attempt);
+            if (nextAddressIndex < addresses.size()) {
+                nextAttemptFuture =
+                        scheduler.schedule(this::startNextAttempt, attemptDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        attempt.handshakeCompleted().whenComplete((channel, throwable) -> {
+            if (throwable == null) {
+                onSuccess(attempt, channel);
+            } else {
+                onFailure(FutureUtil.completionExceptionCause(throwable));
+            }
+        });
+    }
+
+    private void onSuccess(ConnectionAttempt winner, Channel channel) {
+        List<ConnectionAttempt> losers;
+        synchronized (this) {
+            if (done) {
+                losers = List.of(winner);
+            } else {
+                done = true;
+                if (nextAttemptFuture != null) {
+                    nextAttemptFuture.cancel(false);
+                }
+                losers = attempts.stream().filter(attempt -> attempt != winner).toList();
+            }
+        }
+        for (var loser : losers) {
+            loser.channel().close();
+        }
+        result.complete(channel);
+    }
+
+    private void onFailure(Throwable throwable) {
+        boolean allFailed;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            if (error == null) {
+                error = throwable;
+            } else if (error != throwable) {
+                error.addSuppressed(throwable);
+            }
+            allFailed = ++failedAttempts == addresses.size();
+            done = allFailed;
+        }
+        if (allFailed) {
+            result.completeExceptionally(error);
+        } else {
+            startNextAttempt();
+        }
+    }
+
+    /**
+     * A single connection attempt.
+     *
+     * @param channel the channel used by the attempt
+     * @param handshakeCompleted the future that is completed once the Bolt handshake completes
+     */
+    public record ConnectionAttempt(Channel channel, CompletableFuture<Channel> handshakeCompleted) {}
+}
@@ -16,6 +16,7 @@
  */
 package org.neo4j.bolt.connection.netty.impl.async.inbound;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import io.netty.buffer.ByteBuf;
@@ -68,6 +69,18 @@ public class ByteBufInput implements PackInput {
         buf.readBytes(into, offset, toRead);
     }
 
+    @Override
+    public String readUtf8(int size) {
+        var string = buf.toString(buf.readerIndex(), size, UTF_8);
+        buf.skipBytes(size);
+        return string;
+    }
+
+    @Override
+    public void skip(int length) {
+        buf.skipBytes(length);
+    }
+
     @Override
     public byte peekByte() {
         return buf.getByte(buf.readerIndex());
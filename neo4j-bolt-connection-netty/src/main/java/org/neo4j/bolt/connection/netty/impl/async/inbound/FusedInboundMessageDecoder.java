@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.inbound;
+
+import static io.netty.buffer.ByteBufUtil.hexDump;
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.neo4j.bolt.connection.LoggingProvider;
+import org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes;
+import org.neo4j.bolt.connection.netty.impl.logging.ChannelActivityLogger;
+import org.neo4j.bolt.connection.netty.impl.messaging.BoltPatchesListener;
+import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.RecordMessage;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackStream;
+import org.neo4j.bolt.connection.values.ValueFactory;
+
+/**
+ * Inbound handler that replaces the {@link ChunkDecoder}, {@link MessageDecoder} and {@link InboundMessageHandler}
+ * chain with a single pipeline stage.
+ * <p>
+ * Chunk headers are parsed directly from the cumulation buffer. A message that fits into a single chunk is read from a
+ * slice of the cumulation buffer without copying, while the bodies of a message spanning multiple chunks are copied into
+ * a reusable buffer instead of being assembled into a composite buffer.
+ */
+public class FusedInboundMessageDecoder extends ByteToMessageDecoder implements BoltPatchesListener {
+    private static final int CHUNK_HEADER_SIZE = 2;
+    // a larger buffer for messages spanning multiple chunks is released once the message is handled
+    private static final int MAX_RETAINED_MESSAGE_BUF_CAPACITY = 64 * 1024;
+
+    private final ByteBufInput input;
+    private final MessageFormat messageFormat;
+    private final LoggingProvider logging;
+    private final ValueFactory valueFactory;
+    private final Function<PackInput, MessageFormat.Reader> readerFactory;
+
+    private InboundMessageDispatcher messageDispatcher;
+    private MessageFormat.Reader reader;
+    private System.Logger log;
+    private ByteBuf messageBuf;
+
+    // the progress of the current message, relative to the reader index of the cumulation buffer
+    private int scannedBytes;
+    private int messageSize;
+    private int chunkCount;
+
+    public FusedInboundMessageDecoder(MessageFormat messageFormat, LoggingProvider logging, ValueFactory valueFactory) {
+        this.input = new ByteBufInput();
+        this.messageFormat = messageFormat;
+        this.logging = logging;
+        this.reader = messageFormat.newReader(input, valueFactory);
+        this.valueFactory = requireNonNull(valueFactory);
+        this.readerFactory = packInput -> messageFormat.newReader(packInput, valueFactory);
+        setCumulator(MERGE_CUMULATOR);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        var channel = ctx.channel();
+        messageDispatcher = requireNonNull(ChannelAttributes.messageDispatcher(channel));
+        log = new ChannelActivityLogger(channel, logging, getClass());
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) {
+        if (messageBuf != null) {
+            messageBuf.release();
+            messageBuf = null;
+        }
+        messageDispatcher = null;
+        log = null;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        while (true) {
+            var headerIndex = in.readerIndex() + scannedBytes;
+            if (in.writerIndex() - headerIndex < CHUNK_HEADER_SIZE) {
+                return;
+            }
+            var chunkSize = in.getUnsignedShort(headerIndex);
+            if (chunkSize == 0) {
+                var messageEndIndex = headerIndex + CHUNK_HEADER_SIZE;
+                if (chunkCount == 0) {
+                    // a NOOP chunk between messages
+                    in.readerIndex(messageEndIndex);
+                } else {
+                    var message = extractMessage(ctx, in);
+                    in.readerIndex(messageEndIndex);
+                    resetProgress();
+                    handleMessage(message);
+                    releaseLargeMessageBuf();
+                    if (ctx.isRemoved()) {
+                        return;
+                    }
+                }
+                continue;
+            }
+            if (in.writerIndex() - headerIndex - CHUNK_HEADER_SIZE < chunkSize) {
+                return;
+            }
+            scannedBytes += CHUNK_HEADER_SIZE + chunkSize;
+            messageSize += chunkSize;
+            chunkCount++;
+        }
+    }
+
+    private ByteBuf extractMessage(ChannelHandlerContext ctx, ByteBuf in) {
+        var index = in.readerIndex();
+        if (chunkCount == 1) {
+            return in.slice(index + CHUNK_HEADER_SIZE, messageSize);
+        }
+        if (messageBuf == null) {
+            messageBuf = ctx.alloc().buffer(messageSize);
+        } else {
+            messageBuf.clear();
+        }
+        var endIndex = index + scannedBytes;
+        while (index < endIndex) {
+            var chunkSize = in.getUnsignedShort(index);
+            messageBuf.writeBytes(in, index + CHUNK_HEADER_SIZE, chunkSize);
+            index += CHUNK_HEADER_SIZE + chunkSize;
+        }
+        return messageBuf;
+    }
+
+    private void releaseLargeMessageBuf() {
+        if (messageBuf != null && messageBuf.capacity() > MAX_RETAINED_MESSAGE_BUF_CAPACITY) {
+            messageBuf.release();
+            messageBuf = null;
+        }
+    }
+
+    private void resetProgress() {
+        scannedBytes = 0;
+        messageSize = 0;
+        chunkCount = 0;
+    }
+
+    private void handleMessage(ByteBuf msg) {
+        if (messageDispatcher.fatalErrorOccurred()) {
+            log.log(
+                    System.Logger.Level.WARNING,
+                    "Message ignored because of the previous fatal error. Channel will be closed. Message:\n%s",
+                    hexDump(msg));
+            return;
+        }
+
+        if (log.isLoggable(System.Logger.Level.TRACE)) {
+            log.log(System.Logger.Level.TRACE, "S: %s", hexDump(msg));
+        }
+
+        if (isRecordMessage(msg) && messageDispatcher.handleEncodedRecordMessage(msg, readerFactory)) {
+            return;
+        }
+
+        input.start(msg);
+        try {
+            reader.read(messageDispatcher);
+        } catch (Throwable error) {
+            throw new DecoderException("Failed to read inbound message:\n" + hexDump(msg) + "\n", error);
+        } finally {
+            input.stop();
+        }
+    }
+
+    private static boolean isRecordMessage(ByteBuf msg) {
+        var readerIndex = msg.readerIndex();
+        return msg.readableBytes() > 2
+                && msg.getByte(readerIndex) == (PackStream.TINY_STRUCT | 1)
+                && msg.getByte(readerIndex + 1) == RecordMessage.SIGNATURE;
+    }
+
+    @Override
+    public void handle(Set<String> patches) {
+        if (patches.contains(DATE_TIME_UTC_PATCH)) {
+            messageFormat.enableDateTimeUtc();
+            reader = messageFormat.newReader(input, valueFactory);
+        }
+    }
+}
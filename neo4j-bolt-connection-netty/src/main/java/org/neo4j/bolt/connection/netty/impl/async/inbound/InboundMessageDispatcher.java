@@ -19,11 +19,13 @@ package org.neo4j.bolt.connection.netty.impl.async.inbound;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes.isClosing;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Function;
 import org.neo4j.bolt.connection.GqlError;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.exception.BoltFailureException;
@@ -31,7 +33,9 @@ import org.neo4j.bolt.connection.exception.BoltGqlErrorException;
 import org.neo4j.bolt.connection.netty.impl.MessageIgnoredException;
 import org.neo4j.bolt.connection.netty.impl.logging.ChannelActivityLogger;
 import org.neo4j.bolt.connection.netty.impl.logging.ChannelErrorLogger;
+import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
 import org.neo4j.bolt.connection.netty.impl.messaging.ResponseMessageHandler;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.spi.ResponseHandler;
 import org.neo4j.bolt.connection.values.Value;
 
@@ -96,6 +100,23 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
         handler.onRecord(fields);
     }
 
+    /**
+     * Offers an encoded RECORD message to the current handler.
+     *
+     * @return {@code true} if the handler has consumed the message, {@code false} if it must be decoded
+     */
+    public boolean handleEncodedRecordMessage(
+            ByteBuf message, Function<PackInput, MessageFormat.Reader> readerFactory) {
+        var handler = handlers.peek();
+        if (handler == null || !handler.onEncodedRecord(message, readerFactory)) {
+            return false;
+        }
+        if (log.isLoggable(System.Logger.Level.DEBUG)) {
+            log.log(System.Logger.Level.DEBUG, "S: RECORD <%d bytes buffered>", message.readableBytes());
+        }
+        return true;
+    }
+
     @Override
     public void handleFailureMessage(GqlError gqlError) {
         if (log.isLoggable(System.Logger.Level.DEBUG)) {
@@ -24,11 +24,15 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.DecoderException;
 import java.util.Set;
+import java.util.function.Function;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes;
 import org.neo4j.bolt.connection.netty.impl.logging.ChannelActivityLogger;
 import org.neo4j.bolt.connection.netty.impl.messaging.BoltPatchesListener;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.RecordMessage;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackStream;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf> implements BoltPatchesListener {
@@ -36,6 +40,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     private final MessageFormat messageFormat;
     private final LoggingProvider logging;
     private final ValueFactory valueFactory;
+    private final Function<PackInput, MessageFormat.Reader> readerFactory;
 
     private InboundMessageDispatcher messageDispatcher;
     private MessageFormat.Reader reader;
@@ -47,6 +52,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
         this.logging = logging;
         this.reader = messageFormat.newReader(input, valueFactory);
         this.valueFactory = requireNonNull(valueFactory);
+        this.readerFactory = packInput -> messageFormat.newReader(packInput, valueFactory);
     }
 
     @Override
@@ -76,6 +82,10 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
             log.log(System.Logger.Level.TRACE, "S: %s", hexDump(msg));
         }
 
+        if (isRecordMessage(msg) && messageDispatcher.handleEncodedRecordMessage(msg, readerFactory)) {
+            return;
+        }
+
         input.start(msg);
         try {
             reader.read(messageDispatcher);
@@ -86,6 +96,13 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
         }
     }
 
+    private static boolean isRecordMessage(ByteBuf msg) {
+        var readerIndex = msg.readerIndex();
+        return msg.readableBytes() > 2
+                && msg.getByte(readerIndex) == (PackStream.TINY_STRUCT | 1)
+                && msg.getByte(readerIndex + 1) == RecordMessage.SIGNATURE;
+    }
+
     @Override
     public void handle(Set<String> patches) {
         if (patches.contains(DATE_TIME_UTC_PATCH)) {
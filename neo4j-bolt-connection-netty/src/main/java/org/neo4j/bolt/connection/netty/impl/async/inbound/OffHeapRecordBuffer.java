@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.neo4j.bolt.connection.GqlError;
+import org.neo4j.bolt.connection.RecordBuffer;
+import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.ResponseMessageHandler;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * A {@link RecordBuffer} that keeps encoded RECORD messages in a single direct {@link ByteBuf} obtained from the
+ * channel allocator, along with an index of the message end offsets.
+ * <p>
+ * When a spill directory is given, the messages that do not fit within the limit are copied and queued for a writer
+ * running on the spill executor, which appends them to a temporary file, each prefixed with its length. The event loop
+ * never touches the file. When the queued copies exceed the maximum pending spill bytes, the
+ * {@link SpillBacklogListener} is told to stop reading until the writer has caught up. Once spilling has started, the buffer may be handed over before it is {@link #complete()}:
+ * iteration replays the messages kept in memory, then the spilled ones as soon as they are written, and waits for
+ * more until the buffer is complete. A failure to write the file is kept in {@link #spillFailure()} and thrown by the
+ * iteration once the records written before it are consumed.
+ * <p>
+ * Iteration decodes the records with a reader of the connection message format, so that they are equal to the ones
+ * delivered by the regular decoding path.
+ */
+public final class OffHeapRecordBuffer implements RecordBuffer {
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    private static final int INITIAL_INDEX_CAPACITY = 64;
+    private static final int SPILL_STREAM_BUFFER_SIZE = 64 * 1024;
+    public static final long DEFAULT_MAX_PENDING_SPILL_BYTES = 8 * 1024 * 1024;
+    // a dedicated pool, since the writer blocks on file IO
+    public static final Executor DEFAULT_SPILL_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "bolt-record-spill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long limit;
+    private final Path spillDirectory;
+    private final Executor spillExecutor;
+    private final long maxPendingSpillBytes;
+    private final SpillBacklogListener spillBacklogListener;
+    private final Function<PackInput, MessageFormat.Reader> readerFactory;
+    private final ByteBuf data;
+    private final List<DataInputStream> spillInputs = new ArrayList<>();
+    private final Queue<ByteBuf> spillQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spillWork = new AtomicInteger();
+    private final AtomicLong pendingSpillBytes = new AtomicLong();
+    private final Object spillBacklogLock = new Object();
+    private int[] endOffsets = new int[INITIAL_INDEX_CAPACITY];
+    // published to the iterating threads by the volatile size
+    private volatile int size;
+    // written on the event loop only
+    private volatile long spilledCount;
+    private volatile long spilledBytes;
+    // accessed by the spill writer only
+    private DataOutputStream spillOutput;
+    private volatile Path spillFile;
+    private volatile UncheckedIOException spillFailure;
+    // guarded by spillBacklogLock
+    private boolean spillBacklogged;
+    // guarded by this
+    private long writtenCount;
+    private boolean completed;
+    private volatile boolean closed;
+
+    public OffHeapRecordBuffer(
+            ByteBufAllocator allocator, long limit, Function<PackInput, MessageFormat.Reader> readerFactory) {
+        this(allocator, limit, null, readerFactory);
+    }
+
+    public OffHeapRecordBuffer(
+            ByteBufAllocator allocator,
+            long limit,
+            Path spillDirectory,
+            Function<PackInput, MessageFormat.Reader> readerFactory) {
+        this(allocator, limit, spillDirectory, DEFAULT_SPILL_EXECUTOR, readerFactory);
+    }
+
+    public OffHeapRecordBuffer(
+            ByteBufAllocator allocator,
+            long limit,
+            Path spillDirectory,
+            Executor spillExecutor,
+            Function<PackInput, MessageFormat.Reader> readerFactory) {
+        this(
+                allocator,
+                limit,
+                spillDirectory,
+                spillExecutor,
+                DEFAULT_MAX_PENDING_SPILL_BYTES,
+                backlogged -> {},
+                readerFactory);
+    }
+
+    public OffHeapRecordBuffer(
+            ByteBufAllocator allocator,
+            long limit,
+            Path spillDirectory,
+            Executor spillExecutor,
+            long maxPendingSpillBytes,
+            SpillBacklogListener spillBacklogListener,
+            Function<PackInput, MessageFormat.Reader> readerFactory) {
+        this.limit = limit;
+        this.spillDirectory = spillDirectory;
+        this.spillExecutor = spillExecutor;
+        this.maxPendingSpillBytes = maxPendingSpillBytes;
+        this.spillBacklogListener = spillBacklogListener;
+        this.readerFactory = readerFactory;
+        var maxCapacity = (int) Math.min(limit, Integer.MAX_VALUE);
+        this.data = allocator.directBuffer(Math.min(INITIAL_CAPACITY, maxCapacity), maxCapacity);
+    }
+
+    /**
+     * Appends the given encoded RECORD message without changing its reader index.
+     * <p>
+     * Once a message has been spilled, all subsequent messages are spilled too, so that the messages kept in memory
+     * do not change anymore.
+     *
+     * @param message the message
+     * @return {@code true} if appended, {@code false} if the message does not fit within the limit and spilling is
+     * disabled
+     */
+    public boolean append(ByteBuf message) {
+        var length = message.readableBytes();
+        if (spilledCount > 0 || (long) data.writerIndex() + length + (long) (size + 1) * Integer.BYTES > limit) {
+            if (spillDirectory == null) {
+                return false;
+            }
+            spill(message, length);
+            return true;
+        }
+        data.writeBytes(message, message.readerIndex(), length);
+        if (size == endOffsets.length) {
+            endOffsets = Arrays.copyOf(endOffsets, size * 2);
+        }
+        endOffsets[size] = data.writerIndex();
+        size = size + 1;
+        return true;
+    }
+
+    /**
+     * Returns whether messages are being spilled, in which case no further messages are kept in memory.
+     *
+     * @return {@code true} if at least one message has been spilled
+     */
+    public boolean spilling() {
+        return spilledCount > 0;
+    }
+
+    /**
+     * Marks the buffer as complete, after which no messages are appended anymore and iteration ends once the spilled
+     * messages are consumed.
+     */
+    public synchronized void complete() {
+        completed = true;
+        notifyAll();
+    }
+
+    /**
+     * Returns the failure of writing the spill file.
+     *
+     * @return the failure or {@code null}
+     */
+    public UncheckedIOException spillFailure() {
+        return spillFailure;
+    }
+
+    @Override
+    public long size() {
+        return size + spilledCount;
+    }
+
+    @Override
+    public long memoryUsage() {
+        return closed ? 0L : data.capacity() + (long) endOffsets.length * Integer.BYTES;
+    }
+
+    @Override
+    public long spilledBytes() {
+        return spilledBytes;
+    }
+
+    @Override
+    public synchronized Iterator<List<Value>> iterator() {
+        assertOpen();
+        return new RecordIterator();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            data.release();
+            spillInputs.forEach(OffHeapRecordBuffer::closeQuietly);
+            spillInputs.clear();
+            notifyAll();
+        }
+        if (spilledCount > 0) {
+            // the writer deletes the file, after any write in progress
+            scheduleSpillWork();
+        }
+    }
+
+    private void spill(ByteBuf message, int length) {
+        if (!closed) {
+            // a copy, since the decoder reuses the memory of the message once it is handled
+            spillQueue.add(message.alloc().directBuffer(length).writeBytes(message, message.readerIndex(), length));
+            if (pendingSpillBytes.addAndGet(length) > maxPendingSpillBytes) {
+                updateSpillBacklog();
+            }
+            scheduleSpillWork();
+        }
+        spilledCount = spilledCount + 1;
+        spilledBytes = spilledBytes + Integer.BYTES + length;
+    }
+
+    private void scheduleSpillWork() {
+        if (spillWork.getAndIncrement() == 0) {
+            spillExecutor.execute(this::runSpillWork);
+        }
+    }
+
+    private void runSpillWork() {
+        var missed = 1;
+        do {
+            writeQueuedMessages();
+            missed = spillWork.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void writeQueuedMessages() {
+        var written = 0L;
+        ByteBuf message;
+        while ((message = spillQueue.poll()) != null) {
+            var length = message.readableBytes();
+            try {
+                if (!closed && spillFailure == null) {
+                    writeSpilledMessage(message);
+                    written++;
+                }
+            } catch (IOException e) {
+                failSpill(e);
+            } finally {
+                message.release();
+                pendingSpillBytes.addAndGet(-length);
+            }
+        }
+        if (written > 0 && spillFailure == null) {
+            try {
+                spillOutput.flush();
+                synchronized (this) {
+                    writtenCount += written;
+                    notifyAll();
+                }
+            } catch (IOException e) {
+                failSpill(e);
+            }
+        }
+        if (closed) {
+            deleteSpillFile();
+        }
+        updateSpillBacklog();
+    }
+
+    private void updateSpillBacklog() {
+        // serialised, so that the listener observes the changes in order
+        synchronized (spillBacklogLock) {
+            var pending = pendingSpillBytes.get();
+            if (!spillBacklogged && pending > maxPendingSpillBytes) {
+                spillBacklogged = true;
+                spillBacklogListener.onSpillBacklog(true);
+            } else if (spillBacklogged && pending <= maxPendingSpillBytes / 2) {
+                spillBacklogged = false;
+                spillBacklogListener.onSpillBacklog(false);
+            }
+        }
+    }
+
+    private void writeSpilledMessage(ByteBuf message) throws IOException {
+        if (spillOutput == null) {
+            spillFile = Files.createTempFile(spillDirectory, "bolt-records-", ".spill");
+            spillOutput = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(spillFile), SPILL_STREAM_BUFFER_SIZE));
+        }
+        var length = message.readableBytes();
+        spillOutput.writeInt(length);
+        message.readBytes(spillOutput, length);
+    }
+
+    private synchronized void failSpill(IOException e) {
+        if (spillFailure == null) {
+            spillFailure = new UncheckedIOException("Failed to spill record to " + spillDirectory, e);
+            notifyAll();
+        }
+    }
+
+    private void deleteSpillFile() {
+        if (spillOutput != null) {
+            closeQuietly(spillOutput);
+            spillOutput = null;
+        }
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException ignored) {
+                // the file is in a temporary directory
+            }
+            spillFile = null;
+        }
+    }
+
+    private synchronized DataInputStream openSpillInput() {
+        assertOpen();
+        try {
+            var input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(spillFile), SPILL_STREAM_BUFFER_SIZE));
+            spillInputs.add(input);
+            return input;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open record spill file " + spillFile, e);
+        }
+    }
+
+    private synchronized void closeSpillInput(DataInputStream input) {
+        spillInputs.remove(input);
+        closeQuietly(input);
+    }
+
+    // guarded by this
+    private long available() {
+        return size + writtenCount;
+    }
+
+    // guarded by this
+    private boolean awaitsRecords() {
+        return !closed && spillFailure == null && (writtenCount < spilledCount || (spilledCount > 0 && !completed));
+    }
+
+    private void assertOpen() {
+        if (closed) {
+            throw new IllegalStateException("Record buffer is closed");
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // nothing to do
+        }
+    }
+
+    /**
+     * Receives the changes of the spill backlog, so that reading can be paused while the spill writer falls behind.
+     */
+    @FunctionalInterface
+    public interface SpillBacklogListener {
+        /**
+         * Handles a change of the spill backlog. It is called on the event loop when the backlog starts and on the
+         * spill executor when it ends.
+         *
+         * @param backlogged {@code true} once the queued copies exceed the maximum pending spill bytes, {@code false}
+         * once the writer has caught up to half of it
+         */
+        void onSpillBacklog(boolean backlogged);
+    }
+
+    private final class RecordIterator implements Iterator<List<Value>>, ResponseMessageHandler {
+        private final ByteBufInput input = new ByteBufInput();
+        private final MessageFormat.Reader reader = readerFactory.apply(input);
+        private long index;
+        private DataInputStream spillInput;
+        private byte[] spillBytes;
+        private List<Value> fields;
+
+        /**
+         * Returns whether there is another record, waiting for the spill writer when the record is not written yet.
+         * It MUST NOT be called on the event loop before the buffer is complete.
+         *
+         * @return {@code true} if there is another record
+         * @throws UncheckedIOException if spilling failed before the record was written
+         */
+        @Override
+        public boolean hasNext() {
+            synchronized (OffHeapRecordBuffer.this) {
+                while (index >= available() && awaitsRecords()) {
+                    try {
+                        OffHeapRecordBuffer.this.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for records", e);
+                    }
+                }
+                if (index < available()) {
+                    return true;
+                }
+                if (spillInput != null) {
+                    closeSpillInput(spillInput);
+                    spillInput = null;
+                }
+                if (spillFailure != null && !closed) {
+                    throw spillFailure;
+                }
+                return false;
+            }
+        }
+
+        @Override
+        public List<Value> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (index < size) {
+                // holds the buffer monitor so that close cannot release the data while a record is decoded from it
+                synchronized (OffHeapRecordBuffer.this) {
+                    assertOpen();
+                    var i = (int) index;
+                    var start = i == 0 ? 0 : endOffsets[i - 1];
+                    decode(data.slice(start, endOffsets[i] - start));
+                }
+            } else {
+                decode(readSpilledMessage());
+            }
+            index++;
+            var result = fields;
+            fields = null;
+            return result;
+        }
+
+        private ByteBuf readSpilledMessage() {
+            if (spillInput == null) {
+                spillInput = openSpillInput();
+                spillBytes = new byte[INITIAL_CAPACITY];
+            }
+            try {
+                var length = spillInput.readInt();
+                if (spillBytes.length < length) {
+                    spillBytes = new byte[length];
+                }
+                spillInput.readFully(spillBytes, 0, length);
+                return Unpooled.wrappedBuffer(spillBytes, 0, length);
+            } catch (IOException e) {
+                assertOpen();
+                throw new UncheckedIOException("Failed to read record spill file " + spillFile, e);
+            }
+        }
+
+        private void decode(ByteBuf message) {
+            input.start(message);
+            try {
+                reader.read(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                input.stop();
+            }
+        }
+
+        @Override
+        public void handleRecordMessage(List<Value> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public void handleSuccessMessage(Map<String, Value> meta) {
+            throw new IllegalStateException("Unexpected SUCCESS message in record buffer");
+        }
+
+        @Override
+        public void handleFailureMessage(GqlError gqlError) {
+            throw new IllegalStateException("Unexpected FAILURE message in record buffer");
+        }
+
+        @Override
+        public void handleIgnoredMessage() {
+            throw new IllegalStateException("Unexpected IGNORED message in record buffer");
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.neo4j.bolt.connection.netty.impl.async.outbound;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
+import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes.exchangeObservation;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.EncoderException;
@@ -30,6 +31,8 @@ import org.neo4j.bolt.connection.netty.impl.logging.ChannelActivityLogger;
 import org.neo4j.bolt.connection.netty.impl.messaging.BoltPatchesListener;
 import org.neo4j.bolt.connection.netty.impl.messaging.Message;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
+import org.neo4j.bolt.connection.netty.impl.messaging.request.RequestMessage;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class OutboundMessageHandler extends MessageToMessageEncoder<Message> implements BoltPatchesListener {
@@ -38,16 +41,26 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message> imp
     private final MessageFormat messageFormat;
     private final LoggingProvider logging;
     private final ValueFactory valueFactory;
+    private final ValueEncoders valueEncoders;
 
     private MessageFormat.Writer writer;
     private System.Logger log;
 
     public OutboundMessageHandler(MessageFormat messageFormat, LoggingProvider logging, ValueFactory valueFactory) {
+        this(messageFormat, logging, valueFactory, ValueEncoders.NONE);
+    }
+
+    public OutboundMessageHandler(
+            MessageFormat messageFormat,
+            LoggingProvider logging,
+            ValueFactory valueFactory,
+            ValueEncoders valueEncoders) {
         this.output = new ChunkAwareByteBufOutput();
         this.messageFormat = messageFormat;
         this.logging = logging;
-        this.writer = messageFormat.newWriter(output, valueFactory);
+        this.writer = messageFormat.newWriter(output, valueFactory, valueEncoders);
         this.valueFactory = Objects.requireNonNull(valueFactory);
+        this.valueEncoders = Objects.requireNonNull(valueEncoders);
     }
 
     @Override
@@ -81,6 +94,10 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message> imp
         }
 
         BoltProtocolUtil.writeMessageBoundary(messageBuf);
+        var observation = exchangeObservation(ctx.channel());
+        if (observation != null && msg instanceof RequestMessage requestMessage) {
+            observation.onEncode(requestMessage.name(), messageBuf.readableBytes());
+        }
         out.add(messageBuf);
     }
 
@@ -88,7 +105,7 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message> imp
     public void handle(Set<String> patches) {
         if (patches.contains(DATE_TIME_UTC_PATCH)) {
             messageFormat.enableDateTimeUtc();
-            writer = messageFormat.newWriter(output, valueFactory);
+            writer = messageFormat.newWriter(output, valueFactory, valueEncoders);
         }
     }
 }
@@ -16,10 +16,14 @@
  */
 package org.neo4j.bolt.connection.netty.impl.handlers;
 
+import io.netty.buffer.ByteBuf;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
 import org.neo4j.bolt.connection.netty.impl.messaging.PullMessageHandler;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.spi.ResponseHandler;
 import org.neo4j.bolt.connection.summary.PullSummary;
 import org.neo4j.bolt.connection.values.Value;
@@ -51,5 +55,10 @@ public class PullResponseHandlerImpl implements ResponseHandler {
         handler.onRecord(fields);
     }
 
+    @Override
+    public boolean onEncodedRecord(ByteBuf message, Function<PackInput, MessageFormat.Reader> readerFactory) {
+        return handler.onEncodedRecord(message, readerFactory);
+    }
+
     public record PullSummaryImpl(boolean hasMore, Map<String, Value> metadata) implements PullSummary {}
 }
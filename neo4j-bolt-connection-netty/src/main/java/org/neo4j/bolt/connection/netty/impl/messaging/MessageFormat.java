@@ -30,7 +30,15 @@ public interface MessageFormat {
         void read(ResponseMessageHandler handler) throws IOException;
     }
 
-    Writer newWriter(PackOutput output, ValueFactory valueFactory);
+    default Writer newWriter(PackOutput output, ValueFactory valueFactory) {
+        return newWriter(output, valueFactory, ValueEncoders.NONE);
+    }
+
+    /**
+     * Creates a new writer that writes the values with a registered {@link org.neo4j.bolt.connection.netty.ValueEncoder}
+     * using that encoder.
+     */
+    Writer newWriter(PackOutput output, ValueFactory valueFactory, ValueEncoders valueEncoders);
 
     Reader newReader(PackInput input, ValueFactory valueFactory);
 
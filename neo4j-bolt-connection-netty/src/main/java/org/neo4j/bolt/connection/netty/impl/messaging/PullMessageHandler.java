@@ -16,10 +16,24 @@
  */
 package org.neo4j.bolt.connection.netty.impl.messaging;
 
+import io.netty.buffer.ByteBuf;
 import java.util.List;
+import java.util.function.Function;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.summary.PullSummary;
 import org.neo4j.bolt.connection.values.Value;
 
 public interface PullMessageHandler extends MessageHandler<PullSummary> {
     void onRecord(List<Value> fields);
+
+    /**
+     * Handles a RECORD message in its encoded form.
+     *
+     * @return {@code true} if the message has been consumed, {@code false} if it must be delivered to
+     * {@link #onRecord(List)}
+     * @see org.neo4j.bolt.connection.netty.impl.spi.ResponseHandler#onEncodedRecord(ByteBuf, Function)
+     */
+    default boolean onEncodedRecord(ByteBuf message, Function<PackInput, MessageFormat.Reader> readerFactory) {
+        return false;
+    }
 }
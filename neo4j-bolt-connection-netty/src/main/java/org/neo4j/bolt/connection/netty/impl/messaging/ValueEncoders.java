@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.messaging;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.neo4j.bolt.connection.netty.ValueEncoder;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * The registered {@link ValueEncoder} instances indexed by {@link Value} class.
+ * <p>
+ * The encoder of a class is resolved once by looking up the class itself, its superclasses and then its interfaces,
+ * the result is cached in a {@link ClassValue}.
+ */
+public final class ValueEncoders {
+    public static final ValueEncoders NONE = new ValueEncoders(Map.of());
+
+    private final Map<Class<?>, ValueEncoder<Value>> encoders;
+    private final ClassValue<ValueEncoder<Value>> encodersByClass = new ClassValue<>() {
+        @Override
+        protected ValueEncoder<Value> computeValue(Class<?> type) {
+            return find(type);
+        }
+    };
+
+    private ValueEncoders(Map<Class<?>, ValueEncoder<Value>> encoders) {
+        this.encoders = encoders;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ValueEncoders of(Map<?, ?> encoders) {
+        if (encoders == null || encoders.isEmpty()) {
+            return NONE;
+        }
+        for (var entry : encoders.entrySet()) {
+            if (!(entry.getKey() instanceof Class<?> type) || !Value.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("Value encoders must be keyed by Value classes: " + entry.getKey());
+            }
+            if (!(entry.getValue() instanceof ValueEncoder<?>)) {
+                throw new IllegalArgumentException("Unexpected value encoder: " + entry.getValue());
+            }
+        }
+        return new ValueEncoders(Map.copyOf((Map<Class<?>, ValueEncoder<Value>>) encoders));
+    }
+
+    public boolean isEmpty() {
+        return encoders.isEmpty();
+    }
+
+    public ValueEncoder<Value> get(Class<?> type) {
+        return encoders.isEmpty() ? null : encodersByClass.get(type);
+    }
+
+    private ValueEncoder<Value> find(Class<?> type) {
+        for (var current = type; current != null; current = current.getSuperclass()) {
+            var encoder = encoders.get(current);
+            if (encoder != null) {
+                return encoder;
+            }
+        }
+        var visited = new HashSet<Class<?>>();
+        var queue = new ArrayDeque<Class<?>>();
+        for (var current = type; current != null; current = current.getSuperclass()) {
+            queue.addAll(List.of(current.getInterfaces()));
+        }
+        while (!queue.isEmpty()) {
+            var current = queue.poll();
+            if (visited.add(current)) {
+                var encoder = encoders.get(current);
+                if (encoder != null) {
+                    return encoder;
+                }
+                queue.addAll(List.of(current.getInterfaces()));
+            }
+        }
+        return null;
+    }
+}
@@ -30,4 +30,9 @@ public interface ValueUnpacker {
     Map<String, Value> unpackMap() throws IOException;
 
     List<Value> unpackList() throws IOException;
+
+    /**
+     * Notifies the unpacker that the current result has ended, so that the state kept for it can be released.
+     */
+    default void endResult() {}
 }
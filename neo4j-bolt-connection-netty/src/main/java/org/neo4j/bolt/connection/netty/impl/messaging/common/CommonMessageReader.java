@@ -50,8 +50,14 @@ public class CommonMessageReader implements MessageFormat.Reader {
         var type = unpacker.unpackStructSignature();
         switch (type) {
             case SuccessMessage.SIGNATURE -> unpackSuccessMessage(handler);
-            case FailureMessage.SIGNATURE -> unpackFailureMessage(handler);
-            case IgnoredMessage.SIGNATURE -> unpackIgnoredMessage(handler);
+            case FailureMessage.SIGNATURE -> {
+                unpacker.endResult();
+                unpackFailureMessage(handler);
+            }
+            case IgnoredMessage.SIGNATURE -> {
+                unpacker.endResult();
+                unpackIgnoredMessage(handler);
+            }
             case RecordMessage.SIGNATURE -> unpackRecordMessage(handler);
             default -> throw new IOException("Unknown message type: " + type);
         }
@@ -59,6 +65,10 @@ public class CommonMessageReader implements MessageFormat.Reader {
 
     private void unpackSuccessMessage(ResponseMessageHandler output) throws IOException {
         var map = unpacker.unpackMap();
+        var hasMore = map.get("has_more");
+        if (hasMore == null || !hasMore.asBoolean()) {
+            unpacker.endResult();
+        }
         output.handleSuccessMessage(map);
     }
 
@@ -26,8 +26,11 @@ import java.time.OffsetTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.Objects;
 import org.neo4j.bolt.connection.exception.BoltClientException;
 import org.neo4j.bolt.connection.exception.BoltUnsupportedFeatureException;
+import org.neo4j.bolt.connection.netty.ValueEncoder;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.ValuePacker;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackOutput;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackStream;
@@ -36,7 +39,7 @@ import org.neo4j.bolt.connection.values.Point;
 import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.bolt.connection.values.Vector;
 
-public class CommonValuePacker implements ValuePacker {
+public class CommonValuePacker implements ValuePacker, ValueEncoder.Output {
 
     public static final byte DATE = 'D';
     public static final int DATE_STRUCT_SIZE = 1;
@@ -69,10 +72,16 @@ public class CommonValuePacker implements ValuePacker {
     public static final int VECTOR_STRUCT_SIZE = 2;
 
     private final boolean dateTimeUtcEnabled;
+    private final ValueEncoders valueEncoders;
     protected final PackStream.Packer packer;
 
     public CommonValuePacker(PackOutput output, boolean dateTimeUtcEnabled) {
+        this(output, dateTimeUtcEnabled, ValueEncoders.NONE);
+    }
+
+    public CommonValuePacker(PackOutput output, boolean dateTimeUtcEnabled, ValueEncoders valueEncoders) {
         this.dateTimeUtcEnabled = dateTimeUtcEnabled;
+        this.valueEncoders = Objects.requireNonNull(valueEncoders);
         this.packer = new PackStream.Packer(output);
     }
 
@@ -81,15 +90,55 @@ public class CommonValuePacker implements ValuePacker {
         packer.packStructHeader(size, signature);
     }
 
+    @Override
+    public final void packNull() throws IOException {
+        packer.packNull();
+    }
+
+    @Override
+    public final void pack(boolean value) throws IOException {
+        packer.pack(value);
+    }
+
+    @Override
+    public final void pack(long value) throws IOException {
+        packer.pack(value);
+    }
+
+    @Override
+    public final void pack(double value) throws IOException {
+        packer.pack(value);
+    }
+
+    @Override
+    public final void pack(byte[] value) throws IOException {
+        packer.pack(value);
+    }
+
     @Override
     public final void pack(String string) throws IOException {
         packer.pack(string);
     }
 
+    @Override
+    public final void packListHeader(int size) throws IOException {
+        packer.packListHeader(size);
+    }
+
+    @Override
+    public final void packMapHeader(int size) throws IOException {
+        packer.packMapHeader(size);
+    }
+
     @Override
     public final void pack(Value value) throws IOException {
         if (value != null) {
-            packInternalValue(value);
+            var encoder = valueEncoders.get(value.getClass());
+            if (encoder != null) {
+                encoder.encode(value, this);
+            } else {
+                packInternalValue(value);
+            }
         } else {
             throw new IllegalArgumentException("Unable to pack: null");
         }
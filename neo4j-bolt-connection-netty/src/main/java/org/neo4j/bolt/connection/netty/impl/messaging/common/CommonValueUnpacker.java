@@ -91,14 +91,27 @@ public class CommonValueUnpacker implements ValueUnpacker {
     public static final byte UNSUPPORTED = '?';
     public static final int UNSUPPORTED_STRUCT_SIZE = 4;
 
+    protected static final String UNBOUND_ELEMENT_ID = "-1";
+    // opt-in, since hashing the state of every entity only pays off for results that repeat entities, see EntityCache
+    private static final boolean ENTITY_IDENTITY_CACHE_ENABLED = Boolean.getBoolean("entityIdentityCache");
+
     private final boolean dateTimeUtcEnabled;
+    // replaced at the end of each result, so that the shapes of a connection do not accumulate
+    private MapShape rootShape = MapShape.root();
     protected final PackStream.Unpacker unpacker;
     protected final ValueFactory valueFactory;
+    protected final EntityCache entityCache;
 
     public CommonValueUnpacker(PackInput input, boolean dateTimeUtcEnabled, ValueFactory valueFactory) {
+        this(input, dateTimeUtcEnabled, valueFactory, ENTITY_IDENTITY_CACHE_ENABLED);
+    }
+
+    public CommonValueUnpacker(
+            PackInput input, boolean dateTimeUtcEnabled, ValueFactory valueFactory, boolean entityCacheEnabled) {
         this.dateTimeUtcEnabled = dateTimeUtcEnabled;
         this.unpacker = new PackStream.Unpacker(input);
         this.valueFactory = Objects.requireNonNull(valueFactory);
+        this.entityCache = entityCacheEnabled ? new EntityCache() : null;
     }
 
     @Override
@@ -111,6 +124,16 @@ public class CommonValueUnpacker implements ValueUnpacker {
         return unpacker.unpackStructSignature();
     }
 
+    @Override
+    public void endResult() {
+        if (rootShape.hasChildren()) {
+            rootShape = MapShape.root();
+        }
+        if (entityCache != null) {
+            entityCache.clear();
+        }
+    }
+
     @Override
     public Map<String, Value> unpackMap() throws IOException {
         var size = (int) unpacker.unpackMapHeader();
@@ -125,6 +148,37 @@ public class CommonValueUnpacker implements ValueUnpacker {
         return map;
     }
 
+    /**
+     * Unpacks a map of a value, such as a projection or properties.
+     * <p>
+     * Unlike {@link #unpackMap()}, it returns an immutable map that shares its keys with the previously unpacked maps
+     * that have the same keys in the same order.
+     */
+    protected Map<String, Value> unpackValueMap() throws IOException {
+        var size = (int) unpacker.unpackMapHeader();
+        if (size == 0) {
+            return Collections.emptyMap();
+        }
+        var shape = size <= MapShape.MAX_KEYS ? rootShape : null;
+        var values = shape != null ? new Value[size] : null;
+        Map<String, Value> map = shape != null ? null : new HashMap<>(size);
+        for (var i = 0; i < size; i++) {
+            var key = unpacker.unpackString();
+            var value = unpack();
+            if (map == null) {
+                var next = shape.next(key);
+                if (next != null) {
+                    shape = next;
+                    values[i] = value;
+                    continue;
+                }
+                map = shape.toHashMap(values, size);
+            }
+            map.put(key, value);
+        }
+        return map != null ? map : new CompactMap(shape, values);
+    }
+
     @Override
     public List<Value> unpackList() throws IOException {
         var size = (int) unpacker.unpackListHeader();
@@ -157,7 +211,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
                 return valueFactory.value(unpacker.unpackString());
             }
             case MAP -> {
-                return valueFactory.value(unpackMap());
+                return valueFactory.value(unpackValueMap());
             }
             case LIST -> {
                 return valueFactory.value(unpackList());
@@ -264,17 +318,29 @@ public class CommonValueUnpacker implements ValueUnpacker {
         var startUrn = unpacker.unpackLong();
         var endUrn = unpacker.unpackLong();
         var relType = unpacker.unpackString();
-        var props = unpackMap();
-
+        var props = unpackValueMap();
+
+        // keyed by the whole state, so that a relationship that has changed within the result is not replaced by its
+        // earlier state
+        if (entityCache != null) {
+            var key = List.of(urn, startUrn, endUrn, relType, props);
+            var relationship = entityCache.relationship(key);
+            return relationship != null
+                    ? relationship
+                    : entityCache.cacheRelationship(
+                            key,
+                            valueFactory.relationship(
+                                    urn,
+                                    elementId(urn),
+                                    startUrn,
+                                    elementId(startUrn),
+                                    endUrn,
+                                    elementId(endUrn),
+                                    relType,
+                                    props));
+        }
         return valueFactory.relationship(
-                urn,
-                String.valueOf(urn),
-                startUrn,
-                String.valueOf(startUrn),
-                endUrn,
-                String.valueOf(endUrn),
-                relType,
-                props);
+                urn, elementId(urn), startUrn, elementId(startUrn), endUrn, elementId(endUrn), relType, props);
     }
 
     @SuppressWarnings("DuplicatedCode")
@@ -286,14 +352,18 @@ public class CommonValueUnpacker implements ValueUnpacker {
         for (var i = 0; i < numLabels; i++) {
             labels.add(unpacker.unpackString());
         }
-        var numProps = (int) unpacker.unpackMapHeader();
-        Map<String, Value> props = new HashMap<>(numProps);
-        for (var j = 0; j < numProps; j++) {
-            var key = unpacker.unpackString();
-            props.put(key, unpack());
+        var props = unpackValueMap();
+
+        // keyed by the whole state, so that a node that has changed within the result is not replaced by its earlier
+        // state
+        if (entityCache != null) {
+            var key = List.of(urn, labels, props);
+            var node = entityCache.node(key);
+            return node != null
+                    ? node
+                    : entityCache.cacheNode(key, valueFactory.node(urn, elementId(urn), labels, props));
         }
-
-        return valueFactory.node(urn, String.valueOf(urn), labels, props);
+        return valueFactory.node(urn, elementId(urn), labels, props);
     }
 
     @SuppressWarnings("DuplicatedCode")
@@ -314,9 +384,17 @@ public class CommonValueUnpacker implements ValueUnpacker {
                     "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature());
             var id = unpacker.unpackLong();
             var relType = unpacker.unpackString();
-            var props = unpackMap();
-            uniqRels[i] = valueFactory.relationship(
-                    id, String.valueOf(id), -1, String.valueOf(-1), -1, String.valueOf(-1), relType, props);
+            var props = unpackValueMap();
+            var key = entityCache != null ? List.of(id, relType, props) : null;
+            var relationship = entityCache != null ? entityCache.unboundRelationship(key) : null;
+            if (relationship == null) {
+                relationship = valueFactory.relationship(
+                        id, elementId(id), -1, UNBOUND_ELEMENT_ID, -1, UNBOUND_ELEMENT_ID, relType, props);
+                if (entityCache != null) {
+                    entityCache.cacheUnboundRelationship(key, relationship);
+                }
+            }
+            uniqRels[i] = relationship;
         }
 
         // Path sequence
@@ -337,12 +415,10 @@ public class CommonValueUnpacker implements ValueUnpacker {
             // Negative rel index means this rel was traversed "inversed" from its direction
             if (relIdx < 0) {
                 rel = uniqRels[(-relIdx) - 1]; // -1 because rel idx are 1-indexed
-                rel.setStartAndEnd(
-                        nextNode.id(), String.valueOf(nextNode.id()), prevNode.id(), String.valueOf(prevNode.id()));
+                setStartAndEnd(rel, nextNode, prevNode);
             } else {
                 rel = uniqRels[relIdx - 1];
-                rel.setStartAndEnd(
-                        prevNode.id(), String.valueOf(prevNode.id()), nextNode.id(), String.valueOf(nextNode.id()));
+                setStartAndEnd(rel, prevNode, nextNode);
             }
 
             nodes[i + 1] = nextNode;
@@ -353,6 +429,19 @@ public class CommonValueUnpacker implements ValueUnpacker {
         return valueFactory.path(Arrays.asList(segments), Arrays.asList(nodes), Arrays.asList(rels));
     }
 
+    /**
+     * Sets the start and end of an unbound path relationship, unless a cached instance already has them.
+     */
+    protected final void setStartAndEnd(Relationship rel, Node start, Node end) {
+        if (entityCache == null || entityCache.bind(rel)) {
+            rel.setStartAndEnd(start.id(), start.elementId(), end.id(), end.elementId());
+        }
+    }
+
+    private String elementId(long id) {
+        return entityCache != null ? entityCache.elementId(id) : String.valueOf(id);
+    }
+
     protected final void ensureCorrectStructSize(Type type, int expected, long actual) {
         if (expected != actual) {
             var structName = type.toString();
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.messaging.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.neo4j.bolt.connection.values.Node;
+import org.neo4j.bolt.connection.values.Relationship;
+
+/**
+ * Nodes and relationships already decoded within the current result, keyed by their identity.
+ * <p>
+ * Graph results frequently repeat the same entities, for instance the nodes shared by many paths. Reusing the first
+ * decoded instance avoids holding duplicate labels, properties and element ids in memory. The cache is owned by a
+ * single unpacker, it is cleared at the end of each result and when it reaches {@link #MAX_ENTRIES} so that long
+ * results do not retain entities the consumer has already discarded.
+ * <p>
+ * Entities are decoded fully and keyed by their whole state, so only identical entities share an instance. An entity
+ * that appears again within the same result with different labels or properties, for instance because it was updated
+ * between two records, is returned with its new state.
+ */
+public final class EntityCache {
+    static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Object, Node> nodes = new HashMap<>();
+    private final Map<Object, Relationship> relationships = new HashMap<>();
+    private final Map<Object, Relationship> unboundRelationships = new HashMap<>();
+    private final Set<Relationship> boundRelationships = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Long, String> elementIds = new HashMap<>();
+    private int size;
+
+    public Node node(Object key) {
+        return nodes.get(key);
+    }
+
+    public Node cacheNode(Object key, Node node) {
+        ensureCapacity();
+        nodes.put(key, node);
+        return node;
+    }
+
+    public Relationship relationship(Object key) {
+        return relationships.get(key);
+    }
+
+    public Relationship cacheRelationship(Object key, Relationship relationship) {
+        ensureCapacity();
+        relationships.put(key, relationship);
+        return relationship;
+    }
+
+    public Relationship unboundRelationship(Object key) {
+        return unboundRelationships.get(key);
+    }
+
+    public Relationship cacheUnboundRelationship(Object key, Relationship relationship) {
+        ensureCapacity();
+        unboundRelationships.put(key, relationship);
+        return relationship;
+    }
+
+    /**
+     * Returns {@code true} when the given unbound relationship has not had its start and end set yet.
+     */
+    public boolean bind(Relationship relationship) {
+        return boundRelationships.add(relationship);
+    }
+
+    /**
+     * Returns the element id of a legacy entity, which is its id as a string.
+     */
+    public String elementId(long id) {
+        var elementId = elementIds.get(id);
+        if (elementId == null) {
+            ensureCapacity();
+            elementId = String.valueOf(id);
+            elementIds.put(id, elementId);
+        }
+        return elementId;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            nodes.clear();
+            relationships.clear();
+            unboundRelationships.clear();
+            boundRelationships.clear();
+            elementIds.clear();
+            size = 0;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size == MAX_ENTRIES) {
+            clear();
+        }
+        size++;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.messaging.common;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * An ordered key set shared by the {@link CompactMap} instances decoded with the same keys in the same order.
+ * <p>
+ * Shapes form a tree rooted in an empty shape, each child adds one key to the keys of its parent. The tree is owned
+ * by a single unpacker and it is only extended on its thread, the keys and indexes of a shape never change once it is
+ * created. The unpacker starts a new tree for each result, the maps decoded before keep referring to the old shapes.
+ */
+final class MapShape {
+    static final int MAX_KEYS = 32;
+    private static final int MAX_SHAPES = 1024;
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    private final MapShape root;
+    private final String[] keys;
+    private final Map<String, Integer> indexes;
+    private Map<String, MapShape> children;
+    private int shapeCount;
+
+    static MapShape root() {
+        return new MapShape(null, new String[0]);
+    }
+
+    private MapShape(MapShape root, String[] keys) {
+        this.root = root != null ? root : this;
+        this.keys = keys;
+        if (keys.length > LINEAR_SEARCH_THRESHOLD) {
+            indexes = new HashMap<>(keys.length * 2);
+            for (var i = 0; i < keys.length; i++) {
+                indexes.put(keys[i], i);
+            }
+        } else {
+            indexes = null;
+        }
+    }
+
+    /**
+     * Returns the shape with the given key appended or {@code null} when the key is already present or the limits are
+     * exceeded.
+     */
+    MapShape next(String key) {
+        var child = children != null ? children.get(key) : null;
+        if (child != null) {
+            return child;
+        }
+        if (keys.length == MAX_KEYS || root.shapeCount == MAX_SHAPES || indexOf(key) >= 0) {
+            return null;
+        }
+        var childKeys = Arrays.copyOf(keys, keys.length + 1);
+        childKeys[keys.length] = key;
+        child = new MapShape(root, childKeys);
+        if (children == null) {
+            children = new HashMap<>(4);
+        }
+        children.put(key, child);
+        root.shapeCount++;
+        return child;
+    }
+
+    boolean hasChildren() {
+        return children != null;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    String key(int index) {
+        return keys[index];
+    }
+
+    int indexOf(Object key) {
+        if (indexes != null) {
+            var index = indexes.get(key);
+            return index != null ? index : -1;
+        }
+        for (var i = 0; i < keys.length; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        for (var i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    Map<String, Value> toHashMap(Value[] values, int capacity) {
+        Map<String, Value> map = new HashMap<>(capacity);
+        for (var i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+}
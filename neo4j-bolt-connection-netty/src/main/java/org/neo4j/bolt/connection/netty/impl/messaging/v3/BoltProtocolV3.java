@@ -20,6 +20,7 @@ import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttri
 import static org.neo4j.bolt.connection.netty.impl.messaging.request.CommitMessage.COMMIT;
 import static org.neo4j.bolt.connection.netty.impl.messaging.request.RollbackMessage.ROLLBACK;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import java.time.Clock;
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.BoltAgent;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
@@ -62,6 +64,7 @@ import org.neo4j.bolt.connection.netty.impl.messaging.request.MultiDatabaseUtil;
 import org.neo4j.bolt.connection.netty.impl.messaging.request.PullAllMessage;
 import org.neo4j.bolt.connection.netty.impl.messaging.request.ResetMessage;
 import org.neo4j.bolt.connection.netty.impl.messaging.request.RunWithMetadataMessage;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.spi.Connection;
 import org.neo4j.bolt.connection.netty.impl.util.MetadataExtractor;
 import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
@@ -455,6 +458,16 @@ public class BoltProtocolV3 implements BoltProtocol {
                         handler.onRecord(fields);
                     }
 
+                    @Override
+                    public boolean onEncodedRecord(
+                            ByteBuf message, Function<PackInput, MessageFormat.Reader> readerFactory) {
+                        if (handler.onEncodedRecord(message, readerFactory)) {
+                            observation.onRecord();
+                            return true;
+                        }
+                        return false;
+                    }
+
                     @Override
                     public void onError(Throwable throwable) {
                         handler.onError(throwable);
@@ -19,6 +19,7 @@ package org.neo4j.bolt.connection.netty.impl.messaging.v3;
 import java.util.Map;
 import org.neo4j.bolt.connection.netty.impl.messaging.AbstractMessageWriter;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageEncoder;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonValuePacker;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.BeginMessageEncoder;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.CommitMessageEncoder;
@@ -42,8 +43,8 @@ import org.neo4j.bolt.connection.netty.impl.packstream.PackOutput;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class MessageWriterV3 extends AbstractMessageWriter {
-    public MessageWriterV3(PackOutput output, ValueFactory valueFactory) {
-        super(new CommonValuePacker(output, false), buildEncoders(), valueFactory);
+    public MessageWriterV3(PackOutput output, ValueFactory valueFactory, ValueEncoders valueEncoders) {
+        super(new CommonValuePacker(output, false, valueEncoders), buildEncoders(), valueFactory);
     }
 
     private static Map<Byte, MessageEncoder> buildEncoders() {
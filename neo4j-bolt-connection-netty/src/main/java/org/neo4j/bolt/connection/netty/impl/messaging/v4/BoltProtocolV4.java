@@ -16,6 +16,7 @@
  */
 package org.neo4j.bolt.connection.netty.impl.messaging.v4;
 
+import io.netty.buffer.ByteBuf;
 import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
@@ -41,6 +43,7 @@ import org.neo4j.bolt.connection.netty.impl.messaging.PullMessageHandler;
 import org.neo4j.bolt.connection.netty.impl.messaging.request.PullMessage;
 import org.neo4j.bolt.connection.netty.impl.messaging.request.RunWithMetadataMessage;
 import org.neo4j.bolt.connection.netty.impl.messaging.v3.BoltProtocolV3;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.spi.Connection;
 import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
 import org.neo4j.bolt.connection.summary.PullSummary;
@@ -200,6 +203,16 @@ public class BoltProtocolV4 extends BoltProtocolV3 {
                         handler.onRecord(fields);
                     }
 
+                    @Override
+                    public boolean onEncodedRecord(
+                            ByteBuf message, Function<PackInput, MessageFormat.Reader> readerFactory) {
+                        if (handler.onEncodedRecord(message, readerFactory)) {
+                            observation.onRecord();
+                            return true;
+                        }
+                        return false;
+                    }
+
                     @Override
                     public void onError(Throwable throwable) {
                         handler.onError(throwable);
@@ -17,6 +17,7 @@
 package org.neo4j.bolt.connection.netty.impl.messaging.v4;
 
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonMessageReader;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackOutput;
@@ -24,8 +25,8 @@ import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class MessageFormatV4 implements MessageFormat {
     @Override
-    public Writer newWriter(PackOutput output, ValueFactory valueFactory) {
-        return new MessageWriterV4(output, valueFactory);
+    public Writer newWriter(PackOutput output, ValueFactory valueFactory, ValueEncoders valueEncoders) {
+        return new MessageWriterV4(output, valueFactory, valueEncoders);
     }
 
     @Override
@@ -19,6 +19,7 @@ package org.neo4j.bolt.connection.netty.impl.messaging.v43;
 import java.util.Map;
 import org.neo4j.bolt.connection.netty.impl.messaging.AbstractMessageWriter;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageEncoder;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonValuePacker;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.BeginMessageEncoder;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.CommitMessageEncoder;
@@ -50,8 +51,9 @@ import org.neo4j.bolt.connection.values.ValueFactory;
  * new messages such as ROUTE
  */
 public class MessageWriterV43 extends AbstractMessageWriter {
-    public MessageWriterV43(PackOutput output, boolean dateTimeUtcEnabled, ValueFactory valueFactory) {
-        super(new CommonValuePacker(output, dateTimeUtcEnabled), buildEncoders(), valueFactory);
+    public MessageWriterV43(
+            PackOutput output, boolean dateTimeUtcEnabled, ValueFactory valueFactory, ValueEncoders valueEncoders) {
+        super(new CommonValuePacker(output, dateTimeUtcEnabled, valueEncoders), buildEncoders(), valueFactory);
     }
 
     private static Map<Byte, MessageEncoder> buildEncoders() {
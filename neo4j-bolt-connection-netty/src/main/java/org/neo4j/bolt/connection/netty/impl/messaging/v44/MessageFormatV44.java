@@ -17,6 +17,7 @@
 package org.neo4j.bolt.connection.netty.impl.messaging.v44;
 
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonMessageReader;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackOutput;
@@ -29,8 +30,8 @@ public class MessageFormatV44 implements MessageFormat {
     private boolean dateTimeUtcEnabled;
 
     @Override
-    public MessageFormat.Writer newWriter(PackOutput output, ValueFactory valueFactory) {
-        return new MessageWriterV44(output, dateTimeUtcEnabled, valueFactory);
+    public MessageFormat.Writer newWriter(PackOutput output, ValueFactory valueFactory, ValueEncoders valueEncoders) {
+        return new MessageWriterV44(output, dateTimeUtcEnabled, valueFactory, valueEncoders);
     }
 
     @Override
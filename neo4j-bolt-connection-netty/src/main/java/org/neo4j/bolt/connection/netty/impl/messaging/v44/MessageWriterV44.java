@@ -19,6 +19,7 @@ package org.neo4j.bolt.connection.netty.impl.messaging.v44;
 import java.util.Map;
 import org.neo4j.bolt.connection.netty.impl.messaging.AbstractMessageWriter;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageEncoder;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonValuePacker;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.BeginMessageEncoder;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.CommitMessageEncoder;
@@ -47,8 +48,9 @@ import org.neo4j.bolt.connection.values.ValueFactory;
  * Bolt message writer v4.4
  */
 public class MessageWriterV44 extends AbstractMessageWriter {
-    public MessageWriterV44(PackOutput output, boolean dateTimeUtcEnabled, ValueFactory valueFactory) {
-        super(new CommonValuePacker(output, dateTimeUtcEnabled), buildEncoders(), valueFactory);
+    public MessageWriterV44(
+            PackOutput output, boolean dateTimeUtcEnabled, ValueFactory valueFactory, ValueEncoders valueEncoders) {
+        super(new CommonValuePacker(output, dateTimeUtcEnabled, valueEncoders), buildEncoders(), valueFactory);
     }
 
     private static Map<Byte, MessageEncoder> buildEncoders() {
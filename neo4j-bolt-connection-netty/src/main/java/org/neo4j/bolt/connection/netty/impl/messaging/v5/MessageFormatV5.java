@@ -17,14 +17,15 @@
 package org.neo4j.bolt.connection.netty.impl.messaging.v5;
 
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackOutput;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class MessageFormatV5 implements MessageFormat {
     @Override
-    public Writer newWriter(PackOutput output, ValueFactory valueFactory) {
-        return new MessageWriterV5(output, valueFactory);
+    public Writer newWriter(PackOutput output, ValueFactory valueFactory, ValueEncoders valueEncoders) {
+        return new MessageWriterV5(output, valueFactory, valueEncoders);
     }
 
     @Override
@@ -19,9 +19,7 @@ package org.neo4j.bolt.connection.netty.impl.messaging.v5;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonValueUnpacker;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.values.Node;
@@ -29,7 +27,6 @@ import org.neo4j.bolt.connection.values.Path;
 import org.neo4j.bolt.connection.values.Relationship;
 import org.neo4j.bolt.connection.values.Segment;
 import org.neo4j.bolt.connection.values.Type;
-import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 public class ValueUnpackerV5 extends CommonValueUnpacker {
@@ -40,6 +37,10 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
         super(input, true, valueFactory);
     }
 
+    public ValueUnpackerV5(PackInput input, ValueFactory valueFactory, boolean entityCacheEnabled) {
+        super(input, true, valueFactory, entityCacheEnabled);
+    }
+
     @Override
     protected int getNodeFields() {
         return NODE_FIELDS;
@@ -60,15 +61,17 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
         for (var i = 0; i < numLabels; i++) {
             labels.add(unpacker.unpackString());
         }
-        var numProps = (int) unpacker.unpackMapHeader();
-        Map<String, Value> props = new HashMap<>(numProps);
-        for (var j = 0; j < numProps; j++) {
-            var key = unpacker.unpackString();
-            props.put(key, unpack());
-        }
+        var props = unpackValueMap();
 
         var elementId = unpacker.unpackString();
 
+        // the element id is the last field, so the node is only deduplicated after it has been decoded, keyed by its
+        // whole state so that a node that has changed within the result is not replaced by its earlier state
+        if (entityCache != null) {
+            var key = List.of(elementId, labels, props);
+            var node = entityCache.node(key);
+            return node != null ? node : entityCache.cacheNode(key, valueFactory.node(urn, elementId, labels, props));
+        }
         return valueFactory.node(urn, elementId, labels, props);
     }
 
@@ -91,10 +94,18 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
                     "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature());
             var id = unpacker.unpackLong();
             var relType = unpacker.unpackString();
-            var props = unpackMap();
+            var props = unpackValueMap();
             var elementId = unpacker.unpackString();
-            uniqRels[i] = valueFactory.relationship(
-                    id, elementId, -1, String.valueOf(-1), -1, String.valueOf(-1), relType, props);
+            var key = entityCache != null ? List.of(elementId, relType, props) : null;
+            var relationship = entityCache != null ? entityCache.unboundRelationship(key) : null;
+            if (relationship == null) {
+                relationship = valueFactory.relationship(
+                        id, elementId, -1, UNBOUND_ELEMENT_ID, -1, UNBOUND_ELEMENT_ID, relType, props);
+                if (entityCache != null) {
+                    entityCache.cacheUnboundRelationship(key, relationship);
+                }
+            }
+            uniqRels[i] = relationship;
         }
 
         // Path sequence
@@ -129,21 +140,27 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
         return valueFactory.path(Arrays.asList(segments), Arrays.asList(nodes), Arrays.asList(rels));
     }
 
-    private void setStartAndEnd(Relationship rel, Node start, Node end) {
-        rel.setStartAndEnd(start.id(), start.elementId(), end.id(), end.elementId());
-    }
-
     @Override
     protected Relationship unpackRelationship() throws IOException {
         var urn = unpacker.unpackLong();
         var startUrn = unpacker.unpackLong();
         var endUrn = unpacker.unpackLong();
         var relType = unpacker.unpackString();
-        var props = unpackMap();
+        var props = unpackValueMap();
         var elementId = unpacker.unpackString();
         var startElementId = unpacker.unpackString();
         var endElementId = unpacker.unpackString();
 
+        if (entityCache != null) {
+            var key = List.of(elementId, startElementId, endElementId, relType, props);
+            var relationship = entityCache.relationship(key);
+            return relationship != null
+                    ? relationship
+                    : entityCache.cacheRelationship(
+                            key,
+                            valueFactory.relationship(
+                                    urn, elementId, startUrn, startElementId, endUrn, endElementId, relType, props));
+        }
         return valueFactory.relationship(
                 urn, elementId, startUrn, startElementId, endUrn, endElementId, relType, props);
     }
@@ -19,6 +19,7 @@ package org.neo4j.bolt.connection.netty.impl.messaging.v6;
 import java.util.Map;
 import org.neo4j.bolt.connection.netty.impl.messaging.AbstractMessageWriter;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageEncoder;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.BeginMessageEncoder;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.CommitMessageEncoder;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.DiscardMessageEncoder;
@@ -49,8 +50,8 @@ import org.neo4j.bolt.connection.netty.impl.packstream.PackOutput;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
 final class MessageWriterV6 extends AbstractMessageWriter {
-    public MessageWriterV6(PackOutput output, ValueFactory valueFactory) {
-        super(new ValuePackerV6(output), buildEncoders(), valueFactory);
+    public MessageWriterV6(PackOutput output, ValueFactory valueFactory, ValueEncoders valueEncoders) {
+        super(new ValuePackerV6(output, valueEncoders), buildEncoders(), valueFactory);
     }
 
     private static Map<Byte, MessageEncoder> buildEncoders() {
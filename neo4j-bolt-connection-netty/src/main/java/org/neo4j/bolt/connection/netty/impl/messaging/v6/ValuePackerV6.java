@@ -18,14 +18,15 @@ package org.neo4j.bolt.connection.netty.impl.messaging.v6;
 
 import java.io.IOException;
 import java.lang.reflect.Array;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonValuePacker;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackOutput;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackStream;
 import org.neo4j.bolt.connection.values.Vector;
 
 final class ValuePackerV6 extends CommonValuePacker {
-    public ValuePackerV6(PackOutput output) {
-        super(output, true);
+    public ValuePackerV6(PackOutput output, ValueEncoders valueEncoders) {
+        super(output, true, valueEncoders);
     }
 
     @Override
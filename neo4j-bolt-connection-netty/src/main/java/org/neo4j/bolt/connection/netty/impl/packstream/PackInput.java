@@ -44,6 +44,12 @@ public interface PackInput {
     /** Consume a specified number of bytes */
     void readBytes(byte[] into, int offset, int toRead) throws IOException;
 
+    /** Consume a specified number of bytes and decode them as a UTF-8 string */
+    String readUtf8(int size) throws IOException;
+
+    /** Forward the internal pointer by a specified number of bytes */
+    void skip(int length) throws IOException;
+
     /** Get the next byte without forwarding the internal pointer */
     byte peekByte() throws IOException;
 }
@@ -206,6 +206,13 @@ public class PackStream {
     private PackStream() {}
 
     public static class Packer {
+        private static final ClassValue<ObjectPacker> OBJECT_PACKERS = new ClassValue<>() {
+            @Override
+            protected ObjectPacker computeValue(Class<?> type) {
+                return objectPacker(type);
+            }
+        };
+
         private final PackOutput out;
 
         public Packer(PackOutput out) {
@@ -287,48 +294,8 @@ public class PackStream {
         public void pack(Object value) throws IOException {
             if (value == null) {
                 packNull();
-            } else if (value instanceof Boolean) {
-                pack((boolean) value);
-            } else if (value instanceof boolean[]) {
-                pack(singletonList(value));
-            } else if (value instanceof Byte) {
-                pack((byte) value);
-            } else if (value instanceof byte[]) {
-                pack((byte[]) value);
-            } else if (value instanceof Short) {
-                pack((short) value);
-            } else if (value instanceof short[]) {
-                pack(singletonList(value));
-            } else if (value instanceof Integer) {
-                pack((int) value);
-            } else if (value instanceof int[]) {
-                pack(singletonList(value));
-            } else if (value instanceof Long) {
-                pack((long) value);
-            } else if (value instanceof long[]) {
-                pack(singletonList(value));
-            } else if (value instanceof Float) {
-                pack((float) value);
-            } else if (value instanceof float[]) {
-                pack(singletonList(value));
-            } else if (value instanceof Double) {
-                pack((double) value);
-            } else if (value instanceof double[]) {
-                pack(singletonList(value));
-            } else if (value instanceof Character) {
-                pack(Character.toString((char) value));
-            } else if (value instanceof char[]) {
-                pack(new String((char[]) value));
-            } else if (value instanceof String) {
-                pack((String) value);
-            } else if (value instanceof String[]) {
-                pack(singletonList(value));
-            } else if (value instanceof List) {
-                pack((List<?>) value);
-            } else if (value instanceof Map) {
-                pack((Map<?, ?>) value);
             } else {
-                throw new UnPackable(format("Cannot pack object %s", value));
+                OBJECT_PACKERS.get(value.getClass()).pack(this, value);
             }
         }
 
@@ -416,6 +383,53 @@ public class PackStream {
         public void packRaw(float value) throws IOException {
             out.writeFloat(value);
         }
+
+        private static ObjectPacker objectPacker(Class<?> type) {
+            if (type == Boolean.class) {
+                return (packer, value) -> packer.pack((boolean) value);
+            } else if (type == Byte.class) {
+                return (packer, value) -> packer.pack((byte) value);
+            } else if (type == byte[].class) {
+                return (packer, value) -> packer.pack((byte[]) value);
+            } else if (type == Short.class) {
+                return (packer, value) -> packer.pack((short) value);
+            } else if (type == Integer.class) {
+                return (packer, value) -> packer.pack((int) value);
+            } else if (type == Long.class) {
+                return (packer, value) -> packer.pack((long) value);
+            } else if (type == Float.class) {
+                return (packer, value) -> packer.pack((float) value);
+            } else if (type == Double.class) {
+                return (packer, value) -> packer.pack((double) value);
+            } else if (type == Character.class) {
+                return (packer, value) -> packer.pack(Character.toString((char) value));
+            } else if (type == char[].class) {
+                return (packer, value) -> packer.pack(new String((char[]) value));
+            } else if (type == String.class) {
+                return (packer, value) -> packer.pack((String) value);
+            } else if (type == boolean[].class
+                    || type == short[].class
+                    || type == int[].class
+                    || type == long[].class
+                    || type == float[].class
+                    || type == double[].class
+                    || type == String[].class) {
+                return (packer, value) -> packer.pack(singletonList(value));
+            } else if (List.class.isAssignableFrom(type)) {
+                return (packer, value) -> packer.pack((List<?>) value);
+            } else if (Map.class.isAssignableFrom(type)) {
+                return (packer, value) -> packer.pack((Map<?, ?>) value);
+            } else {
+                return (packer, value) -> {
+                    throw new UnPackable(format("Cannot pack object %s", value));
+                };
+            }
+        }
+
+        @FunctionalInterface
+        private interface ObjectPacker {
+            void pack(Packer packer, Object value) throws IOException;
+        }
     }
 
     public static class Unpacker {
@@ -526,7 +540,7 @@ public class PackStream {
                 return EMPTY_STRING;
             }
 
-            return new String(unpackUtf8(markerByte), UTF_8);
+            return unpackUtf8(markerByte);
         }
 
         /**
@@ -545,24 +559,89 @@ public class PackStream {
             return null;
         }
 
-        private byte[] unpackUtf8(byte markerByte) throws IOException {
+        /**
+         * Moves the internal pointer past the next value, including all values nested in it, without decoding it.
+         * @throws IOException if the next value is not a valid PackStream value
+         */
+        public void skipValue() throws IOException {
+            final var markerByte = in.readByte();
+            if (markerByte >= MINUS_2_TO_THE_4) {
+                return;
+            }
+            final var markerHighNibble = (byte) (markerByte & 0xF0);
+            final var markerLowNibble = (byte) (markerByte & 0x0F);
+
+            switch (markerHighNibble) {
+                case TINY_STRING -> in.skip(markerLowNibble);
+                case TINY_LIST -> skipValues(markerLowNibble);
+                case TINY_MAP -> skipValues(markerLowNibble * 2L);
+                case TINY_STRUCT -> {
+                    in.skip(1);
+                    skipValues(markerLowNibble);
+                }
+                default -> {
+                    switch (markerByte) {
+                        case NULL, TRUE, FALSE -> {}
+                        case INT_8 -> in.skip(1);
+                        case INT_16 -> in.skip(2);
+                        case INT_32 -> in.skip(4);
+                        case INT_64, FLOAT_64 -> in.skip(8);
+                        case BYTES_8, STRING_8 -> in.skip(unpackUINT8());
+                        case BYTES_16, STRING_16 -> in.skip(unpackUINT16());
+                        case BYTES_32, STRING_32 -> {
+                            var size = unpackUINT32();
+                            if (size <= Integer.MAX_VALUE) {
+                                in.skip((int) size);
+                            } else {
+                                throw new Overflow("Value too long for Java");
+                            }
+                        }
+                        case LIST_8 -> skipValues(unpackUINT8());
+                        case LIST_16 -> skipValues(unpackUINT16());
+                        case LIST_32 -> skipValues(unpackUINT32());
+                        case MAP_8 -> skipValues(unpackUINT8() * 2L);
+                        case MAP_16 -> skipValues(unpackUINT16() * 2L);
+                        case MAP_32 -> skipValues(unpackUINT32() * 2);
+                        case STRUCT_8 -> {
+                            var size = unpackUINT8();
+                            in.skip(1);
+                            skipValues(size);
+                        }
+                        case STRUCT_16 -> {
+                            var size = unpackUINT16();
+                            in.skip(1);
+                            skipValues(size);
+                        }
+                        default -> throw new Unexpected("Unexpected marker: 0x" + toHexString(markerByte & 0xFF));
+                    }
+                }
+            }
+        }
+
+        private void skipValues(long count) throws IOException {
+            for (var i = 0L; i < count; i++) {
+                skipValue();
+            }
+        }
+
+        private String unpackUtf8(byte markerByte) throws IOException {
             final var markerHighNibble = (byte) (markerByte & 0xF0);
             final var markerLowNibble = (byte) (markerByte & 0x0F);
 
             if (markerHighNibble == TINY_STRING) {
-                return unpackRawBytes(markerLowNibble);
+                return in.readUtf8(markerLowNibble);
             }
             switch (markerByte) {
                 case STRING_8 -> {
-                    return unpackRawBytes(unpackUINT8());
+                    return in.readUtf8(unpackUINT8());
                 }
                 case STRING_16 -> {
-                    return unpackRawBytes(unpackUINT16());
+                    return in.readUtf8(unpackUINT16());
                 }
                 case STRING_32 -> {
                     var size = unpackUINT32();
                     if (size <= Integer.MAX_VALUE) {
-                        return unpackRawBytes((int) size);
+                        return in.readUtf8((int) size);
                     } else {
                         throw new Overflow("STRING_32 too long for Java");
                     }
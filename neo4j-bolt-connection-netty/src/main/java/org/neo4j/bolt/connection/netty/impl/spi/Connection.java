@@ -23,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import org.neo4j.bolt.connection.BoltServerAddress;
 import org.neo4j.bolt.connection.netty.impl.messaging.BoltProtocol;
 import org.neo4j.bolt.connection.netty.impl.messaging.Message;
+import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
 
 public interface Connection {
     boolean isOpen();
@@ -35,6 +36,10 @@ public interface Connection {
 
     CompletionStage<Void> flush();
 
+    void bindExchangeObservation(BoltExchangeObservation observation);
+
+    void unbindExchangeObservation(BoltExchangeObservation observation);
+
     boolean isTelemetryEnabled();
 
     boolean isSsrEnabled();
@@ -16,9 +16,13 @@
  */
 package org.neo4j.bolt.connection.netty.impl.spi;
 
+import io.netty.buffer.ByteBuf;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.InboundMessageDispatcher;
+import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.values.Value;
 
 public interface ResponseHandler {
@@ -28,6 +32,20 @@ public interface ResponseHandler {
 
     void onRecord(List<Value> fields);
 
+    /**
+     * Handles a RECORD message in its encoded form.
+     * <p>
+     * The message is only valid for the duration of this call and must be copied if retained.
+     *
+     * @param message the encoded message
+     * @param readerFactory the factory of readers able to decode the message
+     * @return {@code true} if the message has been consumed, {@code false} if it must be decoded and delivered to
+     * {@link #onRecord(List)}
+     */
+    default boolean onEncodedRecord(ByteBuf message, Function<PackInput, MessageFormat.Reader> readerFactory) {
+        return false;
+    }
+
     /**
      * Tells whether this response handler is able to manage auto-read of the underlying connection using {@link Connection#enableAutoRead()} and
      * {@link Connection#disableAutoRead()}.
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.bolt.connection.values.ValueFactory;
+
+class EventLoopAssignmentTest {
+    private static final ValueFactory valueFactory = TestValueFactory.INSTANCE;
+    private static final URI URI1 = URI.create("bolt://host1:7687");
+    private static final URI URI2 = URI.create("bolt://host2:7687");
+
+    @Test
+    void shouldUseDefaultAssignment() {
+        // given
+        var assignment = EventLoopAssignment.roundRobin();
+
+        // when
+        var key = assignment.key(URI1, authToken("user"));
+
+        // then
+        assertNull(key);
+    }
+
+    @Test
+    void shouldAssignSameKeyToSamePartition() {
+        // given
+        var assignment = EventLoopAssignment.perPartition();
+
+        // when
+        var key = assignment.key(URI1, authToken("user"));
+
+        // then
+        assertEquals(key, assignment.key(URI1, authToken("user")));
+        assertEquals(key.hashCode(), assignment.key(URI1, authToken("user")).hashCode());
+        assertNotEquals(key, assignment.key(URI1, authToken("other")));
+        assertNotEquals(key, assignment.key(URI2, authToken("user")));
+    }
+
+    @Test
+    void shouldAssignKeyByCallingThreadGroup() throws Exception {
+        // given
+        var assignment = EventLoopAssignment.perThreadGroup();
+        var threadGroup = new ThreadGroup("test");
+        var executor = Executors.newSingleThreadExecutor(runnable -> new Thread(threadGroup, runnable));
+
+        // when
+        var key = assignment.key(URI1, null);
+        Object otherKey;
+        try {
+            otherKey = executor.submit(() -> assignment.key(URI1, null)).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertEquals(Thread.currentThread().getThreadGroup(), key);
+        assertEquals(threadGroup, otherKey);
+    }
+
+    private static Map<String, Value> authToken(String principal) {
+        return Map.of(
+                "scheme", valueFactory.value("basic"),
+                "principal", valueFactory.value(principal),
+                "credentials", valueFactory.value("password"));
+    }
+}
@@ -25,10 +25,12 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.bolt.connection.netty.impl.NoopLoggingProvider;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.ChannelErrorHandler;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.ChunkDecoder;
+import org.neo4j.bolt.connection.netty.impl.async.inbound.FusedInboundMessageDecoder;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.InboundMessageDispatcher;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.InboundMessageHandler;
 import org.neo4j.bolt.connection.netty.impl.async.inbound.MessageDecoder;
 import org.neo4j.bolt.connection.netty.impl.async.outbound.OutboundMessageHandler;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.v3.MessageFormatV3;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
@@ -57,4 +59,27 @@ class ChannelPipelineBuilderImplTest {
 
         assertFalse(iterator.hasNext());
     }
+
+    @Test
+    void shouldBuildPipelineWithFusedInboundDecoder() {
+        var channel = new EmbeddedChannel();
+        ChannelAttributes.setMessageDispatcher(
+                channel, new InboundMessageDispatcher(channel, NoopLoggingProvider.INSTANCE));
+
+        new ChannelPipelineBuilderImpl(true, ValueEncoders.NONE)
+                .build(
+                        new MessageFormatV3(),
+                        channel.pipeline(),
+                        NoopLoggingProvider.INSTANCE,
+                        mock(ValueFactory.class));
+
+        var iterator = channel.pipeline().iterator();
+        assertInstanceOf(FusedInboundMessageDecoder.class, iterator.next().getValue());
+
+        assertInstanceOf(OutboundMessageHandler.class, iterator.next().getValue());
+
+        assertInstanceOf(ChannelErrorHandler.class, iterator.next().getValue());
+
+        assertFalse(iterator.hasNext());
+    }
 }
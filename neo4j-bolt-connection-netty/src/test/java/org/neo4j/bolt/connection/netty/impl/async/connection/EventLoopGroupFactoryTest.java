@@ -25,10 +25,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.bolt.connection.netty.EventLoopMetrics;
 
 class EventLoopGroupFactoryTest {
     private final EventLoopGroupFactory eventLoopGroupFactory = new EventLoopGroupFactory(null, NettyTransport.nio());
@@ -105,6 +110,43 @@ class EventLoopGroupFactoryTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(
+            value = NettyTransport.Type.class,
+            names = {"NIO", "LOCAL"})
+    void shouldReportEventLoopMetrics(NettyTransport.Type type) throws Exception {
+        // given
+        var transport = type == NettyTransport.Type.NIO ? NettyTransport.nio() : NettyTransport.local();
+        List<EventLoopMetrics> metrics = new CopyOnWriteArrayList<>();
+        var factory = new EventLoopGroupFactory("Test", transport, metrics::add);
+        eventLoopGroup = factory.newEventLoopGroup(2);
+
+        // when
+        for (var eventLoop : eventLoopGroup) {
+            eventLoop
+                    .submit(() -> {
+                        Thread.sleep(10);
+                        return null;
+                    })
+                    .get(10, SECONDS);
+        }
+        metrics.forEach(EventLoopMetrics::taskLatencyNanos);
+        for (var eventLoop : eventLoopGroup) {
+            eventLoop.submit(() -> {}).get(10, SECONDS);
+        }
+
+        // then
+        assertEquals(2, metrics.size());
+        for (var eventLoopMetrics : metrics) {
+            assertTrue(eventLoopMetrics.threadName().startsWith("Test"));
+            assertTrue(eventLoopMetrics.busyNanos() >= 10_000_000L);
+            assertTrue(eventLoopMetrics.idleNanos() > 0);
+            assertEquals(0, eventLoopMetrics.pendingTasks());
+            assertTrue(eventLoopMetrics.taskLatencyNanos() > 0);
+            assertEquals(0, eventLoopMetrics.registeredChannels());
+        }
+    }
+
     private static Thread getThread(EventLoopGroup eventLoopGroup) throws Exception {
         return eventLoopGroup.submit(Thread::currentThread).get(10, SECONDS);
     }
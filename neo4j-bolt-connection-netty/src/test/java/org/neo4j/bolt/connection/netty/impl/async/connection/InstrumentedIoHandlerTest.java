@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import io.netty.channel.IoHandle;
+import io.netty.channel.IoHandler;
+import io.netty.channel.IoRegistration;
+import io.netty.util.concurrent.ThreadAwareExecutor;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedIoHandlerTest {
+    @Test
+    void shouldStopCountingCancelledRegistration() throws Exception {
+        // given
+        var delegate = mock(IoHandler.class);
+        var delegateRegistration = mock(IoRegistration.class);
+        var handle = mock(IoHandle.class);
+        given(delegate.register(handle)).willReturn(delegateRegistration);
+        given(delegateRegistration.isValid()).willReturn(true);
+        given(delegateRegistration.cancel()).willReturn(true);
+        var ioHandler = new InstrumentedIoHandler(delegate, mock(ThreadAwareExecutor.class));
+        var registration = ioHandler.register(handle);
+        assertEquals(1, ioHandler.registeredChannels());
+
+        // when
+        var cancelled = registration.cancel();
+
+        // then
+        assertTrue(cancelled);
+        then(delegateRegistration).should().cancel();
+        assertEquals(0, ioHandler.registeredChannels());
+    }
+}
@@ -16,10 +16,13 @@
  */
 package org.neo4j.bolt.connection.netty.impl.async.connection;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.neo4j.bolt.connection.BoltServerAddress.LOCAL_DEFAULT;
@@ -27,21 +30,47 @@ import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttri
 import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes.messageDispatcher;
 import static org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes.serverAddress;
 
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.util.ReferenceCountUtil;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SNIHostName;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.bolt.connection.BoltServerAddress;
 import org.neo4j.bolt.connection.SecurityPlan;
 import org.neo4j.bolt.connection.SecurityPlans;
@@ -107,6 +136,7 @@ class NettyChannelInitializerTest {
         var initializer = new NettyChannelInitializer(
                 address,
                 trustAllCertificates(false),
+                SslEngineFactory.jdk(),
                 10000,
                 Clock.systemUTC(),
                 NoopLoggingProvider.INSTANCE,
@@ -137,6 +167,112 @@ class NettyChannelInitializerTest {
         testHostnameVerificationSetting(false, null);
     }
 
+    static Stream<Arguments> sslResumptionArguments() {
+        return Stream.of(SslEngineFactory.Type.values())
+                .flatMap(type -> Stream.of(Arguments.of(type, "TLSv1.2"), Arguments.of(type, "TLSv1.3")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sslResumptionArguments")
+    @SuppressWarnings("deprecation")
+    void shouldResumeSslSessionForSameAddress(SslEngineFactory.Type type, String protocol) throws Exception {
+        assumeTrue(type == SslEngineFactory.Type.JDK || SslEngineFactory.isOpenSslAvailable());
+        var sslEngineFactory = type == SslEngineFactory.Type.JDK ? SslEngineFactory.jdk() : SslEngineFactory.openSsl();
+        var trustManager = new CountingTrustManager();
+        var securityPlan = SecurityPlans.encrypted(new KeyManager[0], new TrustManager[] {trustManager}, false, null);
+        var certificate = new SelfSignedCertificate();
+        var serverSslContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                .sslProvider(SslProvider.JDK)
+                .protocols(protocol)
+                .build();
+        var group = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+        try {
+            var serverChannel = new ServerBootstrap()
+                    .group(group)
+                    .channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelInitializer<>() {
+                        @Override
+                        protected void initChannel(Channel channel) {
+                            channel.pipeline().addLast(serverSslContext.newHandler(channel.alloc()));
+                            channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                                @Override
+                                public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                    // echo
+                                    ctx.writeAndFlush(msg);
+                                }
+                            });
+                        }
+                    })
+                    .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                    .sync()
+                    .channel();
+            var address =
+                    new BoltServerAddress("localhost", ((InetSocketAddress) serverChannel.localAddress()).getPort());
+
+            var firstSession = handshake(group, address, securityPlan, sslEngineFactory);
+            var secondSession = handshake(group, address, securityPlan, sslEngineFactory);
+
+            assertEquals(protocol, firstSession.getProtocol());
+            assertEquals(protocol, secondSession.getProtocol());
+            // the server certificate is only verified in the full handshake, a resumed session skips it
+            assertEquals(1, trustManager.serverChecks.get());
+            if ("TLSv1.2".equals(protocol)) {
+                // TLS 1.3 resumes with a session ticket and does not reuse the session id
+                assertTrue(firstSession.getId().length > 0);
+                assertArrayEquals(firstSession.getId(), secondSession.getId());
+            }
+            serverChannel.close().sync();
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+            certificate.delete();
+        }
+    }
+
+    private static SSLSession handshake(
+            EventLoopGroup group,
+            BoltServerAddress address,
+            SecurityPlan securityPlan,
+            SslEngineFactory sslEngineFactory)
+            throws Exception {
+        var sslHandshakeFuture = new CompletableFuture<Duration>();
+        var channel = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new NettyChannelInitializer(
+                        address,
+                        securityPlan,
+                        sslEngineFactory,
+                        10000,
+                        Clock.systemUTC(),
+                        NoopLoggingProvider.INSTANCE,
+                        sslHandshakeFuture,
+                        new CompletableFuture<>(),
+                        null,
+                        0,
+                        TestValueFactory.INSTANCE))
+                .connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), address.port()))
+                .sync()
+                .channel();
+        try {
+            sslHandshakeFuture.get(10, TimeUnit.SECONDS);
+            // TLS 1.3 session tickets are sent after the handshake, an echo received afterwards ensures they are
+            // handled
+            var echoFuture = new CompletableFuture<Void>();
+            channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                    ReferenceCountUtil.release(msg);
+                    echoFuture.complete(null);
+                }
+            });
+            channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1})).sync();
+            echoFuture.get(10, TimeUnit.SECONDS);
+            return channel.pipeline().get(SslHandler.class).engine().getSession();
+        } finally {
+            channel.close().sync();
+        }
+    }
+
     private void testHostnameVerificationSetting(boolean enabled, String expectedValue) {
         var initializer = newInitializer(trustAllCertificates(enabled));
 
@@ -161,6 +297,7 @@ class NettyChannelInitializerTest {
         return new NettyChannelInitializer(
                 LOCAL_DEFAULT,
                 securityPlan,
+                SslEngineFactory.jdk(),
                 connectTimeoutMillis,
                 clock,
                 NoopLoggingProvider.INSTANCE,
@@ -182,6 +319,15 @@ class NettyChannelInitializerTest {
         return SecurityPlans.encrypted(sslContext, enabled);
     }
 
+    private static class CountingTrustManager extends TrustAllTrustManager {
+        private final AtomicInteger serverChecks = new AtomicInteger();
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            serverChecks.incrementAndGet();
+        }
+    }
+
     private static class TrustAllTrustManager implements X509TrustManager {
         public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
             throw new CertificateException("All client connections to this client are forbidden.");
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.bolt.connection.netty.impl.util.TestUtil.await;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StaggeredConnectorTest {
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void shouldStartNextAttemptAfterDelayAndCloseLoser() {
+        var slowChannel = new EmbeddedChannel();
+        var fastChannel = new EmbeddedChannel();
+        var attempts = Map.of(
+                "slow", new StaggeredConnector.ConnectionAttempt(slowChannel, new CompletableFuture<>()),
+                "fast",
+                        new StaggeredConnector.ConnectionAttempt(
+                                fastChannel, CompletableFuture.completedFuture(fastChannel)));
+        var connector = new StaggeredConnector<>(List.of("slow", "fast"), attempts::get, 10, scheduler);
+
+        var channel = await(connector.connect());
+
+        assertSame(fastChannel, channel);
+        assertFalse(slowChannel.isOpen());
+        assertTrue(fastChannel.isOpen());
+    }
+
+    @Test
+    void shouldStartNextAttemptWhenPreviousFails() {
+        var fastChannel = new EmbeddedChannel();
+        var startedAddresses = new ArrayList<String>();
+        var connector = new StaggeredConnector<>(
+                List.of("failing", "fast"),
+                address -> {
+                    startedAddresses.add(address);
+                    return "failing".equals(address)
+                            ? new StaggeredConnector.ConnectionAttempt(
+                                    new EmbeddedChannel(), CompletableFuture.failedFuture(new IOException("failed")))
+                            : new StaggeredConnector.ConnectionAttempt(
+                                    fastChannel, CompletableFuture.completedFuture(fastChannel));
+                },
+                TimeUnit.HOURS.toMillis(1),
+                scheduler);
+
+        var channel = await(connector.connect());
+
+        assertSame(fastChannel, channel);
+        assertEquals(List.of("failing", "fast"), startedAddresses);
+    }
+
+    @Test
+    void shouldFailWhenAllAttemptsFail() {
+        var firstError = new IOException("first");
+        var secondError = new IOException("second");
+        var attempts = Map.of(
+                "first",
+                new StaggeredConnector.ConnectionAttempt(
+                        new EmbeddedChannel(), CompletableFuture.failedFuture(firstError)),
+                "second",
+                new StaggeredConnector.ConnectionAttempt(
+                        new EmbeddedChannel(), CompletableFuture.failedFuture(secondError)));
+        var connector = new StaggeredConnector<>(List.of("first", "second"), attempts::get, 10, scheduler);
+
+        var error = assertThrows(IOException.class, () -> await(connector.connect()));
+
+        assertSame(firstError, error);
+        assertEquals(List.of(secondError), List.of(error.getSuppressed()));
+    }
+
+    @Test
+    void shouldInterleaveAddressFamilies() throws UnknownHostException {
+        var ipv6First = InetAddress.getByName("::1");
+        var ipv6Second = InetAddress.getByName("::2");
+        var ipv6Third = InetAddress.getByName("::3");
+        var ipv4First = InetAddress.getByName("127.0.0.1");
+        var ipv4Second = InetAddress.getByName("127.0.0.2");
+
+        var addresses = StaggeredConnector.interleaveAddressFamilies(
+                List.of(ipv6First, ipv6Second, ipv6Third, ipv4First, ipv4Second));
+
+        assertEquals(List.of(ipv6First, ipv4First, ipv6Second, ipv4Second, ipv6Third), addresses);
+    }
+}
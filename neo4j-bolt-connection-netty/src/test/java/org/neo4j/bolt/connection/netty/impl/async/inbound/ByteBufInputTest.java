@@ -24,6 +24,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class ByteBufInputTest {
@@ -112,4 +114,28 @@ class ByteBufInputTest {
 
         assertEquals((byte) 42, input.peekByte());
     }
+
+    @Test
+    void shouldDelegateSkip() {
+        var input = new ByteBufInput();
+        var buf = mock(ByteBuf.class);
+        input.start(buf);
+
+        input.skip(7);
+
+        verify(buf).skipBytes(7);
+    }
+
+    @Test
+    void shouldReadUtf8() {
+        var input = new ByteBufInput();
+        var buf = Unpooled.buffer();
+        buf.writeBytes("héllo wörld".getBytes(StandardCharsets.UTF_8));
+        buf.writeByte(42);
+        input.start(buf);
+
+        assertEquals("héllo wörld", input.readUtf8(buf.readableBytes() - 1));
+        assertEquals((byte) 42, input.readByte());
+        buf.release();
+    }
 }
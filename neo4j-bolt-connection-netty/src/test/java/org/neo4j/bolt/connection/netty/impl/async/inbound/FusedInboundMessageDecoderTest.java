@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.inbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.bolt.connection.netty.impl.messaging.request.ResetMessage.RESET;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.netty.impl.NoopLoggingProvider;
+import org.neo4j.bolt.connection.netty.impl.async.connection.ChannelAttributes;
+import org.neo4j.bolt.connection.netty.impl.messaging.Message;
+import org.neo4j.bolt.connection.netty.impl.messaging.MessageFormat;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.RecordMessage;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.SuccessMessage;
+import org.neo4j.bolt.connection.netty.impl.messaging.v3.MessageFormatV3;
+import org.neo4j.bolt.connection.netty.impl.spi.ResponseHandler;
+import org.neo4j.bolt.connection.netty.impl.util.io.MessageToByteBufWriter;
+import org.neo4j.bolt.connection.netty.impl.util.messaging.KnowledgeableMessageFormat;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+import org.neo4j.bolt.connection.values.ValueFactory;
+
+class FusedInboundMessageDecoderTest {
+    private static final ValueFactory valueFactory = TestValueFactory.INSTANCE;
+    private EmbeddedChannel channel;
+    private InboundMessageDispatcher messageDispatcher;
+    private MessageToByteBufWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        channel = new EmbeddedChannel();
+        messageDispatcher = new InboundMessageDispatcher(channel, NoopLoggingProvider.INSTANCE);
+        writer = new MessageToByteBufWriter(new KnowledgeableMessageFormat(false));
+        ChannelAttributes.setMessageDispatcher(channel, messageDispatcher);
+
+        var decoder = new FusedInboundMessageDecoder(new MessageFormatV3(), NoopLoggingProvider.INSTANCE, valueFactory);
+        channel.pipeline().addFirst(decoder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (channel != null) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void shouldReadSingleChunkMessage() {
+        // given
+        var responseHandler = mock(ResponseHandler.class);
+        messageDispatcher.enqueue(responseHandler);
+        var metadata = Map.of("key", valueFactory.value(1));
+
+        // when
+        channel.writeInbound(chunked(new SuccessMessage(metadata), Integer.MAX_VALUE));
+
+        // then
+        verify(responseHandler).onSuccess(metadata);
+    }
+
+    @Test
+    void shouldReadMessageSpanningMultipleChunks() {
+        // given
+        var responseHandler = mock(ResponseHandler.class);
+        messageDispatcher.enqueue(responseHandler);
+        var fields = List.of(valueFactory.value("a".repeat(100)), valueFactory.value(2), valueFactory.value(3));
+
+        // when
+        channel.writeInbound(chunked(new RecordMessage(fields), 7));
+
+        // then
+        verify(responseHandler).onRecord(fields);
+    }
+
+    @Test
+    void shouldReadMessagesSplitAcrossReads() {
+        // given
+        var responseHandler = mock(ResponseHandler.class);
+        messageDispatcher.enqueue(responseHandler);
+        var fields = List.of(valueFactory.value("a".repeat(50)), valueFactory.value(2));
+        var metadata = Map.of("key", valueFactory.value(1));
+        var bytes = Unpooled.wrappedBuffer(
+                chunked(new RecordMessage(fields), 11), noop(), chunked(new SuccessMessage(metadata), 5));
+
+        // when
+        while (bytes.isReadable()) {
+            channel.writeInbound(bytes.readRetainedSlice(Math.min(3, bytes.readableBytes())));
+        }
+        bytes.release();
+
+        // then
+        var inOrder = inOrder(responseHandler);
+        inOrder.verify(responseHandler).onRecord(fields);
+        inOrder.verify(responseHandler).onSuccess(metadata);
+    }
+
+    @Test
+    void shouldReleaseLargeMessageBuffer() {
+        // given
+        var allocator = new UnpooledByteBufAllocator(false);
+        channel.config().setAllocator(allocator);
+        var responseHandler = mock(ResponseHandler.class);
+        messageDispatcher.enqueue(responseHandler);
+        var largeFields = List.of(valueFactory.value("a".repeat(100_000)));
+        var smallFields = List.of(valueFactory.value("b".repeat(100)));
+
+        // when
+        channel.writeInbound(chunked(new RecordMessage(largeFields), 8192));
+
+        // then
+        verify(responseHandler).onRecord(largeFields);
+        assertEquals(0, allocator.metric().usedHeapMemory());
+
+        // when
+        channel.writeInbound(chunked(new RecordMessage(smallFields), 7));
+
+        // then
+        verify(responseHandler).onRecord(smallFields);
+        assertTrue(allocator.metric().usedHeapMemory() > 0);
+    }
+
+    @Test
+    void shouldRethrowReadErrors() throws IOException {
+        // given
+        var messageFormat = mock(MessageFormat.class);
+        var reader = mock(MessageFormat.Reader.class);
+        var error = new RuntimeException("Unable to decode!");
+        doThrow(error).when(reader).read(any());
+        when(messageFormat.newReader(any(), any())).thenReturn(reader);
+        channel.pipeline().remove(FusedInboundMessageDecoder.class);
+        channel.pipeline()
+                .addLast(new FusedInboundMessageDecoder(messageFormat, NoopLoggingProvider.INSTANCE, valueFactory));
+
+        // when
+        var e = assertThrows(DecoderException.class, () -> channel.writeInbound(chunked(RESET, 2)));
+
+        // then
+        assertTrue(e.getMessage().startsWith("Failed to read inbound message"));
+    }
+
+    private ByteBuf chunked(Message message, int maxChunkSize) {
+        var body = writer.asByteBuf(message);
+        var buf = Unpooled.buffer();
+        while (body.isReadable()) {
+            var chunkSize = Math.min(maxChunkSize, body.readableBytes());
+            buf.writeShort(chunkSize);
+            buf.writeBytes(body, chunkSize);
+        }
+        body.release();
+        return buf.writeShort(0);
+    }
+
+    private static ByteBuf noop() {
+        return Unpooled.buffer().writeShort(0);
+    }
+}
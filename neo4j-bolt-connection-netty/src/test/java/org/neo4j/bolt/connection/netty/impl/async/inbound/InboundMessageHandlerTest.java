@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.bolt.connection.netty.impl.messaging.request.ResetMessage.RESET;
@@ -29,6 +30,7 @@ import static org.neo4j.bolt.connection.netty.impl.messaging.request.ResetMessag
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.DecoderException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -113,6 +115,27 @@ class InboundMessageHandlerTest {
         verify(responseHandler).onRecord(fields);
     }
 
+    @Test
+    void shouldOfferRecordMessageInEncodedForm() {
+        var responseHandler = mock(ResponseHandler.class);
+        var buffers = new ArrayList<OffHeapRecordBuffer>();
+        when(responseHandler.onEncodedRecord(any(), any())).thenAnswer(invocation -> {
+            var buffer = new OffHeapRecordBuffer(channel.alloc(), 1024, invocation.getArgument(1));
+            buffers.add(buffer);
+            return buffer.append(invocation.getArgument(0));
+        });
+        messageDispatcher.enqueue(responseHandler);
+
+        var fields = List.of(valueFactory.value(1), valueFactory.value(2), valueFactory.value(3));
+        channel.writeInbound(writer.asByteBuf(new RecordMessage(fields)));
+
+        verify(responseHandler, never()).onRecord(any());
+        assertEquals(1, buffers.size());
+        try (var buffer = buffers.get(0)) {
+            assertEquals(fields, buffer.iterator().next());
+        }
+    }
+
     @Test
     void shouldReadIgnoredMessage() {
         var responseHandler = mock(ResponseHandler.class);
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.async.inbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBufAllocator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.RecordMessage;
+import org.neo4j.bolt.connection.netty.impl.messaging.v3.MessageFormatV3;
+import org.neo4j.bolt.connection.netty.impl.util.io.MessageToByteBufWriter;
+import org.neo4j.bolt.connection.netty.impl.util.messaging.KnowledgeableMessageFormat;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.bolt.connection.values.ValueFactory;
+
+class OffHeapRecordBufferTest {
+    private static final ValueFactory valueFactory = TestValueFactory.INSTANCE;
+    private final MessageToByteBufWriter writer = new MessageToByteBufWriter(new KnowledgeableMessageFormat(false));
+
+    @Test
+    void shouldDecodeBufferedRecords() {
+        // given
+        var buffer = newBuffer(1024);
+        var records = List.of(
+                List.of(valueFactory.value(1), valueFactory.value("one")),
+                List.of(valueFactory.value(2), valueFactory.value("two")),
+                List.of(valueFactory.value(3), valueFactory.value("three")));
+
+        // when
+        for (var record : records) {
+            assertTrue(append(buffer, record));
+        }
+
+        // then
+        assertEquals(3, buffer.size());
+        assertTrue(buffer.memoryUsage() > 0);
+        var decoded = new ArrayList<List<Value>>();
+        buffer.forEach(decoded::add);
+        assertEquals(records, decoded);
+        decoded.clear();
+        buffer.forEach(decoded::add);
+        assertEquals(records, decoded);
+        buffer.close();
+    }
+
+    @Test
+    void shouldRejectRecordsBeyondLimit() {
+        // given
+        var buffer = newBuffer(32);
+
+        // when
+        var appended = append(buffer, List.of(valueFactory.value("a".repeat(8))));
+        var rejected = append(buffer, List.of(valueFactory.value("b".repeat(16))));
+
+        // then
+        assertTrue(appended);
+        assertFalse(rejected);
+        assertEquals(1, buffer.size());
+        buffer.close();
+    }
+
+    @Test
+    void shouldSpillRecordsBeyondLimit(@TempDir Path spillDirectory) throws IOException {
+        // given
+        var buffer = newBuffer(32, spillDirectory);
+        var records = new ArrayList<List<Value>>();
+        for (var i = 0; i < 100; i++) {
+            records.add(List.of(valueFactory.value(i), valueFactory.value("record" + i)));
+        }
+
+        // when
+        for (var record : records) {
+            assertTrue(append(buffer, record));
+        }
+
+        // then
+        assertEquals(100, buffer.size());
+        assertTrue(buffer.spilling());
+        assertTrue(buffer.spilledBytes() > 0);
+        assertTrue(buffer.memoryUsage() <= 32 + 64 * Integer.BYTES);
+        buffer.complete();
+        var decoded = new ArrayList<List<Value>>();
+        buffer.forEach(decoded::add);
+        assertEquals(records, decoded);
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(1, files.count());
+        }
+
+        // when
+        buffer.iterator().next();
+        buffer.close();
+
+        // then
+        try (var files = Files.list(spillDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void shouldReplaySpilledRecordsBeforeComplete(@TempDir Path spillDirectory) {
+        // given
+        var buffer = newBuffer(32, spillDirectory);
+        for (var i = 0; i < 10; i++) {
+            append(buffer, List.of(valueFactory.value(i)));
+        }
+        var iterator = buffer.iterator();
+        for (var i = 0; i < 10; i++) {
+            assertEquals(List.of(valueFactory.value(i)), iterator.next());
+        }
+
+        // when
+        append(buffer, List.of(valueFactory.value(10)));
+        var next = iterator.next();
+        buffer.complete();
+
+        // then
+        assertEquals(List.of(valueFactory.value(10)), next);
+        assertFalse(iterator.hasNext());
+        buffer.close();
+    }
+
+    @Test
+    void shouldWaitForSpilledRecords(@TempDir Path spillDirectory) {
+        // given
+        var messageFormat = new MessageFormatV3();
+        var buffer = new OffHeapRecordBuffer(
+                ByteBufAllocator.DEFAULT,
+                32,
+                spillDirectory,
+                ForkJoinPool.commonPool(),
+                input -> messageFormat.newReader(input, valueFactory));
+        var records = new ArrayList<List<Value>>();
+        for (var i = 0; i < 100; i++) {
+            records.add(List.of(valueFactory.value(i), valueFactory.value("record" + i)));
+        }
+        // handed over once spilling, like the connection does
+        var appended = 0;
+        while (!buffer.spilling()) {
+            append(buffer, records.get(appended++));
+        }
+        var decodedFuture = CompletableFuture.supplyAsync(() -> {
+            var decoded = new ArrayList<List<Value>>();
+            buffer.forEach(decoded::add);
+            return decoded;
+        });
+
+        // when
+        for (var record : records.subList(appended, records.size())) {
+            append(buffer, record);
+        }
+        buffer.complete();
+
+        // then
+        assertEquals(records, decodedFuture.join());
+        buffer.close();
+    }
+
+    @Test
+    void shouldReportSpillBacklog(@TempDir Path spillDirectory) {
+        // given
+        var messageFormat = new MessageFormatV3();
+        var spillTasks = new ArrayList<Runnable>();
+        var backlogChanges = new ArrayList<Boolean>();
+        var buffer = new OffHeapRecordBuffer(
+                ByteBufAllocator.DEFAULT,
+                32,
+                spillDirectory,
+                spillTasks::add,
+                64,
+                backlogChanges::add,
+                input -> messageFormat.newReader(input, valueFactory));
+        var records = new ArrayList<List<Value>>();
+        for (var i = 0; i < 20; i++) {
+            records.add(List.of(valueFactory.value("record" + i)));
+        }
+
+        // when
+        records.forEach(record -> append(buffer, record));
+
+        // then
+        assertEquals(List.of(true), backlogChanges);
+
+        // when
+        spillTasks.forEach(Runnable::run);
+
+        // then
+        assertEquals(List.of(true, false), backlogChanges);
+        buffer.complete();
+        var decoded = new ArrayList<List<Value>>();
+        buffer.forEach(decoded::add);
+        assertEquals(records, decoded);
+        buffer.close();
+    }
+
+    @Test
+    void shouldReportSpillFailure(@TempDir Path spillDirectory) {
+        // given
+        var buffer = newBuffer(32, spillDirectory.resolve("missing"));
+        append(buffer, List.of(valueFactory.value("a")));
+
+        // when
+        append(buffer, List.of(valueFactory.value("b".repeat(32))));
+        buffer.complete();
+
+        // then
+        assertNotNull(buffer.spillFailure());
+        var iterator = buffer.iterator();
+        assertEquals(List.of(valueFactory.value("a")), iterator.next());
+        assertThrows(UncheckedIOException.class, iterator::hasNext);
+        buffer.close();
+    }
+
+    @Test
+    void shouldReleaseMemoryOnClose() {
+        // given
+        var buffer = newBuffer(1024);
+        append(buffer, List.of(valueFactory.value(1)));
+
+        // when
+        buffer.close();
+        buffer.close();
+
+        // then
+        assertEquals(0, buffer.memoryUsage());
+        assertThrows(IllegalStateException.class, buffer::iterator);
+    }
+
+    @Test
+    void shouldRejectIterationAfterClose() {
+        // given
+        var buffer = newBuffer(1024);
+        append(buffer, List.of(valueFactory.value(1)));
+        append(buffer, List.of(valueFactory.value(2)));
+        var iterator = buffer.iterator();
+        assertEquals(List.of(valueFactory.value(1)), iterator.next());
+
+        // when
+        buffer.close();
+
+        // then
+        assertTrue(iterator.hasNext());
+        assertThrows(IllegalStateException.class, iterator::next);
+    }
+
+    private OffHeapRecordBuffer newBuffer(long limit) {
+        return newBuffer(limit, null);
+    }
+
+    private OffHeapRecordBuffer newBuffer(long limit, Path spillDirectory) {
+        var messageFormat = new MessageFormatV3();
+        // spills on the calling thread
+        return new OffHeapRecordBuffer(
+                ByteBufAllocator.DEFAULT,
+                limit,
+                spillDirectory,
+                Runnable::run,
+                input -> messageFormat.newReader(input, valueFactory));
+    }
+
+    private boolean append(OffHeapRecordBuffer buffer, List<Value> fields) {
+        var message = writer.asByteBuf(new RecordMessage(fields));
+        try {
+            return buffer.append(message);
+        } finally {
+            message.release();
+        }
+    }
+}
@@ -102,7 +102,7 @@ class OutboundMessageHandlerTest {
             @SuppressWarnings("SameParameterValue") final int... bytesToWrite) {
         var messageFormat = mock(MessageFormat.class);
 
-        when(messageFormat.newWriter(any(PackOutput.class), any())).then(invocation -> {
+        when(messageFormat.newWriter(any(PackOutput.class), any(), any())).then(invocation -> {
             PackOutput output = invocation.getArgument(0);
             return mockWriter(output, bytesToWrite);
         });
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.netty.ValueEncoder;
+import org.neo4j.bolt.connection.values.Value;
+
+class ValueEncodersTest {
+    @Test
+    void shouldResolveEncoderByInterface() {
+        // given
+        var encoder = mock(ValueEncoder.class);
+        var valueEncoders = ValueEncoders.of(Map.of(CustomValue.class, encoder));
+
+        // when
+        var resolved = valueEncoders.get(mock(CustomValue.class).getClass());
+
+        // then
+        assertSame(encoder, resolved);
+    }
+
+    @Test
+    void shouldPreferClosestClass() {
+        // given
+        var valueEncoder = mock(ValueEncoder.class);
+        var customValueEncoder = mock(ValueEncoder.class);
+        var valueEncoders = ValueEncoders.of(Map.of(Value.class, valueEncoder, CustomValue.class, customValueEncoder));
+
+        // when
+        var resolved = valueEncoders.get(mock(CustomValue.class).getClass());
+
+        // then
+        assertSame(customValueEncoder, resolved);
+    }
+
+    @Test
+    void shouldReturnNullForUnregisteredClass() {
+        // given
+        var valueEncoders = ValueEncoders.of(Map.of(CustomValue.class, mock(ValueEncoder.class)));
+
+        // when
+        var resolved = valueEncoders.get(mock(Value.class).getClass());
+
+        // then
+        assertNull(resolved);
+    }
+
+    @Test
+    void shouldRejectNonValueClasses() {
+        // given
+        var encoders = Map.of(String.class, mock(ValueEncoder.class));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> ValueEncoders.of(encoders));
+    }
+
+    interface CustomValue extends Value {}
+}
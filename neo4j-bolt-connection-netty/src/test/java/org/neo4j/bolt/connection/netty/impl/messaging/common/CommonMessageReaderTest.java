@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.messaging.common;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.neo4j.bolt.connection.netty.impl.async.inbound.ByteBufInput;
+import org.neo4j.bolt.connection.netty.impl.messaging.ResponseMessageHandler;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.FailureMessage;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.RecordMessage;
+import org.neo4j.bolt.connection.netty.impl.messaging.response.SuccessMessage;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackStream;
+import org.neo4j.bolt.connection.netty.impl.util.io.ByteBufOutput;
+import org.neo4j.bolt.connection.test.values.TestValue;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+import org.neo4j.bolt.connection.values.Value;
+
+class CommonMessageReaderTest {
+    @Test
+    void shouldClearEntityCacheAtEndOfResult() throws IOException {
+        // given
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        packNodeRecord(packer);
+        packer.packStructHeader(1, SuccessMessage.SIGNATURE);
+        packer.packMapHeader(1);
+        packer.pack("has_more");
+        packer.pack(true);
+        packNodeRecord(packer);
+        packer.packStructHeader(1, SuccessMessage.SIGNATURE);
+        packer.packMapHeader(0);
+        packNodeRecord(packer);
+        packer.packStructHeader(1, FailureMessage.SIGNATURE);
+        packer.packMapHeader(2);
+        packer.pack("code");
+        packer.pack("Neo.ClientError.Statement.SyntaxError");
+        packer.pack("message");
+        packer.pack("Invalid syntax");
+        packNodeRecord(packer);
+        var input = new ByteBufInput();
+        input.start(buf);
+        var valueFactory = TestValueFactory.INSTANCE;
+        var reader = new CommonMessageReader(new CommonValueUnpacker(input, true, valueFactory, true), valueFactory);
+        var handler = mock(ResponseMessageHandler.class);
+
+        // when
+        for (var i = 0; i < 7; i++) {
+            reader.read(handler);
+        }
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Value>> captor = ArgumentCaptor.forClass(List.class);
+        verify(handler, times(4)).handleRecordMessage(captor.capture());
+        verify(handler, times(2)).handleSuccessMessage(any());
+        verify(handler).handleFailureMessage(any());
+        var nodes = captor.getAllValues().stream()
+                .map(fields -> ((TestValue) fields.get(0)).asNode())
+                .toList();
+        // the cache is kept while the result has more records
+        assertSame(nodes.get(0), nodes.get(1));
+        // and cleared on SUCCESS without has_more and on FAILURE
+        assertNotSame(nodes.get(1), nodes.get(2));
+        assertNotSame(nodes.get(2), nodes.get(3));
+        buf.release();
+    }
+
+    private static void packNodeRecord(PackStream.Packer packer) throws IOException {
+        packer.packStructHeader(1, RecordMessage.SIGNATURE);
+        packer.packListHeader(1);
+        packer.packStructHeader(3, CommonValueUnpacker.NODE);
+        packer.pack(1);
+        packer.pack(List.of("Person"));
+        packer.packMapHeader(0);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.netty.impl.messaging.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.netty.ValueEncoder;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
+import org.neo4j.bolt.connection.netty.impl.util.io.ByteBufOutput;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+import org.neo4j.bolt.connection.values.Value;
+
+class CommonValuePackerTest {
+    private static final TestValueFactory valueFactory = TestValueFactory.INSTANCE;
+
+    @Test
+    void shouldPackValuesWithRegisteredEncoders() throws IOException {
+        // given
+        var money = mock(Money.class);
+        given(money.currency()).willReturn("EUR");
+        given(money.cents()).willReturn(150L);
+        ValueEncoder<Money> encoder = (value, output) -> {
+            output.packListHeader(2);
+            output.pack(value.currency());
+            output.pack(value.cents());
+        };
+        var valueEncoders = ValueEncoders.of(Map.of(Money.class, encoder));
+
+        // when
+        var actual = pack(valueEncoders, Map.of("money", money));
+
+        // then
+        var expected = pack(ValueEncoders.NONE, Map.of("money", valueFactory.value(List.of("EUR", 150L))));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldPackValuesWithoutEncodersByDefault() throws IOException {
+        // given
+        var valueEncoders = ValueEncoders.of(Map.of(Money.class, (ValueEncoder<Money>) (value, output) -> {
+            throw new IOException("Unexpected");
+        }));
+        var value = Map.of("key", valueFactory.value(List.of(1L, "two", 3.0)));
+
+        // when
+        var actual = pack(valueEncoders, value);
+
+        // then
+        assertEquals(pack(ValueEncoders.NONE, value), actual);
+    }
+
+    private static String pack(ValueEncoders valueEncoders, Map<String, Value> map) throws IOException {
+        var buf = Unpooled.buffer();
+        try {
+            new CommonValuePacker(new ByteBufOutput(buf), true, valueEncoders).pack(map);
+            return ByteBufUtil.hexDump(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    interface Money extends Value {
+        String currency();
+
+        long cents();
+    }
+}
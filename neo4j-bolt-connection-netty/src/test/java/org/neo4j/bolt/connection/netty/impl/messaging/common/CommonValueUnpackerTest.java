@@ -17,11 +17,30 @@
 package org.neo4j.bolt.connection.netty.impl.messaging.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.netty.impl.async.inbound.ByteBufInput;
+import org.neo4j.bolt.connection.netty.impl.messaging.v5.ValueUnpackerV5;
+import org.neo4j.bolt.connection.netty.impl.packstream.PackStream;
+import org.neo4j.bolt.connection.netty.impl.util.io.ByteBufOutput;
+import org.neo4j.bolt.connection.test.values.TestNode;
+import org.neo4j.bolt.connection.test.values.TestPath;
+import org.neo4j.bolt.connection.test.values.TestRelationship;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+import org.neo4j.bolt.connection.values.Node;
+import org.neo4j.bolt.connection.values.Relationship;
 
 final class CommonValueUnpackerTest {
     @Test
@@ -35,4 +54,303 @@ final class CommonValueUnpackerTest {
 
         assertEquals(ZonedDateTime.parse("2025-10-26T02:30:00+01:00[Europe/Stockholm]"), date);
     }
+
+    @Test
+    void shouldShareShapeBetweenMapsWithSameKeys() throws IOException {
+        // given
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        for (var i = 0; i < 2; i++) {
+            packer.packMapHeader(2);
+            packer.pack("id");
+            packer.pack(i);
+            packer.pack("name");
+            packer.pack("name" + i);
+        }
+        var input = new ByteBufInput();
+        input.start(buf);
+        var valueFactory = TestValueFactory.INSTANCE;
+        var unpacker = new CommonValueUnpacker(input, true, valueFactory);
+
+        // when
+        var first = unpacker.unpackValueMap();
+        var second = unpacker.unpackValueMap();
+
+        // then
+        assertEquals(Map.of("id", valueFactory.value(0), "name", valueFactory.value("name0")), first);
+        assertEquals(Map.of("id", valueFactory.value(1), "name", valueFactory.value("name1")), second);
+        assertSame(
+                assertInstanceOf(CompactMap.class, first).shape(),
+                assertInstanceOf(CompactMap.class, second).shape());
+        assertThrows(UnsupportedOperationException.class, () -> first.put("id", valueFactory.value(2)));
+        buf.release();
+    }
+
+    @Test
+    void shouldStartNewShapesForEachResult() throws IOException {
+        // given
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        for (var i = 0; i < 2; i++) {
+            packer.packMapHeader(1);
+            packer.pack("id");
+            packer.pack(i);
+        }
+        var input = new ByteBufInput();
+        input.start(buf);
+        var valueFactory = TestValueFactory.INSTANCE;
+        var unpacker = new CommonValueUnpacker(input, true, valueFactory);
+
+        // when
+        var first = unpacker.unpackValueMap();
+        unpacker.endResult();
+        var second = unpacker.unpackValueMap();
+
+        // then
+        assertEquals(Map.of("id", valueFactory.value(0)), first);
+        assertEquals(Map.of("id", valueFactory.value(1)), second);
+        assertNotSame(
+                assertInstanceOf(CompactMap.class, first).shape(),
+                assertInstanceOf(CompactMap.class, second).shape());
+        buf.release();
+    }
+
+    @Test
+    void shouldKeepLastValueOfDuplicateKeys() throws IOException {
+        // given
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        packer.packMapHeader(3);
+        packer.pack("a");
+        packer.pack(1);
+        packer.pack("b");
+        packer.pack(2);
+        packer.pack("a");
+        packer.pack(3);
+        var input = new ByteBufInput();
+        input.start(buf);
+        var valueFactory = TestValueFactory.INSTANCE;
+        var unpacker = new CommonValueUnpacker(input, true, valueFactory);
+
+        // when
+        var map = unpacker.unpackValueMap();
+
+        // then
+        assertEquals(Map.of("a", valueFactory.value(3), "b", valueFactory.value(2)), map);
+        buf.release();
+    }
+
+    @Test
+    void shouldReuseNodesWithinResultWhenEntityCacheEnabled() throws IOException {
+        // given
+        var buf = packNodes(3);
+        var input = new ByteBufInput();
+        input.start(buf);
+        var unpacker = new CommonValueUnpacker(input, true, TestValueFactory.INSTANCE, true);
+
+        // when
+        var first = unpackNode(unpacker);
+        var second = unpackNode(unpacker);
+        unpacker.endResult();
+        var third = unpackNode(unpacker);
+
+        // then
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(first, third);
+        assertEquals("1", second.elementId());
+        assertEquals(42, unpacker.unpacker.unpackLong());
+        buf.release();
+    }
+
+    @Test
+    void shouldNotReuseNodesWhenEntityCacheDisabled() throws IOException {
+        // given
+        var buf = packNodes(2);
+        var input = new ByteBufInput();
+        input.start(buf);
+        var unpacker = new CommonValueUnpacker(input, true, TestValueFactory.INSTANCE, false);
+
+        // when
+        var first = unpackNode(unpacker);
+        var second = unpackNode(unpacker);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        buf.release();
+    }
+
+    @Test
+    void shouldReuseEntitiesOfPathsWithinResultWhenEntityCacheEnabled() throws IOException {
+        // given
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        for (var i = 0; i < 2; i++) {
+            packer.packStructHeader(3, CommonValueUnpacker.PATH);
+            packer.packListHeader(2);
+            for (var id = 1; id <= 2; id++) {
+                packer.packStructHeader(3, CommonValueUnpacker.NODE);
+                packer.pack(id);
+                packer.pack(List.of("Person"));
+                packer.packMapHeader(0);
+            }
+            packer.packListHeader(1);
+            packer.packStructHeader(3, CommonValueUnpacker.UNBOUND_RELATIONSHIP);
+            packer.pack(5);
+            packer.pack("KNOWS");
+            packer.packMapHeader(0);
+            packer.pack(List.of(1, 1));
+        }
+        var input = new ByteBufInput();
+        input.start(buf);
+        var unpacker = new CommonValueUnpacker(input, true, TestValueFactory.INSTANCE, true);
+
+        // when
+        var first = unpackPath(unpacker);
+        var second = unpackPath(unpacker);
+
+        // then
+        assertSame(first.start(), second.start());
+        assertSame(first.end(), second.end());
+        var relationship = assertInstanceOf(
+                TestRelationship.class, first.relationships().iterator().next());
+        assertSame(relationship, second.relationships().iterator().next());
+        assertEquals(1, relationship.startNodeId());
+        assertEquals("1", relationship.startNodeElementId());
+        assertEquals(2, relationship.endNodeId());
+        assertEquals("2", relationship.endNodeElementId());
+        buf.release();
+    }
+
+    @Test
+    void shouldReuseOnlyIdenticalLegacyEntitiesWhenEntityCacheEnabled() throws IOException {
+        // given
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        for (var name : List.of("Alice", "Alice", "Bob")) {
+            packer.packStructHeader(3, CommonValueUnpacker.NODE);
+            packer.pack(1);
+            packer.pack(List.of("Person"));
+            packer.packMapHeader(1);
+            packer.pack("name");
+            packer.pack(name);
+        }
+        for (var since : List.of(2020, 2020, 2021)) {
+            packer.packStructHeader(5, CommonValueUnpacker.RELATIONSHIP);
+            packer.pack(5);
+            packer.pack(1);
+            packer.pack(2);
+            packer.pack("KNOWS");
+            packer.packMapHeader(1);
+            packer.pack("since");
+            packer.pack(since);
+        }
+        var input = new ByteBufInput();
+        input.start(buf);
+        var unpacker = new CommonValueUnpacker(input, true, TestValueFactory.INSTANCE, true);
+
+        // when
+        var nodes = List.of(unpackNode(unpacker), unpackNode(unpacker), unpackNode(unpacker));
+        var relationships =
+                List.of(unpackRelationship(unpacker), unpackRelationship(unpacker), unpackRelationship(unpacker));
+
+        // then
+        assertSame(nodes.get(0), nodes.get(1));
+        assertNotSame(nodes.get(1), nodes.get(2));
+        var valueFactory = TestValueFactory.INSTANCE;
+        assertEquals(
+                valueFactory.value("Bob"),
+                assertInstanceOf(TestNode.class, nodes.get(2)).get("name"));
+        assertSame(relationships.get(0), relationships.get(1));
+        assertNotSame(relationships.get(1), relationships.get(2));
+        assertEquals(
+                valueFactory.value(2021),
+                assertInstanceOf(TestRelationship.class, relationships.get(2)).get("since"));
+        buf.release();
+    }
+
+    @Test
+    void shouldReuseOnlyIdenticalV5EntitiesWhenEntityCacheEnabled() throws IOException {
+        // given
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        for (var name : List.of("Alice", "Alice", "Bob")) {
+            packer.packStructHeader(4, CommonValueUnpacker.NODE);
+            packer.pack(1);
+            packer.pack(List.of("Person"));
+            packer.packMapHeader(1);
+            packer.pack("name");
+            packer.pack(name);
+            packer.pack("4:db:1");
+        }
+        for (var since : List.of(2020, 2020, 2021)) {
+            packer.packStructHeader(8, CommonValueUnpacker.RELATIONSHIP);
+            packer.pack(5);
+            packer.pack(1);
+            packer.pack(2);
+            packer.pack("KNOWS");
+            packer.packMapHeader(1);
+            packer.pack("since");
+            packer.pack(since);
+            packer.pack("5:db:5");
+            packer.pack("4:db:1");
+            packer.pack("4:db:2");
+        }
+        var input = new ByteBufInput();
+        input.start(buf);
+        CommonValueUnpacker unpacker = new ValueUnpackerV5(input, TestValueFactory.INSTANCE, true);
+
+        // when
+        var nodes = List.of(unpackNode(unpacker), unpackNode(unpacker), unpackNode(unpacker));
+        var relationships =
+                List.of(unpackRelationship(unpacker), unpackRelationship(unpacker), unpackRelationship(unpacker));
+
+        // then
+        assertSame(nodes.get(0), nodes.get(1));
+        assertNotSame(nodes.get(1), nodes.get(2));
+        var valueFactory = TestValueFactory.INSTANCE;
+        assertEquals(
+                valueFactory.value("Bob"),
+                assertInstanceOf(TestNode.class, nodes.get(2)).get("name"));
+        assertSame(relationships.get(0), relationships.get(1));
+        assertNotSame(relationships.get(1), relationships.get(2));
+        assertEquals(
+                valueFactory.value(2021),
+                assertInstanceOf(TestRelationship.class, relationships.get(2)).get("since"));
+        buf.release();
+    }
+
+    private static ByteBuf packNodes(int count) throws IOException {
+        var buf = Unpooled.buffer();
+        var packer = new PackStream.Packer(new ByteBufOutput(buf));
+        for (var i = 0; i < count; i++) {
+            packer.packStructHeader(3, CommonValueUnpacker.NODE);
+            packer.pack(1);
+            packer.pack(List.of("Person"));
+            packer.packMapHeader(1);
+            packer.pack("name");
+            packer.pack("Alice");
+        }
+        packer.pack(42);
+        return buf;
+    }
+
+    private static Node unpackNode(CommonValueUnpacker unpacker) throws IOException {
+        unpacker.unpackStructHeader();
+        unpacker.unpackStructSignature();
+        return unpacker.unpackNode();
+    }
+
+    private static Relationship unpackRelationship(CommonValueUnpacker unpacker) throws IOException {
+        unpacker.unpackStructHeader();
+        unpacker.unpackStructSignature();
+        return unpacker.unpackRelationship();
+    }
+
+    private static TestPath unpackPath(CommonValueUnpacker unpacker) throws IOException {
+        unpacker.unpackStructHeader();
+        unpacker.unpackStructSignature();
+        return (TestPath) unpacker.unpackPath();
+    }
 }
@@ -716,6 +716,36 @@ public class PackStreamTest {
         }
     }
 
+    @Test
+    void testCanSkipValues() throws Throwable {
+        // Given
+        var machine = new Machine();
+        var packer = machine.packer();
+        packer.packNull();
+        packer.pack(true);
+        packer.pack(-16);
+        packer.pack(1000);
+        packer.pack(Long.MAX_VALUE);
+        packer.pack(1.5);
+        packer.pack(new byte[300]);
+        packer.pack("a".repeat(70_000));
+        packer.pack(asList(1, "two", asList(3.0, null)));
+        packer.pack(asMap("a", 1, "b", asMap("c", "d")));
+        packer.packStructHeader(2, (byte) 'N');
+        packer.pack(1);
+        packer.pack("label");
+        packer.pack(42);
+
+        // When
+        var unpacker = newUnpacker(machine.output());
+        for (var i = 0; i < 11; i++) {
+            unpacker.skipValue();
+        }
+
+        // Then
+        assertEquals(42, unpacker.unpackLong());
+    }
+
     private void assertStruct(int size) throws Throwable {
         // Given
         var machine = new Machine();
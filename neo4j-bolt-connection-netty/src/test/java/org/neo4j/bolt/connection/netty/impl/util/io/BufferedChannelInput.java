@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackInput;
 import org.neo4j.bolt.connection.netty.impl.packstream.PackStream;
 
@@ -94,6 +95,23 @@ public class BufferedChannelInput implements PackInput {
         }
     }
 
+    @Override
+    public String readUtf8(int size) throws IOException {
+        var bytes = new byte[size];
+        readBytes(bytes, 0, size);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void skip(int length) throws IOException {
+        while (length > 0) {
+            ensure(1);
+            var skipped = Math.min(buffer.remaining(), length);
+            buffer.position(buffer.position() + skipped);
+            length -= skipped;
+        }
+    }
+
     @Override
     public byte peekByte() throws IOException {
         ensure(1);
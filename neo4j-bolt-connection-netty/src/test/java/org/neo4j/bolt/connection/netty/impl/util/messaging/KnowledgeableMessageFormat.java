@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.stream.StreamSupport;
 import org.neo4j.bolt.connection.netty.impl.messaging.AbstractMessageWriter;
 import org.neo4j.bolt.connection.netty.impl.messaging.MessageEncoder;
+import org.neo4j.bolt.connection.netty.impl.messaging.ValueEncoders;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonValuePacker;
 import org.neo4j.bolt.connection.netty.impl.messaging.common.CommonValueUnpacker;
 import org.neo4j.bolt.connection.netty.impl.messaging.encode.DiscardAllMessageEncoder;
@@ -59,7 +60,7 @@ public class KnowledgeableMessageFormat extends MessageFormatV3 {
     }
 
     @Override
-    public Writer newWriter(PackOutput output, ValueFactory valueFactory) {
+    public Writer newWriter(PackOutput output, ValueFactory valueFactory, ValueEncoders valueEncoders) {
         return new KnowledgeableMessageWriter(
                 output, elementIdEnabled, dateTimeUtcEnabled, (TestValueFactory) valueFactory);
     }
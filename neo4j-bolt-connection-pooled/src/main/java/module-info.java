@@ -22,4 +22,5 @@ module org.neo4j.bolt.connection.pooled {
     exports org.neo4j.bolt.connection.pooled.observation;
 
     requires transitive org.neo4j.bolt.connection;
+    requires static jdk.jfr;
 }
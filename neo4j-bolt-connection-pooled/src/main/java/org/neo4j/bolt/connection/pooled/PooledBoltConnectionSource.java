@@ -19,8 +19,12 @@ package org.neo4j.bolt.connection.pooled;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
@@ -32,6 +36,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.neo4j.bolt.connection.AuthToken;
 import org.neo4j.bolt.connection.BasicResponseHandler;
 import org.neo4j.bolt.connection.BoltAgent;
@@ -42,6 +47,7 @@ import org.neo4j.bolt.connection.BoltConnectionSource;
 import org.neo4j.bolt.connection.BoltConnectionState;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.CloseResult;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.NotificationConfig;
 import org.neo4j.bolt.connection.SecurityPlan;
@@ -69,7 +75,7 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
     });
     private final BoltConnectionProvider boltConnectionProvider;
     private final List<ConnectionEntry> pooledConnectionEntries;
-    private final Queue<CompletableFuture<PooledBoltConnection>> pendingAcquisitions;
+    private final Queue<PendingAcquisition> pendingAcquisitions;
     private final int maxSize;
     private final long acquisitionTimeout;
     private final long maxLifetime;
@@ -87,8 +93,9 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
     private final SecurityPlanSupplier securityPlanSupplier;
     private final NotificationConfig notificationConfig;
     private final TimeoutPolicy timeoutPolicy;
+    private final AuthPolicy authPolicy;
 
-    private CompletionStage<Void> closeStage;
+    private CompletionStage<CloseResult> closeStage;
     private long minAuthTimestamp;
 
     public PooledBoltConnectionSource(
@@ -109,6 +116,51 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
             int connectTimeoutMillis,
             NotificationConfig notificationConfig,
             TimeoutPolicy timeoutPolicy) {
+        this(
+                loggingProvider,
+                clock,
+                uri,
+                boltConnectionProvider,
+                authTokenManager,
+                securityPlanSupplier,
+                maxSize,
+                acquisitionTimeout,
+                maxLifetime,
+                idleBeforeTest,
+                observationProvider,
+                routingContextAddress,
+                boltAgent,
+                userAgent,
+                connectTimeoutMillis,
+                notificationConfig,
+                timeoutPolicy,
+                AuthPolicy.SHARED);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @since 11.0.0
+     */
+    public PooledBoltConnectionSource(
+            LoggingProvider loggingProvider,
+            Clock clock,
+            URI uri,
+            BoltConnectionProvider boltConnectionProvider,
+            AuthTokenManager authTokenManager,
+            SecurityPlanSupplier securityPlanSupplier,
+            int maxSize,
+            long acquisitionTimeout,
+            long maxLifetime,
+            long idleBeforeTest,
+            PoolObservationProvider observationProvider,
+            String routingContextAddress,
+            BoltAgent boltAgent,
+            String userAgent,
+            int connectTimeoutMillis,
+            NotificationConfig notificationConfig,
+            TimeoutPolicy timeoutPolicy,
+            AuthPolicy authPolicy) {
         this.uri = Objects.requireNonNull(uri);
         this.address = switch (uri.getScheme()) {
             case "bolt", "bolt+s", "bolt+ssc", "neo4j", "neo4j+s", "neo4j+ssc" -> new BoltServerAddress(uri);
@@ -135,6 +187,7 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
             this.securityPlanSupplier = Objects.requireNonNull(securityPlanSupplier);
             this.notificationConfig = Objects.requireNonNull(notificationConfig);
             this.timeoutPolicy = Objects.requireNonNull(timeoutPolicy);
+            this.authPolicy = Objects.requireNonNull(authPolicy);
         } catch (RuntimeException ex) {
             createObservation.error(ex);
             throw ex;
@@ -235,15 +288,26 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                     } else {
                         // fallback to queue
                         if (pendingAcquisitions.size() < 100 && !acquisitionFuture.isDone()) {
+                            var pendingAcquisition = new PendingAcquisition(
+                                    acquisitionFuture,
+                                    authToken,
+                                    () -> connect(
+                                            acquisitionFuture,
+                                            timeoutFuture,
+                                            authToken,
+                                            overrideAuthToken,
+                                            minVersion,
+                                            notificationConfig,
+                                            parentObservation));
                             switch (timeoutPolicy) {
                                 case DEFAULT -> {
                                     if (timeoutFuture == null || timeoutFuture.getDelay(TimeUnit.MILLISECONDS) > 0) {
-                                        pendingAcquisitions.add(acquisitionFuture);
+                                        pendingAcquisitions.add(pendingAcquisition);
                                     }
                                 }
                                 case LEGACY -> {
                                     if (acquisitionTimeout > 0) {
-                                        pendingAcquisitions.add(acquisitionFuture);
+                                        pendingAcquisitions.add(pendingAcquisition);
                                         scheduleTimeout(acquisitionFuture, acquisitionTimeout);
                                     } else {
                                         executorService.execute(timeoutRunnable(acquisitionFuture));
@@ -267,7 +331,7 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                         pooledConnectionEntries.remove(connectionEntryWithMetadata.connectionEntry);
                     }
                 }
-                pendingAcquisitions.remove(acquisitionFuture);
+                removePendingAcquisition(acquisitionFuture);
                 acquisitionFuture.completeExceptionally(throwable);
             }
         }
@@ -305,17 +369,7 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                         reauthStage(entryWithMetadata, authToken).whenComplete((ignored2, throwable2) -> {
                             if (!acquisitionFuture.complete(pooledConnection)) {
                                 // acquisition timed out
-                                CompletableFuture<PooledBoltConnection> pendingAcquisition;
-                                synchronized (this) {
-                                    pendingAcquisition = pendingAcquisitions.poll();
-                                    if (pendingAcquisition == null) {
-                                        // nothing pending, just make the entry available
-                                        entry.available = true;
-                                    }
-                                }
-                                if (pendingAcquisition != null) {
-                                    pendingAcquisition.complete(pooledConnection);
-                                }
+                                handOver(entry);
                             }
                         });
                     }
@@ -334,25 +388,26 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                     }
                 });
                 authStage
-                        .thenCompose(auth -> boltConnectionProvider.connect(
-                                uri,
-                                routingContextAddress,
-                                boltAgent,
-                                userAgent,
-                                connectTimeoutMillis,
-                                switch (timeoutPolicy) {
-                                    case DEFAULT -> acquisitionTimeout; // while the acquisition timeout is implemented
-                                        // by this source, it is also used as initialisation timeout to make sure there
-                                        // is
-                                        // a limit
-                                    case LEGACY -> connectTimeoutMillis;
-                                },
-                                auth.securityPlan(),
-                                auth.authToken(),
-                                minVersion,
-                                notificationConfig,
-                                createObservation))
-                        .whenComplete((boltConnection, throwable) -> {
+                        .thenCompose(auth -> boltConnectionProvider
+                                .connect(
+                                        uri,
+                                        routingContextAddress,
+                                        boltAgent,
+                                        userAgent,
+                                        connectTimeoutMillis,
+                                        switch (timeoutPolicy) {
+                                                // while the acquisition timeout is implemented by this source, it is
+                                                // also used as initialisation timeout to make sure there is a limit
+                                            case DEFAULT -> acquisitionTimeout;
+                                            case LEGACY -> connectTimeoutMillis;
+                                        },
+                                        auth.securityPlan(),
+                                        auth.authToken(),
+                                        minVersion,
+                                        notificationConfig,
+                                        createObservation)
+                                .thenApply(connection -> new ConnectionAndAuthToken(connection, auth.authToken())))
+                        .whenComplete((connectionAndAuthToken, throwable) -> {
                             var error = FutureUtil.completionExceptionCause(throwable);
                             if (error != null) {
                                 synchronized (this) {
@@ -374,8 +429,10 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                                 createObservation.stop();
                                 acquisitionFuture.completeExceptionally(error);
                             } else {
+                                var boltConnection = connectionAndAuthToken.connection();
                                 synchronized (this) {
                                     entry.connection = boltConnection;
+                                    entry.authToken = connectionAndAuthToken.authToken();
                                     entry.createdTimestamp = clock.millis();
                                 }
                                 createObservation.stop();
@@ -388,17 +445,7 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                                                 observationParent, poolId, uri));
                                 if (!acquisitionFuture.complete(pooledConnection)) {
                                     // acquisition timed out
-                                    CompletableFuture<PooledBoltConnection> pendingAcquisition;
-                                    synchronized (this) {
-                                        pendingAcquisition = pendingAcquisitions.poll();
-                                        if (pendingAcquisition == null) {
-                                            // nothing pending, just make the entry available
-                                            entry.available = true;
-                                        }
-                                    }
-                                    if (pendingAcquisition != null) {
-                                        pendingAcquisition.complete(pooledConnection);
-                                    }
+                                    handOver(entry);
                                 }
                             }
                         });
@@ -408,6 +455,14 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
 
     private synchronized ConnectionEntryWithMetadata acquireExistingEntry(
             AuthToken authToken, BoltProtocolVersion minVersion) {
+        return switch (authPolicy) {
+            case SHARED -> acquireExistingSharedEntry(authToken, minVersion);
+            case PARTITIONED -> acquireExistingPartitionedEntry(authToken, minVersion);
+        };
+    }
+
+    private ConnectionEntryWithMetadata acquireExistingSharedEntry(
+            AuthToken authToken, BoltProtocolVersion minVersion) {
         ConnectionEntryWithMetadata connectionEntryWithMetadata = null;
         var iterator = pooledConnectionEntries.iterator();
         while (iterator.hasNext()) {
@@ -418,77 +473,173 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                 continue;
             }
 
-            var connection = connectionEntry.connection;
-            // unusable
-            if (connection.state() != BoltConnectionState.OPEN) {
-                connection.close();
-                iterator.remove();
+            if (!retainUsable(iterator, connectionEntry, minVersion)) {
                 continue;
             }
 
-            // lower version is present
-            if (minVersion != null && minVersion.compareTo(connection.protocolVersion()) > 0) {
-                throw new MinVersionAcquisitionException("lower version", connection.protocolVersion());
+            var reauthNeeded = reauthNeeded(connectionEntry, authToken);
+            if (reauthNeeded && !reauthSupported(connectionEntry)) {
+                iterator.remove();
+                voidEntry(connectionEntry);
+                continue;
             }
+            connectionEntryWithMetadata = acquireEntry(connectionEntry, authToken, reauthNeeded);
+            break;
+        }
+        return connectionEntryWithMetadata;
+    }
 
-            // exceeded max lifetime
-            if (maxLifetime > 0) {
-                var currentTime = clock.millis();
-                if (currentTime - connectionEntry.createdTimestamp > maxLifetime) {
-                    iterator.remove();
-                    var closeObservation = observationProvider.pooledConnectionClose(poolId, uri);
-                    connection.close().whenComplete((ignored, throwable) -> closeObservation.stop());
-                    continue;
+    private ConnectionEntryWithMetadata acquireExistingPartitionedEntry(
+            AuthToken authToken, BoltProtocolVersion minVersion) {
+        var partitionSizes = new HashMap<AuthToken, Integer>();
+        partitionSizes.put(authToken, 0);
+        var stealCandidates = new ArrayList<ConnectionEntry>();
+        var iterator = pooledConnectionEntries.iterator();
+        while (iterator.hasNext()) {
+            var connectionEntry = iterator.next();
+
+            // unavailable
+            if (!connectionEntry.available) {
+                if (connectionEntry.authToken != null) {
+                    partitionSizes.merge(connectionEntry.authToken, 1, Integer::sum);
                 }
+                continue;
             }
 
-            // the pool must not have unauthenticated connections
-            var authInfo = connection.authInfo().toCompletableFuture().getNow(null);
+            if (!retainUsable(iterator, connectionEntry, minVersion)) {
+                continue;
+            }
+            partitionSizes.merge(connectionEntry.authToken, 1, Integer::sum);
 
-            var expiredByError = minAuthTimestamp > 0 && authInfo.authAckMillis() <= minAuthTimestamp;
-            var authMatches = authToken.equals(authInfo.authToken());
-            var reauthNeeded = expiredByError || !authMatches;
+            if (!reauthNeeded(connectionEntry, authToken)) {
+                // idle entry of the same partition
+                return acquireEntry(connectionEntry, authToken, false);
+            }
+            stealCandidates.add(connectionEntry);
+        }
 
-            if (reauthNeeded) {
-                if (new BoltProtocolVersion(5, 1).compareTo(connectionEntry.connection.protocolVersion()) > 0) {
-                    log.log(System.Logger.Level.DEBUG, "reauth is not supported, the connection is voided");
-                    iterator.remove();
-                    var observation = observationProvider.pooledConnectionClose(poolId, uri);
-                    connectionEntry.connection.close().whenComplete((ignored, throwable) -> {
-                        if (throwable != null) {
-                            log.log(
-                                    System.Logger.Level.WARNING,
-                                    "Connection close has failed with %s.",
-                                    throwable.getClass().getCanonicalName());
-                        }
-                        observation.stop();
-                    });
-                    continue;
-                }
+        if (pooledConnectionEntries.size() < maxSize || stealCandidates.isEmpty()) {
+            // prefer a new connection over stealing from other partitions
+            return null;
+        }
+
+        // a partition may only grow by taking connections while it is below its fair share, and only from larger
+        // partitions
+        var fairShare = Math.max(1, maxSize / partitionSizes.size());
+        var partitionSize = partitionSizes.get(authToken);
+        ConnectionEntry stealCandidate = null;
+        if (partitionSize < fairShare) {
+            // steal from the partition exceeding its fair share the most, least recently used first
+            stealCandidate = stealCandidates.stream()
+                    .filter(entry -> partitionSizes.getOrDefault(entry.authToken, 0) > partitionSize)
+                    .max(Comparator.<ConnectionEntry>comparingInt(
+                                    entry -> partitionSizes.getOrDefault(entry.authToken, 0) - fairShare)
+                            .thenComparingLong(entry -> -entry.lastUsedTimestamp))
+                    .orElse(null);
+        }
+        if (stealCandidate == null) {
+            if (!pendingAcquisitions.isEmpty()) {
+                // the acquisition waits for a released connection
+                return null;
             }
-            log.log(System.Logger.Level.DEBUG, "Connection acquired from the pool. " + address);
-            connectionEntry.available = false;
-            connectionEntryWithMetadata = new ConnectionEntryWithMetadata(connectionEntry, reauthNeeded);
-            break;
+            // nothing else waits, so the least recently used idle connection is taken rather than left unused
+            stealCandidate = stealCandidates.stream()
+                    .min(Comparator.comparingLong(entry -> entry.lastUsedTimestamp))
+                    .orElseThrow();
         }
-        return connectionEntryWithMetadata;
+        if (!reauthSupported(stealCandidate)) {
+            // leaves space for a new connection
+            pooledConnectionEntries.remove(stealCandidate);
+            voidEntry(stealCandidate);
+            return null;
+        }
+        return acquireEntry(stealCandidate, authToken, true);
+    }
+
+    private boolean retainUsable(
+            Iterator<ConnectionEntry> iterator, ConnectionEntry connectionEntry, BoltProtocolVersion minVersion) {
+        var connection = connectionEntry.connection;
+        // unusable
+        if (connection.state() != BoltConnectionState.OPEN) {
+            connection.close();
+            iterator.remove();
+            return false;
+        }
+
+        // lower version is present
+        if (minVersion != null && minVersion.compareTo(connection.protocolVersion()) > 0) {
+            throw new MinVersionAcquisitionException("lower version", connection.protocolVersion());
+        }
+
+        // exceeded max lifetime
+        if (maxLifetime > 0) {
+            var currentTime = clock.millis();
+            if (currentTime - connectionEntry.createdTimestamp > maxLifetime) {
+                iterator.remove();
+                var closeObservation = observationProvider.pooledConnectionClose(poolId, uri);
+                connection.close().whenComplete((ignored, throwable) -> closeObservation.stop());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean reauthNeeded(ConnectionEntry connectionEntry, AuthToken authToken) {
+        // the pool must not have unauthenticated connections
+        var authInfo =
+                connectionEntry.connection.authInfo().toCompletableFuture().getNow(null);
+
+        var expiredByError = minAuthTimestamp > 0 && authInfo.authAckMillis() <= minAuthTimestamp;
+        var authMatches = authToken.equals(authInfo.authToken());
+        return expiredByError || !authMatches;
+    }
+
+    private boolean reauthSupported(ConnectionEntry connectionEntry) {
+        return new BoltProtocolVersion(5, 1).compareTo(connectionEntry.connection.protocolVersion()) <= 0;
+    }
+
+    private void voidEntry(ConnectionEntry connectionEntry) {
+        log.log(System.Logger.Level.DEBUG, "reauth is not supported, the connection is voided");
+        var observation = observationProvider.pooledConnectionClose(poolId, uri);
+        connectionEntry.connection.close().whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                log.log(
+                        System.Logger.Level.WARNING,
+                        "Connection close has failed with %s.",
+                        throwable.getClass().getCanonicalName());
+            }
+            observation.stop();
+        });
+    }
+
+    private ConnectionEntryWithMetadata acquireEntry(
+            ConnectionEntry connectionEntry, AuthToken authToken, boolean reauthNeeded) {
+        log.log(System.Logger.Level.DEBUG, "Connection acquired from the pool. " + address);
+        connectionEntry.available = false;
+        if (reauthNeeded) {
+            connectionEntry.authToken = authToken;
+        }
+        return new ConnectionEntryWithMetadata(connectionEntry, reauthNeeded);
     }
 
     private CompletionStage<Void> reauthStage(
             ConnectionEntryWithMetadata connectionEntryWithMetadata, AuthToken authToken) {
         CompletionStage<Void> stage;
         if (connectionEntryWithMetadata.reauthNeeded) {
+            var reauthObservation = observationProvider.pooledConnectionReauth(poolId, uri, partitionId(authToken));
             stage = connectionEntryWithMetadata
                     .connectionEntry
                     .connection
                     .write(List.of(Messages.logoff(), Messages.logon(authToken)))
                     .handle((ignored, throwable) -> {
                         if (throwable != null) {
+                            reauthObservation.error(throwable);
                             connectionEntryWithMetadata.connectionEntry.connection.close();
                             synchronized (this) {
                                 pooledConnectionEntries.remove(connectionEntryWithMetadata.connectionEntry);
                             }
                         }
+                        reauthObservation.stop();
                         return null;
                     });
         } else {
@@ -534,24 +685,33 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
 
     @Override
     public CompletionStage<Void> close() {
-        CompletionStage<Void> closeStage;
+        return close(Integer.MAX_VALUE, null).thenApply(ignored -> null);
+    }
+
+    @Override
+    public CompletionStage<CloseResult> close(int parallelism, Duration deadline) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        CompletionStage<CloseResult> closeStage;
         synchronized (this) {
             if (this.closeStage == null) {
                 var closeObservation = observationProvider.connectionPoolClose(poolId, uri);
-                this.closeStage = CompletableFuture.completedStage(null);
+                var connections = new ArrayList<BoltConnection>(pooledConnectionEntries.size());
                 var iterator = pooledConnectionEntries.iterator();
                 while (iterator.hasNext()) {
                     var entry = iterator.next();
                     if (entry.connection != null && entry.connection.state() == BoltConnectionState.OPEN) {
-                        this.closeStage = this.closeStage.thenCompose(
-                                ignored -> entry.connection.close().exceptionally(throwable -> null));
+                        connections.add(entry.connection);
                     }
                     iterator.remove();
                 }
-                this.closeStage = this.closeStage.whenComplete((ignored, throwable) -> {
-                    executorService.shutdown();
-                    closeObservation.stop();
-                });
+                this.closeStage = new ConcurrentCloser(connections, parallelism, deadline)
+                        .close()
+                        .whenComplete((ignored, throwable) -> {
+                            executorService.shutdown();
+                            closeObservation.stop();
+                        });
             }
             closeStage = this.closeStage;
         }
@@ -575,25 +735,84 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                 : String.format("%s:%d-%d", serverAddress.host(), serverAddress.port(), this.hashCode());
     }
 
+    private static String partitionId(AuthToken authToken) {
+        return Integer.toHexString(authToken.hashCode());
+    }
+
     private void release(ConnectionEntry entry) {
-        CompletableFuture<PooledBoltConnection> pendingAcquisition;
         synchronized (this) {
             entry.lastUsedTimestamp = clock.millis();
-            pendingAcquisition = pendingAcquisitions.poll();
+        }
+        handOver(entry);
+        log.log(System.Logger.Level.DEBUG, "Connection released to the pool.");
+    }
+
+    /**
+     * Hands the given entry over to a pending acquisition or makes it available when nothing is pending.
+     * <p>
+     * With {@link AuthPolicy#PARTITIONED}, a pending acquisition of the partition of the entry is served first.
+     * Otherwise, the entry is re-authenticated for the longest pending acquisition or, when re-authentication is not
+     * supported, closed to leave space for a new connection of that acquisition.
+     */
+    private void handOver(ConnectionEntry entry) {
+        PendingAcquisition pendingAcquisition;
+        var reauthNeeded = false;
+        var voided = false;
+        synchronized (this) {
+            pendingAcquisition = pollPendingAcquisition(entry);
             if (pendingAcquisition == null) {
                 // nothing pending, just make the entry available
                 entry.available = true;
+            } else if (authPolicy == AuthPolicy.PARTITIONED
+                    && !pendingAcquisition.authToken().equals(entry.authToken)) {
+                if (reauthSupported(entry)) {
+                    reauthNeeded = true;
+                    entry.authToken = pendingAcquisition.authToken();
+                } else {
+                    pooledConnectionEntries.remove(entry);
+                    voided = true;
+                }
             }
         }
-        if (pendingAcquisition != null) {
-            pendingAcquisition.complete(new PooledBoltConnection(
-                    entry.connection,
-                    this,
-                    () -> release(entry),
-                    () -> purge(entry),
-                    observationParent -> observationProvider.pooledConnectionInUse(observationParent, poolId, uri)));
+        if (pendingAcquisition == null) {
+            return;
         }
-        log.log(System.Logger.Level.DEBUG, "Connection released to the pool.");
+        if (voided) {
+            voidEntry(entry);
+            pendingAcquisition.retry().run();
+            return;
+        }
+        var pooledConnection = new PooledBoltConnection(
+                entry.connection,
+                this,
+                () -> release(entry),
+                () -> purge(entry),
+                observationParent -> observationProvider.pooledConnectionInUse(observationParent, poolId, uri));
+        reauthStage(new ConnectionEntryWithMetadata(entry, reauthNeeded), pendingAcquisition.authToken())
+                .whenComplete((ignored, throwable) -> {
+                    if (!pendingAcquisition.future().complete(pooledConnection)) {
+                        // acquisition timed out
+                        handOver(entry);
+                    }
+                });
+    }
+
+    private synchronized PendingAcquisition pollPendingAcquisition(ConnectionEntry entry) {
+        if (authPolicy == AuthPolicy.PARTITIONED) {
+            var iterator = pendingAcquisitions.iterator();
+            while (iterator.hasNext()) {
+                var pendingAcquisition = iterator.next();
+                if (pendingAcquisition.authToken().equals(entry.authToken)) {
+                    iterator.remove();
+                    return pendingAcquisition;
+                }
+            }
+        }
+        return pendingAcquisitions.poll();
+    }
+
+    private synchronized void removePendingAcquisition(CompletableFuture<PooledBoltConnection> acquisitionFuture) {
+        pendingAcquisitions.removeIf(pendingAcquisition -> pendingAcquisition.future() == acquisitionFuture);
     }
 
     private void purge(ConnectionEntry entry) {
@@ -615,7 +834,7 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
         return executorService.schedule(
                 () -> {
                     synchronized (this) {
-                        pendingAcquisitions.remove(acquisitionFuture);
+                        removePendingAcquisition(acquisitionFuture);
                     }
                     timeoutRunnable(acquisitionFuture).run();
                 },
@@ -638,8 +857,92 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
                 + acquisitionTimeout + "ms");
     }
 
+    private class ConcurrentCloser {
+        private final List<ClosingConnection> connections;
+        private final int parallelism;
+        private final Duration deadline;
+        private int nextIndex;
+
+        private ConcurrentCloser(List<BoltConnection> connections, int parallelism, Duration deadline) {
+            this.connections = connections.stream().map(ClosingConnection::new).toList();
+            this.parallelism = parallelism;
+            this.deadline = deadline;
+        }
+
+        private CompletionStage<CloseResult> close() {
+            var deadlineFuture = deadline != null
+                    ? executorService.schedule(this::forceCloseRemaining, deadline.toMillis(), TimeUnit.MILLISECONDS)
+                    : null;
+            for (var i = 0; i < Math.min(parallelism, connections.size()); i++) {
+                closeNext();
+            }
+            return CompletableFuture.allOf(connections.stream()
+                            .map(connection -> connection.outcomeFuture)
+                            .toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> {
+                        if (deadlineFuture != null) {
+                            deadlineFuture.cancel(false);
+                        }
+                        var gracefullyClosed = (int) connections.stream()
+                                .filter(connection -> connection.outcomeFuture.join())
+                                .count();
+                        return new CloseResult(gracefullyClosed, connections.size() - gracefullyClosed);
+                    });
+        }
+
+        private void closeNext() {
+            ClosingConnection connection;
+            synchronized (this) {
+                connection = nextIndex < connections.size() ? connections.get(nextIndex++) : null;
+            }
+            if (connection != null
+                    && connection.state.compareAndSet(ClosingConnection.PENDING, ClosingConnection.CLOSING)) {
+                connection.connection.close().whenComplete((ignored, throwable) -> {
+                    if (connection.state.compareAndSet(ClosingConnection.CLOSING, ClosingConnection.CLOSED)) {
+                        connection.outcomeFuture.complete(true);
+                    }
+                    closeNext();
+                });
+            }
+        }
+
+        private void forceCloseRemaining() {
+            synchronized (this) {
+                // stops scheduling graceful closures
+                nextIndex = connections.size();
+            }
+            for (var connection : connections) {
+                if (connection.state.compareAndSet(ClosingConnection.PENDING, ClosingConnection.FORCE_CLOSING)
+                        || connection.state.compareAndSet(ClosingConnection.CLOSING, ClosingConnection.FORCE_CLOSING)) {
+                    connection
+                            .connection
+                            .forceClose("Graceful close deadline exceeded")
+                            .whenComplete((ignored, throwable) -> connection.outcomeFuture.complete(false));
+                }
+            }
+        }
+    }
+
+    private static class ClosingConnection {
+        private static final int PENDING = 0;
+        private static final int CLOSING = 1;
+        private static final int CLOSED = 2;
+        private static final int FORCE_CLOSING = 3;
+
+        private final BoltConnection connection;
+        // the outcome is decided exactly once, either by the graceful close or by the deadline
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // completes with true when closed gracefully and false when force closed
+        private final CompletableFuture<Boolean> outcomeFuture = new CompletableFuture<>();
+
+        private ClosingConnection(BoltConnection connection) {
+            this.connection = connection;
+        }
+    }
+
     private static class ConnectionEntry {
         private BoltConnection connection;
+        private AuthToken authToken;
         private boolean available;
         private long createdTimestamp;
         private long lastUsedTimestamp;
@@ -649,6 +952,36 @@ public class PooledBoltConnectionSource implements BoltConnectionSource<BoltConn
 
     private record ConnectionEntryWithMetadata(ConnectionEntry connectionEntry, boolean reauthNeeded) {}
 
+    private record ConnectionAndAuthToken(BoltConnection connection, AuthToken authToken) {}
+
+    private record PendingAcquisition(
+            CompletableFuture<PooledBoltConnection> future, AuthToken authToken, Runnable retry) {}
+
+    /**
+     * Defines how connections authenticated with different {@link AuthToken} values share the pool.
+     *
+     * @since 11.0.0
+     */
+    public enum AuthPolicy {
+        /**
+         * Any idle connection may be acquired, re-authenticating it when its {@link AuthToken} differs.
+         */
+        SHARED,
+        /**
+         * Idle connections are partitioned by {@link AuthToken}. An idle connection of another partition is only
+         * re-authenticated and acquired when the requested partition has no idle connections and the pool is full.
+         * While the requested partition holds less than its fair share of the maximum pool size, it is taken from the
+         * larger partition that exceeds its fair share the most. Beyond the fair share, the least recently used idle
+         * connection is taken when no other acquisition is pending, otherwise the acquisition waits for a released
+         * connection.
+         * <p>
+         * A released connection is handed to a pending acquisition of its own partition first. Otherwise, it is
+         * re-authenticated for the longest pending acquisition, so that a connection is never handed over with the
+         * {@link AuthToken} of another partition.
+         */
+        PARTITIONED
+    }
+
     public enum TimeoutPolicy {
         /**
          * The acquisition timeout starts immediately.
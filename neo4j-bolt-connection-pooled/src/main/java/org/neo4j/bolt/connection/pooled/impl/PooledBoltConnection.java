@@ -16,12 +16,14 @@
  */
 package org.neo4j.bolt.connection.pooled.impl;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import org.neo4j.bolt.connection.AuthInfo;
 import org.neo4j.bolt.connection.BasicResponseHandler;
@@ -29,6 +31,7 @@ import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.BoltConnectionState;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.RecordBuffer;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.Message;
@@ -182,6 +185,11 @@ public class PooledBoltConnection implements BoltConnection {
         return delegate.defaultReadTimeout();
     }
 
+    @Override
+    public Optional<Executor> ioExecutor() {
+        return delegate.ioExecutor();
+    }
+
     // internal use only
     public BoltConnection delegate() {
         return delegate;
@@ -219,6 +227,26 @@ public class PooledBoltConnection implements BoltConnection {
             handler.onRecord(fields);
         }
 
+        @Override
+        public void onQueuedMessages(int count) {
+            handler.onQueuedMessages(count);
+        }
+
+        @Override
+        public long recordBufferLimit() {
+            return handler.recordBufferLimit();
+        }
+
+        @Override
+        public Path recordSpillDirectory() {
+            return handler.recordSpillDirectory();
+        }
+
+        @Override
+        public void onRecordBuffer(RecordBuffer buffer) {
+            handler.onRecordBuffer(buffer);
+        }
+
         @Override
         public void onPullSummary(PullSummary summary) {
             handler.onPullSummary(summary);
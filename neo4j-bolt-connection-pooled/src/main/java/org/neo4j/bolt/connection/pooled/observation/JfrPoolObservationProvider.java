@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.pooled.observation;
+
+import java.net.URI;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+import org.neo4j.bolt.connection.observation.Observation;
+import org.neo4j.bolt.connection.observation.jfr.JfrObservationProvider;
+
+/**
+ * A {@link PoolObservationProvider} that emits Java Flight Recorder events.
+ * <p>
+ * In addition to the events of {@link JfrObservationProvider}, the following events are recorded with the pool id,
+ * the target {@link URI} and the error description if the operation fails:
+ * <ul>
+ *     <li>{@code org.neo4j.bolt.connection.PooledConnectionAcquire} - a connection acquisition, the event duration is
+ *     the time spent waiting for the connection</li>
+ *     <li>{@code org.neo4j.bolt.connection.PooledConnectionCreate} - a new connection creation</li>
+ *     <li>{@code org.neo4j.bolt.connection.PooledConnectionClose} - a connection closure</li>
+ *     <li>{@code org.neo4j.bolt.connection.PooledConnectionReauth} - a connection re-authentication</li>
+ * </ul>
+ * The events are only created when they are enabled in a recording.
+ *
+ * @since 11.0.0
+ */
+public class JfrPoolObservationProvider extends JfrObservationProvider implements PoolObservationProvider {
+    /**
+     * Creates a new instance.
+     */
+    public JfrPoolObservationProvider() {}
+
+    @Override
+    public Observation connectionPoolCreate(String id, URI uri, int maxSize) {
+        return noOpObservation();
+    }
+
+    @Override
+    public Observation connectionPoolClose(String id, URI uri) {
+        return noOpObservation();
+    }
+
+    @Override
+    public Observation pooledConnectionCreate(String id, URI uri) {
+        return observe(new PoolEvent.Create(id, uri), PoolEvent::setError);
+    }
+
+    @Override
+    public Observation pooledConnectionClose(String id, URI uri) {
+        return observe(new PoolEvent.Close(id, uri), PoolEvent::setError);
+    }
+
+    @Override
+    public Observation pooledConnectionAcquire(String id, URI uri) {
+        return observe(new PoolEvent.Acquire(id, uri), PoolEvent::setError);
+    }
+
+    @Override
+    public Observation pooledConnectionReauth(String id, URI uri, String partitionId) {
+        return observe(new PoolEvent.Reauth(id, uri, partitionId), PoolEvent::setError);
+    }
+
+    @Override
+    public Observation pooledConnectionInUse(ImmutableObservation parentObsevation, String id, URI uri) {
+        return noOpObservation();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.pooled.observation;
+
+import java.net.URI;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Category({"Neo4j", "Bolt Connection", "Pool"})
+abstract class PoolEvent extends Event {
+    @Label("Pool Id")
+    String poolId;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Error")
+    String error;
+
+    PoolEvent(String poolId, URI uri) {
+        this.poolId = poolId;
+        this.uri = uri.toString();
+    }
+
+    void setError(String error) {
+        this.error = error;
+    }
+
+    @Name("org.neo4j.bolt.connection.PooledConnectionAcquire")
+    @Label("Pooled Connection Acquire")
+    @Description("An acquisition of a connection from the pool, the duration is the time spent waiting")
+    static final class Acquire extends PoolEvent {
+        Acquire(String poolId, URI uri) {
+            super(poolId, uri);
+        }
+    }
+
+    @Name("org.neo4j.bolt.connection.PooledConnectionCreate")
+    @Label("Pooled Connection Create")
+    @Description("A creation of a new connection by the pool")
+    static final class Create extends PoolEvent {
+        Create(String poolId, URI uri) {
+            super(poolId, uri);
+        }
+    }
+
+    @Name("org.neo4j.bolt.connection.PooledConnectionClose")
+    @Label("Pooled Connection Close")
+    @Description("A closure of a connection by the pool")
+    static final class Close extends PoolEvent {
+        Close(String poolId, URI uri) {
+            super(poolId, uri);
+        }
+    }
+
+    @Name("org.neo4j.bolt.connection.PooledConnectionReauth")
+    @Label("Pooled Connection Reauth")
+    @Description("A re-authentication of a pooled connection with a different auth token")
+    static final class Reauth extends PoolEvent {
+        @Label("Partition Id")
+        @Description("An opaque identifier of the auth token")
+        String partitionId;
+
+        Reauth(String poolId, URI uri, String partitionId) {
+            super(poolId, uri);
+            this.partitionId = partitionId;
+        }
+    }
+}
@@ -79,6 +79,21 @@ public interface PoolObservationProvider extends ObservationProvider {
      */
     Observation pooledConnectionAcquire(String id, URI uri);
 
+    /**
+     * Creates an {@link Observation} for re-authentication of a pooled connection.
+     * <p>
+     * The returned observation MUST be started. By default, re-authentication is not observed.
+     *
+     * @param id the pool id
+     * @param uri the target {@link URI}
+     * @param partitionId an opaque identifier of the auth token the connection is re-authenticated with
+     * @return a new observation
+     * @since 11.0.0
+     */
+    default Observation pooledConnectionReauth(String id, URI uri, String partitionId) {
+        return NoOpObservation.INSTANCE;
+    }
+
     /**
      * Creates an {@link Observation} for connection usage.
      * <p>
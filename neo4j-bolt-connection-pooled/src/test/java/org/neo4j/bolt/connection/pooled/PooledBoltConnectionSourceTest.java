@@ -17,6 +17,7 @@
 package org.neo4j.bolt.connection.pooled;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +33,7 @@ import static org.mockito.MockitoAnnotations.openMocks;
 
 import java.net.URI;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +65,7 @@ import org.neo4j.bolt.connection.BoltConnectionParameters;
 import org.neo4j.bolt.connection.BoltConnectionProvider;
 import org.neo4j.bolt.connection.BoltConnectionState;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.CloseResult;
 import org.neo4j.bolt.connection.DatabaseName;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.NotificationConfig;
@@ -134,6 +137,7 @@ class PooledBoltConnectionSourceTest {
         given(observationProvider.pooledConnectionCreate(any(), any())).willReturn(observation);
         given(observationProvider.pooledConnectionInUse(any(), any(), any())).willReturn(observation);
         given(observationProvider.pooledConnectionClose(any(), any())).willReturn(observation);
+        given(observationProvider.pooledConnectionReauth(any(), any(), any())).willReturn(observation);
         given(observationProvider.connectionPoolClose(any(), any())).willReturn(observation);
         given(authTokenManager.getToken()).willReturn(CompletableFuture.completedStage(authToken));
         given(securityPlanSupplier.getPlan()).willReturn(CompletableFuture.completedStage(securityPlan));
@@ -352,6 +356,93 @@ class PooledBoltConnectionSourceTest {
         then(upstreamProvider).should(never()).close();
     }
 
+    @Test
+    void shouldForceCloseConnectionsAfterDeadline() {
+        // given
+        var connection2 = mock(BoltConnection.class);
+        given(upstreamProvider.connect(
+                        eq(uri),
+                        eq(routingContextAddress),
+                        eq(boltAgent),
+                        eq(userAgent),
+                        eq(timeout),
+                        anyLong(),
+                        eq(securityPlan),
+                        eq(authToken),
+                        eq(null),
+                        eq(notificationConfig),
+                        any()))
+                .willReturn(CompletableFuture.completedStage(connection))
+                .willReturn(CompletableFuture.completedStage(connection2));
+        given(connection.state()).willReturn(BoltConnectionState.OPEN);
+        given(connection.close()).willReturn(CompletableFuture.completedStage(null));
+        given(connection2.state()).willReturn(BoltConnectionState.OPEN);
+        given(connection2.close()).willReturn(new CompletableFuture<>());
+        given(connection2.forceClose(any())).willReturn(CompletableFuture.completedStage(null));
+        boltConnectionSource.getConnection().toCompletableFuture().join();
+        boltConnectionSource.getConnection().toCompletableFuture().join();
+
+        // when
+        var result = boltConnectionSource
+                .close(2, Duration.ofMillis(100))
+                .toCompletableFuture()
+                .join();
+
+        // then
+        assertEquals(new CloseResult(1, 1), result);
+        then(connection).should().close();
+        then(connection).should(never()).forceClose(any());
+        then(connection2).should().close();
+        then(connection2).should().forceClose(any());
+        assertEquals(0, boltConnectionSource.size());
+    }
+
+    @Test
+    void shouldCountForceClosedConnectionOnceWhenGracefulCloseCompletesLater() {
+        // given
+        var connection2 = mock(BoltConnection.class);
+        given(upstreamProvider.connect(
+                        eq(uri),
+                        eq(routingContextAddress),
+                        eq(boltAgent),
+                        eq(userAgent),
+                        eq(timeout),
+                        anyLong(),
+                        eq(securityPlan),
+                        eq(authToken),
+                        eq(null),
+                        eq(notificationConfig),
+                        any()))
+                .willReturn(CompletableFuture.completedStage(connection))
+                .willReturn(CompletableFuture.completedStage(connection2));
+        given(connection.state()).willReturn(BoltConnectionState.OPEN);
+        given(connection.close()).willReturn(CompletableFuture.completedStage(null));
+        given(connection2.state()).willReturn(BoltConnectionState.OPEN);
+        var gracefulCloseFuture = new CompletableFuture<Void>();
+        given(connection2.close()).willReturn(gracefulCloseFuture);
+        given(connection2.forceClose(any())).willAnswer(invocation -> {
+            // forcing the channel closed also completes the graceful close
+            gracefulCloseFuture.complete(null);
+            return CompletableFuture.completedStage(null);
+        });
+        boltConnectionSource.getConnection().toCompletableFuture().join();
+        boltConnectionSource.getConnection().toCompletableFuture().join();
+
+        // when
+        var result = boltConnectionSource
+                .close(2, Duration.ofMillis(100))
+                .toCompletableFuture()
+                .join();
+
+        // then
+        assertEquals(new CloseResult(1, 1), result);
+        then(connection).should().close();
+        then(connection).should(never()).forceClose(any());
+        then(connection2).should().close();
+        then(connection2).should().forceClose(any());
+        assertEquals(0, boltConnectionSource.size());
+    }
+
     @Test
     void shouldVerifyConnectivity() {
         // given
@@ -662,4 +753,182 @@ class PooledBoltConnectionSourceTest {
                 .connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), eq(authToken), any(), any(), any());
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    void shouldCreateConnectionForNewPartition() {
+        // given
+        var connection2 = mock(BoltConnection.class);
+        var authToken2 = AuthTokens.custom(Map.of("key", mock(Value.class)));
+        boltConnectionSource = newPartitionedSource(maxSize);
+        given(upstreamProvider.connect(
+                        any(), any(), any(), any(), anyInt(), anyLong(), any(), eq(authToken2), any(), any(), any()))
+                .willReturn(CompletableFuture.completedStage(connection2));
+        givenIdleConnection(connection, authToken);
+
+        // when
+        var parameters =
+                BoltConnectionParameters.builder().withAuthToken(authToken2).build();
+        var actualConnection = boltConnectionSource
+                .getConnection(parameters)
+                .toCompletableFuture()
+                .join();
+
+        // then
+        assertEquals(connection2, ((PooledBoltConnection) actualConnection).delegate());
+        then(connection).should(never()).write(any(List.class));
+        then(observationProvider).should(never()).pooledConnectionReauth(any(), any(), any());
+        assertEquals(1, boltConnectionSource.inUse());
+        assertEquals(2, boltConnectionSource.size());
+    }
+
+    @Test
+    void shouldReauthIdleConnectionOfAnotherPartitionWhenFull() {
+        // given
+        var authToken2 = AuthTokens.custom(Map.of("key", mock(Value.class)));
+        boltConnectionSource = newPartitionedSource(1);
+        given(connection.write(List.of(Messages.logoff(), Messages.logon(authToken2))))
+                .willReturn(CompletableFuture.completedStage(null));
+        givenIdleConnection(connection, authToken);
+
+        // when
+        var parameters =
+                BoltConnectionParameters.builder().withAuthToken(authToken2).build();
+        var actualConnection = boltConnectionSource
+                .getConnection(parameters)
+                .toCompletableFuture()
+                .join();
+
+        // then
+        assertEquals(connection, ((PooledBoltConnection) actualConnection).delegate());
+        then(connection).should().write(List.of(Messages.logoff(), Messages.logon(authToken2)));
+        then(observationProvider).should().pooledConnectionReauth(any(), eq(uri), any());
+        assertEquals(1, boltConnectionSource.size());
+    }
+
+    @Test
+    void shouldReauthIdleConnectionOfAnotherPartitionBeyondFairShareWhenNothingWaits() {
+        // given
+        var connection2 = mock(BoltConnection.class);
+        var authToken2 = AuthTokens.custom(Map.of("key", mock(Value.class)));
+        boltConnectionSource = newPartitionedSource(2);
+        given(upstreamProvider.connect(
+                        any(), any(), any(), any(), anyInt(), anyLong(), any(), eq(authToken2), any(), any(), any()))
+                .willReturn(CompletableFuture.completedStage(connection2));
+        given(connection.write(List.of(Messages.logoff(), Messages.logon(authToken2))))
+                .willReturn(CompletableFuture.completedStage(null));
+        givenIdleConnection(connection, authToken);
+        var parameters =
+                BoltConnectionParameters.builder().withAuthToken(authToken2).build();
+        boltConnectionSource.getConnection(parameters).toCompletableFuture().join();
+
+        // when
+        var actualConnection = boltConnectionSource
+                .getConnection(parameters)
+                .toCompletableFuture()
+                .join();
+
+        // then
+        assertEquals(connection, ((PooledBoltConnection) actualConnection).delegate());
+        then(connection).should().write(List.of(Messages.logoff(), Messages.logon(authToken2)));
+        then(observationProvider).should().pooledConnectionReauth(any(), eq(uri), any());
+        assertEquals(2, boltConnectionSource.inUse());
+        assertEquals(2, boltConnectionSource.size());
+    }
+
+    @Test
+    void shouldReauthReleasedConnectionForWaiterOfAnotherPartition() {
+        // given
+        var authToken2 = AuthTokens.custom(Map.of("key", mock(Value.class)));
+        boltConnectionSource = newPartitionedSource(1);
+        given(connection.write(List.of(Messages.logoff(), Messages.logon(authToken2))))
+                .willReturn(CompletableFuture.completedStage(null));
+        givenIdleConnection(connection, authToken);
+        var inUseConnection =
+                boltConnectionSource.getConnection().toCompletableFuture().join();
+        var parameters =
+                BoltConnectionParameters.builder().withAuthToken(authToken2).build();
+        var connectionStage = boltConnectionSource.getConnection(parameters);
+        assertFalse(connectionStage.toCompletableFuture().isDone());
+
+        // when
+        inUseConnection.close().toCompletableFuture().join();
+
+        // then
+        var actualConnection = connectionStage.toCompletableFuture().join();
+        assertEquals(connection, ((PooledBoltConnection) actualConnection).delegate());
+        then(connection).should().write(List.of(Messages.logoff(), Messages.logon(authToken2)));
+        then(observationProvider).should().pooledConnectionReauth(any(), eq(uri), any());
+        assertEquals(1, boltConnectionSource.inUse());
+        assertEquals(1, boltConnectionSource.size());
+    }
+
+    @Test
+    void shouldHandReleasedConnectionToWaiterOfSamePartitionFirst() {
+        // given
+        var authToken2 = AuthTokens.custom(Map.of("key", mock(Value.class)));
+        boltConnectionSource = newPartitionedSource(1);
+        givenIdleConnection(connection, authToken);
+        var inUseConnection =
+                boltConnectionSource.getConnection().toCompletableFuture().join();
+        var parameters =
+                BoltConnectionParameters.builder().withAuthToken(authToken2).build();
+        var otherPartitionStage = boltConnectionSource.getConnection(parameters);
+        var samePartitionStage = boltConnectionSource.getConnection();
+
+        // when
+        inUseConnection.close().toCompletableFuture().join();
+
+        // then
+        var actualConnection = samePartitionStage.toCompletableFuture().join();
+        assertEquals(connection, ((PooledBoltConnection) actualConnection).delegate());
+        assertFalse(otherPartitionStage.toCompletableFuture().isDone());
+        then(connection).should(never()).write(any(List.class));
+        then(observationProvider).should(never()).pooledConnectionReauth(any(), any(), any());
+        assertEquals(1, boltConnectionSource.inUse());
+    }
+
+    private PooledBoltConnectionSource newPartitionedSource(int maxSize) {
+        return new PooledBoltConnectionSource(
+                loggingProvider,
+                clock,
+                uri,
+                upstreamProvider,
+                authTokenManager,
+                securityPlanSupplier,
+                maxSize,
+                acquisitionTimeout,
+                maxLifetime,
+                idleBeforeTest,
+                observationProvider,
+                routingContextAddress,
+                boltAgent,
+                userAgent,
+                timeout,
+                notificationConfig,
+                PooledBoltConnectionSource.TimeoutPolicy.DEFAULT,
+                PooledBoltConnectionSource.AuthPolicy.PARTITIONED);
+    }
+
+    private void givenIdleConnection(BoltConnection connection, AuthToken authToken) {
+        given(connection.writeAndFlush(any(), eq(Messages.reset()), any()))
+                .willAnswer((Answer<CompletionStage<Void>>) invocationOnMock -> {
+                    var handler = (ResponseHandler) invocationOnMock.getArgument(0);
+                    handler.onResetSummary(mock(ResetSummary.class));
+                    handler.onComplete();
+                    return CompletableFuture.completedStage(null);
+                });
+        given(connection.protocolVersion()).willReturn(minVersion);
+        given(connection.state()).willReturn(BoltConnectionState.OPEN);
+        var authInfo = mock(AuthInfo.class);
+        given(authInfo.authAckMillis()).willReturn(0L);
+        given(authInfo.authToken()).willReturn(authToken);
+        given(connection.authInfo()).willReturn(CompletableFuture.completedStage(authInfo));
+        boltConnectionSource
+                .getConnection()
+                .toCompletableFuture()
+                .join()
+                .close()
+                .toCompletableFuture()
+                .join();
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.pooled.observation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JfrPoolObservationProviderTest {
+    private final JfrPoolObservationProvider provider = new JfrPoolObservationProvider();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordPoolEvents() throws IOException {
+        // given
+        var uri = URI.create("bolt://localhost:7687");
+        var file = tempDir.resolve("recording.jfr");
+        try (var recording = new Recording()) {
+            recording.enable("org.neo4j.bolt.connection.PooledConnectionAcquire");
+            recording.enable("org.neo4j.bolt.connection.PooledConnectionCreate");
+            recording.enable("org.neo4j.bolt.connection.PooledConnectionClose");
+            recording.enable("org.neo4j.bolt.connection.PooledConnectionReauth");
+            recording.start();
+
+            // when
+            provider.pooledConnectionAcquire("pool", uri)
+                    .error(new IllegalStateException("timeout"))
+                    .stop();
+            provider.pooledConnectionCreate("pool", uri).stop();
+            provider.pooledConnectionClose("pool", uri).stop();
+            provider.pooledConnectionReauth("pool", uri, "partition").stop();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        var events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("org.neo4j.bolt.connection.Pooled"))
+                .collect(Collectors.toMap(event -> event.getEventType().getName(), Function.identity()));
+        assertEquals(4, events.size());
+        var acquire = events.get("org.neo4j.bolt.connection.PooledConnectionAcquire");
+        assertEquals("pool", acquire.getString("poolId"));
+        assertEquals(uri.toString(), acquire.getString("uri"));
+        assertEquals("java.lang.IllegalStateException: timeout", acquire.getString("error"));
+        assertNull(
+                events.get("org.neo4j.bolt.connection.PooledConnectionCreate").getString("error"));
+        RecordedEvent reauth = events.get("org.neo4j.bolt.connection.PooledConnectionReauth");
+        assertEquals("partition", reauth.getString("partitionId"));
+    }
+}
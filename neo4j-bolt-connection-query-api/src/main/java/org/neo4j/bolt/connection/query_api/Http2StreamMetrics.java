@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api;
+
+import java.net.URI;
+
+/**
+ * A live view of the stream concurrency of a multiplexed HTTP/2 transport shared by all Query API connections to a
+ * single server.
+ * <p>
+ * The values are updated as requests are sent and completed, so consecutive calls may return different results.
+ * <p>
+ * <b>The Neo4j Query API support is experimental.</b>
+ * @since 11.0.0
+ */
+public interface Http2StreamMetrics {
+    /**
+     * Returns the server {@link URI} consisting of scheme, host and port.
+     *
+     * @return the server URI
+     */
+    URI serverUri();
+
+    /**
+     * Returns the number of HTTP/2 connections the streams are spread across.
+     *
+     * @return the number of connections
+     */
+    int connections();
+
+    /**
+     * Returns the maximum number of streams that may be active at the same time.
+     *
+     * @return the maximum concurrent streams
+     */
+    int maxConcurrentStreams();
+
+    /**
+     * Returns the number of streams that are currently active.
+     *
+     * @return the active streams
+     */
+    int activeStreams();
+
+    /**
+     * Returns the highest number of streams that have been active at the same time.
+     *
+     * @return the peak active streams
+     */
+    int peakActiveStreams();
+
+    /**
+     * Returns the number of requests waiting for a stream to become available.
+     *
+     * @return the pending requests
+     */
+    int pendingStreams();
+
+    /**
+     * Returns the total number of streams that have been completed.
+     *
+     * @return the completed streams
+     */
+    long completedStreams();
+}
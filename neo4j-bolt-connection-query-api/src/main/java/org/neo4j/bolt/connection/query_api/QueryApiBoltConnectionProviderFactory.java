@@ -19,10 +19,13 @@ package org.neo4j.bolt.connection.query_api;
 import java.time.Clock;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import org.neo4j.bolt.connection.BoltConnectionProvider;
 import org.neo4j.bolt.connection.BoltConnectionProviderFactory;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
+import org.neo4j.bolt.connection.query_api.impl.Http2Settings;
 import org.neo4j.bolt.connection.query_api.impl.QueryApiBoltConnectionProvider;
 import org.neo4j.bolt.connection.values.ValueFactory;
 
@@ -30,6 +33,30 @@ import org.neo4j.bolt.connection.values.ValueFactory;
  * A factory that creates instances of {@link BoltConnectionProvider} that connect to Neo4j Query API.
  * <p>
  * <b>The Neo4j Query API support is experimental.</b>
+ * <p>
+ * The following additional config entries are supported:
+ * <ul>
+ *     <li>{@code clock} - the {@link Clock} instance, defaults to {@link Clock#systemUTC()}</li>
+ *     <li>{@code http2} - the {@link Boolean} that enables the multiplexed HTTP/2 mode, in which all connections to a
+ *     server share a small set of HTTP/2 connections and independent requests of different connections are sent
+ *     concurrently (since 11.0.0), defaults to {@code false}</li>
+ *     <li>{@code http2Connections} - the {@link Integer} number of HTTP/2 connections per server in the multiplexed
+ *     HTTP/2 mode (since 11.0.0), defaults to {@code 1}</li>
+ *     <li>{@code http2MaxConcurrentStreams} - the {@link Integer} maximum number of concurrently active streams per
+ *     server in the multiplexed HTTP/2 mode, further requests wait for a stream to become available (since 11.0.0),
+ *     defaults to {@code 100}</li>
+ *     <li>{@code http2StreamMetricsConsumer} - the {@link Consumer} of {@link Http2StreamMetrics} that is notified
+ *     with the metrics of every server transport created in the multiplexed HTTP/2 mode (since 11.0.0)</li>
+ *     <li>{@code streamingResults} - the {@link Boolean} that enables negotiating JSONL results, whose records are read
+ *     and dispatched line by line as they are pulled instead of after the whole result has been received. Servers that
+ *     do not support JSONL respond with a single JSON document as usual (since 11.0.0), defaults to {@code false}</li>
+ *     <li>{@code httpExecutor} - the {@link Executor} used by the HTTP client (since 11.0.0), defaults to a new
+ *     virtual thread per task executor when the runtime supports virtual threads and to a fixed thread pool sized to
+ *     the number of available processors otherwise</li>
+ *     <li>{@code streamingExecutor} - the {@link Executor} reading streamed JSONL results, each of which occupies a
+ *     thread while it is being read (since 11.0.0), defaults to a new virtual thread per task executor when the
+ *     runtime supports virtual threads and to a cached thread pool otherwise</li>
+ * </ul>
  * @since 4.0.0
  */
 public final class QueryApiBoltConnectionProviderFactory implements BoltConnectionProviderFactory {
@@ -54,7 +81,14 @@ public final class QueryApiBoltConnectionProviderFactory implements BoltConnecti
             ObservationProvider observationProvider,
             Map<String, ?> additionalConfig) {
         return new QueryApiBoltConnectionProvider(
-                loggingProvider, valueFactory, getClock(additionalConfig), observationProvider);
+                loggingProvider,
+                valueFactory,
+                getClock(additionalConfig),
+                observationProvider,
+                getHttp2Settings(additionalConfig),
+                additionalConfig.get("streamingResults") instanceof Boolean streamingResults && streamingResults,
+                additionalConfig.get("httpExecutor") instanceof Executor executor ? executor : null,
+                additionalConfig.get("streamingExecutor") instanceof Executor executor ? executor : null);
     }
 
     private Clock getClock(Map<String, ?> additionalConfig) {
@@ -65,4 +99,21 @@ public final class QueryApiBoltConnectionProviderFactory implements BoltConnecti
             return Clock.systemUTC();
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private Http2Settings getHttp2Settings(Map<String, ?> additionalConfig) {
+        if (!(additionalConfig.get("http2") instanceof Boolean enabled) || !enabled) {
+            return null;
+        }
+        var connections = additionalConfig.get("http2Connections") instanceof Integer value
+                ? value
+                : Http2Settings.DEFAULT_CONNECTIONS;
+        var maxConcurrentStreams = additionalConfig.get("http2MaxConcurrentStreams") instanceof Integer value
+                ? value
+                : Http2Settings.DEFAULT_MAX_CONCURRENT_STREAMS;
+        var metricsConsumer = additionalConfig.get("http2StreamMetricsConsumer") instanceof Consumer<?> consumer
+                ? (Consumer<Http2StreamMetrics>) consumer
+                : null;
+        return new Http2Settings(connections, maxConcurrentStreams, metricsConsumer);
+    }
 }
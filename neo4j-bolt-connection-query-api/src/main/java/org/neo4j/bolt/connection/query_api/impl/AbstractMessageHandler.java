@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import org.neo4j.bolt.connection.GqlStatusError;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.ResponseHandler;
@@ -67,6 +68,13 @@ abstract class AbstractMessageHandler<T> implements MessageHandler<T> {
 
     @Override
     public CompletionStage<T> exchange(ImmutableObservation parentObservation) {
+        return exchange(parentObservation, HttpResponse.BodyHandlers.ofString(), this::handleStringResponse);
+    }
+
+    protected <B, R> CompletionStage<R> exchange(
+            ImmutableObservation parentObservation,
+            HttpResponse.BodyHandler<B> bodyHandler,
+            Function<HttpResponse<B>, R> responseHandler) {
         var builder = HttpRequest.newBuilder();
         var observationParameters = newHttpRequestBuilder(builder);
         var observation = observationProvider.httpExchange(
@@ -77,60 +85,60 @@ abstract class AbstractMessageHandler<T> implements MessageHandler<T> {
                 builder::header);
         var request = builder.build();
         observation.onHeaders(request.headers().map());
-        log.log(System.Logger.Level.DEBUG, "Sending request %s".formatted(mapToString(request)));
-        return httpClient
-                .sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                .handle((response, throwable) -> {
-                    if (throwable != null) {
-                        log.log(
-                                System.Logger.Level.DEBUG,
-                                "An error occurred while sending request %s".formatted(throwable.getMessage()));
-                        throwable = completionExceptionCause(throwable);
-                        observation.error(throwable);
-                        observation.stop();
-                        if (throwable instanceof HttpTimeoutException) {
-                            throw new BoltConnectionReadTimeoutException("Read timedout has been exceeded", throwable);
-                        } else if (throwable instanceof IOException) {
-                            throw new BoltServiceUnavailableException(
-                                    "An error occurred while sending request", throwable);
-                        } else {
-                            throw new BoltException("An error occurred while sending request", throwable);
-                        }
+        log.log(System.Logger.Level.DEBUG, () -> "Sending request %s".formatted(mapToString(request)));
+        return httpClient.sendAsync(request, bodyHandler).handle((response, throwable) -> {
+            if (throwable != null) {
+                var error = throwable;
+                log.log(System.Logger.Level.DEBUG, () -> "An error occurred while sending request %s"
+                        .formatted(error.getMessage()));
+                throwable = completionExceptionCause(throwable);
+                observation.error(throwable);
+                observation.stop();
+                if (throwable instanceof HttpTimeoutException) {
+                    throw new BoltConnectionReadTimeoutException("Read timedout has been exceeded", throwable);
+                } else if (throwable instanceof IOException) {
+                    throw new BoltServiceUnavailableException("An error occurred while sending request", throwable);
+                } else {
+                    throw new BoltException("An error occurred while sending request", throwable);
+                }
+            } else {
+                observation.onResponse(new Response(
+                        response.statusCode(),
+                        response.headers().map(),
+                        switch (response.version()) {
+                            case HTTP_1_1 -> "1.1";
+                            case HTTP_2 -> "2";
+                        }));
+                observation.stop();
+                log.log(System.Logger.Level.DEBUG, () -> "Received response %s".formatted(mapToString(response)));
+                return responseHandler.apply(response);
+            }
+        });
+    }
+
+    protected T handleStringResponse(HttpResponse<String> response) {
+        return switch (response.statusCode()) {
+            case 200, 202 -> {
+                // Query API may return an error
+                String body = response.body();
+                try {
+                    // transaction DELETE
+                    if (body == null || body.isEmpty()) {
+                        yield handleResponse(response);
+                    }
+                    var jsonObject = json.mapFrom(body);
+                    if (jsonObject != null && jsonObject.get("errors") != null) {
+                        yield handleFailureResponse(response);
                     } else {
-                        observation.onResponse(new Response(
-                                response.statusCode(),
-                                response.headers().map(),
-                                switch (response.version()) {
-                                    case HTTP_1_1 -> "1.1";
-                                    case HTTP_2 -> "2";
-                                }));
-                        observation.stop();
-                        log.log(System.Logger.Level.DEBUG, "Received response %s".formatted(mapToString(response)));
-                        return switch (response.statusCode()) {
-                            case 200, 202 -> {
-                                // Query API may return an error
-                                String body = response.body();
-                                try {
-                                    // transaction DELETE
-                                    if (body == null || body.isEmpty()) {
-                                        yield handleResponse(response);
-                                    }
-                                    var jsonObject = json.mapFrom(body);
-                                    if (jsonObject != null && jsonObject.get("errors") != null) {
-                                        yield handleFailureResponse(response);
-                                    } else {
-                                        yield handleResponse(response);
-                                    }
-                                } catch (IOException e) {
-                                    throw new BoltClientException("Cannot parse response %s".formatted(body), e);
-                                }
-                            }
-                            case 400, 401, 404, 500 -> handleFailureResponse(response);
-                            default -> throw new BoltException(
-                                    "An unexpected response code: " + response.statusCode(), null);
-                        };
+                        yield handleResponse(response);
                     }
-                });
+                } catch (IOException e) {
+                    throw new BoltClientException("Cannot parse response %s".formatted(body), e);
+                }
+            }
+            case 400, 401, 404, 500 -> handleFailureResponse(response);
+            default -> throw new BoltException("An unexpected response code: " + response.statusCode(), null);
+        };
     }
 
     protected abstract ObservationParameters newHttpRequestBuilder(HttpRequest.Builder builder);
@@ -140,23 +148,26 @@ abstract class AbstractMessageHandler<T> implements MessageHandler<T> {
     protected T handleFailureResponse(HttpResponse<String> response) {
         try {
             var errorsData = json.beanFrom(ErrorsData.class, response.body());
-            var error = errorsData.errors().get(0);
-            var diagnosticRecord = Map.ofEntries(
-                    Map.entry("CURRENT_SCHEMA", valueFactory.value("/")),
-                    Map.entry("OPERATION", valueFactory.value("")),
-                    Map.entry("OPERATION_CODE", valueFactory.value("0")));
-            throw new BoltFailureException(
-                    error.code(),
-                    error.message(),
-                    GqlStatusError.UNKNOWN.getStatus(),
-                    GqlStatusError.UNKNOWN.getStatusDescription(error.message()),
-                    diagnosticRecord,
-                    null);
+            throw newFailureException(errorsData.errors().get(0));
         } catch (IOException e) {
             throw new BoltClientException("Cannot parse %s to ErrorsData".formatted(response.body()), e);
         }
     }
 
+    protected BoltFailureException newFailureException(Error error) {
+        var diagnosticRecord = Map.ofEntries(
+                Map.entry("CURRENT_SCHEMA", valueFactory.value("/")),
+                Map.entry("OPERATION", valueFactory.value("")),
+                Map.entry("OPERATION_CODE", valueFactory.value("0")));
+        return new BoltFailureException(
+                error.code(),
+                error.message(),
+                GqlStatusError.UNKNOWN.getStatus(),
+                GqlStatusError.UNKNOWN.getStatusDescription(error.message()),
+                diagnosticRecord,
+                null);
+    }
+
     protected record ObservationParameters(URI uri, String method, String uriTemplate, String[] headers) {}
 
     protected record Response(int statusCode, Map<String, List<String>> headers, String httpVersion)
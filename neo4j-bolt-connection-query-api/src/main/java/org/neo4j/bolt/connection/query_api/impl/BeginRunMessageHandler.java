@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.LoggingProvider;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.exception.BoltClientException;
+import org.neo4j.bolt.connection.exception.BoltFailureException;
+import org.neo4j.bolt.connection.message.BeginMessage;
+import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.observation.ObservationProvider;
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.bolt.connection.values.ValueFactory;
+
+/**
+ * Handles BEGIN and RUN messages that are sent together in a single request.
+ * <p>
+ * When the transaction is committed right after its only result is pulled, the statement is sent to the query
+ * endpoint, which runs it in its own transaction. Otherwise, the transaction is opened with the statement attached.
+ * The summaries of the collapsed RUN and COMMIT messages are emitted by {@link CollapsedRunMessageHandler} and
+ * {@link CollapsedCommitMessageHandler}.
+ * <p>
+ * Like with separate messages, BEGIN succeeds when the statement fails. The failure is reported for RUN and the
+ * messages that follow it are ignored.
+ */
+final class BeginRunMessageHandler extends AbstractMessageHandler<BeginRunMessageHandler.Result> {
+    private final System.Logger log;
+    private final ResponseHandler handler;
+    private final HttpContext httpContext;
+    private final Supplier<String> authHeaderSupplier;
+    private final HttpRequest.BodyPublisher bodyPublisher;
+    private final String databaseName;
+    private final boolean autoCommit;
+    private final Duration readTimeout;
+    private final ValueFactory valueFactory;
+    private volatile Result result;
+
+    BeginRunMessageHandler(
+            ResponseHandler handler,
+            HttpContext httpContext,
+            Supplier<String> authHeaderSupplier,
+            BeginMessage beginMessage,
+            RunMessage runMessage,
+            boolean autoCommit,
+            Duration readTimeout,
+            ValueFactory valueFactory,
+            LoggingProvider logging,
+            ObservationProvider observationProvider) {
+        super(httpContext, handler, valueFactory, logging, observationProvider);
+        this.log = logging.getLog(getClass());
+        this.handler = Objects.requireNonNull(handler);
+        this.httpContext = Objects.requireNonNull(httpContext);
+        this.authHeaderSupplier = Objects.requireNonNull(authHeaderSupplier);
+        this.autoCommit = autoCommit;
+        this.readTimeout = readTimeout;
+        this.valueFactory = Objects.requireNonNull(valueFactory);
+
+        if (beginMessage.databaseName().isPresent()) {
+            this.databaseName = beginMessage.databaseName().get();
+        } else if (httpContext.defaultDatabase() != null) {
+            this.databaseName = httpContext.defaultDatabase();
+        } else {
+            throw new BoltClientException("Database name must be specified");
+        }
+
+        this.bodyPublisher = newHttpRequestBodyPublisher(httpContext, beginMessage, runMessage, autoCommit);
+    }
+
+    @Override
+    protected ObservationParameters newHttpRequestBuilder(HttpRequest.Builder builder) {
+        URI uri;
+        String uriTemplate;
+        if (autoCommit) {
+            uri = httpContext.queryUrl(databaseName);
+            uriTemplate = HttpContext.QUERY_URL_TEMPLATE;
+        } else {
+            uri = httpContext.txUrl(databaseName);
+            uriTemplate = HttpContext.TRANSACTION_BASE_URL_TEMPLATE;
+        }
+        var headers = httpContext.headers(authHeaderSupplier.get());
+        builder.uri(uri).headers(headers).POST(bodyPublisher);
+        if (readTimeout != null) {
+            builder.timeout(readTimeout);
+        }
+        return new ObservationParameters(uri, "POST", uriTemplate, headers);
+    }
+
+    @Override
+    protected Result handleResponse(HttpResponse<String> response) {
+        var body = response.body();
+        QueryResult queryResult;
+        TransactionInfo transactionInfo = null;
+        try {
+            queryResult = httpContext.json().beanFrom(QueryResult.class, body);
+            if (!autoCommit) {
+                var transactionEntry = httpContext.json().beanFrom(BeginMessageHandler.TransactionEntry.class, body);
+                var affinity =
+                        response.headers().firstValue("neo4j-cluster-affinity").orElse(null);
+                transactionInfo = new TransactionInfo(
+                        databaseName,
+                        transactionEntry.transaction().id(),
+                        Instant.parse(transactionEntry.transaction().expires()),
+                        affinity);
+            }
+        } catch (IOException e) {
+            throw new BoltClientException("Cannot parse response %s to QueryResult".formatted(body), e);
+        }
+        var metadata = new HashMap<>(RunMessageHandler.newMetadata(valueFactory, log, queryResult, databaseName));
+        // the bookmark belongs to the commit summary of the collapsed transaction
+        var bookmark = metadata.remove("bookmark");
+        var data = Objects.requireNonNullElseGet(queryResult.data(), QueryData::empty);
+        var query = new Query(new Random().nextLong(), data.fields(), data.values(), Map.copyOf(metadata));
+        handler.onBeginSummary(new BeginSummaryImpl(databaseName));
+        result = new Result(transactionInfo, query, databaseName, bookmark != null ? bookmark.asString() : null, null);
+        return result;
+    }
+
+    @Override
+    protected Result handleFailureResponse(HttpResponse<String> response) {
+        ErrorsData errorsData;
+        try {
+            errorsData = httpContext.json().beanFrom(ErrorsData.class, response.body());
+        } catch (IOException e) {
+            throw new BoltClientException("Cannot parse %s to ErrorsData".formatted(response.body()), e);
+        }
+        // the failure belongs to the statement, which is reported by the collapsed RUN message
+        handler.onBeginSummary(new BeginSummaryImpl(databaseName));
+        result = new Result(
+                null,
+                null,
+                databaseName,
+                null,
+                newFailureException(errorsData.errors().get(0)));
+        return result;
+    }
+
+    Result result() {
+        return result;
+    }
+
+    private static HttpRequest.BodyPublisher newHttpRequestBodyPublisher(
+            HttpContext httpContext, BeginMessage beginMessage, RunMessage runMessage, boolean autoCommit) {
+        var accessMode = beginMessage.accessMode() == AccessMode.READ ? "Read" : null;
+        var impersonatedUser = beginMessage.impersonatedUser().orElse(null);
+        List<String> bookmarks = null;
+        if (!beginMessage.bookmarks().isEmpty()) {
+            bookmarks = new ArrayList<>(beginMessage.bookmarks());
+        }
+        Map<String, Value> parameters = null;
+        if (!runMessage.parameters().isEmpty()) {
+            parameters = runMessage.parameters();
+        }
+        // the query endpoint always runs the statement in its own transaction
+        var txType = !autoCommit && beginMessage.transactionType() != null
+                ? switch (beginMessage.transactionType()) {
+                    case UNCONSTRAINED -> "IMPLICIT";
+                    case DEFAULT -> null;
+                }
+                : null;
+
+        var payload = new BeginRunPayload(
+                runMessage.query(), parameters, bookmarks, impersonatedUser, accessMode, txType, Boolean.TRUE);
+        try {
+            return HttpRequest.BodyPublishers.ofString(httpContext.json().asString(payload));
+        } catch (IOException e) {
+            throw new BoltClientException("Cannot serialize payload %s".formatted(payload), e);
+        }
+    }
+
+    /**
+     * The result of the collapsed request.
+     *
+     * @param transactionInfo the opened transaction or {@code null} if it has been committed
+     * @param query the query result
+     * @param databaseName the database name
+     * @param bookmark the bookmark of the committed transaction or {@code null}
+     * @param runFailure the failure of the statement or {@code null}
+     */
+    record Result(
+            TransactionInfo transactionInfo,
+            Query query,
+            String databaseName,
+            String bookmark,
+            BoltFailureException runFailure) {}
+
+    record BeginRunPayload(
+            String statement,
+            Map<String, Value> parameters,
+            List<String> bookmarks,
+            String impersonatedUser,
+            String accessMode,
+            String txType,
+            Boolean includeCounters) {}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+
+/**
+ * Emits the summary of a COMMIT message for a transaction that has been committed by {@link BeginRunMessageHandler}.
+ */
+final class CollapsedCommitMessageHandler implements MessageHandler<Void> {
+    private final ResponseHandler handler;
+    private final Supplier<BeginRunMessageHandler.Result> resultSupplier;
+
+    CollapsedCommitMessageHandler(ResponseHandler handler, Supplier<BeginRunMessageHandler.Result> resultSupplier) {
+        this.handler = Objects.requireNonNull(handler);
+        this.resultSupplier = Objects.requireNonNull(resultSupplier);
+    }
+
+    @Override
+    public CompletionStage<Void> exchange(ImmutableObservation parentObservation) {
+        return CompletableFuture.<Void>completedStage(null).thenApply(ignored -> {
+            handler.onCommitSummary(new CommitSummaryImpl(resultSupplier.get().bookmark()));
+            return null;
+        });
+    }
+}
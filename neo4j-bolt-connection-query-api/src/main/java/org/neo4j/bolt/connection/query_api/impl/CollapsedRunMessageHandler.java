@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+
+/**
+ * Emits the summary or the failure of a RUN message that has been sent by {@link BeginRunMessageHandler}.
+ */
+final class CollapsedRunMessageHandler implements MessageHandler<Query> {
+    private final ResponseHandler handler;
+    private final Supplier<BeginRunMessageHandler.Result> resultSupplier;
+
+    CollapsedRunMessageHandler(ResponseHandler handler, Supplier<BeginRunMessageHandler.Result> resultSupplier) {
+        this.handler = Objects.requireNonNull(handler);
+        this.resultSupplier = Objects.requireNonNull(resultSupplier);
+    }
+
+    @Override
+    public CompletionStage<Query> exchange(ImmutableObservation parentObservation) {
+        return CompletableFuture.<Void>completedStage(null).thenApply(ignored -> {
+            var result = resultSupplier.get();
+            if (result.runFailure() != null) {
+                throw result.runFailure();
+            }
+            var query = result.query();
+            handler.onRunSummary(new RunSummaryImpl(query.id(), query.fields(), -1, result.databaseName()));
+            return query;
+        });
+    }
+}
@@ -24,7 +24,6 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.neo4j.bolt.connection.exception.BoltUnsupportedFeatureException;
 import org.neo4j.bolt.connection.values.Type;
 import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.bolt.connection.values.ValueFactory;
@@ -153,7 +152,7 @@ enum CypherTypes {
     Vector(
             Type.VECTOR,
             null, // handled in DriverValueProvider
-            CypherTypes::unsupportedVector);
+            VectorCodec::encode);
 
     // spotless:on
     private final BiFunction<ValueFactory, String, Value> reader;
@@ -177,6 +176,22 @@ enum CypherTypes {
         throw new IllegalArgumentException("no Cypher type found representing " + value.boltValueType());
     }
 
+    /**
+     * Looks up the type by its name as used in the {@code $type} field.
+     * <p>
+     * Unlike {@link #valueOf(String)}, it returns {@code null} for unknown names.
+     *
+     * @param name the type name
+     * @return the type or {@code null}
+     */
+    static CypherTypes forName(String name) {
+        try {
+            return valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * {@return optional reader if this type can be read directly}
      */
@@ -232,8 +247,4 @@ enum CypherTypes {
     private static Object unsupported(Value value) {
         throw new IllegalArgumentException("Node value type is not supported");
     }
-
-    private static Object unsupportedVector(Value value) {
-        throw new BoltUnsupportedFeatureException("Vector type is not supported");
-    }
 }
@@ -19,6 +19,7 @@ package org.neo4j.bolt.connection.query_api.impl;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.neo4j.bolt.connection.LoggingProvider;
@@ -32,28 +33,40 @@ final class DiscardMessageHandler implements MessageHandler<Void> {
     private final DiscardMessage message;
     private final Function<Long, Query> queryFinder;
     private final Consumer<Long> queryDeleteConsumer;
+    private final Executor streamingExecutor;
 
     DiscardMessageHandler(
             ResponseHandler handler,
             DiscardMessage message,
             Function<Long, Query> queryFinder,
             Consumer<Long> queryDeleteConsumer,
+            Executor streamingExecutor,
             LoggingProvider logging) {
         this.log = logging.getLog(getClass());
         this.handler = Objects.requireNonNull(handler);
         this.message = Objects.requireNonNull(message);
         this.queryFinder = Objects.requireNonNull(queryFinder);
         this.queryDeleteConsumer = Objects.requireNonNull(queryDeleteConsumer);
+        this.streamingExecutor = streamingExecutor;
     }
 
     @Override
     public CompletionStage<Void> exchange(ImmutableObservation parentObservation) {
-        return CompletableFuture.<Void>completedStage(null).thenApply(ignored -> {
+        return CompletableFuture.<Void>completedStage(null).thenCompose(ignored -> {
             var query = queryFinder.apply(message.qid());
-            queryDeleteConsumer.accept(query.id());
-            queryDeleteConsumer.accept(-1L);
-            handler.onDiscardSummary(new DiscardSummaryImpl(query.metadata()));
-            return null;
+            if (query.streaming()) {
+                // the remaining streamed records must be skipped to read the summary
+                return CompletableFuture.runAsync(() -> discard(query), streamingExecutor);
+            } else {
+                discard(query);
+                return CompletableFuture.completedStage(null);
+            }
         });
     }
+
+    private void discard(Query query) {
+        queryDeleteConsumer.accept(query.id());
+        queryDeleteConsumer.accept(-1L);
+        handler.onDiscardSummary(new DiscardSummaryImpl(query.metadata()));
+    }
 }
@@ -125,97 +125,9 @@ class DriverValueProvider extends ReaderWriterProvider {
 
                 if (nextToken.equals(JsonToken.FIELD_NAME) && p.currentName().equals(Fieldnames.CYPHER_VALUE)) {
                     p.nextToken();
-                    if (typeString.equals(CypherTypes.List.name())) {
-                        Value listValue = valueFactory.value(reader.readListOf(Value.class));
-                        p.nextToken();
-                        return listValue;
-                    } else if (typeString.equals(CypherTypes.Map.name())) {
-                        Map<String, Value> value1 = reader.readMapOf(Value.class);
-                        p.nextToken();
-                        return valueFactory.value(value1);
-                    } else if (typeString.equals(CypherTypes.Boolean.name())) {
-                        Value boolValue = valueFactory.value(p.getBooleanValue());
-                        p.nextToken();
-                        return boolValue;
-                    } else if (typeString.equals(CypherTypes.Null.name())) {
-                        if (p.currentToken().equals(JsonToken.VALUE_NULL)) {
-                            p.nextToken();
-                            return valueFactory.value((Object) null);
-                        } else {
-                            throw new JsonParseException("Expected 'null' value");
-                        }
-                    } else if (typeString.equals(CypherTypes.Node.name())) {
-                        var node = reader.readBean(SerializedNode.class);
-                        p.nextToken();
-                        return valueFactory.value(valueFactory.node(
-                                node.getId(), node.get_element_id(), node.get_labels(), node.get_properties()));
-                    } else if (typeString.equals(CypherTypes.Relationship.name())) {
-                        var relationship = reader.readBean(SerializedRelationship.class);
-                        p.nextToken();
-                        return valueFactory.value(valueFactory.relationship(
-                                relationship.getId(),
-                                relationship.get_element_id(),
-                                relationship.getStartId(),
-                                relationship.get_start_node_element_id(),
-                                relationship.getEndId(),
-                                relationship.get_end_node_element_id(),
-                                relationship.get_type(),
-                                relationship.get_properties()));
-                    } else if (typeString.equals(CypherTypes.Path.name())) {
-                        List<Segment> segments = new ArrayList<>();
-                        List<Node> nodes = new ArrayList<>();
-                        List<Relationship> relationships = new ArrayList<>();
-
-                        Node start = null;
-                        Relationship currentRelationship = null;
-
-                        var list = reader.readListOf(NodeOrRelationshipWrapper.class);
-                        for (var element : list) {
-                            var elementType = element.type();
-                            switch (elementType) {
-                                case NODE -> {
-                                    var nodeValues = element.get_value();
-                                    Node node = (valueFactory.node(
-                                            nodeValues.getId(),
-                                            nodeValues.get_element_id(),
-                                            nodeValues.get_labels(),
-                                            nodeValues.get_properties()));
-                                    if (start != null) {
-                                        segments.add(valueFactory.segment(start, currentRelationship, node));
-                                    }
-                                    start = node;
-
-                                    nodes.add(node);
-                                }
-                                case RELATIONSHIP -> {
-                                    var relationshipValues = element.get_value();
-                                    currentRelationship = valueFactory.relationship(
-                                            relationshipValues.getId(),
-                                            relationshipValues.get_element_id(),
-                                            relationshipValues.getStartId(),
-                                            relationshipValues.get_start_node_element_id(),
-                                            relationshipValues.getEndId(),
-                                            relationshipValues.get_end_node_element_id(),
-                                            relationshipValues.get_type(),
-                                            relationshipValues.get_properties());
-                                    relationships.add(currentRelationship);
-                                }
-                            }
-                        }
-                        p.nextToken();
-                        return valueFactory.value(valueFactory.path(segments, nodes, relationships));
-                    } else {
-                        BiFunction<ValueFactory, String, Value> parser =
-                                CypherTypes.valueOf(typeString).getReader();
-
-                        if (parser != null) {
-                            String stringValue = p.getValueAsString();
-                            p.nextToken();
-                            return parser.apply(valueFactory, stringValue);
-                        } else {
-                            throw new JsonParseException(format("Type %s is not a valid parameter type.", typeString));
-                        }
-                    }
+                    var value = readValue(reader, p, typeString);
+                    p.nextToken();
+                    return value;
                 } else {
                     throw new JsonParseException(format("Expecting field %s", Fieldnames.CYPHER_VALUE));
                 }
@@ -223,6 +135,137 @@ class DriverValueProvider extends ReaderWriterProvider {
                 throw new JsonParseException("Expected a typed value.");
             }
         }
+
+        private Value readValue(JSONReader reader, JsonParser p, String typeString) throws IOException {
+            // fast path for the most common scalar types
+            switch (typeString) {
+                case "Integer" -> {
+                    return valueFactory.value(Long.parseLong(p.getValueAsString()));
+                }
+                case "String" -> {
+                    return valueFactory.value(p.getValueAsString());
+                }
+                case "Float" -> {
+                    return valueFactory.value(Double.parseDouble(p.getValueAsString()));
+                }
+                case "Boolean" -> {
+                    return valueFactory.value(p.getBooleanValue());
+                }
+                case "Null" -> {
+                    if (p.currentToken().equals(JsonToken.VALUE_NULL)) {
+                        return valueFactory.value((Object) null);
+                    } else {
+                        throw new JsonParseException("Expected 'null' value");
+                    }
+                }
+                default -> {}
+            }
+
+            var cypherType = CypherTypes.forName(typeString);
+            if (cypherType == null) {
+                throw new JsonParseException(format("Type %s is not a valid parameter type.", typeString));
+            }
+            return switch (cypherType) {
+                case List -> valueFactory.value(reader.readListOf(Value.class));
+                case Map -> valueFactory.value(reader.readMapOf(Value.class));
+                case Node -> {
+                    var node = reader.readBean(SerializedNode.class);
+                    yield valueFactory.value(valueFactory.node(
+                            node.getId(), node.get_element_id(), node.get_labels(), node.get_properties()));
+                }
+                case Relationship -> {
+                    var relationship = reader.readBean(SerializedRelationship.class);
+                    yield valueFactory.value(valueFactory.relationship(
+                            relationship.getId(),
+                            relationship.get_element_id(),
+                            relationship.getStartId(),
+                            relationship.get_start_node_element_id(),
+                            relationship.getEndId(),
+                            relationship.get_end_node_element_id(),
+                            relationship.get_type(),
+                            relationship.get_properties()));
+                }
+                case Path -> readPath(reader);
+                case Vector -> readVector(p);
+                default -> {
+                    BiFunction<ValueFactory, String, Value> parser = cypherType.getReader();
+
+                    if (parser != null) {
+                        yield parser.apply(valueFactory, p.getValueAsString());
+                    } else {
+                        throw new JsonParseException(format("Type %s is not a valid parameter type.", typeString));
+                    }
+                }
+            };
+        }
+
+        private Value readVector(JsonParser p) throws IOException {
+            if (!JsonToken.START_OBJECT.equals(p.currentToken())) {
+                throw new JsonParseException("Expected a vector object");
+            }
+            String elementType = null;
+            String byteOrder = null;
+            String elements = null;
+            String fieldName;
+            while ((fieldName = p.nextFieldName()) != null) {
+                var text = p.nextTextValue();
+                switch (fieldName) {
+                    case Fieldnames._VECTOR_ELEMENT_TYPE -> elementType = text;
+                    case Fieldnames._VECTOR_BYTE_ORDER -> byteOrder = text;
+                    case Fieldnames._VECTOR_ELEMENTS -> elements = text;
+                    default -> p.skipChildren();
+                }
+            }
+            try {
+                return VectorCodec.decode(valueFactory, elementType, byteOrder, elements);
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException("Invalid vector: " + e.getMessage());
+            }
+        }
+
+        private Value readPath(JSONReader reader) throws IOException {
+            List<Segment> segments = new ArrayList<>();
+            List<Node> nodes = new ArrayList<>();
+            List<Relationship> relationships = new ArrayList<>();
+
+            Node start = null;
+            Relationship currentRelationship = null;
+
+            var list = reader.readListOf(NodeOrRelationshipWrapper.class);
+            for (var element : list) {
+                var elementType = element.type();
+                switch (elementType) {
+                    case NODE -> {
+                        var nodeValues = element.get_value();
+                        Node node = (valueFactory.node(
+                                nodeValues.getId(),
+                                nodeValues.get_element_id(),
+                                nodeValues.get_labels(),
+                                nodeValues.get_properties()));
+                        if (start != null) {
+                            segments.add(valueFactory.segment(start, currentRelationship, node));
+                        }
+                        start = node;
+
+                        nodes.add(node);
+                    }
+                    case RELATIONSHIP -> {
+                        var relationshipValues = element.get_value();
+                        currentRelationship = valueFactory.relationship(
+                                relationshipValues.getId(),
+                                relationshipValues.get_element_id(),
+                                relationshipValues.getStartId(),
+                                relationshipValues.get_start_node_element_id(),
+                                relationshipValues.getEndId(),
+                                relationshipValues.get_end_node_element_id(),
+                                relationshipValues.get_type(),
+                                relationshipValues.get_properties());
+                        relationships.add(currentRelationship);
+                    }
+                }
+            }
+            return valueFactory.value(valueFactory.path(segments, nodes, relationships));
+        }
     }
 
     private static class SerializedNode {
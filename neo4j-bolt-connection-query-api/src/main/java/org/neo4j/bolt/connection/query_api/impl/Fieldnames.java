@@ -47,5 +47,9 @@ public final class Fieldnames {
 
     public static final String ERROR_KEY = "error";
 
+    public static final String _VECTOR_ELEMENT_TYPE = "_element_type";
+    public static final String _VECTOR_BYTE_ORDER = "_byte_order";
+    public static final String _VECTOR_ELEMENTS = "_elements";
+
     private Fieldnames() {}
 }
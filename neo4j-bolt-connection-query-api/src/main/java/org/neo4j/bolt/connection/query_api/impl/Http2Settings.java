@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import java.util.function.Consumer;
+import org.neo4j.bolt.connection.query_api.Http2StreamMetrics;
+
+/**
+ * Settings of the multiplexed HTTP/2 mode in which all connections to a server share a small set of HTTP/2
+ * connections.
+ *
+ * @param connections the number of HTTP/2 connections per server
+ * @param maxConcurrentStreams the maximum number of concurrently active streams per server
+ * @param metricsConsumer the consumer notified with the metrics of every new server transport or {@code null}
+ */
+public record Http2Settings(int connections, int maxConcurrentStreams, Consumer<Http2StreamMetrics> metricsConsumer) {
+    public static final int DEFAULT_CONNECTIONS = 1;
+    public static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+
+    public Http2Settings {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be positive");
+        }
+        if (maxConcurrentStreams < 1) {
+            throw new IllegalArgumentException("maxConcurrentStreams must be positive");
+        }
+    }
+}
@@ -20,12 +20,24 @@ import com.fasterxml.jackson.jr.ob.JSON;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.neo4j.bolt.connection.exception.BoltClientException;
 
-public record HttpContext(HttpClient httpClient, URI baseUri, JSON json, String defaultDatabase, String userAgent) {
+/**
+ * The request context shared by all exchanges of a connection.
+ * <p>
+ * It caches the endpoint URIs per database and the header arrays for the current authorization header, so that they
+ * are not rebuilt for every request. The returned header arrays are shared and must not be modified.
+ */
+public final class HttpContext {
     // experimental
     private static final String DEFAULT_DATABASE_KEY_NAME = "defaultDatabase";
+    private static final String MEDIA_TYPE = "application/vnd.neo4j.query";
+    static final String JSONL_MEDIA_TYPE = "application/vnd.neo4j.query+jsonl";
+    // servers without JSONL support fall back to the monolithic JSON document
+    private static final String STREAMING_ACCEPT = "%s, %s;q=0.5".formatted(JSONL_MEDIA_TYPE, MEDIA_TYPE);
     private static final String QUERY_URL_FORMAT = "%s/db/%s/query/v2";
     public static final String QUERY_URL_TEMPLATE = QUERY_URL_FORMAT.formatted("", "{databaseName}");
     private static final String TRANSACTION_BASE_URL_FORMAT = "%s/tx".formatted(QUERY_URL_FORMAT);
@@ -38,7 +50,16 @@ public record HttpContext(HttpClient httpClient, URI baseUri, JSON json, String
     public static final String TRANSACTION_COMMIT_URL_TEMPLATE =
             TRANSACTION_QUERY_URL_FORMAT.formatted("", "{databaseName}", "{transactionId}");
 
-    public HttpContext {
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final JSON json;
+    private final String defaultDatabase;
+    private final String userAgent;
+    private final Map<String, URI> queryUrls = new ConcurrentHashMap<>();
+    private final Map<String, URI> txUrls = new ConcurrentHashMap<>();
+    private volatile Headers headers;
+
+    public HttpContext(HttpClient httpClient, URI baseUri, JSON json, String defaultDatabase, String userAgent) {
         var path = baseUri.getPath();
         if (path.endsWith("/")) {
             path = path.substring(0, path.length() - 1);
@@ -64,17 +85,64 @@ public record HttpContext(HttpClient httpClient, URI baseUri, JSON json, String
         } catch (URISyntaxException e) {
             throw new BoltClientException("Invalid URI", e);
         }
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.json = json;
+        this.defaultDatabase = defaultDatabase;
+        this.userAgent = userAgent;
     }
 
     public HttpContext(HttpClient httpClient, URI baseUri, JSON json, String userAgent) {
         this(httpClient, baseUri, json, null, userAgent);
     }
 
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    public JSON json() {
+        return json;
+    }
+
+    public String defaultDatabase() {
+        return defaultDatabase;
+    }
+
+    public String userAgent() {
+        return userAgent;
+    }
+
     public String[] headers(String authHeader) {
-        return headers(authHeader, userAgent);
+        return headersFor(authHeader).headers();
+    }
+
+    /**
+     * Returns the request headers that negotiate a JSONL result that may be read line by line.
+     *
+     * @param authHeader the authorization header value or {@code null}
+     * @return the headers
+     */
+    public String[] streamingHeaders(String authHeader) {
+        return headersFor(authHeader).streamingHeaders();
+    }
+
+    private Headers headersFor(String authHeader) {
+        var headers = this.headers;
+        if (headers == null || !Objects.equals(headers.authHeader(), authHeader)) {
+            headers = new Headers(
+                    authHeader,
+                    headers(authHeader, userAgent, MEDIA_TYPE),
+                    headers(authHeader, userAgent, STREAMING_ACCEPT));
+            this.headers = headers;
+        }
+        return headers;
     }
 
-    private static String[] headers(String authHeader, String userAgent) {
+    private static String[] headers(String authHeader, String userAgent, String accept) {
         var size = 4;
         if (authHeader != null) {
             size += 2;
@@ -84,9 +152,9 @@ public record HttpContext(HttpClient httpClient, URI baseUri, JSON json, String
         }
         var headers = new String[size];
         headers[0] = "Content-Type";
-        headers[1] = "application/vnd.neo4j.query";
+        headers[1] = MEDIA_TYPE;
         headers[2] = "Accept";
-        headers[3] = "application/vnd.neo4j.query";
+        headers[3] = accept;
         var index = 4;
         if (authHeader != null) {
             headers[index++] = "Authorization";
@@ -100,12 +168,14 @@ public record HttpContext(HttpClient httpClient, URI baseUri, JSON json, String
     }
 
     URI queryUrl(String databaseName) {
-        return URI.create(QUERY_URL_FORMAT.formatted(baseUri, databaseName)).normalize();
+        return queryUrls.computeIfAbsent(databaseName, name -> URI.create(QUERY_URL_FORMAT.formatted(baseUri, name))
+                .normalize());
     }
 
     URI txUrl(String databaseName) {
-        return URI.create(TRANSACTION_BASE_URL_FORMAT.formatted(baseUri, databaseName))
-                .normalize();
+        return txUrls.computeIfAbsent(
+                databaseName, name -> URI.create(TRANSACTION_BASE_URL_FORMAT.formatted(baseUri, name))
+                        .normalize());
     }
 
     URI txUrl(TransactionInfo tx) {
@@ -117,4 +187,6 @@ public record HttpContext(HttpClient httpClient, URI baseUri, JSON json, String
         return URI.create(TRANSACTION_COMMIT_URL_FORMAT.formatted(baseUri, tx.databaseName(), tx.id()))
                 .normalize();
     }
+
+    private record Headers(String authHeader, String[] headers, String[] streamingHeaders) {}
 }
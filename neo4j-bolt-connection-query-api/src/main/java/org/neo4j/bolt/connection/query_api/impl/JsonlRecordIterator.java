@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.neo4j.bolt.connection.exception.BoltClientException;
+import org.neo4j.bolt.connection.exception.BoltFailureException;
+import org.neo4j.bolt.connection.exception.BoltServiceUnavailableException;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * Reads records from a JSONL result as they are consumed.
+ * <p>
+ * The result consists of a header line, followed by a line per record and a summary line. An errors line may be sent
+ * instead of any of them, in which case it terminates the result. Reading lines blocks until they arrive.
+ */
+final class JsonlRecordIterator implements Iterator<List<Value>> {
+    private final Stream<String> lineStream;
+    private final Iterator<String> lines;
+    private final JSON json;
+    private final Function<QueryResult, Map<String, Value>> metadataFunction;
+    private final Function<Error, BoltFailureException> failureFunction;
+    private List<String> fields;
+    private List<Value> next;
+    private Map<String, Value> metadata;
+
+    JsonlRecordIterator(
+            Stream<String> lineStream,
+            JSON json,
+            Function<QueryResult, Map<String, Value>> metadataFunction,
+            Function<Error, BoltFailureException> failureFunction) {
+        this.lineStream = Objects.requireNonNull(lineStream);
+        this.lines = lineStream.iterator();
+        this.json = Objects.requireNonNull(json);
+        this.metadataFunction = Objects.requireNonNull(metadataFunction);
+        this.failureFunction = Objects.requireNonNull(failureFunction);
+    }
+
+    /**
+     * Reads the header line and returns the field names.
+     * <p>
+     * A result that has no records may omit the header, in which case no fields are returned.
+     *
+     * @return the field names
+     */
+    synchronized List<String> fields() {
+        if (fields == null) {
+            var line = readLine();
+            if (line.header() != null) {
+                fields = Objects.requireNonNullElseGet(line.header().fields(), List::of);
+            } else {
+                fields = List.of();
+                accept(line);
+            }
+        }
+        return fields;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        fields();
+        while (next == null && metadata == null) {
+            accept(readLine());
+        }
+        return next != null;
+    }
+
+    @Override
+    public synchronized List<Value> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * Returns the summary metadata, skipping all records that have not been consumed.
+     *
+     * @return the summary metadata
+     */
+    synchronized Map<String, Value> metadata() {
+        while (hasNext()) {
+            next = null;
+        }
+        return metadata;
+    }
+
+    /**
+     * Closes the result, releasing the response if it has not been read to its end.
+     * <p>
+     * It may be called while another thread is blocked reading the result.
+     */
+    void close() {
+        lineStream.close();
+    }
+
+    private void accept(ResultLine line) {
+        if (line.record() != null) {
+            next = line.record();
+        } else if (line.summary() != null) {
+            metadata = metadataFunction.apply(line.summary());
+            lineStream.close();
+        } else if (line.errors() != null && !line.errors().isEmpty()) {
+            lineStream.close();
+            throw failureFunction.apply(line.errors().get(0));
+        } else {
+            lineStream.close();
+            throw new BoltClientException("Unexpected result line");
+        }
+    }
+
+    private ResultLine readLine() {
+        try {
+            while (lines.hasNext()) {
+                var line = lines.next();
+                if (!line.isBlank()) {
+                    try {
+                        return json.beanFrom(ResultLine.class, line);
+                    } catch (IOException e) {
+                        lineStream.close();
+                        throw new BoltClientException("Cannot parse %s to ResultLine".formatted(line), e);
+                    }
+                }
+            }
+        } catch (UncheckedIOException e) {
+            lineStream.close();
+            throw new BoltServiceUnavailableException("An error occurred while reading result", e.getCause());
+        }
+        lineStream.close();
+        throw new BoltServiceUnavailableException("The result ended before its summary");
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import org.neo4j.bolt.connection.query_api.Http2StreamMetrics;
+
+/**
+ * An {@link HttpClient} shared by all connections to a single server that spreads requests across a fixed set of
+ * HTTP/2 clients and caps the number of concurrently active streams.
+ * <p>
+ * Each delegate client maintains a single multiplexed HTTP/2 connection per origin. Requests exceeding the maximum
+ * concurrent streams wait in FIFO order until an active stream completes. A stream is only complete once its response
+ * body has been fully consumed, has failed or has been closed, so streamed bodies hold their stream while being
+ * read.
+ * <p>
+ * Once closed, new and waiting requests fail and the delegate clients are closed if the runtime supports it.
+ */
+final class MultiplexedHttpClient extends HttpClient implements Http2StreamMetrics {
+    private final URI serverUri;
+    private final List<HttpClient> delegates;
+    private final int maxConcurrentStreams;
+    private final AtomicInteger nextDelegate = new AtomicInteger();
+    private final ArrayDeque<CompletableFuture<Void>> pending = new ArrayDeque<>();
+    private int activeStreams;
+    private int peakActiveStreams;
+    private long completedStreams;
+    private boolean closed;
+
+    MultiplexedHttpClient(URI serverUri, List<HttpClient> delegates, int maxConcurrentStreams) {
+        if (delegates.isEmpty()) {
+            throw new IllegalArgumentException("At least one delegate is required");
+        }
+        if (maxConcurrentStreams < 1) {
+            throw new IllegalArgumentException("maxConcurrentStreams must be positive");
+        }
+        this.serverUri = Objects.requireNonNull(serverUri);
+        this.delegates = List.copyOf(delegates);
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> responseBodyHandler,
+            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        return acquireStream().thenCompose(ignored -> {
+            var release = streamRelease();
+            CompletableFuture<HttpResponse<T>> responseFuture;
+            try {
+                responseFuture = nextDelegate()
+                        .sendAsync(
+                                request, new ReleasingBodyHandler<>(responseBodyHandler, release), pushPromiseHandler);
+            } catch (Throwable throwable) {
+                release.run();
+                return CompletableFuture.failedFuture(throwable);
+            }
+            // the response completes with the headers, a successful stream is released by its body subscriber
+            return responseFuture.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    release.run();
+                }
+            });
+        });
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        var streamFuture = acquireStream();
+        try {
+            streamFuture.get();
+        } catch (InterruptedException e) {
+            if (!streamFuture.cancel(false)) {
+                releaseStream();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        var release = streamRelease();
+        try {
+            return nextDelegate().send(request, new ReleasingBodyHandler<>(responseBodyHandler, release));
+        } catch (Throwable throwable) {
+            release.run();
+            throw throwable;
+        }
+    }
+
+    private HttpClient nextDelegate() {
+        var index = Math.floorMod(nextDelegate.getAndIncrement(), delegates.size());
+        return delegates.get(index);
+    }
+
+    private CompletableFuture<Void> acquireStream() {
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IOException("The HTTP client is closed"));
+            }
+            if (activeStreams < maxConcurrentStreams) {
+                activeStreams++;
+                peakActiveStreams = Math.max(peakActiveStreams, activeStreams);
+                return CompletableFuture.completedFuture(null);
+            }
+            var future = new CompletableFuture<Void>();
+            pending.add(future);
+            return future;
+        }
+    }
+
+    private Runnable streamRelease() {
+        var released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                releaseStream();
+            }
+        };
+    }
+
+    private void releaseStream() {
+        synchronized (this) {
+            completedStreams++;
+        }
+        // the released stream is handed over to the next pending request that has not been cancelled
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    activeStreams--;
+                    return;
+                }
+            }
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Closes this client.
+     * <p>
+     * On runtimes where {@link HttpClient} is {@link AutoCloseable}, this waits for the active streams to complete.
+     */
+    public void close() {
+        ArrayDeque<CompletableFuture<Void>> waiting;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            waiting = new ArrayDeque<>(pending);
+            pending.clear();
+        }
+        var exception = new IOException("The HTTP client is closed");
+        waiting.forEach(future -> future.completeExceptionally(exception));
+        for (var delegate : delegates) {
+            // HttpClient is AutoCloseable since Java 21
+            if (delegate instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ignored) {
+                    // the remaining delegates are closed regardless
+                }
+            }
+        }
+    }
+
+    @Override
+    public URI serverUri() {
+        return serverUri;
+    }
+
+    @Override
+    public int connections() {
+        return delegates.size();
+    }
+
+    @Override
+    public int maxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    @Override
+    public synchronized int activeStreams() {
+        return activeStreams;
+    }
+
+    @Override
+    public synchronized int peakActiveStreams() {
+        return peakActiveStreams;
+    }
+
+    @Override
+    public synchronized int pendingStreams() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized long completedStreams() {
+        return completedStreams;
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegates.get(0).cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegates.get(0).connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegates.get(0).followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegates.get(0).proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegates.get(0).sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegates.get(0).sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegates.get(0).authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegates.get(0).version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegates.get(0).executor();
+    }
+
+    /**
+     * A {@link HttpResponse.BodyHandler} that releases the stream once the response body is done with.
+     */
+    private static final class ReleasingBodyHandler<T> implements HttpResponse.BodyHandler<T> {
+        private final HttpResponse.BodyHandler<T> delegate;
+        private final Runnable release;
+
+        private ReleasingBodyHandler(HttpResponse.BodyHandler<T> delegate, Runnable release) {
+            this.delegate = delegate;
+            this.release = release;
+        }
+
+        @Override
+        public HttpResponse.BodySubscriber<T> apply(HttpResponse.ResponseInfo responseInfo) {
+            return new ReleasingBodySubscriber<>(delegate.apply(responseInfo), release);
+        }
+    }
+
+    /**
+     * A {@link HttpResponse.BodySubscriber} that releases the stream when the body completes, fails or is cancelled,
+     * for instance by closing a {@link java.util.stream.Stream} of lines.
+     */
+    private static final class ReleasingBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final HttpResponse.BodySubscriber<T> delegate;
+        private final Runnable release;
+
+        private ReleasingBodySubscriber(HttpResponse.BodySubscriber<T> delegate, Runnable release) {
+            this.delegate = delegate;
+            this.release = release;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    release.run();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            release.run();
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            release.run();
+            delegate.onComplete();
+        }
+    }
+}
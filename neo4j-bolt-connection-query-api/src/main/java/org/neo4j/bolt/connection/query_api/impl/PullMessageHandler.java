@@ -16,19 +16,17 @@
  */
 package org.neo4j.bolt.connection.query_api.impl;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.message.PullMessage;
 import org.neo4j.bolt.connection.observation.ImmutableObservation;
-import org.neo4j.bolt.connection.values.Value;
 
 final class PullMessageHandler implements MessageHandler<Void> {
     private final System.Logger log;
@@ -36,44 +34,53 @@ final class PullMessageHandler implements MessageHandler<Void> {
     private final PullMessage message;
     private final Function<Long, Query> queryFinder;
     private final Consumer<Long> queryDeleteConsumer;
+    private final Executor streamingExecutor;
 
     PullMessageHandler(
             ResponseHandler handler,
             PullMessage message,
             Function<Long, Query> queryFinder,
             Consumer<Long> queryDeleteConsumer,
+            Executor streamingExecutor,
             LoggingProvider logging) {
         this.log = logging.getLog(getClass());
         this.handler = Objects.requireNonNull(handler);
         this.message = Objects.requireNonNull(message);
         this.queryFinder = Objects.requireNonNull(queryFinder);
         this.queryDeleteConsumer = Objects.requireNonNull(queryDeleteConsumer);
+        this.streamingExecutor = streamingExecutor;
     }
 
     @Override
     public CompletionStage<Void> exchange(ImmutableObservation parentObservation) {
-        return CompletableFuture.<Void>completedStage(null).thenApply(ignored -> {
+        return CompletableFuture.<Void>completedStage(null).thenCompose(ignored -> {
             var query = queryFinder.apply(message.qid());
-            var records = new ArrayList<List<Value>>();
-            var deleted = false;
-
-            var request = message.request() > 0 ? message.request() : Long.MAX_VALUE;
-            var iterator = query.values().iterator();
-            while (iterator.hasNext() && request > 0) {
-                records.add(iterator.next());
-                iterator.remove();
-                request--;
-            }
-            if (query.values().isEmpty()) {
-                queryDeleteConsumer.accept(query.id());
-                deleted = true;
+            if (query.streaming()) {
+                // reading streamed records blocks until they arrive
+                return CompletableFuture.runAsync(() -> pull(query), streamingExecutor);
+            } else {
+                pull(query);
+                return CompletableFuture.completedStage(null);
             }
-            queryDeleteConsumer.accept(-1L);
-
-            records.forEach(handler::onRecord);
-            var hasMore = !deleted;
-            handler.onPullSummary(new PullSummaryImpl(hasMore, hasMore ? Map.of() : query.metadata()));
-            return null;
         });
     }
+
+    private void pull(Query query) {
+        var deleted = false;
+
+        var request = message.request() > 0 ? message.request() : Long.MAX_VALUE;
+        var iterator = query.values();
+        while (iterator.hasNext() && request > 0) {
+            handler.onRecord(iterator.next());
+            request--;
+        }
+        if (!iterator.hasNext()) {
+            queryDeleteConsumer.accept(query.id());
+            deleted = true;
+        }
+        queryDeleteConsumer.accept(-1L);
+
+        var hasMore = !deleted;
+        handler.onPullSummary(new PullSummaryImpl(hasMore, hasMore ? Map.of() : query.metadata()));
+    }
 }
@@ -16,8 +16,42 @@
  */
 package org.neo4j.bolt.connection.query_api.impl;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.neo4j.bolt.connection.values.Value;
 
-record Query(long id, List<String> fields, List<List<Value>> values, Map<String, Value> metadata) {}
+/**
+ * A query result that is consumed by pulling or discarding its records.
+ *
+ * @param id the query id
+ * @param fields the field names
+ * @param values the records that have not been consumed yet
+ * @param metadataSupplier the supplier of the summary metadata, that is only called once all records are consumed
+ * @param streaming whether the records are read from the response as they are consumed, in which case consuming
+ * them may block
+ */
+record Query(
+        long id,
+        List<String> fields,
+        Iterator<List<Value>> values,
+        Supplier<Map<String, Value>> metadataSupplier,
+        boolean streaming) {
+    Query(long id, List<String> fields, List<List<Value>> values, Map<String, Value> metadata) {
+        this(id, fields, values.iterator(), () -> metadata, false);
+    }
+
+    Map<String, Value> metadata() {
+        return metadataSupplier.get();
+    }
+
+    /**
+     * Releases the response of a streaming result that has not been fully consumed.
+     */
+    void close() {
+        if (values instanceof JsonlRecordIterator recordIterator) {
+            recordIterator.close();
+        }
+    }
+}
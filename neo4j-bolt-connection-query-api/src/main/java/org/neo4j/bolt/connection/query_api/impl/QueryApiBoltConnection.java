@@ -35,6 +35,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.neo4j.bolt.connection.AuthInfo;
@@ -79,6 +80,8 @@ public final class QueryApiBoltConnection implements BoltConnection {
     private final BoltProtocolVersion boltProtocolVersion;
     private final Clock clock;
     private final ObservationProvider observationProvider;
+    private final Executor streamingExecutor;
+    private final HttpContext httpContext;
 
     // synchronized
     private final List<Message> messages = new ArrayList<>();
@@ -101,6 +104,32 @@ public final class QueryApiBoltConnection implements BoltConnection {
             Clock clock,
             LoggingProvider logging,
             ObservationProvider observationProvider) {
+        this(
+                valueFactory,
+                httpClient,
+                baseUri,
+                authToken,
+                userAgent,
+                serverAgent,
+                boltProtocolVersion,
+                clock,
+                logging,
+                observationProvider,
+                null);
+    }
+
+    public QueryApiBoltConnection(
+            ValueFactory valueFactory,
+            HttpClient httpClient,
+            URI baseUri,
+            AuthToken authToken,
+            String userAgent,
+            String serverAgent,
+            BoltProtocolVersion boltProtocolVersion,
+            Clock clock,
+            LoggingProvider logging,
+            ObservationProvider observationProvider,
+            Executor streamingExecutor) {
         this.logging = logging;
         this.log = logging.getLog(getClass());
         this.valueFactory = Objects.requireNonNull(valueFactory);
@@ -119,6 +148,8 @@ public final class QueryApiBoltConnection implements BoltConnection {
         this.boltProtocolVersion = Objects.requireNonNull(boltProtocolVersion);
         this.clock = Objects.requireNonNull(clock);
         this.observationProvider = Objects.requireNonNull(observationProvider);
+        this.streamingExecutor = streamingExecutor;
+        this.httpContext = new HttpContext(httpClient, baseUri, json, userAgent);
         updateAuthHeader(authToken);
     }
 
@@ -157,11 +188,13 @@ public final class QueryApiBoltConnection implements BoltConnection {
 
     @Override
     public CompletionStage<Void> forceClose(String reason) {
+        clearQueries();
         return CompletableFuture.completedStage(null);
     }
 
     @Override
     public CompletionStage<Void> close() {
+        clearQueries();
         return CompletableFuture.completedStage(null);
     }
 
@@ -238,8 +271,43 @@ public final class QueryApiBoltConnection implements BoltConnection {
         var messageHandlers = new ArrayList<MessageHandler<?>>(messages.size());
         for (var i = 0; i < messages.size(); i++) {
             var message = messages.get(i);
-            if (message instanceof BeginMessage beginMessage) {
-                var httpContext = new HttpContext(httpClient, baseUri, json, userAgent);
+            if (message instanceof BeginMessage beginMessage
+                    && streamingExecutor == null
+                    && i + 1 < messages.size()
+                    && messages.get(i + 1) instanceof RunMessage runMessage) {
+                // BEGIN and RUN are sent in a single request, which also commits when the whole result is pulled
+                // and the transaction is committed right away, streamed results use separate requests instead
+                var autoCommit = i + 3 < messages.size()
+                        && messages.get(i + 2) instanceof PullMessage pullMessage
+                        && pullMessage.qid() == -1
+                        && pullMessage.request() == -1
+                        && messages.get(i + 3) instanceof CommitMessage;
+                var beginRunMessageHandler = new BeginRunMessageHandler(
+                        handler,
+                        httpContext,
+                        this::authHeader,
+                        beginMessage,
+                        runMessage,
+                        autoCommit,
+                        readTimeout,
+                        valueFactory,
+                        logging,
+                        observationProvider);
+                messageHandlers.add(beginRunMessageHandler);
+                messageHandlers.add(new CollapsedRunMessageHandler(handler, beginRunMessageHandler::result));
+                i++;
+                if (autoCommit) {
+                    messageHandlers.add(new PullMessageHandler(
+                            handler,
+                            (PullMessage) messages.get(i + 1),
+                            this::findById,
+                            this::deleteById,
+                            streamingExecutor,
+                            logging));
+                    messageHandlers.add(new CollapsedCommitMessageHandler(handler, beginRunMessageHandler::result));
+                    i += 2;
+                }
+            } else if (message instanceof BeginMessage beginMessage) {
                 messageHandlers.add(new BeginMessageHandler(
                         handler,
                         httpContext,
@@ -250,7 +318,6 @@ public final class QueryApiBoltConnection implements BoltConnection {
                         logging,
                         observationProvider));
             } else if (message instanceof RunMessage runMessage) {
-                var httpContext = new HttpContext(httpClient, baseUri, json, userAgent);
                 messageHandlers.add(new RunMessageHandler(
                         handler,
                         httpContext,
@@ -258,6 +325,7 @@ public final class QueryApiBoltConnection implements BoltConnection {
                         runMessage,
                         this::getTransactionInfo,
                         readTimeout,
+                        streamingExecutor,
                         valueFactory,
                         logging,
                         observationProvider));
@@ -265,16 +333,15 @@ public final class QueryApiBoltConnection implements BoltConnection {
                 if (pullMessage.qid() != -1 && !qidToQuery.containsKey(pullMessage.qid())) {
                     throw new BoltClientException("Pull query does not contain query id: " + pullMessage.qid());
                 }
-                messageHandlers.add(
-                        new PullMessageHandler(handler, pullMessage, this::findById, this::deleteById, logging));
+                messageHandlers.add(new PullMessageHandler(
+                        handler, pullMessage, this::findById, this::deleteById, streamingExecutor, logging));
             } else if (message instanceof DiscardMessage discardMessage) {
                 if (discardMessage.qid() != -1 && !qidToQuery.containsKey(discardMessage.qid())) {
                     throw new BoltClientException("Discard query does not contain query id: " + discardMessage.qid());
                 }
-                messageHandlers.add(
-                        new DiscardMessageHandler(handler, discardMessage, this::findById, this::deleteById, logging));
+                messageHandlers.add(new DiscardMessageHandler(
+                        handler, discardMessage, this::findById, this::deleteById, streamingExecutor, logging));
             } else if (message instanceof CommitMessage) {
-                var httpContext = new HttpContext(httpClient, baseUri, json, userAgent);
                 messageHandlers.add(new CommitMessageHandler(
                         handler,
                         httpContext,
@@ -285,7 +352,6 @@ public final class QueryApiBoltConnection implements BoltConnection {
                         logging,
                         observationProvider));
             } else if (message instanceof RollbackMessage) {
-                var httpContext = new HttpContext(httpClient, baseUri, json, userAgent);
                 messageHandlers.add(new RollbackMessageHandler(
                         handler,
                         httpContext,
@@ -352,6 +418,35 @@ public final class QueryApiBoltConnection implements BoltConnection {
                             setTransactionInfo(transactionInfo);
                             return null;
                         }));
+            } else if (messageHandler instanceof BeginRunMessageHandler beginRunMessageHandler) {
+                exchange = appendMessageHandler(handler, exchange, () -> beginRunMessageHandler
+                        .exchange(parentObservation)
+                        .thenApply(result -> {
+                            if (result.transactionInfo() != null) {
+                                setTransactionInfo(result.transactionInfo());
+                            }
+                            return null;
+                        }));
+            } else if (messageHandler instanceof CollapsedRunMessageHandler collapsedRunMessageHandler) {
+                exchange = appendMessageHandler(handler, exchange, () -> collapsedRunMessageHandler
+                        .exchange(parentObservation)
+                        .thenApply(query -> {
+                            synchronized (this) {
+                                addQuery(query.id(), query);
+                                addQuery(-1L, query);
+                            }
+                            return null;
+                        }));
+            } else if (messageHandler instanceof CollapsedCommitMessageHandler collapsedCommitMessageHandler) {
+                exchange = appendMessageHandler(handler, exchange, () -> collapsedCommitMessageHandler
+                        .exchange(parentObservation)
+                        .thenApply(ignored0 -> {
+                            synchronized (this) {
+                                setTransactionInfo(null);
+                                clearQueries();
+                            }
+                            return null;
+                        }));
             } else if (messageHandler instanceof RunMessageHandler runMessageHandler) {
                 exchange = appendMessageHandler(handler, exchange, () -> runMessageHandler
                         .exchange(parentObservation)
@@ -368,7 +463,7 @@ public final class QueryApiBoltConnection implements BoltConnection {
                         .thenApply(ignored0 -> {
                             synchronized (this) {
                                 setTransactionInfo(null);
-                                qidToQuery.clear();
+                                clearQueries();
                             }
                             return null;
                         }));
@@ -378,7 +473,7 @@ public final class QueryApiBoltConnection implements BoltConnection {
                         .thenApply(transactionInfo -> {
                             synchronized (this) {
                                 setTransactionInfo(null);
-                                qidToQuery.clear();
+                                clearQueries();
                             }
                             return null;
                         }));
@@ -446,6 +541,12 @@ public final class QueryApiBoltConnection implements BoltConnection {
     synchronized void updateState(BoltConnectionState state) {
         this.state = state;
         transactionInfo = null;
+        clearQueries();
+    }
+
+    private synchronized void clearQueries() {
+        // the queries that have not been consumed may still hold their responses
+        qidToQuery.values().forEach(Query::close);
         qidToQuery.clear();
     }
 
@@ -19,16 +19,22 @@ package org.neo4j.bolt.connection.query_api.impl;
 import com.fasterxml.jackson.jr.ob.JSON;
 import java.io.IOException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
 import org.neo4j.bolt.connection.AuthToken;
 import org.neo4j.bolt.connection.BoltAgent;
@@ -53,19 +59,70 @@ public class QueryApiBoltConnectionProvider implements BoltConnectionProvider {
     private final Executor httpExecutor;
     private final Clock clock;
     private final ObservationProvider observationProvider;
+    private final Http2Settings http2Settings;
+    private final Executor streamingExecutor;
+    private final Map<TransportKey, Transport> multiplexedHttpClients = new ConcurrentHashMap<>();
 
     public QueryApiBoltConnectionProvider(
             LoggingProvider logging, ValueFactory valueFactory, Clock clock, ObservationProvider observationProvider) {
+        this(logging, valueFactory, clock, observationProvider, null, false);
+    }
+
+    public QueryApiBoltConnectionProvider(
+            LoggingProvider logging,
+            ValueFactory valueFactory,
+            Clock clock,
+            ObservationProvider observationProvider,
+            Http2Settings http2Settings,
+            boolean streamingResults) {
+        this(logging, valueFactory, clock, observationProvider, http2Settings, streamingResults, null, null);
+    }
+
+    /**
+     * Creates a new instance.
+     * <p>
+     * When an executor is {@code null}, a virtual thread per task executor is used if the runtime supports virtual
+     * threads, a platform thread pool otherwise.
+     *
+     * @param httpExecutor the executor of the HTTP client or {@code null}
+     * @param streamingExecutor the executor reading streamed results or {@code null}
+     */
+    public QueryApiBoltConnectionProvider(
+            LoggingProvider logging,
+            ValueFactory valueFactory,
+            Clock clock,
+            ObservationProvider observationProvider,
+            Http2Settings http2Settings,
+            boolean streamingResults,
+            Executor httpExecutor,
+            Executor streamingExecutor) {
         this.logging = Objects.requireNonNull(logging);
         this.logger = logging.getLog(getClass());
         this.valueFactory = Objects.requireNonNull(valueFactory);
-        this.httpExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
-            var thread = new Thread(runnable);
-            thread.setDaemon(true);
-            return thread;
-        });
+        this.httpExecutor = httpExecutor != null ? httpExecutor : defaultExecutor(false);
         this.clock = Objects.requireNonNull(clock);
         this.observationProvider = Objects.requireNonNull(observationProvider);
+        this.http2Settings = http2Settings;
+        if (streamingResults) {
+            this.streamingExecutor = streamingExecutor != null ? streamingExecutor : defaultExecutor(true);
+        } else {
+            this.streamingExecutor = null;
+        }
+    }
+
+    private static Executor defaultExecutor(boolean unbounded) {
+        Executor executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        if (executor == null) {
+            ThreadFactory threadFactory = runnable -> {
+                var thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            };
+            executor = unbounded
+                    ? Executors.newCachedThreadPool(threadFactory)
+                    : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threadFactory);
+        }
+        return executor;
     }
 
     @SuppressWarnings("resource") // not AutoCloseable in Java 17
@@ -96,20 +153,28 @@ public class QueryApiBoltConnectionProvider implements BoltConnectionProvider {
                     System.Logger.Level.WARNING,
                     "Setting security plan when using http scheme is not supported, it will be ignored");
         }
+        HttpClient sharedHttpClient = null;
         HttpClient httpClientWithTimeout;
+        var requestBuilder = HttpRequest.newBuilder(uri);
         try {
-            var builder = newHttpClientBuilder(securityPlan);
-            if (connectTimeoutMillis > 0) {
-                builder.connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+            if (http2Settings != null) {
+                // the shared client is already connected or connects on the first request
+                sharedHttpClient = multiplexedHttpClient(uri, securityPlan, connectTimeoutMillis);
+                httpClientWithTimeout = sharedHttpClient;
+            } else {
+                var builder = newHttpClientBuilder(securityPlan);
+                if (connectTimeoutMillis > 0) {
+                    builder.connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+                }
+                httpClientWithTimeout = builder.build();
             }
-            httpClientWithTimeout = builder.build();
         } catch (Exception ex) {
             return CompletableFuture.failedStage(ex);
         }
-        var requestBuilder = HttpRequest.newBuilder(uri);
         if (userAgent != null) {
             requestBuilder.header("User-Agent", userAgent);
         }
+        var connectionHttpClient = sharedHttpClient;
         return httpClientWithTimeout
                 .sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofString())
                 .thenApply(response -> {
@@ -122,7 +187,9 @@ public class QueryApiBoltConnectionProvider implements BoltConnectionProvider {
                                     "Cannot parse %s to DiscoveryResponse".formatted(response.body()), e);
                         }
                         var serverAgent = "Neo4j/%s".formatted(discoveryResponse.neo4j_version());
-                        var httpClient = newHttpClientBuilder(securityPlan).build();
+                        var httpClient = connectionHttpClient != null
+                                ? connectionHttpClient
+                                : newHttpClientBuilder(securityPlan).build();
                         return new QueryApiBoltConnection(
                                 valueFactory,
                                 httpClient,
@@ -133,13 +200,59 @@ public class QueryApiBoltConnectionProvider implements BoltConnectionProvider {
                                 BOLT_PROTOCOL_VERSION,
                                 clock,
                                 logging,
-                                observationProvider);
+                                observationProvider,
+                                streamingExecutor);
                     } else {
                         throw new BoltClientException("Unexpected response code: " + response.statusCode());
                     }
                 });
     }
 
+    private MultiplexedHttpClient multiplexedHttpClient(URI uri, SecurityPlan securityPlan, int connectTimeoutMillis) {
+        var secure = !"http".equals(uri.getScheme()) && securityPlan != null;
+        var key = new TransportKey(
+                uri.getScheme(),
+                uri.getHost(),
+                uri.getPort(),
+                connectTimeoutMillis,
+                secure && securityPlan.verifyHostname());
+        var sslContext = secure ? securityPlan.sslContext() : null;
+        var transport = multiplexedHttpClients.compute(key, (ignored, existing) -> {
+            // a security plan with a new SSL context, like after a certificate rotation, replaces the transport so
+            // that the number of transports stays bounded by the number of servers
+            if (existing != null && existing.sslContext() == sslContext) {
+                return existing;
+            }
+            return new Transport(
+                    newMultiplexedHttpClient(uri, secure ? securityPlan : null, connectTimeoutMillis), sslContext);
+        });
+        return transport.httpClient();
+    }
+
+    private MultiplexedHttpClient newMultiplexedHttpClient(
+            URI uri, SecurityPlan securityPlan, int connectTimeoutMillis) {
+        URI serverUri;
+        try {
+            serverUri = new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), null, null, null);
+        } catch (URISyntaxException e) {
+            throw new BoltClientException("Invalid URI", e);
+        }
+        var delegates = new ArrayList<HttpClient>(http2Settings.connections());
+        for (var i = 0; i < http2Settings.connections(); i++) {
+            var builder = newHttpClientBuilder(securityPlan).version(HttpClient.Version.HTTP_2);
+            if (connectTimeoutMillis > 0) {
+                builder.connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+            }
+            delegates.add(builder.build());
+        }
+        var httpClient = new MultiplexedHttpClient(serverUri, delegates, http2Settings.maxConcurrentStreams());
+        var metricsConsumer = http2Settings.metricsConsumer();
+        if (metricsConsumer != null) {
+            metricsConsumer.accept(httpClient);
+        }
+        return httpClient;
+    }
+
     private HttpClient.Builder newHttpClientBuilder(SecurityPlan securityPlan) {
         var httpClientBuilder = HttpClient.newBuilder().executor(httpExecutor);
         if (securityPlan != null) {
@@ -163,6 +276,18 @@ public class QueryApiBoltConnectionProvider implements BoltConnectionProvider {
 
     @Override
     public CompletionStage<Void> close() {
-        return CompletableFuture.completedStage(null);
+        var transports = new ArrayList<>(multiplexedHttpClients.values());
+        multiplexedHttpClients.clear();
+        if (transports.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+        // closing may wait for the active streams to complete
+        return CompletableFuture.runAsync(
+                () -> transports.forEach(transport -> transport.httpClient().close()));
     }
+
+    private record TransportKey(
+            String scheme, String host, int port, int connectTimeoutMillis, boolean verifyHostname) {}
+
+    private record Transport(MultiplexedHttpClient httpClient, SSLContext sslContext) {}
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import java.util.List;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * A single line of a JSONL result, exactly one of the components is set.
+ *
+ * @param header the header with the field names
+ * @param record the record values
+ * @param summary the summary
+ * @param errors the errors
+ */
+record ResultLine(ResultHeader header, List<Value> record, QueryResult summary, List<Error> errors) {
+    record ResultHeader(List<String> fields) {}
+}
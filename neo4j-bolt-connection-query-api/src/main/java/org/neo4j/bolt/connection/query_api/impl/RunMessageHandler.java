@@ -19,6 +19,8 @@ package org.neo4j.bolt.connection.query_api.impl;
 import com.fasterxml.jackson.jr.ob.JSON;
 import java.io.IOException;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
@@ -29,14 +31,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.net.ssl.SSLSession;
 import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.exception.BoltClientException;
 import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
 import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.bolt.connection.values.ValueFactory;
@@ -53,6 +63,7 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
     private final AtomicReference<String> databaseName = new AtomicReference<>();
     private final String defaultDatabase;
     private final Duration readTimeout;
+    private final Executor streamingExecutor;
 
     RunMessageHandler(
             ResponseHandler handler,
@@ -61,6 +72,7 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
             RunMessage message,
             Supplier<TransactionInfo> transactionInfoSupplier,
             Duration readTimeout,
+            Executor streamingExecutor,
             ValueFactory valueFactory,
             LoggingProvider logging,
             ObservationProvider observationProvider) {
@@ -73,6 +85,7 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
         this.message = Objects.requireNonNull(message);
         this.transactionInfoSupplier = Objects.requireNonNull(transactionInfoSupplier);
         this.readTimeout = readTimeout;
+        this.streamingExecutor = streamingExecutor;
 
         if (message.extra().isPresent()) {
             var extra = message.extra().get();
@@ -90,7 +103,9 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
         String databaseName;
         URI uri;
         String uriTemplate;
-        var headers = httpContext.headers(authHeaderSupplier.get());
+        var headers = streamingExecutor != null
+                ? httpContext.streamingHeaders(authHeaderSupplier.get())
+                : httpContext.headers(authHeaderSupplier.get());
         if (transactionInfo != null) {
             databaseName = transactionInfo.databaseName();
             uri = httpContext.txUrl(transactionInfo);
@@ -117,6 +132,36 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
         return new ObservationParameters(uri, "POST", uriTemplate, headers);
     }
 
+    @Override
+    public CompletionStage<Query> exchange(ImmutableObservation parentObservation) {
+        if (streamingExecutor == null) {
+            return super.exchange(parentObservation);
+        }
+        // reading lines blocks, so it must not occupy the threads that deliver them
+        return exchange(parentObservation, HttpResponse.BodyHandlers.ofLines(), Function.identity())
+                .thenApplyAsync(this::handleLinesResponse, streamingExecutor);
+    }
+
+    private Query handleLinesResponse(HttpResponse<Stream<String>> response) {
+        var contentType = response.headers().firstValue("Content-Type").orElse("");
+        if (response.statusCode() != 200 || !contentType.startsWith(HttpContext.JSONL_MEDIA_TYPE)) {
+            String body;
+            try (var lines = response.body()) {
+                body = lines.collect(Collectors.joining("\n"));
+            }
+            return handleStringResponse(new BufferedResponse(response, body));
+        }
+        var databaseName = this.databaseName.get();
+        var records = new JsonlRecordIterator(
+                response.body(),
+                httpContext.json(),
+                summary -> newMetadata(valueFactory, log, summary, databaseName),
+                this::newFailureException);
+        var query = new Query(new Random().nextLong(), records.fields(), records, records::metadata, true);
+        handler.onRunSummary(new RunSummaryImpl(query.id(), query.fields(), -1, databaseName));
+        return query;
+    }
+
     @Override
     protected Query handleResponse(HttpResponse<String> response) {
         QueryResult queryResult;
@@ -128,6 +173,18 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
             throw new BoltClientException("Cannot parse response %s to QueryResult".formatted(body), e);
         }
         var id = new Random().nextLong();
+        var databaseName = this.databaseName.get();
+        var metadata = newMetadata(valueFactory, log, queryResult, databaseName);
+        // Jackson on native image does a bit of different default, it does not create query data with two empty lists,
+        // but null. Juchhu.
+        var data = Objects.requireNonNullElseGet(queryResult.data(), QueryData::empty);
+        var query = new Query(id, data.fields(), data.values(), metadata);
+        handler.onRunSummary(new RunSummaryImpl(query.id(), query.fields(), -1, databaseName));
+        return query;
+    }
+
+    static Map<String, Value> newMetadata(
+            ValueFactory valueFactory, System.Logger log, QueryResult queryResult, String databaseName) {
         var counters = queryResult.counters();
         var statsMap = counters == null
                 ? Map.of()
@@ -153,7 +210,6 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
                 bookmark = queryResult.bookmarks().get(0);
             }
         }
-        var databaseName = this.databaseName.get();
         var metadata = new HashMap<String, Value>();
         metadata.put("stats", valueFactory.value(statsMap));
         metadata.put("db", valueFactory.value(databaseName));
@@ -164,12 +220,7 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
         if (notifications != null && !notifications.isEmpty()) {
             metadata.put("notifications", valueFactory.value(notifications));
         }
-        // Jackson on native image does a bit of different default, it does not create query data with two empty lists,
-        // but null. Juchhu.
-        var data = Objects.requireNonNullElseGet(queryResult.data(), QueryData::empty);
-        var query = new Query(id, data.fields(), data.values(), Collections.unmodifiableMap(metadata));
-        handler.onRunSummary(new RunSummaryImpl(query.id(), query.fields(), -1, databaseName));
-        return query;
+        return Collections.unmodifiableMap(metadata);
     }
 
     private HttpRequest.BodyPublisher newHttpRequestBodyPublisher(JSON json, RunMessage message) {
@@ -203,6 +254,43 @@ final class RunMessageHandler extends AbstractMessageHandler<Query> {
         }
     }
 
+    private record BufferedResponse(HttpResponse<?> response, String body) implements HttpResponse<String> {
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return response.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return response.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return response.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return response.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return response.version();
+        }
+    }
+
     private static class QueryAPIRequestPayload {
 
         private final String statement;
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.bolt.connection.values.ValueFactory;
+
+/**
+ * Encodes and decodes vectors in their compact JSON representation.
+ * <p>
+ * The elements are packed as consecutive primitives in the given byte order and encoded as a single base64 string:
+ * <pre>
+ * {"_element_type": "FLOAT32", "_byte_order": "LITTLE_ENDIAN", "_elements": "AACAPwAAAEA="}
+ * </pre>
+ * The supported element types are {@code INTEGER8}, {@code INTEGER16}, {@code INTEGER32}, {@code INTEGER64},
+ * {@code FLOAT32} and {@code FLOAT64}. Vectors are always written in little-endian byte order, both orders are read.
+ */
+final class VectorCodec {
+    private static final String LITTLE_ENDIAN = "LITTLE_ENDIAN";
+    private static final String BIG_ENDIAN = "BIG_ENDIAN";
+
+    static Map<String, Object> encode(Value value) {
+        var vector = value.asBoltVector();
+        var elementType = vector.elementType();
+        var elements = vector.elements();
+        String elementTypeName;
+        ByteBuffer buffer;
+        if (elementType == byte.class) {
+            var array = (byte[]) elements;
+            elementTypeName = "INTEGER8";
+            buffer = ByteBuffer.wrap(array);
+        } else if (elementType == short.class) {
+            var array = (short[]) elements;
+            elementTypeName = "INTEGER16";
+            buffer = newBuffer(array.length * Short.BYTES);
+            buffer.asShortBuffer().put(array);
+        } else if (elementType == int.class) {
+            var array = (int[]) elements;
+            elementTypeName = "INTEGER32";
+            buffer = newBuffer(array.length * Integer.BYTES);
+            buffer.asIntBuffer().put(array);
+        } else if (elementType == long.class) {
+            var array = (long[]) elements;
+            elementTypeName = "INTEGER64";
+            buffer = newBuffer(array.length * Long.BYTES);
+            buffer.asLongBuffer().put(array);
+        } else if (elementType == float.class) {
+            var array = (float[]) elements;
+            elementTypeName = "FLOAT32";
+            buffer = newBuffer(array.length * Float.BYTES);
+            buffer.asFloatBuffer().put(array);
+        } else if (elementType == double.class) {
+            var array = (double[]) elements;
+            elementTypeName = "FLOAT64";
+            buffer = newBuffer(array.length * Double.BYTES);
+            buffer.asDoubleBuffer().put(array);
+        } else {
+            throw new IllegalArgumentException("Unsupported vector element type: " + elementType);
+        }
+        var encoded = new LinkedHashMap<String, Object>(4);
+        encoded.put(Fieldnames._VECTOR_ELEMENT_TYPE, elementTypeName);
+        encoded.put(Fieldnames._VECTOR_BYTE_ORDER, LITTLE_ENDIAN);
+        encoded.put(Fieldnames._VECTOR_ELEMENTS, Base64.getEncoder().encodeToString(buffer.array()));
+        return encoded;
+    }
+
+    static Value decode(ValueFactory valueFactory, String elementTypeName, String byteOrderName, String elements) {
+        if (elementTypeName == null || elements == null) {
+            throw new IllegalArgumentException("Vector element type and elements must be specified");
+        }
+        ByteOrder byteOrder;
+        if (byteOrderName == null || LITTLE_ENDIAN.equals(byteOrderName)) {
+            byteOrder = ByteOrder.LITTLE_ENDIAN;
+        } else if (BIG_ENDIAN.equals(byteOrderName)) {
+            byteOrder = ByteOrder.BIG_ENDIAN;
+        } else {
+            throw new IllegalArgumentException("Unsupported vector byte order: " + byteOrderName);
+        }
+        var bytes = Base64.getDecoder().decode(elements);
+        var buffer = ByteBuffer.wrap(bytes).order(byteOrder);
+        return switch (elementTypeName) {
+            case "INTEGER8" -> valueFactory.vector(byte.class, bytes);
+            case "INTEGER16" -> {
+                var array = new short[elementCount(bytes, Short.BYTES)];
+                buffer.asShortBuffer().get(array);
+                yield valueFactory.vector(short.class, array);
+            }
+            case "INTEGER32" -> {
+                var array = new int[elementCount(bytes, Integer.BYTES)];
+                buffer.asIntBuffer().get(array);
+                yield valueFactory.vector(int.class, array);
+            }
+            case "INTEGER64" -> {
+                var array = new long[elementCount(bytes, Long.BYTES)];
+                buffer.asLongBuffer().get(array);
+                yield valueFactory.vector(long.class, array);
+            }
+            case "FLOAT32" -> {
+                var array = new float[elementCount(bytes, Float.BYTES)];
+                buffer.asFloatBuffer().get(array);
+                yield valueFactory.vector(float.class, array);
+            }
+            case "FLOAT64" -> {
+                var array = new double[elementCount(bytes, Double.BYTES)];
+                buffer.asDoubleBuffer().get(array);
+                yield valueFactory.vector(double.class, array);
+            }
+            default -> throw new IllegalArgumentException("Unsupported vector element type: " + elementTypeName);
+        };
+    }
+
+    private static ByteBuffer newBuffer(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int elementCount(byte[] bytes, int elementSize) {
+        if (bytes.length % elementSize != 0) {
+            throw new IllegalArgumentException(
+                    "Vector data of %d bytes is not a multiple of %d".formatted(bytes.length, elementSize));
+        }
+        return bytes.length / elementSize;
+    }
+
+    private VectorCodec() {}
+}
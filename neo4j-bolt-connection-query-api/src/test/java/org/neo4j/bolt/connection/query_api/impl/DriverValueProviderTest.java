@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+import org.neo4j.bolt.connection.values.Value;
+
+class DriverValueProviderTest {
+    private final JSON json = JSON.builder()
+            .register(new JacksonJrExtension() {
+                @Override
+                protected void register(ExtensionContext ctxt) {
+                    ctxt.appendProvider(new DriverValueProvider(TestValueFactory.INSTANCE));
+                }
+            })
+            .build();
+
+    @Test
+    void shouldReadTypedRecords() throws Exception {
+        // given
+        var body =
+                """
+                {
+                  "data": {
+                    "fields": ["id", "name", "score", "active", "missing", "born", "tags", "attributes"],
+                    "values": [
+                      [
+                        {"$type": "Integer", "_value": "1"},
+                        {"$type": "String", "_value": "Alice"},
+                        {"$type": "Float", "_value": "1.5"},
+                        {"$type": "Boolean", "_value": true},
+                        {"$type": "Null", "_value": null},
+                        {"$type": "Date", "_value": "2000-01-02"},
+                        {"$type": "List", "_value": [{"$type": "String", "_value": "a"}]},
+                        {"$type": "Map", "_value": {"key": {"$type": "Integer", "_value": "2"}}}
+                      ],
+                      [
+                        {"$type": "Integer", "_value": "-2"},
+                        {"$type": "String", "_value": ""},
+                        {"$type": "Float", "_value": "NaN"},
+                        {"$type": "Boolean", "_value": false},
+                        {"$type": "Null", "_value": null},
+                        {"$type": "Date", "_value": "1999-12-31"},
+                        {"$type": "List", "_value": []},
+                        {"$type": "Map", "_value": {}}
+                      ]
+                    ]
+                  },
+                  "bookmarks": []
+                }
+                """;
+        var factory = TestValueFactory.INSTANCE;
+
+        // when
+        var queryResult = json.beanFrom(QueryResult.class, body);
+
+        // then
+        var values = queryResult.data().values();
+        assertEquals(
+                List.of(
+                        factory.value(1L),
+                        factory.value("Alice"),
+                        factory.value(1.5),
+                        factory.value(true),
+                        factory.value((Object) null),
+                        factory.value(LocalDate.of(2000, 1, 2)),
+                        factory.value(List.of(factory.value("a"))),
+                        factory.value(Map.of("key", factory.value(2L)))),
+                values.get(0));
+        assertEquals(
+                List.of(
+                        factory.value(-2L),
+                        factory.value(""),
+                        factory.value(Double.NaN),
+                        factory.value(false),
+                        factory.value((Object) null),
+                        factory.value(LocalDate.of(1999, 12, 31)),
+                        factory.value(List.<Value>of()),
+                        factory.value(Map.<String, Value>of())),
+                values.get(1));
+    }
+
+    @Test
+    void shouldRejectUnknownType() {
+        // given
+        var body =
+                """
+                {"data": {"fields": ["x"], "values": [[{"$type": "Unknown", "_value": "1"}]]}, "bookmarks": []}
+                """;
+
+        // when & then
+        assertThrows(JsonParseException.class, () -> json.beanFrom(QueryResult.class, body));
+    }
+}
@@ -67,4 +67,29 @@ class HttpContextTest {
                 "http://localhost:7474/db/foo/query/v2",
                 httpContext.queryUrl("foo").toString());
     }
+
+    @Test
+    void shouldReuseRequestTemplates() {
+        var httpContext =
+                new HttpContext(HttpClient.newHttpClient(), URI.create("http://localhost:7474"), JSON.std, "agent");
+
+        var headers = httpContext.headers("Basic first");
+
+        Assertions.assertSame(headers, httpContext.headers("Basic first"));
+        Assertions.assertArrayEquals(
+                new String[] {
+                    "Content-Type",
+                    "application/vnd.neo4j.query",
+                    "Accept",
+                    "application/vnd.neo4j.query",
+                    "Authorization",
+                    "Basic first",
+                    "User-Agent",
+                    "agent"
+                },
+                headers);
+        Assertions.assertEquals("Basic second", httpContext.headers("Basic second")[5]);
+        Assertions.assertSame(httpContext.queryUrl("foo"), httpContext.queryUrl("foo"));
+        Assertions.assertSame(httpContext.txUrl("foo"), httpContext.txUrl("foo"));
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.AuthTokens;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.LoggingProvider;
+import org.neo4j.bolt.connection.NotificationConfig;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.observation.HttpExchangeObservation;
+import org.neo4j.bolt.connection.observation.Observation;
+import org.neo4j.bolt.connection.observation.ObservationProvider;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+
+class MultiplexedHttpClientTest {
+    private static final URI SERVER_URI = URI.create("https://localhost:7473");
+
+    @Test
+    void shouldLimitConcurrentStreams() {
+        // given
+        var server = new StandInServer();
+        var httpClient = new MultiplexedHttpClient(SERVER_URI, List.of(server.httpClient), 2);
+
+        // when
+        var first = httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString());
+        var second = httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString());
+        var third = httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString());
+
+        // then
+        assertEquals(2, server.exchanges.size());
+        assertEquals(2, httpClient.activeStreams());
+        assertEquals(1, httpClient.pendingStreams());
+
+        // when
+        server.respond();
+
+        // then
+        assertTrue(first.isDone());
+        assertEquals(2, server.exchanges.size());
+        assertEquals(2, httpClient.activeStreams());
+        assertEquals(0, httpClient.pendingStreams());
+
+        // when
+        server.respond();
+        server.respond();
+
+        // then
+        assertTrue(second.isDone());
+        assertTrue(third.isDone());
+        assertEquals(0, httpClient.activeStreams());
+        assertEquals(2, httpClient.peakActiveStreams());
+        assertEquals(3, httpClient.completedStreams());
+    }
+
+    @Test
+    void shouldSpreadStreamsAcrossConnections() {
+        // given
+        var firstServerConnection = new StandInServer();
+        var secondServerConnection = new StandInServer();
+        var httpClient = new MultiplexedHttpClient(
+                SERVER_URI, List.of(firstServerConnection.httpClient, secondServerConnection.httpClient), 10);
+
+        // when
+        for (var i = 0; i < 4; i++) {
+            httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        // then
+        assertEquals(2, httpClient.connections());
+        assertEquals(2, firstServerConnection.exchanges.size());
+        assertEquals(2, secondServerConnection.exchanges.size());
+        assertEquals(4, httpClient.activeStreams());
+    }
+
+    @Test
+    void shouldReleaseStreamOnFailure() {
+        // given
+        var server = new StandInServer();
+        var httpClient = new MultiplexedHttpClient(SERVER_URI, List.of(server.httpClient), 1);
+        var first = httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString());
+        var second = httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString());
+        var exception = new IOException("connection reset");
+
+        // when
+        server.fail(exception);
+
+        // then
+        var completionException = assertThrows(CompletionException.class, first::join);
+        assertSame(exception, completionException.getCause());
+        assertEquals(1, httpClient.activeStreams());
+        server.respond();
+        assertTrue(second.isDone());
+        assertEquals(0, httpClient.activeStreams());
+    }
+
+    @Test
+    void shouldHoldStreamUntilStreamedBodyIsClosed() {
+        // given
+        var server = new StandInServer();
+        var httpClient = new MultiplexedHttpClient(SERVER_URI, List.of(server.httpClient), 1);
+        var first = httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofLines());
+        var second = httpClient.sendAsync(newRequest(), HttpResponse.BodyHandlers.ofString());
+
+        // when
+        server.respondWithHeaders();
+
+        // then
+        var lines = first.join().body();
+        assertEquals(1, httpClient.activeStreams());
+        assertEquals(1, httpClient.pendingStreams());
+        assertEquals(0, server.exchanges.size());
+
+        // when
+        lines.close();
+
+        // then
+        assertEquals(1, httpClient.activeStreams());
+        assertEquals(0, httpClient.pendingStreams());
+        assertEquals(1, server.exchanges.size());
+        server.respond();
+        assertTrue(second.isDone());
+        assertEquals(0, httpClient.activeStreams());
+        assertEquals(2, httpClient.completedStreams());
+    }
+
+    @Test
+    void shouldRunAutoCommitQueriesOfDifferentConnectionsConcurrently() {
+        // given
+        var server = new StandInServer();
+        var httpClient = new MultiplexedHttpClient(SERVER_URI, List.of(server.httpClient), 10);
+        var loggingProvider = mock(LoggingProvider.class);
+        given(loggingProvider.getLog(any(Class.class))).willReturn(mock(System.Logger.class));
+        var observationProvider = mock(ObservationProvider.class);
+        given(observationProvider.httpExchange(any(), any(), any(), any(), any()))
+                .willReturn(mock(HttpExchangeObservation.class));
+        var firstConnection = newConnection(httpClient, loggingProvider, observationProvider);
+        var secondConnection = newConnection(httpClient, loggingProvider, observationProvider);
+
+        // when
+        var firstStage = firstConnection
+                .writeAndFlush(mock(ResponseHandler.class), newRunMessage(), mock(Observation.class))
+                .toCompletableFuture();
+        var secondStage = secondConnection
+                .writeAndFlush(mock(ResponseHandler.class), newRunMessage(), mock(Observation.class))
+                .toCompletableFuture();
+
+        // then
+        assertEquals(2, server.exchanges.size());
+        assertEquals(2, httpClient.peakActiveStreams());
+        server.respond();
+        server.respond();
+        firstStage.join();
+        secondStage.join();
+        assertEquals(0, httpClient.activeStreams());
+    }
+
+    private static QueryApiBoltConnection newConnection(
+            HttpClient httpClient, LoggingProvider loggingProvider, ObservationProvider observationProvider) {
+        return new QueryApiBoltConnection(
+                TestValueFactory.INSTANCE,
+                httpClient,
+                SERVER_URI,
+                AuthTokens.basic("user", "password", "realm", TestValueFactory.INSTANCE),
+                "userAgent",
+                "serverAgent",
+                new BoltProtocolVersion(5, 4),
+                Clock.systemUTC(),
+                loggingProvider,
+                observationProvider);
+    }
+
+    private static HttpRequest newRequest() {
+        return HttpRequest.newBuilder(SERVER_URI).build();
+    }
+
+    private static RunMessage newRunMessage() {
+        return Messages.run(
+                "neo4j",
+                AccessMode.WRITE,
+                null,
+                Set.of(),
+                "RETURN 1",
+                Map.of(),
+                null,
+                null,
+                NotificationConfig.defaultConfig());
+    }
+
+    /**
+     * A stand-in for a single HTTP/2 server connection that accepts any number of concurrent exchanges and answers
+     * them in order on demand. Like the JDK client, it completes the response with the headers and feeds the body to
+     * the subscriber of the body handler.
+     */
+    private static final class StandInServer {
+        private final ConcurrentLinkedQueue<Exchange> exchanges = new ConcurrentLinkedQueue<>();
+        private final HttpClient httpClient = mock(HttpClient.class);
+
+        @SuppressWarnings("unchecked")
+        private StandInServer() {
+            given(httpClient.sendAsync(any(), any(), any())).willAnswer(invocation -> {
+                var exchange = new Exchange(new CompletableFuture<>(), invocation.getArgument(1));
+                exchanges.add(exchange);
+                return exchange.responseFuture();
+            });
+        }
+
+        private void respond() {
+            var subscriber = respondWithHeaders();
+            subscriber.onNext(List.of(ByteBuffer.wrap(
+                    """
+                    {"data": {"fields": [], "values": []}, "bookmarks": []}
+                    """
+                            .getBytes(StandardCharsets.UTF_8))));
+            subscriber.onComplete();
+        }
+
+        @SuppressWarnings("unchecked")
+        private HttpResponse.BodySubscriber<Object> respondWithHeaders() {
+            var exchange = exchanges.remove();
+            var headers = HttpHeaders.of(Map.of(), (k, v) -> true);
+            var responseInfo = mock(HttpResponse.ResponseInfo.class);
+            given(responseInfo.statusCode()).willReturn(202);
+            given(responseInfo.version()).willReturn(HttpClient.Version.HTTP_2);
+            given(responseInfo.headers()).willReturn(headers);
+            var subscriber = exchange.bodyHandler().apply(responseInfo);
+            subscriber.onSubscribe(mock(Flow.Subscription.class));
+            subscriber.getBody().thenAccept(body -> {
+                HttpResponse<Object> response = mock(HttpResponse.class);
+                given(response.statusCode()).willReturn(202);
+                given(response.version()).willReturn(HttpClient.Version.HTTP_2);
+                given(response.headers()).willReturn(headers);
+                given(response.body()).willReturn(body);
+                exchange.responseFuture().complete(response);
+            });
+            return subscriber;
+        }
+
+        private void fail(Throwable throwable) {
+            exchanges.remove().responseFuture().completeExceptionally(throwable);
+        }
+
+        private record Exchange(
+                CompletableFuture<HttpResponse<Object>> responseFuture, HttpResponse.BodyHandler<Object> bodyHandler) {}
+    }
+}
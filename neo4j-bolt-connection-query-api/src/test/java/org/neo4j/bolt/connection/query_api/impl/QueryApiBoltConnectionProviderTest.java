@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.util.AsciiString;
+import io.netty.util.CharsetUtil;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.AuthTokens;
+import org.neo4j.bolt.connection.LoggingProvider;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+import org.neo4j.bolt.connection.observation.ObservationProvider;
+import org.neo4j.bolt.connection.query_api.Http2StreamMetrics;
+import org.neo4j.bolt.connection.test.values.TestValueFactory;
+
+class QueryApiBoltConnectionProviderTest {
+    private static final int HELD_REQUESTS = 3;
+
+    private EventLoopGroup eventLoopGroup;
+    private Channel serverChannel;
+    private final AtomicInteger serverConnections = new AtomicInteger();
+    private final List<ChannelHandlerContext> heldStreams = new ArrayList<>();
+    private int peakHeldStreams;
+    private URI uri;
+
+    @BeforeEach
+    void beforeEach() throws InterruptedException {
+        eventLoopGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+        serverChannel = new ServerBootstrap()
+                .group(eventLoopGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        serverConnections.incrementAndGet();
+                        var sourceCodec = new HttpServerCodec();
+                        var upgradeHandler = new HttpServerUpgradeHandler(
+                                sourceCodec,
+                                protocol ->
+                                        AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)
+                                                ? new Http2ServerUpgradeCodec(
+                                                        Http2FrameCodecBuilder.forServer()
+                                                                .build(),
+                                                        new Http2MultiplexHandler(new StreamHandler()))
+                                                : null);
+                        channel.pipeline().addLast(sourceCodec, upgradeHandler);
+                    }
+                })
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+        uri = URI.create("http://localhost:%d".formatted(((InetSocketAddress) serverChannel.localAddress()).getPort()));
+    }
+
+    @AfterEach
+    void afterEach() {
+        serverChannel.close().syncUninterruptibly();
+        eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    void shouldMultiplexConnectionsOverSingleHttp2Connection() {
+        // given
+        var metrics = new CopyOnWriteArrayList<Http2StreamMetrics>();
+        var provider = newProvider(new Http2Settings(1, 10, metrics::add));
+
+        // when
+        connect(provider);
+        connect(provider);
+        var httpClient = (HttpClient) metrics.get(0);
+        var responses = new ArrayList<CompletableFuture<HttpResponse<String>>>();
+        for (var i = 0; i < HELD_REQUESTS; i++) {
+            responses.add(httpClient.sendAsync(
+                    HttpRequest.newBuilder(uri.resolve("/held")).build(), HttpResponse.BodyHandlers.ofString()));
+        }
+
+        // then
+        for (var response : responses) {
+            assertEquals(HttpClient.Version.HTTP_2, response.join().version());
+        }
+        assertEquals(1, metrics.size());
+        assertEquals(1, serverConnections.get());
+        assertEquals(HELD_REQUESTS, peakHeldStreams);
+        assertEquals(HELD_REQUESTS, metrics.get(0).peakActiveStreams());
+        assertEquals(HELD_REQUESTS + 2, metrics.get(0).completedStreams());
+        provider.close().toCompletableFuture().join();
+    }
+
+    @Test
+    void shouldCloseMultiplexedHttpClients() {
+        // given
+        var metrics = new CopyOnWriteArrayList<Http2StreamMetrics>();
+        var provider = newProvider(new Http2Settings(1, 10, metrics::add));
+        connect(provider);
+        var httpClient = (HttpClient) metrics.get(0);
+
+        // when
+        provider.close().toCompletableFuture().join();
+
+        // then
+        var response = httpClient.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        var exception = assertThrows(CompletionException.class, response::join);
+        assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    private static QueryApiBoltConnectionProvider newProvider(Http2Settings http2Settings) {
+        var loggingProvider = mock(LoggingProvider.class);
+        given(loggingProvider.getLog(any(Class.class))).willReturn(mock(System.Logger.class));
+        return new QueryApiBoltConnectionProvider(
+                loggingProvider,
+                TestValueFactory.INSTANCE,
+                Clock.systemUTC(),
+                mock(ObservationProvider.class),
+                http2Settings,
+                false);
+    }
+
+    private void connect(QueryApiBoltConnectionProvider provider) {
+        provider.connect(
+                        uri,
+                        null,
+                        null,
+                        null,
+                        10_000,
+                        0,
+                        null,
+                        AuthTokens.basic("user", "password", "realm", TestValueFactory.INSTANCE),
+                        null,
+                        null,
+                        mock(ImmutableObservation.class))
+                .toCompletableFuture()
+                .join();
+    }
+
+    /**
+     * Answers the discovery request straight away and holds the other requests until {@link #HELD_REQUESTS} of them
+     * are active at the same time.
+     */
+    @ChannelHandler.Sharable
+    private final class StreamHandler extends SimpleChannelInboundHandler<Http2HeadersFrame> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Http2HeadersFrame frame) {
+            if ("/held".contentEquals(frame.headers().path())) {
+                heldStreams.add(ctx);
+                peakHeldStreams = Math.max(peakHeldStreams, heldStreams.size());
+                if (heldStreams.size() == HELD_REQUESTS) {
+                    heldStreams.forEach(held -> respond(held, "{}"));
+                    heldStreams.clear();
+                }
+            } else {
+                respond(ctx, "{\"neo4j_version\": \"5.26.0\"}");
+            }
+        }
+
+        private static void respond(ChannelHandlerContext ctx, String body) {
+            var headers = new DefaultHttp2Headers().status("200").add("content-type", "application/json");
+            ctx.write(new DefaultHttp2HeadersFrame(headers));
+            ctx.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.copiedBuffer(body, CharsetUtil.UTF_8), true));
+        }
+    }
+}
@@ -17,19 +17,25 @@
 package org.neo4j.bolt.connection.query_api.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Clock;
 import java.util.List;
@@ -37,12 +43,14 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.neo4j.bolt.connection.AccessMode;
@@ -61,6 +69,8 @@ import org.neo4j.bolt.connection.message.RunMessage;
 import org.neo4j.bolt.connection.observation.HttpExchangeObservation;
 import org.neo4j.bolt.connection.observation.Observation;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
 import org.neo4j.bolt.connection.test.values.TestValueFactory;
 
 final class QueryApiBoltConnectionTest {
@@ -219,6 +229,226 @@ final class QueryApiBoltConnectionTest {
         assertNull(boltConnection.findById(-1));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamJsonlRecords() {
+        // given
+        HttpResponse<Stream<String>> linesResponse = mock(HttpResponse.class);
+        given(linesResponse.statusCode()).willReturn(200);
+        given(linesResponse.version()).willReturn(HttpClient.Version.HTTP_1_1);
+        given(linesResponse.headers())
+                .willReturn(HttpHeaders.of(
+                        Map.of("Content-Type", List.of("application/vnd.neo4j.query+jsonl")), (k, v) -> true));
+        given(linesResponse.body())
+                .willReturn(Stream.of(
+                        "{\"header\": {\"fields\": [\"n\"]}}",
+                        "{\"record\": [{\"$type\": \"Integer\", \"_value\": \"1\"}]}",
+                        "{\"record\": [{\"$type\": \"Integer\", \"_value\": \"2\"}]}",
+                        "{\"record\": [{\"$type\": \"Integer\", \"_value\": \"3\"}]}",
+                        "{\"summary\": {\"bookmarks\": [\"bookmark\"]}}"));
+        var streamingHttpClient = mock(HttpClient.class);
+        given(streamingHttpClient.sendAsync(any(), any())).willAnswer(invocation -> {
+            var headers = invocation.getArgument(0, HttpRequest.class).headers();
+            assertTrue(headers.firstValue("Accept").orElseThrow().startsWith("application/vnd.neo4j.query+jsonl"));
+            return CompletableFuture.completedFuture(linesResponse);
+        });
+        var streamingConnection = new QueryApiBoltConnection(
+                TestValueFactory.INSTANCE,
+                streamingHttpClient,
+                URI.create("http://localhost"),
+                AuthTokens.basic("user", "password", "realm", TestValueFactory.INSTANCE),
+                "userAgent",
+                "serverAgent",
+                new BoltProtocolVersion(5, 4),
+                Clock.systemUTC(),
+                loggingProvider,
+                observationProvider,
+                Runnable::run);
+
+        // when
+        streamingConnection
+                .writeAndFlush(handler, List.of(newRunMessage(), Messages.pull(-1, 2)), mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+        var runSummary = ArgumentCaptor.forClass(RunSummary.class);
+        then(handler).should().onRunSummary(runSummary.capture());
+        var secondHandler = mock(ResponseHandler.class);
+        streamingConnection
+                .writeAndFlush(
+                        secondHandler, Messages.pull(runSummary.getValue().queryId(), -1), mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+
+        // then
+        var inOrder = inOrder(handler);
+        inOrder.verify(handler).onRunSummary(any());
+        inOrder.verify(handler).onRecord(List.of(TestValueFactory.INSTANCE.value(1L)));
+        inOrder.verify(handler).onRecord(List.of(TestValueFactory.INSTANCE.value(2L)));
+        inOrder.verify(handler).onPullSummary(argThat(PullSummary::hasMore));
+        then(secondHandler).should().onRecord(List.of(TestValueFactory.INSTANCE.value(3L)));
+        then(secondHandler)
+                .should()
+                .onPullSummary(argThat(summary -> !summary.hasMore()
+                        && summary.metadata().get("bookmark").equals(TestValueFactory.INSTANCE.value("bookmark"))));
+        then(secondHandler).should().onComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCloseStreamedResponseOnResetMidStream() {
+        // given
+        var closed = new AtomicBoolean();
+        HttpResponse<Stream<String>> linesResponse = mock(HttpResponse.class);
+        given(linesResponse.statusCode()).willReturn(200);
+        given(linesResponse.version()).willReturn(HttpClient.Version.HTTP_1_1);
+        given(linesResponse.headers())
+                .willReturn(HttpHeaders.of(
+                        Map.of("Content-Type", List.of("application/vnd.neo4j.query+jsonl")), (k, v) -> true));
+        given(linesResponse.body())
+                .willReturn(Stream.of(
+                                "{\"header\": {\"fields\": [\"n\"]}}",
+                                "{\"record\": [{\"$type\": \"Integer\", \"_value\": \"1\"}]}",
+                                "{\"record\": [{\"$type\": \"Integer\", \"_value\": \"2\"}]}",
+                                "{\"summary\": {\"bookmarks\": [\"bookmark\"]}}")
+                        .onClose(() -> closed.set(true)));
+        var streamingHttpClient = mock(HttpClient.class);
+        given(streamingHttpClient.sendAsync(any(), any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(linesResponse));
+        var streamingConnection = new QueryApiBoltConnection(
+                TestValueFactory.INSTANCE,
+                streamingHttpClient,
+                URI.create("http://localhost"),
+                AuthTokens.basic("user", "password", "realm", TestValueFactory.INSTANCE),
+                "userAgent",
+                "serverAgent",
+                new BoltProtocolVersion(5, 4),
+                Clock.systemUTC(),
+                loggingProvider,
+                observationProvider,
+                Runnable::run);
+        streamingConnection
+                .writeAndFlush(handler, List.of(newRunMessage(), Messages.pull(-1, 1)), mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+        then(handler).should().onPullSummary(argThat(PullSummary::hasMore));
+        assertFalse(closed.get());
+
+        // when
+        var resetHandler = mock(ResponseHandler.class);
+        streamingConnection
+                .writeAndFlush(resetHandler, Messages.reset(), mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+
+        // then
+        then(resetHandler).should().onResetSummary(any());
+        assertTrue(closed.get());
+        assertNull(streamingConnection.findById(-1));
+    }
+
+    @Test
+    void shouldCommitShortTransactionInSingleRequest() {
+        // given
+        given(response.body())
+                .willReturn(
+                        """
+                {
+                    "data": {"fields": ["n"], "values": [[{"$type": "Integer", "_value": "1"}]]},
+                    "bookmarks": ["bookmark"]
+                }
+                """);
+        var messages = List.of(
+                newBeginMessage(), Messages.run("RETURN 1", Map.of()), Messages.pull(-1, -1), Messages.commit());
+
+        // when
+        boltConnection
+                .writeAndFlush(handler, messages, mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+
+        // then
+        var request = ArgumentCaptor.forClass(HttpRequest.class);
+        then(httpClient).should().sendAsync(request.capture(), any());
+        assertEquals(
+                "http://localhost/db/neo4j/query/v2", request.getValue().uri().toString());
+        var inOrder = inOrder(handler);
+        inOrder.verify(handler).onBeginSummary(any());
+        inOrder.verify(handler).onRunSummary(any());
+        inOrder.verify(handler).onRecord(List.of(TestValueFactory.INSTANCE.value(1L)));
+        inOrder.verify(handler).onPullSummary(argThat(summary -> !summary.hasMore()));
+        inOrder.verify(handler).onCommitSummary(argThat(summary -> "bookmark"
+                .equals(summary.bookmark().orElse(null))));
+        inOrder.verify(handler).onComplete();
+        assertNull(boltConnection.getTransactionInfo());
+    }
+
+    @Test
+    void shouldBeginTransactionWithStatementInSingleRequest() {
+        // given
+        given(response.body())
+                .willReturn(
+                        """
+                {
+                    "data": {"fields": ["n"], "values": [[{"$type": "Integer", "_value": "1"}]]},
+                    "transaction": {"id": "id", "expires": "2024-10-22T15:48:29Z"}
+                }
+                """);
+        var messages = List.of(newBeginMessage(), Messages.run("RETURN 1", Map.of()), Messages.pull(-1, -1));
+
+        // when
+        boltConnection
+                .writeAndFlush(handler, messages, mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+
+        // then
+        var request = ArgumentCaptor.forClass(HttpRequest.class);
+        then(httpClient).should().sendAsync(request.capture(), any());
+        assertEquals(
+                "http://localhost/db/neo4j/query/v2/tx",
+                request.getValue().uri().toString());
+        var inOrder = inOrder(handler);
+        inOrder.verify(handler).onBeginSummary(any());
+        inOrder.verify(handler).onRunSummary(any());
+        inOrder.verify(handler).onRecord(List.of(TestValueFactory.INSTANCE.value(1L)));
+        inOrder.verify(handler).onPullSummary(argThat(summary -> !summary.hasMore()));
+        inOrder.verify(handler).onComplete();
+        assertEquals("id", boltConnection.getTransactionInfo().id());
+    }
+
+    @Test
+    void shouldReportCollapsedStatementFailureForRun() {
+        // given
+        given(response.statusCode()).willReturn(400);
+        given(response.body())
+                .willReturn(
+                        """
+                {
+                    "errors": [{"code": "Neo.ClientError.Statement.SyntaxError", "message": "Invalid input"}]
+                }
+                """);
+        var messages =
+                List.of(newBeginMessage(), Messages.run("RETURN", Map.of()), Messages.pull(-1, -1), Messages.commit());
+
+        // when
+        boltConnection
+                .writeAndFlush(handler, messages, mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+
+        // then
+        var inOrder = inOrder(handler);
+        inOrder.verify(handler).onBeginSummary(any());
+        inOrder.verify(handler)
+                .onError(argThat(error -> error instanceof BoltFailureException failure
+                        && "Neo.ClientError.Statement.SyntaxError".equals(failure.code())));
+        inOrder.verify(handler, times(2)).onIgnored();
+        inOrder.verify(handler).onComplete();
+        then(handler).should(never()).onRunSummary(any());
+        assertEquals(BoltConnectionState.FAILURE, boltConnection.state());
+        assertNull(boltConnection.getTransactionInfo());
+    }
+
     static Stream<Arguments> shouldFailToWriteArgs() {
         return Stream.of(Arguments.of(BoltConnectionState.ERROR), Arguments.of(BoltConnectionState.CLOSED));
     }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.query_api.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JacksonJrExtension;
+import com.fasterxml.jackson.jr.ob.api.ExtensionContext;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.neo4j.bolt.connection.values.Type;
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.bolt.connection.values.ValueFactory;
+import org.neo4j.bolt.connection.values.Vector;
+
+class VectorCodecTest {
+    @ParameterizedTest
+    @MethodSource("vectors")
+    void shouldEncodeAndDecodeVector(Class<?> elementType, Object elements, String elementTypeName) {
+        // given
+        var value = mock(Value.class);
+        given(value.asBoltVector()).willReturn(new TestVector(elementType, elements));
+        var valueFactory = mock(ValueFactory.class);
+        var decodedValue = mock(Value.class);
+        given(valueFactory.vector(any(), any())).willReturn(decodedValue);
+
+        // when
+        var encoded = VectorCodec.encode(value);
+        var decoded = VectorCodec.decode(
+                valueFactory,
+                (String) encoded.get(Fieldnames._VECTOR_ELEMENT_TYPE),
+                (String) encoded.get(Fieldnames._VECTOR_BYTE_ORDER),
+                (String) encoded.get(Fieldnames._VECTOR_ELEMENTS));
+
+        // then
+        assertEquals(elementTypeName, encoded.get(Fieldnames._VECTOR_ELEMENT_TYPE));
+        assertSame(decodedValue, decoded);
+        var decodedElements = ArgumentCaptor.forClass(Object.class);
+        then(valueFactory).should().vector(eq(elementType), decodedElements.capture());
+        assertEquals(Array.getLength(elements), Array.getLength(decodedElements.getValue()));
+        for (var i = 0; i < Array.getLength(elements); i++) {
+            assertEquals(Array.get(elements, i), Array.get(decodedElements.getValue(), i));
+        }
+    }
+
+    @Test
+    void shouldDecodeBigEndianVector() {
+        // given
+        var buffer = ByteBuffer.allocate(3 * Float.BYTES).order(ByteOrder.BIG_ENDIAN);
+        buffer.asFloatBuffer().put(new float[] {1.5f, -2.0f, 0.25f});
+        var valueFactory = mock(ValueFactory.class);
+
+        // when
+        VectorCodec.decode(
+                valueFactory, "FLOAT32", "BIG_ENDIAN", Base64.getEncoder().encodeToString(buffer.array()));
+
+        // then
+        var elements = ArgumentCaptor.forClass(Object.class);
+        then(valueFactory).should().vector(eq(float.class), elements.capture());
+        assertArrayEquals(new float[] {1.5f, -2.0f, 0.25f}, (float[]) elements.getValue());
+    }
+
+    @Test
+    void shouldRejectTruncatedVector() {
+        var valueFactory = mock(ValueFactory.class);
+        var elements = Base64.getEncoder().encodeToString(new byte[] {1, 2, 3});
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> VectorCodec.decode(valueFactory, "INTEGER32", "LITTLE_ENDIAN", elements));
+    }
+
+    @Test
+    void shouldWriteAndReadTypedVector() throws Exception {
+        // given
+        var valueFactory = mock(ValueFactory.class);
+        var json = JSON.builder()
+                .register(new JacksonJrExtension() {
+                    @Override
+                    protected void register(ExtensionContext ctxt) {
+                        ctxt.appendProvider(new DriverValueProvider(valueFactory));
+                    }
+                })
+                .build();
+        var value = mock(Value.class);
+        given(value.boltValueType()).willReturn(Type.VECTOR);
+        given(value.asBoltVector()).willReturn(new TestVector(double.class, new double[] {1.0, 2.0}));
+
+        // when
+        var written = json.asString(value);
+        json.beanFrom(Value.class, written);
+
+        // then
+        var elements = ArgumentCaptor.forClass(Object.class);
+        then(valueFactory).should().vector(eq(double.class), elements.capture());
+        assertArrayEquals(new double[] {1.0, 2.0}, (double[]) elements.getValue());
+    }
+
+    static Stream<Arguments> vectors() {
+        return Stream.of(
+                Arguments.of(byte.class, new byte[] {1, -2, 3}, "INTEGER8"),
+                Arguments.of(short.class, new short[] {1, -2, Short.MAX_VALUE}, "INTEGER16"),
+                Arguments.of(int.class, new int[] {1, -2, Integer.MIN_VALUE}, "INTEGER32"),
+                Arguments.of(long.class, new long[] {1, -2, Long.MAX_VALUE}, "INTEGER64"),
+                Arguments.of(float.class, new float[] {1.5f, Float.NaN, -0.0f}, "FLOAT32"),
+                Arguments.of(double.class, new double[] {1.5, Double.MIN_VALUE, -2.0}, "FLOAT64"));
+    }
+
+    private record TestVector(Class<?> elementType, Object elements) implements Vector {}
+}
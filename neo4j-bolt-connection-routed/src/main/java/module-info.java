@@ -21,4 +21,5 @@ module org.neo4j.bolt.connection.routed {
     exports org.neo4j.bolt.connection.routed;
 
     requires transitive org.neo4j.bolt.connection;
+    requires static jdk.jfr;
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.routed;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
+
+/**
+ * A {@link RoutingTableSnapshotStore} that stores the snapshots in a local file.
+ * <p>
+ * The file is a UTF-8 text file with one snapshot per line. The file is replaced atomically when the file system
+ * supports it.
+ *
+ * @since 11.0.0
+ */
+public final class FileRoutingTableSnapshotStore implements RoutingTableSnapshotStore {
+    private static final String HEADER = "# neo4j routing table snapshots v1";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String ADDRESS_SEPARATOR = ",";
+
+    private final Path file;
+
+    /**
+     * Creates a new store.
+     *
+     * @param file the file to store the snapshots in
+     */
+    public FileRoutingTableSnapshotStore(Path file) {
+        this.file = Objects.requireNonNull(file);
+    }
+
+    @Override
+    public List<ClusterComposition> load() throws IOException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+        if (lines.isEmpty() || !HEADER.equals(lines.get(0))) {
+            throw new IOException("Unsupported routing table snapshot file: " + file);
+        }
+        var snapshots = new ArrayList<ClusterComposition>(lines.size() - 1);
+        for (var line : lines.subList(1, lines.size())) {
+            if (!line.isBlank()) {
+                snapshots.add(parse(line));
+            }
+        }
+        return snapshots;
+    }
+
+    @Override
+    public void store(List<ClusterComposition> snapshots) throws IOException {
+        var lines = new ArrayList<String>(snapshots.size() + 1);
+        lines.add(HEADER);
+        for (var snapshot : snapshots) {
+            lines.add(format(snapshot));
+        }
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        var tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, lines, StandardCharsets.UTF_8);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static String format(ClusterComposition composition) {
+        return String.join(
+                FIELD_SEPARATOR,
+                composition.databaseName() != null ? composition.databaseName() : "",
+                Long.toString(composition.expirationTimestamp()),
+                format(composition.routers()),
+                format(composition.writers()),
+                format(composition.readers()));
+    }
+
+    private static String format(Set<BoltServerAddress> addresses) {
+        return addresses.stream()
+                .map(address -> address.host() + ":" + address.port())
+                .collect(Collectors.joining(ADDRESS_SEPARATOR));
+    }
+
+    private static ClusterComposition parse(String line) throws IOException {
+        var fields = line.split(FIELD_SEPARATOR, -1);
+        if (fields.length != 5) {
+            throw new IOException("Invalid routing table snapshot: " + line);
+        }
+        try {
+            return new ClusterComposition(
+                    Long.parseLong(fields[1]),
+                    parseAddresses(fields[4]),
+                    parseAddresses(fields[3]),
+                    parseAddresses(fields[2]),
+                    fields[0].isEmpty() ? null : fields[0]);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid routing table snapshot: " + line, e);
+        }
+    }
+
+    private static Set<BoltServerAddress> parseAddresses(String field) {
+        if (field.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(field.split(ADDRESS_SEPARATOR))
+                .map(address -> {
+                    var portIndex = address.lastIndexOf(':');
+                    if (portIndex < 0) {
+                        throw new IllegalArgumentException("Missing port: " + address);
+                    }
+                    return new BoltServerAddress(
+                            address.substring(0, portIndex), Integer.parseInt(address.substring(portIndex + 1)));
+                })
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -22,6 +22,7 @@ import static org.neo4j.bolt.connection.routed.impl.util.LockUtil.executeWithLoc
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -46,6 +47,7 @@ import org.neo4j.bolt.connection.BoltConnectionParameters;
 import org.neo4j.bolt.connection.BoltConnectionSource;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.CloseResult;
 import org.neo4j.bolt.connection.DatabaseName;
 import org.neo4j.bolt.connection.DomainNameResolver;
 import org.neo4j.bolt.connection.LoggingProvider;
@@ -95,8 +97,10 @@ public class RoutedBoltConnectionSource implements BoltConnectionSource<RoutedBo
     private final RoutingTableRegistry registry;
     private final Rediscovery rediscovery;
     private final ObservationProvider observationProvider;
+    private final RoutingTableSnapshotStore snapshotStore;
+    private final ScheduledFuture<?> snapshotFuture;
 
-    private CompletableFuture<Void> closeFuture;
+    private CompletableFuture<CloseResult> closeFuture;
 
     public RoutedBoltConnectionSource(
             BoltConnectionSourceFactory boltConnectionSourceFactory,
@@ -110,6 +114,58 @@ public class RoutedBoltConnectionSource implements BoltConnectionSource<RoutedBo
             long acquisitionTimeout,
             List<Class<? extends Throwable>> discoveryAbortingErrors,
             ObservationProvider observationProvider) {
+        this(
+                boltConnectionSourceFactory,
+                resolver,
+                domainNameResolver,
+                routingTablePurgeDelayMs,
+                rediscovery,
+                clock,
+                logging,
+                uri,
+                acquisitionTimeout,
+                discoveryAbortingErrors,
+                observationProvider,
+                null,
+                null);
+    }
+
+    /**
+     * Creates a new instance that persists routing table snapshots.
+     * <p>
+     * When the snapshot store is not {@code null}, the snapshots are loaded from it on creation and are used until the
+     * routing tables are refreshed in the background. The snapshots of all known routing tables are stored
+     * periodically and once the source is closed.
+     *
+     * @param boltConnectionSourceFactory the connection source factory
+     * @param resolver the address resolver
+     * @param domainNameResolver the domain name resolver
+     * @param routingTablePurgeDelayMs the routing table purge delay
+     * @param rediscovery the rediscovery or {@code null} for the default one
+     * @param clock the clock
+     * @param logging the logging provider
+     * @param uri the initial router uri
+     * @param acquisitionTimeout the connection acquisition timeout
+     * @param discoveryAbortingErrors the errors that abort discovery
+     * @param observationProvider the observation provider
+     * @param snapshotStore the snapshot store or {@code null}
+     * @param snapshotInterval the interval between storing the snapshots or {@code null} to store them on close only
+     * @since 11.0.0
+     */
+    public RoutedBoltConnectionSource(
+            BoltConnectionSourceFactory boltConnectionSourceFactory,
+            Function<BoltServerAddress, Set<BoltServerAddress>> resolver,
+            DomainNameResolver domainNameResolver,
+            long routingTablePurgeDelayMs,
+            Rediscovery rediscovery,
+            Clock clock,
+            LoggingProvider logging,
+            URI uri,
+            long acquisitionTimeout,
+            List<Class<? extends Throwable>> discoveryAbortingErrors,
+            ObservationProvider observationProvider,
+            RoutingTableSnapshotStore snapshotStore,
+            Duration snapshotInterval) {
         this.boltConnectionSourceFactory = Objects.requireNonNull(boltConnectionSourceFactory);
         this.log = logging.getLog(getClass());
         this.loadBalancingStrategy = new LeastConnectedLoadBalancingStrategy(this::getInUseCount, logging);
@@ -122,6 +178,22 @@ public class RoutedBoltConnectionSource implements BoltConnectionSource<RoutedBo
         this.uri = Objects.requireNonNull(uri);
         this.acquisitionTimeout = acquisitionTimeout;
         this.observationProvider = Objects.requireNonNull(observationProvider);
+        this.snapshotStore = snapshotStore;
+        if (snapshotStore != null) {
+            loadSnapshots();
+            if (snapshotInterval != null) {
+                if (snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+                    throw new IllegalArgumentException("snapshotInterval must be positive");
+                }
+                var intervalMillis = snapshotInterval.toMillis();
+                this.snapshotFuture = executorService.scheduleWithFixedDelay(
+                        this::storeSnapshots, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            } else {
+                this.snapshotFuture = null;
+            }
+        } else {
+            this.snapshotFuture = null;
+        }
     }
 
     @Override
@@ -425,19 +497,50 @@ public class RoutedBoltConnectionSource implements BoltConnectionSource<RoutedBo
 
     @Override
     public CompletionStage<Void> close() {
-        CompletableFuture<Void> closeFuture;
+        return close(source -> source.close().thenApply(ignored -> CloseResult.EMPTY))
+                .thenApply(ignored -> null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The connection sources of all known addresses are closed concurrently, the parallelism and deadline apply to each
+     * of them.
+     */
+    @Override
+    public CompletionStage<CloseResult> close(int parallelism, Duration deadline) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        return close(source -> source.close(parallelism, deadline));
+    }
+
+    private CompletionStage<CloseResult> close(
+            Function<BoltConnectionSource<BoltConnectionParameters>, CompletionStage<CloseResult>> closeFunction) {
+        CompletableFuture<CloseResult> closeFuture;
         lock.lock();
         try {
             if (this.closeFuture == null) {
-                @SuppressWarnings({"rawtypes", "RedundantSuppression"})
-                var futures = new CompletableFuture[addressToSource.size()];
+                if (snapshotStore != null) {
+                    if (snapshotFuture != null) {
+                        snapshotFuture.cancel(false);
+                    }
+                    // runs before the executor terminates
+                    executorService.execute(this::storeSnapshots);
+                }
+                var futures = new ArrayList<CompletableFuture<CloseResult>>(addressToSource.size());
                 var iterator = addressToSource.values().iterator();
-                var index = 0;
                 while (iterator.hasNext()) {
-                    futures[index++] = iterator.next().close().toCompletableFuture();
+                    var source = iterator.next();
+                    // the sources are closed concurrently even if one of them does some of the work synchronously
+                    futures.add(CompletableFuture.supplyAsync(() -> closeFunction.apply(source))
+                            .thenCompose(Function.identity()));
                     iterator.remove();
                 }
-                this.closeFuture = CompletableFuture.allOf(futures)
+                this.closeFuture = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                        .thenApply(ignored -> futures.stream()
+                                .map(CompletableFuture::join)
+                                .reduce(CloseResult.EMPTY, CloseResult::plus))
                         .whenComplete((ignored, throwable) -> executorService.shutdown());
             }
             closeFuture = this.closeFuture;
@@ -447,7 +550,26 @@ public class RoutedBoltConnectionSource implements BoltConnectionSource<RoutedBo
         return closeFuture;
     }
 
-    private BoltConnectionSource<BoltConnectionParameters> get(BoltServerAddress address) {
+    private void loadSnapshots() {
+        try {
+            var snapshots = snapshotStore.load();
+            registry.loadSnapshots(snapshots);
+            log.log(System.Logger.Level.DEBUG, "Loaded %d routing table snapshots", snapshots.size());
+        } catch (Throwable throwable) {
+            log.log(System.Logger.Level.WARNING, "Failed to load routing table snapshots", throwable);
+        }
+    }
+
+    private void storeSnapshots() {
+        try {
+            snapshotStore.store(registry.snapshots());
+        } catch (Throwable throwable) {
+            log.log(System.Logger.Level.WARNING, "Failed to store routing table snapshots", throwable);
+        }
+    }
+
+    // visible for testing
+    BoltConnectionSource<BoltConnectionParameters> get(BoltServerAddress address) {
         return executeWithLock(lock, () -> {
             var provider = addressToSource.get(address);
             if (provider == null) {
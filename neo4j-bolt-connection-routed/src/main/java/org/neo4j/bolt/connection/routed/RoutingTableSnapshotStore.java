@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.routed;
+
+import java.io.IOException;
+import java.util.List;
+import org.neo4j.bolt.connection.ClusterComposition;
+
+/**
+ * A storage for routing table snapshots used by {@link RoutedBoltConnectionSource} to warm up its routing tables on
+ * startup.
+ * <p>
+ * Each snapshot is a {@link ClusterComposition} of a single database, including its servers, their roles and the
+ * expiration timestamp.
+ * <p>
+ * The loaded snapshots are considered provisionally valid. They are used for connection acquisition straight away,
+ * while fresh routing tables are fetched in the background.
+ *
+ * @since 11.0.0
+ * @see FileRoutingTableSnapshotStore
+ */
+public interface RoutingTableSnapshotStore {
+    /**
+     * Loads the snapshots stored previously.
+     *
+     * @return the snapshots, empty if there are none
+     * @throws IOException if the snapshots can not be loaded
+     */
+    List<ClusterComposition> load() throws IOException;
+
+    /**
+     * Stores the snapshots, replacing all previously stored snapshots.
+     *
+     * @param snapshots the snapshots
+     * @throws IOException if the snapshots can not be stored
+     */
+    void store(List<ClusterComposition> snapshots) throws IOException;
+}
@@ -18,17 +18,20 @@ package org.neo4j.bolt.connection.routed.impl;
 
 import static java.lang.String.format;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.AuthInfo;
 import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.BoltConnectionState;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.RecordBuffer;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.exception.BoltServiceUnavailableException;
@@ -137,6 +140,11 @@ public class RoutedBoltConnection implements BoltConnection {
         return delegate.defaultReadTimeout();
     }
 
+    @Override
+    public Optional<Executor> ioExecutor() {
+        return delegate.ioExecutor();
+    }
+
     private static class RoutedResponseHandler implements ResponseHandler {
         private final RoutingTableHandler routingTableHandler;
         private final ResponseHandler handler;
@@ -176,6 +184,26 @@ public class RoutedBoltConnection implements BoltConnection {
             handler.onRecord(fields);
         }
 
+        @Override
+        public void onQueuedMessages(int count) {
+            handler.onQueuedMessages(count);
+        }
+
+        @Override
+        public long recordBufferLimit() {
+            return handler.recordBufferLimit();
+        }
+
+        @Override
+        public Path recordSpillDirectory() {
+            return handler.recordSpillDirectory();
+        }
+
+        @Override
+        public void onRecordBuffer(RecordBuffer buffer) {
+            handler.onRecordBuffer(buffer);
+        }
+
         @Override
         public void onPullSummary(PullSummary summary) {
             handler.onPullSummary(summary);
@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
 import org.neo4j.bolt.connection.RoutedBoltConnectionParameters;
 import org.neo4j.bolt.connection.observation.ImmutableObservation;
 import org.neo4j.bolt.connection.routed.ClusterCompositionLookupResult;
@@ -37,5 +38,19 @@ public interface RoutingTableHandler extends RoutingErrorHandler {
 
     RoutingTable routingTable();
 
+    /**
+     * Loads a routing table snapshot that is used until the routing table is refreshed.
+     *
+     * @param snapshot the snapshot
+     */
+    void loadSnapshot(ClusterComposition snapshot);
+
+    /**
+     * Returns whether the routing table has been loaded from a snapshot and has not been refreshed yet.
+     *
+     * @return {@code true} if the routing table is provisional
+     */
+    boolean isProvisional();
+
     boolean isStaleFor(AccessMode mode);
 }
@@ -29,6 +29,7 @@ import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.BoltConnectionParameters;
 import org.neo4j.bolt.connection.BoltConnectionSource;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
 import org.neo4j.bolt.connection.DatabaseName;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.RoutedBoltConnectionParameters;
@@ -39,16 +40,23 @@ import org.neo4j.bolt.connection.routed.RoutingTable;
 import org.neo4j.bolt.connection.routed.impl.util.FutureUtil;
 
 public class RoutingTableHandlerImpl implements RoutingTableHandler {
+    // jdk.jfr is an optional module, the event class must not be loaded when it is absent
+    private static final boolean JFR_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
     private final RoutingTable routingTable;
     private final DatabaseName databaseName;
     private final RoutingTableRegistry routingTableRegistry;
     private volatile CompletableFuture<RoutingTable> refreshRoutingTableFuture;
+    private RoutingTableRefreshEvent refreshEvent;
     private final Function<BoltServerAddress, BoltConnectionSource<BoltConnectionParameters>> connectionSourceGetter;
     private final Rediscovery rediscovery;
     private final System.Logger log;
     private final long routingTablePurgeDelayMs;
     private final Set<BoltServerAddress> resolvedInitialRouters = new HashSet<>();
     private final Consumer<Set<BoltServerAddress>> addressesToRetainConsumer;
+    // the routing table has been loaded from a snapshot and has not been refreshed yet
+    private volatile boolean provisional;
 
     public RoutingTableHandlerImpl(
             RoutingTable routingTable,
@@ -83,9 +91,13 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
     public synchronized CompletionStage<RoutingTable> ensureRoutingTable(
             RoutedBoltConnectionParameters parameters, ImmutableObservation parentObservation) {
         if (refreshRoutingTableFuture != null) {
+            if (isProvisionallyUsableFor(parameters.accessMode())) {
+                // refresh is happening in the background, use the snapshot meanwhile
+                return completedFuture(routingTable);
+            }
             // refresh is already happening concurrently, just use it's result
             return refreshRoutingTableFuture;
-        } else if (routingTable.isStaleFor(parameters.accessMode())) {
+        } else if (provisional || routingTable.isStaleFor(parameters.accessMode())) {
             // existing routing table is not fresh and should be updated
             log.log(
                     System.Logger.Level.DEBUG,
@@ -95,6 +107,7 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
 
             var resultFuture = new CompletableFuture<RoutingTable>();
             refreshRoutingTableFuture = resultFuture;
+            refreshEvent = JFR_AVAILABLE ? RoutingTableRefreshEvent.begin(databaseName) : null;
 
             rediscovery
                     .lookupClusterComposition(routingTable, connectionSourceGetter, parameters, parentObservation)
@@ -107,6 +120,14 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
                         }
                     });
 
+            if (isProvisionallyUsableFor(parameters.accessMode())) {
+                log.log(
+                        System.Logger.Level.DEBUG,
+                        "Using routing table snapshot for database '%s' while it is refreshed. %s",
+                        databaseName.description(),
+                        routingTable);
+                return completedFuture(routingTable);
+            }
             return resultFuture;
         } else {
             // existing routing table is fresh, use it
@@ -127,11 +148,34 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
             }
             var resultFuture = new CompletableFuture<RoutingTable>();
             refreshRoutingTableFuture = resultFuture;
+            refreshEvent = JFR_AVAILABLE ? RoutingTableRefreshEvent.begin(databaseName) : null;
             freshClusterCompositionFetched(compositionLookupResult);
             return resultFuture;
         }
     }
 
+    @Override
+    public synchronized void loadSnapshot(ClusterComposition snapshot) {
+        routingTable.update(snapshot);
+        provisional = true;
+        log.log(
+                System.Logger.Level.DEBUG,
+                "Loaded routing table snapshot for database '%s'. %s",
+                databaseName.description(),
+                routingTable);
+    }
+
+    @Override
+    public boolean isProvisional() {
+        return provisional;
+    }
+
+    private boolean isProvisionallyUsableFor(AccessMode mode) {
+        return provisional
+                && !routingTable.routers().isEmpty()
+                && !(mode == AccessMode.READ ? routingTable.readers() : routingTable.writers()).isEmpty();
+    }
+
     private synchronized void freshClusterCompositionFetched(ClusterCompositionLookupResult compositionLookupResult) {
         try {
             log.log(
@@ -140,6 +184,7 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
                     databaseName.description(),
                     compositionLookupResult.getClusterComposition());
             routingTable.update(compositionLookupResult.getClusterComposition());
+            provisional = false;
             routingTableRegistry.removeAged();
 
             Set<BoltServerAddress> addressesToRetain = new LinkedHashSet<>();
@@ -159,6 +204,10 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
                     databaseName.description(),
                     routingTable);
 
+            if (refreshEvent != null) {
+                refreshEvent.commit(compositionLookupResult.getClusterComposition());
+                refreshEvent = null;
+            }
             var routingTableFuture = refreshRoutingTableFuture;
             refreshRoutingTableFuture = null;
             routingTableFuture.complete(routingTable);
@@ -175,6 +224,10 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
                         databaseName.description(), routingTable),
                 error);
         routingTableRegistry.remove(databaseName);
+        if (refreshEvent != null) {
+            refreshEvent.commit(error);
+            refreshEvent = null;
+        }
         var routingTableFuture = refreshRoutingTableFuture;
         refreshRoutingTableFuture = null;
         routingTableFuture.completeExceptionally(error);
@@ -198,6 +251,9 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
 
     @Override
     public synchronized boolean isStaleFor(AccessMode mode) {
+        if (isProvisionallyUsableFor(mode)) {
+            return false;
+        }
         if (refreshRoutingTableFuture != null) {
             return true;
         }
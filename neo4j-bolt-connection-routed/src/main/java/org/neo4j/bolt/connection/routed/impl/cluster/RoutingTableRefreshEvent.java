@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.routed.impl.cluster;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.neo4j.bolt.connection.ClusterComposition;
+import org.neo4j.bolt.connection.DatabaseName;
+
+@Name("org.neo4j.bolt.connection.RoutingTableRefresh")
+@Label("Routing Table Refresh")
+@Category({"Neo4j", "Bolt Connection", "Routing"})
+@Description("A refresh of a routing table, from the cluster composition lookup to the routing table update")
+final class RoutingTableRefreshEvent extends Event {
+    @Label("Database")
+    String database;
+
+    @Label("Readers")
+    int readers;
+
+    @Label("Writers")
+    int writers;
+
+    @Label("Routers")
+    int routers;
+
+    @Label("Error")
+    String error;
+
+    /**
+     * Begins a new event if it is enabled in a recording.
+     *
+     * @param databaseName the database name
+     * @return the event or {@code null} if it is not enabled
+     */
+    static RoutingTableRefreshEvent begin(DatabaseName databaseName) {
+        if (!Type.INSTANCE.isEnabled()) {
+            return null;
+        }
+        var event = new RoutingTableRefreshEvent();
+        event.database = databaseName.description();
+        event.begin();
+        return event;
+    }
+
+    void commit(ClusterComposition composition) {
+        if (shouldCommit()) {
+            readers = composition.readers().size();
+            writers = composition.writers().size();
+            routers = composition.routers().size();
+            commit();
+        }
+    }
+
+    void commit(Throwable error) {
+        if (shouldCommit()) {
+            this.error = error.getClass().getName() + ": " + error.getMessage();
+            commit();
+        }
+    }
+
+    private static final class Type {
+        private static final EventType INSTANCE = EventType.getEventType(RoutingTableRefreshEvent.class);
+    }
+}
@@ -16,11 +16,13 @@
  */
 package org.neo4j.bolt.connection.routed.impl.cluster;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
 import org.neo4j.bolt.connection.DatabaseName;
 import org.neo4j.bolt.connection.RoutedBoltConnectionParameters;
 import org.neo4j.bolt.connection.observation.ImmutableObservation;
@@ -62,4 +64,18 @@ public interface RoutingTableRegistry {
      * @return the routing table handler for the requested database name
      */
     Optional<RoutingTableHandler> getRoutingTableHandler(DatabaseName databaseName);
+
+    /**
+     * Loads routing table snapshots that are used until the routing tables are refreshed.
+     *
+     * @param snapshots the snapshots
+     */
+    void loadSnapshots(List<ClusterComposition> snapshots);
+
+    /**
+     * Returns snapshots of all known routing tables.
+     *
+     * @return the snapshots
+     */
+    List<ClusterComposition> snapshots();
 }
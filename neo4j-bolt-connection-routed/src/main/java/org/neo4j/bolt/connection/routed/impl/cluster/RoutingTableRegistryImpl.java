@@ -20,6 +20,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.Clock;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -37,6 +39,7 @@ import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.BoltConnectionParameters;
 import org.neo4j.bolt.connection.BoltConnectionSource;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
 import org.neo4j.bolt.connection.DatabaseName;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.RoutedBoltConnectionParameters;
@@ -103,6 +106,11 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
             if (parameters.homeDatabaseHint() != null) {
                 var handler = routingTableHandlers.get(DatabaseName.database(parameters.homeDatabaseHint()));
                 if (handler != null && !handler.isStaleFor(parameters.accessMode())) {
+                    if (handler.isProvisional()) {
+                        // the hinted snapshot-based routing table is refreshed in the background
+                        return handler.ensureRoutingTable(parameters, parentObservation)
+                                .thenApply(ignored -> handler);
+                    }
                     return CompletableFuture.completedFuture(handler);
                 }
             }
@@ -220,6 +228,38 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
         return Optional.ofNullable(routingTableHandlers.get(databaseName));
     }
 
+    @Override
+    public void loadSnapshots(List<ClusterComposition> snapshots) {
+        for (var snapshot : snapshots) {
+            if (snapshot.routers().isEmpty()) {
+                continue;
+            }
+            // the expired snapshots are kept until they are refreshed or purged as aged
+            var expirationTimestamp = Math.max(snapshot.expirationTimestamp(), clock.millis());
+            getOrCreate(DatabaseName.database(snapshot.databaseName()))
+                    .loadSnapshot(new ClusterComposition(
+                            expirationTimestamp,
+                            snapshot.readers(),
+                            snapshot.writers(),
+                            snapshot.routers(),
+                            snapshot.databaseName()));
+        }
+    }
+
+    @Override
+    public List<ClusterComposition> snapshots() {
+        return routingTableHandlers.values().stream()
+                .map(RoutingTableHandler::routingTable)
+                .filter(routingTable -> !routingTable.routers().isEmpty())
+                .map(routingTable -> new ClusterComposition(
+                        routingTable.expirationTimestamp(),
+                        new LinkedHashSet<>(routingTable.readers()),
+                        new LinkedHashSet<>(routingTable.writers()),
+                        new LinkedHashSet<>(routingTable.routers()),
+                        routingTable.database().databaseName().orElse(null)))
+                .toList();
+    }
+
     // For tests
     public boolean contains(DatabaseName databaseName) {
         return routingTableHandlers.containsKey(databaseName);
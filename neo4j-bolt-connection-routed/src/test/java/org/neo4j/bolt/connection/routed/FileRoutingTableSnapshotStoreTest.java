@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.routed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
+
+class FileRoutingTableSnapshotStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStoreAndLoadSnapshots() throws IOException {
+        // given
+        var store =
+                new FileRoutingTableSnapshotStore(directory.resolve("snapshots").resolve("routing"));
+        var snapshots = List.of(
+                new ClusterComposition(
+                        42L,
+                        new LinkedHashSet<>(List.of(
+                                new BoltServerAddress("reader1", 7687), new BoltServerAddress("reader2", 7688))),
+                        Set.of(new BoltServerAddress("writer", 7687)),
+                        Set.of(new BoltServerAddress("::1", 7687)),
+                        "neo4j"),
+                new ClusterComposition(43L, Set.of(), Set.of(), Set.of(new BoltServerAddress("router", 7687)), null));
+
+        // when
+        store.store(snapshots);
+
+        // then
+        assertEquals(snapshots, store.load());
+    }
+
+    @Test
+    void shouldLoadNothingWhenFileIsMissing() throws IOException {
+        var store = new FileRoutingTableSnapshotStore(directory.resolve("missing"));
+
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void shouldFailToLoadUnsupportedFile() throws IOException {
+        var file = Files.writeString(directory.resolve("unsupported"), "unsupported");
+        var store = new FileRoutingTableSnapshotStore(file);
+
+        assertThrows(IOException.class, store::load);
+    }
+}
@@ -16,14 +16,21 @@
  */
 package org.neo4j.bolt.connection.routed;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 import java.net.URI;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -34,6 +41,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.neo4j.bolt.connection.BoltConnectionParameters;
 import org.neo4j.bolt.connection.BoltConnectionSource;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.CloseResult;
 import org.neo4j.bolt.connection.DefaultDomainNameResolver;
 import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
@@ -85,4 +94,51 @@ class RoutedBoltConnectionSourceTest {
                 () -> connectionStage.toCompletableFuture().join());
         assertInstanceOf(TimeoutException.class, completionException.getCause());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCloseAddressSourcesConcurrently() {
+        // given
+        BoltConnectionSource<BoltConnectionParameters> upstream2 = mock(BoltConnectionSource.class);
+        var address1 = new BoltServerAddress("host1", 7687);
+        var address2 = new BoltServerAddress("host2", 7687);
+        given(boltConnectionSourceFactory.create(eq(URI.create("neo4j://host1:7687")), any()))
+                .willReturn(upstream);
+        given(boltConnectionSourceFactory.create(eq(URI.create("neo4j://host2:7687")), any()))
+                .willReturn(upstream2);
+        var deadline = Duration.ofSeconds(1);
+        var closeFuture1 = new CompletableFuture<CloseResult>();
+        var closeFuture2 = new CompletableFuture<CloseResult>();
+        given(upstream.close(2, deadline)).willReturn(closeFuture1);
+        given(upstream2.close(2, deadline)).willReturn(closeFuture2);
+        source = newSource();
+        source.get(address1);
+        source.get(address2);
+
+        // when
+        var closeStage = source.close(2, deadline).toCompletableFuture();
+
+        // then
+        then(upstream).should(timeout(1000)).close(2, deadline);
+        then(upstream2).should(timeout(1000)).close(2, deadline);
+        assertFalse(closeStage.isDone());
+        closeFuture1.complete(new CloseResult(1, 0));
+        closeFuture2.complete(new CloseResult(2, 1));
+        assertEquals(new CloseResult(3, 1), closeStage.join());
+    }
+
+    private RoutedBoltConnectionSource newSource() {
+        return new RoutedBoltConnectionSource(
+                boltConnectionSourceFactory,
+                Set::of,
+                DefaultDomainNameResolver.getInstance(),
+                1000,
+                null,
+                Clock.systemUTC(),
+                loggingProvider,
+                URI.create("neo4j://localhost:7687"),
+                1,
+                List.of(),
+                observationProvider);
+    }
 }
@@ -23,6 +23,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,9 +43,12 @@ import static org.neo4j.bolt.connection.routed.impl.util.ClusterCompositionUtil.
 import static org.neo4j.bolt.connection.routed.impl.util.ClusterCompositionUtil.E;
 import static org.neo4j.bolt.connection.routed.impl.util.ClusterCompositionUtil.F;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -52,7 +56,10 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.BoltConnection;
@@ -79,6 +86,41 @@ class RoutingTableHandlerTest {
             .withMinVersion(new BoltProtocolVersion(4, 1))
             .build();
 
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordRoutingTableRefreshEvent() throws IOException {
+        // given
+        var routingTable = new ClusterRoutingTable(defaultDatabase(), new FakeClock(), A);
+        var clusterComposition = new ClusterComposition(42, asOrderedSet(A, B), asOrderedSet(C), asOrderedSet(D), null);
+        var rediscovery = Mockito.mock(RediscoveryImpl.class);
+        given(rediscovery.lookupClusterComposition(any(), any(), any(), any()))
+                .willReturn(completedFuture(new ClusterCompositionLookupResult(clusterComposition)));
+        var handler = newRoutingTableHandler(routingTable, rediscovery, newConnectionPoolMock());
+        var file = tempDir.resolve("recording.jfr");
+
+        // when
+        try (var recording = new Recording()) {
+            recording.enable("org.neo4j.bolt.connection.RoutingTableRefresh");
+            recording.start();
+            handler.ensureRoutingTable(parameters, null).toCompletableFuture().join();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        var events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("org.neo4j.bolt.connection.RoutingTableRefresh"))
+                .toList();
+        assertEquals(1, events.size());
+        var event = events.get(0);
+        assertEquals(defaultDatabase().description(), event.getString("database"));
+        assertEquals(2, event.getInt("readers"));
+        assertEquals(1, event.getInt("writers"));
+        assertEquals(1, event.getInt("routers"));
+    }
+
     @Test
     void shouldRemoveAddressFromRoutingTableOnConnectionFailure() {
         RoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), new FakeClock());
@@ -135,6 +177,31 @@ class RoutingTableHandlerTest {
                 new BoltServerAddress[] {router1}, routingTable.routers().toArray());
     }
 
+    @Test
+    void shouldUseSnapshotWhileRefreshingRoutingTableInBackground() {
+        // given
+        var clock = new FakeClock();
+        var routingTable = new ClusterRoutingTable(defaultDatabase(), clock);
+        var rediscovery = Mockito.mock(RediscoveryImpl.class);
+        var lookupFuture = new CompletableFuture<ClusterCompositionLookupResult>();
+        given(rediscovery.lookupClusterComposition(any(), any(), any(), any())).willReturn(lookupFuture);
+        var handler = newRoutingTableHandler(routingTable, rediscovery, newConnectionPoolMock());
+        handler.loadSnapshot(
+                new ClusterComposition(clock.millis(), asOrderedSet(A), asOrderedSet(B), asOrderedSet(C), null));
+
+        // when
+        var routingTableStage = handler.ensureRoutingTable(parameters, mock(Observation.class));
+
+        // then
+        assertEquals(routingTable, routingTableStage.toCompletableFuture().getNow(null));
+        assertFalse(handler.isStaleFor(READ));
+        verify(rediscovery).lookupClusterComposition(any(), any(), any(), any());
+        lookupFuture.complete(new ClusterCompositionLookupResult(new ClusterComposition(
+                clock.millis() + 1000, asOrderedSet(D), asOrderedSet(E), asOrderedSet(F), null)));
+        assertArrayEquals(new BoltServerAddress[] {D}, routingTable.readers().toArray());
+        assertFalse(handler.isStaleFor(READ));
+    }
+
     @Test
     void shouldRediscoverOnReadWhenRoutingTableIsStaleForReads() {
         testRediscoveryWhenStale(READ);
@@ -193,6 +260,16 @@ class RoutingTableHandlerTest {
             public Optional<RoutingTableHandler> getRoutingTableHandler(DatabaseName databaseName) {
                 return Optional.empty();
             }
+
+            @Override
+            public void loadSnapshots(List<ClusterComposition> snapshots) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<ClusterComposition> snapshots() {
+                throw new UnsupportedOperationException();
+            }
         };
 
         var addressesToRetainRef = new AtomicReference<Set<BoltServerAddress>>();
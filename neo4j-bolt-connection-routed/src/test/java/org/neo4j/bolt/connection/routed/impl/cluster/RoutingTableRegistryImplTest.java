@@ -19,11 +19,13 @@ package org.neo4j.bolt.connection.routed.impl.cluster;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.bolt.connection.DatabaseName.database;
@@ -39,6 +41,7 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -55,6 +58,7 @@ import org.neo4j.bolt.connection.AuthToken;
 import org.neo4j.bolt.connection.AuthTokens;
 import org.neo4j.bolt.connection.BoltProtocolVersion;
 import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ClusterComposition;
 import org.neo4j.bolt.connection.DatabaseName;
 import org.neo4j.bolt.connection.RoutedBoltConnectionParameters;
 import org.neo4j.bolt.connection.observation.Observation;
@@ -93,6 +97,32 @@ class RoutingTableRegistryImplTest {
         assertTrue(table.isStaleFor(AccessMode.WRITE));
     }
 
+    @Test
+    void shouldLoadAndReturnSnapshots() {
+        // Given
+        var clock = Clock.systemUTC();
+        var routingTables = new RoutingTableRegistryImpl(
+                ignored -> mock(),
+                Mockito.mock(RediscoveryImpl.class),
+                clock,
+                NoopLoggingProvider.INSTANCE,
+                STALE_ROUTING_TABLE_PURGE_DELAY_MS,
+                ignored -> {});
+        var expirationTimestamp = clock.millis() + SECONDS.toMillis(60);
+        var snapshot = new ClusterComposition(expirationTimestamp, Set.of(A), Set.of(B), Set.of(C), "neo4j");
+        var emptySnapshot = new ClusterComposition(expirationTimestamp, Set.of(), Set.of(), Set.of(), "empty");
+
+        // When
+        routingTables.loadSnapshots(List.of(snapshot, emptySnapshot));
+
+        // Then
+        assertTrue(routingTables.contains(database("neo4j")));
+        assertFalse(routingTables.contains(database("empty")));
+        assertEquals(List.of(snapshot), routingTables.snapshots());
+        var handler = routingTables.getRoutingTableHandler(database("neo4j")).orElseThrow();
+        assertFalse(handler.isStaleFor(AccessMode.READ));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"system", "", "database", " molly "})
     void shouldCreateRoutingTableHandlerIfAbsentWhenFreshRoutingTable(String databaseName) {
@@ -137,6 +167,39 @@ class RoutingTableRegistryImplTest {
         assertEquals(handler, actual);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldEnsureOnlyProvisionalHintedRoutingTable(boolean provisional) {
+        // Given
+        ConcurrentMap<DatabaseName, RoutingTableHandler> map = new ConcurrentHashMap<>();
+        var hintedHandler = mockedRoutingTableHandler();
+        when(hintedHandler.isProvisional()).thenReturn(provisional);
+        var otherHandler = mockedRoutingTableHandler();
+        map.put(database("hinted"), hintedHandler);
+        map.put(database("other"), otherHandler);
+        var routingTables = newRoutingTables(map, mockedHandlerFactory());
+        var hintedParameters = RoutedBoltConnectionParameters.builder()
+                .withAccessMode(AccessMode.READ)
+                .withMinVersion(new BoltProtocolVersion(4, 1))
+                .withHomeDatabaseHint("hinted")
+                .build();
+
+        // When
+        var actual = routingTables
+                .ensureRoutingTable(new CompletableFuture<>(), hintedParameters, mock(Observation.class))
+                .toCompletableFuture()
+                .join();
+
+        // Then
+        assertEquals(hintedHandler, actual);
+        if (provisional) {
+            verify(hintedHandler).ensureRoutingTable(eq(hintedParameters), any());
+        } else {
+            verify(hintedHandler, never()).ensureRoutingTable(any(), any());
+        }
+        verify(otherHandler, never()).ensureRoutingTable(any(), any());
+    }
+
     @ParameterizedTest
     @EnumSource(AccessMode.class)
     void shouldReturnFreshRoutingTable(AccessMode mode) {
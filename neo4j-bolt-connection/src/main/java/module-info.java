@@ -25,4 +25,9 @@ module org.neo4j.bolt.connection {
     exports org.neo4j.bolt.connection.values;
     exports org.neo4j.bolt.connection.ssl;
     exports org.neo4j.bolt.connection.observation;
+    exports org.neo4j.bolt.connection.observation.metrics;
+    exports org.neo4j.bolt.connection.observation.jfr;
+    exports org.neo4j.bolt.connection.cache;
+
+    requires static jdk.jfr;
 }
@@ -16,8 +16,12 @@
  */
 package org.neo4j.bolt.connection;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -38,6 +42,10 @@ import org.neo4j.bolt.connection.values.Value;
 public final class BasicResponseHandler implements ResponseHandler {
     private final CompletableFuture<Summaries> summariesFuture = new CompletableFuture<>();
     private final List<List<Value>> valuesList = new ArrayList<>();
+    // the records preceding the last buffer, when they are buffered in several parts
+    private final List<RecordBuffer> recordBufferParts = new ArrayList<>();
+    private final long recordBufferLimit;
+    private final Path recordSpillDirectory;
 
     private BeginSummary beginSummary;
     private RunSummary runSummary;
@@ -50,10 +58,42 @@ public final class BasicResponseHandler implements ResponseHandler {
     private LogoffSummary logoffSummary;
     private LogonSummary logonSummary;
     private TelemetrySummary telemetrySummary;
+    private RecordBuffer recordBuffer;
     private int ignored;
     private Throwable error;
 
-    public BasicResponseHandler() {}
+    public BasicResponseHandler() {
+        this(0L);
+    }
+
+    /**
+     * Creates a new instance that lets the connection keep up to the given number of bytes of records in a
+     * {@link RecordBuffer}.
+     * <p>
+     * The buffered records are available via {@link Summaries#recordBuffer()} and precede the records in
+     * {@link Summaries#valuesList()}. When the records arrive in several buffers, for instance over several PULL
+     * messages, the buffer combines them with the records in between in order, so that no records are read from a
+     * spilling buffer before it is handed to the caller. The buffer must be closed by the caller.
+     *
+     * @param recordBufferLimit the maximum number of bytes of buffered records, {@literal 0} to disable buffering
+     * @since 11.0.0
+     */
+    public BasicResponseHandler(long recordBufferLimit) {
+        this(recordBufferLimit, null);
+    }
+
+    /**
+     * Creates a new instance that lets the connection keep up to the given number of bytes of records in a
+     * {@link RecordBuffer} and spill the remaining records to a temporary file in the given directory.
+     *
+     * @param recordBufferLimit the maximum number of bytes of buffered records in memory
+     * @param recordSpillDirectory the directory of the temporary file or {@code null} to disable spilling
+     * @since 11.0.0
+     */
+    public BasicResponseHandler(long recordBufferLimit, Path recordSpillDirectory) {
+        this.recordBufferLimit = recordBufferLimit;
+        this.recordSpillDirectory = recordSpillDirectory;
+    }
 
     public CompletionStage<Summaries> summaries() {
         return summariesFuture;
@@ -89,6 +129,31 @@ public final class BasicResponseHandler implements ResponseHandler {
         valuesList.add(fields);
     }
 
+    @Override
+    public long recordBufferLimit() {
+        return recordBufferLimit;
+    }
+
+    @Override
+    public Path recordSpillDirectory() {
+        return recordSpillDirectory;
+    }
+
+    @Override
+    public void onRecordBuffer(RecordBuffer buffer) {
+        if (recordBuffer != null || !valuesList.isEmpty()) {
+            // a spilling buffer may wait for its records to be written, so it is not read on the connection thread
+            if (recordBuffer != null) {
+                recordBufferParts.add(recordBuffer);
+            }
+            if (!valuesList.isEmpty()) {
+                recordBufferParts.add(new HeapRecordBuffer(List.copyOf(valuesList)));
+                valuesList.clear();
+            }
+        }
+        recordBuffer = buffer;
+    }
+
     @Override
     public void onPullSummary(PullSummary summary) {
         pullSummary = summary;
@@ -141,7 +206,15 @@ public final class BasicResponseHandler implements ResponseHandler {
 
     @Override
     public void onComplete() {
+        if (!recordBufferParts.isEmpty()) {
+            recordBufferParts.add(recordBuffer);
+            recordBuffer = new CompositeRecordBuffer(List.copyOf(recordBufferParts));
+            recordBufferParts.clear();
+        }
         if (error != null) {
+            if (recordBuffer != null) {
+                recordBuffer.close();
+            }
             summariesFuture.completeExceptionally(error);
         } else {
             summariesFuture.complete(new Summaries(
@@ -157,7 +230,8 @@ public final class BasicResponseHandler implements ResponseHandler {
                     logoffSummary,
                     logonSummary,
                     telemetrySummary,
-                    ignored));
+                    ignored,
+                    recordBuffer));
         }
     }
 
@@ -174,5 +248,118 @@ public final class BasicResponseHandler implements ResponseHandler {
             LogoffSummary logoffSummary,
             LogonSummary logonSummary,
             TelemetrySummary telemetrySummary,
-            int ignored) {}
+            int ignored,
+            RecordBuffer recordBuffer) {
+        // keeps the constructor that predates the record buffer component, which is appended for compatibility
+        public Summaries(
+                BeginSummary beginSummary,
+                RunSummary runSummary,
+                List<List<Value>> valuesList,
+                PullSummary pullSummary,
+                DiscardSummary discardSummary,
+                CommitSummary commitSummary,
+                RollbackSummary rollbackSummary,
+                ResetSummary resetSummary,
+                RouteSummary routeSummary,
+                LogoffSummary logoffSummary,
+                LogonSummary logonSummary,
+                TelemetrySummary telemetrySummary,
+                int ignored) {
+            this(
+                    beginSummary,
+                    runSummary,
+                    valuesList,
+                    pullSummary,
+                    discardSummary,
+                    commitSummary,
+                    rollbackSummary,
+                    resetSummary,
+                    routeSummary,
+                    logoffSummary,
+                    logonSummary,
+                    telemetrySummary,
+                    ignored,
+                    null);
+        }
+    }
+
+    private record HeapRecordBuffer(List<List<Value>> records) implements RecordBuffer {
+        @Override
+        public long size() {
+            return records.size();
+        }
+
+        @Override
+        public long memoryUsage() {
+            return 0L;
+        }
+
+        @Override
+        public Iterator<List<Value>> iterator() {
+            return records.iterator();
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static final class CompositeRecordBuffer implements RecordBuffer {
+        private final List<RecordBuffer> parts;
+        private volatile boolean closed;
+
+        private CompositeRecordBuffer(List<RecordBuffer> parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public long size() {
+            return parts.stream().mapToLong(RecordBuffer::size).sum();
+        }
+
+        @Override
+        public long memoryUsage() {
+            return parts.stream().mapToLong(RecordBuffer::memoryUsage).sum();
+        }
+
+        @Override
+        public long spilledBytes() {
+            return parts.stream().mapToLong(RecordBuffer::spilledBytes).sum();
+        }
+
+        @Override
+        public Iterator<List<Value>> iterator() {
+            if (closed) {
+                throw new IllegalStateException("Record buffer is closed");
+            }
+            var partIterator = parts.iterator();
+            return new Iterator<>() {
+                private Iterator<List<Value>> records = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    // the records of a part are decoded lazily, so the parts are iterated one by one
+                    while (!records.hasNext() && partIterator.hasNext()) {
+                        records = partIterator.next().iterator();
+                    }
+                    return records.hasNext();
+                }
+
+                @Override
+                public List<Value> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return records.next();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                parts.forEach(RecordBuffer::close);
+            }
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import org.neo4j.bolt.connection.exception.BoltClientException;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+
+/**
+ * A blocking facade over a {@link BoltConnection}.
+ * <p>
+ * Every method waits for the {@link CompletionStage} of the underlying connection by parking the calling thread and
+ * holds no monitors while waiting. A virtual thread is therefore unmounted from its carrier thread until the result
+ * arrives, which lets a large number of concurrent callers use the facade without occupying platform threads.
+ * <p>
+ * Failures of the underlying stages are rethrown as they are, without the {@link CompletionException} wrapper. When
+ * the waiting thread is interrupted, the exchange is not cancelled, the interrupt status is restored and a
+ * {@link BoltClientException} is thrown.
+ * <p>
+ * Just like the {@link BoltConnection} it wraps, an instance must not be used by multiple threads concurrently.
+ *
+ * @since 11.0.0
+ */
+public final class BlockingBoltConnection implements AutoCloseable {
+    private final BoltConnection connection;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connection the {@link BoltConnection}
+     */
+    public BlockingBoltConnection(BoltConnection connection) {
+        this.connection = Objects.requireNonNull(connection);
+    }
+
+    /**
+     * Gets a {@link BoltConnection} from the given source and waits for it.
+     *
+     * @param source the {@link BoltConnectionSource}
+     * @param parameters the {@link BoltConnectionParameters}
+     * @return the blocking facade of the connection
+     * @param <T> the type of parameters supported
+     */
+    public static <T extends BoltConnectionParameters> BlockingBoltConnection acquire(
+            BoltConnectionSource<T> source, T parameters) {
+        return new BlockingBoltConnection(await(source.getConnection(parameters)));
+    }
+
+    /**
+     * Returns the underlying {@link BoltConnection}.
+     *
+     * @return the connection
+     */
+    public BoltConnection connection() {
+        return connection;
+    }
+
+    /**
+     * Writes and flushes the given messages and waits for all their responses.
+     *
+     * @param messages the messages
+     * @return the summaries
+     */
+    public BasicResponseHandler.Summaries execute(List<Message> messages) {
+        return execute(messages, null);
+    }
+
+    /**
+     * Writes and flushes the given messages and waits for all their responses.
+     *
+     * @param messages the messages
+     * @param parentObservation the parent observation or {@code null}
+     * @return the summaries
+     */
+    public BasicResponseHandler.Summaries execute(List<Message> messages, ImmutableObservation parentObservation) {
+        var handler = new BasicResponseHandler();
+        await(connection.writeAndFlush(handler, messages, parentObservation));
+        return await(handler.summaries());
+    }
+
+    /**
+     * Closes the connection and waits for the closure to complete.
+     */
+    @Override
+    public void close() {
+        await(connection.close());
+    }
+
+    private static <T> T await(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BoltClientException("Interrupted while waiting for the connection", e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new BoltClientException(cause.getMessage(), cause);
+        }
+    }
+}
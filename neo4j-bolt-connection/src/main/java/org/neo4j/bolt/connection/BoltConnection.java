@@ -19,7 +19,9 @@ package org.neo4j.bolt.connection;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.neo4j.bolt.connection.message.Message;
 import org.neo4j.bolt.connection.observation.ImmutableObservation;
 
@@ -32,6 +34,37 @@ public interface BoltConnection {
     CompletionStage<Void> writeAndFlush(
             ResponseHandler handler, List<Message> messages, ImmutableObservation parentObservation);
 
+    /**
+     * Writes and flushes multiple independent requests at once, so that their responses are received in a single
+     * round trip.
+     * <p>
+     * The responses are dispatched to the {@link ResponseHandler} of each {@link PipelinedRequest} in order. Every
+     * handler gets its {@link ResponseHandler#onComplete()} call once all messages of its request have been answered.
+     * <p>
+     * When a request fails, the server ignores all subsequent messages until the connection is reset. Therefore, the
+     * handlers of the following requests receive {@link ResponseHandler#onIgnored()} for each of their messages. If the
+     * exchange is terminated by an unrecoverable error, such as a connection failure, the error is delivered to all
+     * requests that have not been completed yet.
+     * <p>
+     * Messages queued with {@link #write(List)} before are sent ahead of the requests. Their responses are delivered to
+     * the handler of the first request, before the responses to its own messages.
+     *
+     * @param requests the requests
+     * @param parentObservation the parent observation or {@code null}
+     * @return the flush stage
+     * @since 11.0.0
+     */
+    default CompletionStage<Void> writeAndFlushPipelined(
+            List<PipelinedRequest> requests, ImmutableObservation parentObservation) {
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedStage(null);
+        }
+        var messages = requests.stream()
+                .flatMap(request -> request.messages().stream())
+                .toList();
+        return writeAndFlush(new PipelinedResponseHandler(List.copyOf(requests)), messages, parentObservation);
+    }
+
     default CompletionStage<Void> write(Message messages) {
         return write(List.of(messages));
     }
@@ -76,4 +109,18 @@ public interface BoltConnection {
     boolean serverSideRoutingEnabled();
 
     Optional<Duration> defaultReadTimeout();
+
+    /**
+     * Returns an {@link Executor} running tasks on the thread that handles the IO of this connection, if the
+     * connection has one.
+     * <p>
+     * Running continuations of the returned stages on it avoids handing the results over to another thread. The tasks
+     * MUST NOT block, since that would delay the IO of this and other connections sharing the thread.
+     *
+     * @return the executor or an empty {@link Optional}
+     * @since 11.0.0
+     */
+    default Optional<Executor> ioExecutor() {
+        return Optional.empty();
+    }
 }
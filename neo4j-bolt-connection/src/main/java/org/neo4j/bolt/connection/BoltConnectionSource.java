@@ -16,6 +16,7 @@
  */
 package org.neo4j.bolt.connection;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -69,4 +70,20 @@ public interface BoltConnectionSource<T extends BoltConnectionParameters> {
      * @return the close {@link CompletionStage}
      */
     CompletionStage<Void> close();
+
+    /**
+     * Closes the {@link BoltConnectionSource} instance, closing up to the given number of connections concurrently.
+     * <p>
+     * Connections that have not been closed gracefully before the deadline are closed forcibly.
+     * <p>
+     * The default implementation delegates to {@link #close()} and reports an empty {@link CloseResult}.
+     *
+     * @param parallelism the maximum number of connections closed concurrently, must be positive
+     * @param deadline the maximum duration of graceful closure or {@code null} for no limit
+     * @return the close {@link CompletionStage} with the {@link CloseResult}
+     * @since 11.0.0
+     */
+    default CompletionStage<CloseResult> close(int parallelism, Duration deadline) {
+        return close().thenApply(ignored -> CloseResult.EMPTY);
+    }
 }
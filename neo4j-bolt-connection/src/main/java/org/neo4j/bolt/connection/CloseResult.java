@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+/**
+ * A result of {@link BoltConnectionSource} closure.
+ *
+ * @param gracefullyClosed the number of connections closed gracefully
+ * @param forciblyClosed the number of connections closed forcibly after the deadline was exceeded
+ * @since 11.0.0
+ */
+public record CloseResult(int gracefullyClosed, int forciblyClosed) {
+    /**
+     * A result with no connections closed.
+     */
+    public static final CloseResult EMPTY = new CloseResult(0, 0);
+
+    /**
+     * Returns a sum of this and the given result.
+     *
+     * @param other the other result
+     * @return the sum of both results
+     */
+    public CloseResult plus(CloseResult other) {
+        return new CloseResult(gracefullyClosed + other.gracefullyClosed, forciblyClosed + other.forciblyClosed);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+import java.util.List;
+import java.util.Objects;
+import org.neo4j.bolt.connection.message.Message;
+
+/**
+ * A single request of a pipelined batch that is written using
+ * {@link BoltConnection#writeAndFlushPipelined(List, org.neo4j.bolt.connection.observation.ImmutableObservation)}.
+ * <p>
+ * A typical auto-commit request consists of a {@link org.neo4j.bolt.connection.message.RunMessage} followed by a
+ * {@link org.neo4j.bolt.connection.message.PullMessage}.
+ *
+ * @param handler the handler that receives responses to the messages of this request only
+ * @param messages the messages of this request, must not be empty
+ * @since 11.0.0
+ */
+public record PipelinedRequest(ResponseHandler handler, List<Message> messages) {
+    public PipelinedRequest {
+        Objects.requireNonNull(handler, "handler");
+        messages = List.copyOf(messages);
+        if (messages.isEmpty()) {
+            throw new IllegalArgumentException("messages must not be empty");
+        }
+    }
+
+    public PipelinedRequest(ResponseHandler handler, Message... messages) {
+        this(handler, List.of(messages));
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import org.neo4j.bolt.connection.summary.BeginSummary;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
+import org.neo4j.bolt.connection.summary.LogoffSummary;
+import org.neo4j.bolt.connection.summary.LogonSummary;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+import org.neo4j.bolt.connection.summary.RollbackSummary;
+import org.neo4j.bolt.connection.summary.RouteSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.bolt.connection.summary.TelemetrySummary;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * Demultiplexes responses of a pipelined batch to the handlers of individual {@link PipelinedRequest} instances.
+ * <p>
+ * Every summary, error or ignored response is accounted to the request currently being answered. Once all of its
+ * messages have been answered, the request handler is completed and the following request becomes current.
+ * <p>
+ * Messages queued with {@link BoltConnection#write(List)} before the batch are answered first. Like with
+ * {@link BoltConnection#writeAndFlush(ResponseHandler, List, org.neo4j.bolt.connection.observation.ImmutableObservation)},
+ * their responses are delivered to the handler of the first request, but they are not accounted to its messages.
+ */
+final class PipelinedResponseHandler implements ResponseHandler {
+    private final List<PipelinedRequest> requests;
+    private int index;
+    private int pendingResponses;
+    private int queuedResponses;
+    private boolean currentFailed;
+    private Throwable error;
+
+    PipelinedResponseHandler(List<PipelinedRequest> requests) {
+        this.requests = Objects.requireNonNull(requests);
+        this.pendingResponses =
+                requests.isEmpty() ? 0 : requests.get(0).messages().size();
+    }
+
+    @Override
+    public void onQueuedMessages(int count) {
+        queuedResponses += count;
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (index < requests.size()) {
+            error = throwable;
+            currentFailed = true;
+            runIgnoringError(() -> current().onError(throwable));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onBeginSummary(BeginSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onBeginSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onRunSummary(RunSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onRunSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onRecord(List<Value> fields) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onRecord(fields));
+        }
+    }
+
+    @Override
+    public long recordBufferLimit() {
+        return index < requests.size() ? current().recordBufferLimit() : 0L;
+    }
+
+    @Override
+    public Path recordSpillDirectory() {
+        return index < requests.size() ? current().recordSpillDirectory() : null;
+    }
+
+    @Override
+    public void onRecordBuffer(RecordBuffer buffer) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onRecordBuffer(buffer));
+        } else {
+            buffer.close();
+        }
+    }
+
+    @Override
+    public void onPullSummary(PullSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onPullSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onDiscardSummary(DiscardSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onDiscardSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onCommitSummary(CommitSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onCommitSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onRollbackSummary(RollbackSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onRollbackSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onResetSummary(ResetSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onResetSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onRouteSummary(RouteSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onRouteSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onLogoffSummary(LogoffSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onLogoffSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onLogonSummary(LogonSummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onLogonSummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onTelemetrySummary(TelemetrySummary summary) {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onTelemetrySummary(summary));
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onIgnored() {
+        if (index < requests.size()) {
+            runIgnoringError(() -> current().onIgnored());
+            handleResponse();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        // the exchange may be terminated early by an unrecoverable error, the remaining requests are failed with it
+        while (index < requests.size()) {
+            var handler = current();
+            if (!currentFailed && error != null) {
+                runIgnoringError(() -> handler.onError(error));
+            }
+            runIgnoringError(handler::onComplete);
+            index++;
+            currentFailed = false;
+        }
+    }
+
+    private ResponseHandler current() {
+        return requests.get(index).handler();
+    }
+
+    private void handleResponse() {
+        if (queuedResponses > 0) {
+            queuedResponses--;
+            return;
+        }
+        pendingResponses--;
+        if (pendingResponses == 0) {
+            runIgnoringError(current()::onComplete);
+            index++;
+            currentFailed = false;
+            if (index < requests.size()) {
+                pendingResponses = requests.get(index).messages().size();
+            }
+        }
+    }
+
+    private void runIgnoringError(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Throwable ignored) {
+        }
+    }
+}
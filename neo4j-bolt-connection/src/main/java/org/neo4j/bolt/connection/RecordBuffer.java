@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+import java.util.List;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * A buffer of records kept in their encoded form, typically outside the Java heap.
+ * <p>
+ * The records are decoded lazily, each time they are iterated. The buffer MUST be closed once it is no longer needed
+ * to release the memory it holds. Iterating a closed buffer fails with {@link IllegalStateException}.
+ *
+ * @see ResponseHandler#recordBufferLimit()
+ * @since 11.0.0
+ */
+public interface RecordBuffer extends Iterable<List<Value>>, AutoCloseable {
+    /**
+     * Returns the number of records in the buffer.
+     *
+     * @return the number of records
+     */
+    long size();
+
+    /**
+     * Returns the number of bytes of memory held by the buffer, including its index.
+     *
+     * @return the memory usage in bytes, {@literal 0} once the buffer is closed
+     */
+    long memoryUsage();
+
+    /**
+     * Returns the number of bytes of records that have been spilled to a temporary file.
+     *
+     * @return the number of spilled bytes
+     * @see ResponseHandler#recordSpillDirectory()
+     */
+    default long spilledBytes() {
+        return 0L;
+    }
+
+    /**
+     * Releases the memory held by the buffer and deletes its temporary file if there is one. Subsequent calls have no
+     * effect.
+     */
+    @Override
+    void close();
+}
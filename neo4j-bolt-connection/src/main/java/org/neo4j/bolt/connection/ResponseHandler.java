@@ -16,6 +16,7 @@
  */
 package org.neo4j.bolt.connection;
 
+import java.nio.file.Path;
 import java.util.List;
 import org.neo4j.bolt.connection.summary.BeginSummary;
 import org.neo4j.bolt.connection.summary.CommitSummary;
@@ -32,6 +33,19 @@ import org.neo4j.bolt.connection.values.Value;
 
 public interface ResponseHandler {
 
+    /**
+     * Notifies the handler that the flush it is passed to also sends the given number of messages queued with
+     * {@link BoltConnection#write(List)} before it. The responses to these messages are received first.
+     * <p>
+     * It is called before any response is handled. Connections that do not queue messages never call it.
+     *
+     * @param count the number of queued messages
+     * @since 11.0.0
+     */
+    default void onQueuedMessages(int count) {
+        // ignored
+    }
+
     void onError(Throwable throwable);
 
     default void onBeginSummary(BeginSummary summary) {
@@ -46,6 +60,55 @@ public interface ResponseHandler {
         // ignored
     }
 
+    /**
+     * Returns the maximum number of bytes the connection may use to keep the records of a PULL in their encoded form in
+     * a {@link RecordBuffer} instead of delivering them to {@link #onRecord(List)}.
+     * <p>
+     * Connections that do not support record buffering deliver all records to {@link #onRecord(List)}.
+     *
+     * @return the maximum number of bytes, {@literal 0} to disable record buffering
+     * @since 11.0.0
+     */
+    default long recordBufferLimit() {
+        return 0L;
+    }
+
+    /**
+     * Returns the directory of the temporary file that records exceeding the {@link #recordBufferLimit()} are spilled
+     * to.
+     * <p>
+     * When set, the records are appended to the file in their encoded form, off the thread handling the connection IO,
+     * and the {@link RecordBuffer} replays them in order after the records kept in memory. Otherwise, the records exceeding the limit are delivered to
+     * {@link #onRecord(List)}.
+     *
+     * @return the directory or {@code null} to disable spilling
+     * @since 11.0.0
+     */
+    default Path recordSpillDirectory() {
+        return null;
+    }
+
+    /**
+     * Handles the {@link RecordBuffer} with the records of a PULL.
+     * <p>
+     * It is called before the {@link #onPullSummary(PullSummary)} or {@link #onError(Throwable)} of the PULL. When
+     * the records exceed the {@link #recordBufferLimit()}, it is called as soon as the limit is reached and the
+     * remaining records are delivered to {@link #onRecord(List)} afterwards or, when a
+     * {@link #recordSpillDirectory()} is set, spilled to the buffer until the PULL completes. In the latter case, the
+     * iterators of the buffer wait for the records that are not spilled yet, so they MUST NOT be used on the thread
+     * calling this handler before the PULL completes. A failure to spill the records is delivered to
+     * {@link #onError(Throwable)} instead of the summary of the PULL, or thrown by the iteration if it happens later.
+     * <p>
+     * The handler takes ownership of the buffer and is responsible for closing it. By default, the buffer is closed
+     * immediately.
+     *
+     * @param buffer the record buffer
+     * @since 11.0.0
+     */
+    default void onRecordBuffer(RecordBuffer buffer) {
+        buffer.close();
+    }
+
     default void onPullSummary(PullSummary summary) {
         // ignored
     }
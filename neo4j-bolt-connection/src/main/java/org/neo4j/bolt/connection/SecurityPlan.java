@@ -16,7 +16,10 @@
  */
 package org.neo4j.bolt.connection;
 
+import java.util.List;
+import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
 
 /**
  * A SecurityPlan consists of encryption and trust details.
@@ -46,4 +49,26 @@ public sealed interface SecurityPlan permits SecurityPlanImpl {
      * @return the expected hostname
      */
     String expectedHostname();
+
+    /**
+     * Returns the {@link KeyManager} instances the {@link #sslContext()} has been initialised with.
+     * <p>
+     * Transports that use a TLS engine other than the one provided by the {@link SSLContext}, like OpenSSL, need them to
+     * create an equivalent context. An empty list means that they are unknown, unless {@link #trustManagers()} are
+     * known too.
+     *
+     * @return the key managers, never {@code null}
+     * @since 11.0.0
+     */
+    List<KeyManager> keyManagers();
+
+    /**
+     * Returns the {@link TrustManager} instances the {@link #sslContext()} has been initialised with.
+     * <p>
+     * An empty list means that they are unknown and only the {@link #sslContext()} may be used.
+     *
+     * @return the trust managers, never {@code null}
+     * @since 11.0.0
+     */
+    List<TrustManager> trustManagers();
 }
@@ -16,15 +16,29 @@
  */
 package org.neo4j.bolt.connection;
 
+import java.util.List;
 import java.util.Objects;
+import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
 
 /**
  * A SecurityPlan consists of encryption and trust details.
  */
-record SecurityPlanImpl(SSLContext sslContext, boolean verifyHostname, String expectedHostname)
+record SecurityPlanImpl(
+        SSLContext sslContext,
+        boolean verifyHostname,
+        String expectedHostname,
+        List<KeyManager> keyManagers,
+        List<TrustManager> trustManagers)
         implements SecurityPlan {
     SecurityPlanImpl {
         Objects.requireNonNull(sslContext);
+        keyManagers = List.copyOf(keyManagers);
+        trustManagers = List.copyOf(trustManagers);
+    }
+
+    SecurityPlanImpl(SSLContext sslContext, boolean verifyHostname, String expectedHostname) {
+        this(sslContext, verifyHostname, expectedHostname, List.of(), List.of());
     }
 }
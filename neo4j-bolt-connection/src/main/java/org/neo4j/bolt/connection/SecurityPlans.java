@@ -18,8 +18,10 @@ package org.neo4j.bolt.connection;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
 import org.neo4j.bolt.connection.ssl.RevocationCheckingStrategy;
 import org.neo4j.bolt.connection.ssl.SSLContexts;
 import org.neo4j.bolt.connection.ssl.TrustManagerFactories;
@@ -34,6 +36,35 @@ public final class SecurityPlans {
         return new SecurityPlanImpl(sslContext, requiresHostnameVerification, hostnameForVerification);
     }
 
+    /**
+     * Creates a new {@link SecurityPlan} for the given key and trust managers.
+     * <p>
+     * Unlike the plans created from an existing {@link SSLContext}, this plan retains the managers, so that transports
+     * may use alternative TLS engines, like OpenSSL.
+     *
+     * @param keyManagers the key managers
+     * @param trustManagers the trust managers
+     * @param requiresHostnameVerification the hostname verification setting
+     * @param hostnameForVerification the hostname for verification or {@code null}
+     * @return the security plan
+     * @throws GeneralSecurityException if the {@link SSLContext} can not be created
+     * @since 11.0.0
+     */
+    public static SecurityPlan encrypted(
+            KeyManager[] keyManagers,
+            TrustManager[] trustManagers,
+            boolean requiresHostnameVerification,
+            String hostnameForVerification)
+            throws GeneralSecurityException {
+        var sslContext = SSLContexts.forTrustManagers(keyManagers, trustManagers);
+        return new SecurityPlanImpl(
+                sslContext,
+                requiresHostnameVerification,
+                hostnameForVerification,
+                Arrays.asList(keyManagers),
+                Arrays.asList(trustManagers));
+    }
+
     public static SecurityPlan encryptedForAnyCertificate() throws GeneralSecurityException {
         var sslContext = SSLContexts.forAnyCertificate(new KeyManager[0]);
         return encrypted(sslContext, false);
@@ -41,8 +72,7 @@ public final class SecurityPlans {
 
     public static SecurityPlan encryptedForSystemCASignedCertificates() throws GeneralSecurityException, IOException {
         var trustManagerFactory = TrustManagerFactories.forSystemCertificates(RevocationCheckingStrategy.NO_CHECKS);
-        var sslContext = SSLContexts.forTrustManagers(new KeyManager[0], trustManagerFactory.getTrustManagers());
-        return encrypted(sslContext, true);
+        return encrypted(new KeyManager[0], trustManagerFactory.getTrustManagers(), true, null);
     }
 
     private SecurityPlans() {}
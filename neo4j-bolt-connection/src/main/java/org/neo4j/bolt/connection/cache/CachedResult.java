@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+import java.util.List;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * A fully consumed result of an auto-commit RUN and PULL exchange.
+ */
+record CachedResult(RunSummary runSummary, List<List<Value>> records, PullSummary pullSummary) {
+    void replay(ResponseHandler handler) {
+        handler.onRunSummary(runSummary);
+        for (var record : records) {
+            handler.onRecord(record);
+        }
+        handler.onPullSummary(pullSummary);
+        handler.onComplete();
+    }
+}
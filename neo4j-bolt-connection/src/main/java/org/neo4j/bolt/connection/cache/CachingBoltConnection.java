@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.AuthInfo;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionState;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.BoltServerAddress;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.message.BeginMessage;
+import org.neo4j.bolt.connection.message.CommitMessage;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.PullMessage;
+import org.neo4j.bolt.connection.message.ResetMessage;
+import org.neo4j.bolt.connection.message.RollbackMessage;
+import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+
+/**
+ * A {@link BoltConnection} that serves auto-commit read results from a {@link ResultCache}.
+ * <p>
+ * A RUN message of an auto-commit read that is written without flushing is held back until the next flush, so that a
+ * RUN and PULL pair is recognized even when the messages are written separately. Other messages are written to the
+ * delegate straight away, along with a RUN message that is held back.
+ */
+final class CachingBoltConnection implements BoltConnection {
+    private final BoltConnection delegate;
+    private final ResultCache cache;
+    private final int maxRecords;
+    private final Object authToken;
+    private final List<Message> pendingMessages = new ArrayList<>();
+    // the database of the explicit transaction that has been started on this connection
+    private String transactionDatabase;
+    // the databases of the auto-commit and committed transactions of the messages that have not been flushed
+    private String autoCommitDatabase;
+    private String commitDatabase;
+    // messages have been written to the delegate without flushing, so the next flush must reach the delegate
+    private boolean delegateHasUnflushedMessages;
+
+    CachingBoltConnection(BoltConnection delegate, ResultCache cache, int maxRecords, Object authToken) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.maxRecords = maxRecords;
+        this.authToken = authToken;
+    }
+
+    @Override
+    public CompletionStage<Void> writeAndFlush(
+            ResponseHandler handler, List<Message> messages, ImmutableObservation parentObservation) {
+        List<Message> allMessages;
+        String autoCommitDatabase;
+        String commitDatabase;
+        boolean delegateHasUnflushedMessages;
+        synchronized (this) {
+            observe(messages);
+            allMessages = drainPendingMessages(messages);
+            autoCommitDatabase = this.autoCommitDatabase;
+            commitDatabase = this.commitDatabase;
+            delegateHasUnflushedMessages = this.delegateHasUnflushedMessages;
+            this.autoCommitDatabase = null;
+            this.commitDatabase = null;
+            this.delegateHasUnflushedMessages = false;
+        }
+
+        var key = delegateHasUnflushedMessages ? null : cacheKey(allMessages);
+        if (key != null) {
+            var result = cache.get(key);
+            if (result != null) {
+                result.replay(handler);
+                return CompletableFuture.completedStage(null);
+            }
+        }
+        var cachingHandler =
+                new CachingResponseHandler(handler, cache, key, maxRecords, autoCommitDatabase, commitDatabase);
+        return delegate.writeAndFlush(cachingHandler, allMessages, parentObservation);
+    }
+
+    @Override
+    public CompletionStage<Void> write(List<Message> messages) {
+        List<Message> allMessages;
+        synchronized (this) {
+            observe(messages);
+            if (pendingMessages.isEmpty() && !delegateHasUnflushedMessages && isCacheableRun(messages)) {
+                pendingMessages.addAll(messages);
+                return CompletableFuture.completedStage(null);
+            }
+            allMessages = drainPendingMessages(messages);
+            delegateHasUnflushedMessages = true;
+        }
+        return delegate.write(allMessages);
+    }
+
+    @Override
+    public CompletionStage<Void> forceClose(String reason) {
+        return writePendingMessages().thenCompose(ignored -> delegate.forceClose(reason));
+    }
+
+    @Override
+    public CompletionStage<Void> close() {
+        return writePendingMessages().thenCompose(ignored -> delegate.close());
+    }
+
+    private CompletionStage<Void> writePendingMessages() {
+        List<Message> messages;
+        synchronized (this) {
+            if (pendingMessages.isEmpty()) {
+                return CompletableFuture.completedStage(null);
+            }
+            messages = drainPendingMessages(List.of());
+        }
+        // the messages are handed over to the delegate, which decides what happens to unflushed messages on close
+        return delegate.write(messages).handle((ignored, throwable) -> null);
+    }
+
+    private void observe(List<Message> messages) {
+        for (var message : messages) {
+            if (message instanceof BeginMessage beginMessage) {
+                transactionDatabase = beginMessage.databaseName().orElse("");
+            } else if (message instanceof RunMessage runMessage
+                    && runMessage.extra().isPresent()) {
+                autoCommitDatabase = runMessage.extra().get().databaseName().orElse("");
+            } else if (message instanceof CommitMessage) {
+                commitDatabase = transactionDatabase != null ? transactionDatabase : "";
+                transactionDatabase = null;
+            } else if (message instanceof RollbackMessage || message instanceof ResetMessage) {
+                transactionDatabase = null;
+            }
+        }
+    }
+
+    private List<Message> drainPendingMessages(List<Message> messages) {
+        if (pendingMessages.isEmpty()) {
+            return messages;
+        }
+        var allMessages = new ArrayList<>(pendingMessages);
+        allMessages.addAll(messages);
+        pendingMessages.clear();
+        return allMessages;
+    }
+
+    @Override
+    public CompletionStage<Void> setReadTimeout(Duration duration) {
+        return delegate.setReadTimeout(duration);
+    }
+
+    @Override
+    public BoltConnectionState state() {
+        return delegate.state();
+    }
+
+    @Override
+    public CompletionStage<AuthInfo> authInfo() {
+        return delegate.authInfo();
+    }
+
+    @Override
+    public String serverAgent() {
+        return delegate.serverAgent();
+    }
+
+    @Override
+    public BoltServerAddress serverAddress() {
+        return delegate.serverAddress();
+    }
+
+    @Override
+    public BoltProtocolVersion protocolVersion() {
+        return delegate.protocolVersion();
+    }
+
+    @Override
+    public boolean telemetrySupported() {
+        return delegate.telemetrySupported();
+    }
+
+    @Override
+    public boolean serverSideRoutingEnabled() {
+        return delegate.serverSideRoutingEnabled();
+    }
+
+    @Override
+    public Optional<Duration> defaultReadTimeout() {
+        return delegate.defaultReadTimeout();
+    }
+
+    @Override
+    public Optional<Executor> ioExecutor() {
+        return delegate.ioExecutor();
+    }
+
+    private ResultCacheKey cacheKey(List<Message> messages) {
+        if (messages.size() == 2
+                && isCacheableRun(messages.subList(0, 1))
+                && messages.get(1) instanceof PullMessage pullMessage
+                && pullMessage.request() == -1) {
+            var runMessage = (RunMessage) messages.get(0);
+            return ResultCacheKey.of(runMessage, runMessage.extra().orElseThrow(), authToken);
+        }
+        return null;
+    }
+
+    private static boolean isCacheableRun(List<Message> messages) {
+        return messages.size() == 1
+                && messages.get(0) instanceof RunMessage runMessage
+                && runMessage.extra().isPresent()
+                && runMessage.extra().get().accessMode() == AccessMode.READ;
+    }
+}
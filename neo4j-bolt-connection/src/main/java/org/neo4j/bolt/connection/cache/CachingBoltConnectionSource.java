@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionParameters;
+import org.neo4j.bolt.connection.BoltConnectionSource;
+import org.neo4j.bolt.connection.CloseResult;
+
+/**
+ * A {@link BoltConnectionSource} decorator that caches the results of auto-commit read queries on the client.
+ * <p>
+ * A result is cached when a {@link org.neo4j.bolt.connection.message.RunMessage} of an auto-commit transaction in
+ * {@link org.neo4j.bolt.connection.AccessMode#READ} mode is flushed together with a
+ * {@link org.neo4j.bolt.connection.message.PullMessage} requesting all records and the result is consumed fully
+ * without errors. The cache key consists of the query, the parameters, the database, the bookmarks, the impersonated
+ * user and the auth token. Subsequent identical requests are answered from the cache without a network exchange.
+ * Please note that the connection is still acquired from the delegate source.
+ * <p>
+ * The entries expire after the configured time to live and the least recently used entries are evicted when the
+ * maximum number of entries is exceeded. Whenever a bookmark that differs from the previously observed one is received
+ * for a database, either from a commit or from an auto-commit transaction, the entries of that database are
+ * invalidated.
+ * <p>
+ * Since the cache cannot observe writes made by other clients, it must only be used for data that tolerates staleness
+ * up to the configured time to live.
+ *
+ * @param <T> the type of parameters supported
+ * @since 11.0.0
+ */
+public final class CachingBoltConnectionSource<T extends BoltConnectionParameters> implements BoltConnectionSource<T> {
+    private final BoltConnectionSource<T> delegate;
+    private final ResultCache cache;
+    private final int maxRecordsPerEntry;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate the delegate {@link BoltConnectionSource}
+     * @param ttl the time to live of the cached results, must be positive
+     * @param maxEntries the maximum number of the cached results, must be positive
+     * @param maxRecordsPerEntry the maximum number of records in a cached result, larger results are not cached
+     */
+    public CachingBoltConnectionSource(
+            BoltConnectionSource<T> delegate, Duration ttl, int maxEntries, int maxRecordsPerEntry) {
+        this(delegate, ttl, maxEntries, maxRecordsPerEntry, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate the delegate {@link BoltConnectionSource}
+     * @param ttl the time to live of the cached results, must be positive
+     * @param maxEntries the maximum number of the cached results, must be positive
+     * @param maxRecordsPerEntry the maximum number of records in a cached result, larger results are not cached
+     * @param clock the {@link Clock} used for expiration
+     */
+    public CachingBoltConnectionSource(
+            BoltConnectionSource<T> delegate, Duration ttl, int maxEntries, int maxRecordsPerEntry, Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate);
+        Objects.requireNonNull(ttl);
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (maxRecordsPerEntry < 0) {
+            throw new IllegalArgumentException("maxRecordsPerEntry must not be negative");
+        }
+        this.cache = new ResultCache(ttl.toMillis(), maxEntries, Objects.requireNonNull(clock));
+        this.maxRecordsPerEntry = maxRecordsPerEntry;
+    }
+
+    @Override
+    public CompletionStage<BoltConnection> getConnection() {
+        return delegate.getConnection().thenApply(connection -> wrap(connection, null));
+    }
+
+    @Override
+    public CompletionStage<BoltConnection> getConnection(T parameters) {
+        var authToken = parameters.authToken() != null
+                ? ResultCacheKey.canonicalize(parameters.authToken().asMap())
+                : null;
+        return delegate.getConnection(parameters).thenApply(connection -> wrap(connection, authToken));
+    }
+
+    @Override
+    public CompletionStage<Void> verifyConnectivity() {
+        return delegate.verifyConnectivity();
+    }
+
+    @Override
+    public CompletionStage<Boolean> supportsMultiDb() {
+        return delegate.supportsMultiDb();
+    }
+
+    @Override
+    public CompletionStage<Boolean> supportsSessionAuth() {
+        return delegate.supportsSessionAuth();
+    }
+
+    @Override
+    public CompletionStage<Void> close() {
+        cache.clear();
+        return delegate.close();
+    }
+
+    @Override
+    public CompletionStage<CloseResult> close(int parallelism, Duration deadline) {
+        cache.clear();
+        return delegate.close(parallelism, deadline);
+    }
+
+    /**
+     * Returns the statistics of the result cache.
+     *
+     * @return the statistics
+     */
+    public ResultCacheStatistics statistics() {
+        return cache.statistics();
+    }
+
+    private BoltConnection wrap(BoltConnection connection, Object authToken) {
+        return new CachingBoltConnection(connection, cache, maxRecordsPerEntry, authToken);
+    }
+}
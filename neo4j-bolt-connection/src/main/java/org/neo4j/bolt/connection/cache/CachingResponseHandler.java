@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.neo4j.bolt.connection.RecordBuffer;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.summary.BeginSummary;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
+import org.neo4j.bolt.connection.summary.LogoffSummary;
+import org.neo4j.bolt.connection.summary.LogonSummary;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.ResetSummary;
+import org.neo4j.bolt.connection.summary.RollbackSummary;
+import org.neo4j.bolt.connection.summary.RouteSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.bolt.connection.summary.TelemetrySummary;
+import org.neo4j.bolt.connection.values.Type;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * A {@link ResponseHandler} that records a cacheable result and observes the bookmarks of completed transactions.
+ * <p>
+ * A result is only stored when the server reports it as read-only.
+ */
+final class CachingResponseHandler implements ResponseHandler {
+    private final ResponseHandler delegate;
+    private final ResultCache cache;
+    private final ResultCacheKey key;
+    private final long generation;
+    private final int maxRecords;
+    private final String autoCommitDatabase;
+    private final String commitDatabase;
+
+    private List<List<Value>> records;
+    private RunSummary runSummary;
+    private PullSummary pullSummary;
+    private String bookmark;
+    private boolean failed;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param key the key of the result to record or {@code null} if the result is not cacheable
+     * @param autoCommitDatabase the database of the auto-commit transaction or {@code null} if there is none
+     * @param commitDatabase the database of the committed transaction or {@code null} if there is none
+     */
+    CachingResponseHandler(
+            ResponseHandler delegate,
+            ResultCache cache,
+            ResultCacheKey key,
+            int maxRecords,
+            String autoCommitDatabase,
+            String commitDatabase) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.key = key;
+        this.generation = cache.generation();
+        this.maxRecords = maxRecords;
+        this.autoCommitDatabase = autoCommitDatabase;
+        this.commitDatabase = commitDatabase;
+        this.records = key != null ? new ArrayList<>() : null;
+    }
+
+    @Override
+    public void onQueuedMessages(int count) {
+        delegate.onQueuedMessages(count);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        failed = true;
+        delegate.onError(throwable);
+    }
+
+    @Override
+    public void onBeginSummary(BeginSummary summary) {
+        delegate.onBeginSummary(summary);
+    }
+
+    @Override
+    public void onRunSummary(RunSummary summary) {
+        runSummary = summary;
+        delegate.onRunSummary(summary);
+    }
+
+    @Override
+    public void onRecord(List<Value> fields) {
+        if (records != null) {
+            if (records.size() < maxRecords) {
+                records.add(Collections.unmodifiableList(new ArrayList<>(fields)));
+            } else {
+                records = null;
+            }
+        }
+        delegate.onRecord(fields);
+    }
+
+    @Override
+    public long recordBufferLimit() {
+        // the records of a cacheable result must be delivered individually to be recorded
+        return key != null ? 0L : delegate.recordBufferLimit();
+    }
+
+    @Override
+    public Path recordSpillDirectory() {
+        return delegate.recordSpillDirectory();
+    }
+
+    @Override
+    public void onRecordBuffer(RecordBuffer buffer) {
+        delegate.onRecordBuffer(buffer);
+    }
+
+    @Override
+    public void onPullSummary(PullSummary summary) {
+        pullSummary = summary;
+        if (autoCommitDatabase != null && !summary.hasMore()) {
+            var bookmarkValue = summary.metadata().get("bookmark");
+            if (bookmarkValue != null && bookmarkValue.boltValueType() == Type.STRING) {
+                bookmark = bookmarkValue.asString();
+                // observed regardless of whether the result is stored, a write in read mode must still invalidate
+                cache.observeBookmark(autoCommitDatabase, bookmark);
+            }
+        }
+        delegate.onPullSummary(summary);
+    }
+
+    @Override
+    public void onDiscardSummary(DiscardSummary summary) {
+        delegate.onDiscardSummary(summary);
+    }
+
+    @Override
+    public void onCommitSummary(CommitSummary summary) {
+        if (commitDatabase != null) {
+            summary.bookmark().ifPresent(bookmark -> cache.observeBookmark(commitDatabase, bookmark));
+        }
+        delegate.onCommitSummary(summary);
+    }
+
+    @Override
+    public void onRollbackSummary(RollbackSummary summary) {
+        delegate.onRollbackSummary(summary);
+    }
+
+    @Override
+    public void onResetSummary(ResetSummary summary) {
+        delegate.onResetSummary(summary);
+    }
+
+    @Override
+    public void onRouteSummary(RouteSummary summary) {
+        delegate.onRouteSummary(summary);
+    }
+
+    @Override
+    public void onLogoffSummary(LogoffSummary summary) {
+        delegate.onLogoffSummary(summary);
+    }
+
+    @Override
+    public void onLogonSummary(LogonSummary summary) {
+        delegate.onLogonSummary(summary);
+    }
+
+    @Override
+    public void onTelemetrySummary(TelemetrySummary summary) {
+        delegate.onTelemetrySummary(summary);
+    }
+
+    @Override
+    public void onIgnored() {
+        failed = true;
+        delegate.onIgnored();
+    }
+
+    @Override
+    public void onComplete() {
+        if (key != null
+                && !failed
+                && records != null
+                && runSummary != null
+                && pullSummary != null
+                && !pullSummary.hasMore()
+                && isReadOnly(pullSummary)) {
+            cache.put(key, new CachedResult(runSummary, List.copyOf(records), pullSummary), bookmark, generation);
+        }
+        delegate.onComplete();
+    }
+
+    private static boolean isReadOnly(PullSummary summary) {
+        // the access mode is not enforced for auto-commit transactions, only the server knows what the query did
+        var type = summary.metadata().get("type");
+        return type != null && type.boltValueType() == Type.STRING && "r".equals(type.asString());
+    }
+}
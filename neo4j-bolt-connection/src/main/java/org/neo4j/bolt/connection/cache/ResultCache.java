@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache of results with time based expiration.
+ * <p>
+ * The cache tracks the latest bookmark observed for every database. A bookmark that differs from the previously
+ * observed one indicates a write, which invalidates the entries of the database as well as the entries of the default
+ * database, since the latter may refer to the same database.
+ */
+final class ResultCache {
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Clock clock;
+    private final LinkedHashMap<ResultCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, String> latestBookmarks = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    // incremented on every observed write, so that results read before it are not stored
+    private long generation;
+
+    ResultCache(long ttlMillis, int maxEntries, Clock clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    synchronized CachedResult get(ResultCacheKey key) {
+        var entry = entries.get(key);
+        if (entry != null && entry.expirationTimestamp <= clock.millis()) {
+            entries.remove(key);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.result;
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized void put(ResultCacheKey key, CachedResult result, String bookmark, long readGeneration) {
+        observeBookmark(key.database(), bookmark);
+        if (generation != readGeneration) {
+            // a write has been observed since the result was requested
+            return;
+        }
+        entries.put(key, new Entry(result, clock.millis() + ttlMillis));
+        var iterator = entries.values().iterator();
+        while (entries.size() > maxEntries) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    synchronized void observeBookmark(String database, String bookmark) {
+        if (bookmark == null) {
+            return;
+        }
+        var previousBookmark = latestBookmarks.put(database, bookmark);
+        if (previousBookmark != null && !previousBookmark.equals(bookmark)) {
+            generation++;
+            invalidate(database);
+        }
+    }
+
+    synchronized ResultCacheStatistics statistics() {
+        return new ResultCacheStatistics(hits, misses, evictions, invalidations, entries.size());
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        latestBookmarks.clear();
+    }
+
+    private void invalidate(String database) {
+        var iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            var entryDatabase = iterator.next().database();
+            if (database.isEmpty() || entryDatabase.isEmpty() || entryDatabase.equals(database)) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    private record Entry(CachedResult result, long expirationTimestamp) {}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.values.Value;
+
+/**
+ * A key of a cached result.
+ * <p>
+ * The parameters and auth token are converted to plain Java objects with content based equality, so that equal
+ * {@link Value} trees produce equal keys regardless of the {@link Value} implementation and map ordering.
+ */
+record ResultCacheKey(
+        String query,
+        Object parameters,
+        String database,
+        Set<String> bookmarks,
+        String impersonatedUser,
+        Object authToken) {
+
+    /**
+     * Creates a key for the given auto-commit {@link RunMessage}.
+     *
+     * @return the key or {@code null} if the message is not cacheable
+     */
+    static ResultCacheKey of(RunMessage runMessage, RunMessage.Extra extra, Object authToken) {
+        var parameters = canonicalize(runMessage.parameters());
+        if (parameters == null) {
+            return null;
+        }
+        return new ResultCacheKey(
+                runMessage.query(),
+                parameters,
+                extra.databaseName().orElse(""),
+                Set.copyOf(extra.bookmarks()),
+                extra.impersonatedUser().orElse(null),
+                authToken);
+    }
+
+    /**
+     * Converts the given map to an immutable tree of plain Java objects.
+     *
+     * @return the canonical map or {@code null} if it contains values that are not supported as parameters
+     */
+    static Map<String, Object> canonicalize(Map<String, Value> map) {
+        var canonical = new TreeMap<String, Object>();
+        for (var entry : map.entrySet()) {
+            var value = canonicalize(entry.getValue());
+            if (value == null) {
+                return null;
+            }
+            canonical.put(entry.getKey(), value);
+        }
+        return Collections.unmodifiableMap(canonical);
+    }
+
+    private static Object canonicalize(Value value) {
+        return switch (value.boltValueType()) {
+            case NULL -> NullValue.INSTANCE;
+            case BOOLEAN -> value.asBoolean();
+            case INTEGER -> value.asLong();
+            case FLOAT -> value.asDouble();
+            case STRING -> value.asString();
+            case BYTES -> ByteBuffer.wrap(value.asByteArray().clone());
+            case DATE -> value.asLocalDate();
+            case TIME -> value.asOffsetTime();
+            case LOCAL_TIME -> value.asLocalTime();
+            case LOCAL_DATE_TIME -> value.asLocalDateTime();
+            case DATE_TIME -> value.asZonedDateTime();
+            case DURATION -> {
+                var duration = value.asBoltIsoDuration();
+                yield new DurationValue(duration.months(), duration.days(), duration.seconds(), duration.nanoseconds());
+            }
+            case POINT -> {
+                var point = value.asBoltPoint();
+                yield new PointValue(point.srid(), point.x(), point.y(), point.z());
+            }
+            case LIST -> {
+                var list = new ArrayList<>(value.size());
+                for (var element : value.boltValues()) {
+                    var canonical = canonicalize(element);
+                    if (canonical == null) {
+                        yield null;
+                    }
+                    list.add(canonical);
+                }
+                yield Collections.unmodifiableList(list);
+            }
+            case MAP -> canonicalize(value.asBoltMap());
+            default -> null;
+        };
+    }
+
+    private enum NullValue {
+        INSTANCE
+    }
+
+    private record DurationValue(long months, long days, long seconds, int nanoseconds) {}
+
+    private record PointValue(int srid, double x, double y, double z) {}
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+/**
+ * A snapshot of {@link CachingBoltConnectionSource} statistics.
+ *
+ * @param hits the number of requests served from the cache
+ * @param misses the number of cacheable requests sent to the server
+ * @param evictions the number of entries removed because they expired or the cache exceeded its size
+ * @param invalidations the number of entries removed because a write has been observed
+ * @param size the current number of entries
+ * @since 11.0.0
+ */
+public record ResultCacheStatistics(long hits, long misses, long evictions, long invalidations, int size) {}
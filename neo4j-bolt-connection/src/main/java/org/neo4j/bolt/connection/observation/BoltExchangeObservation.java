@@ -30,6 +30,19 @@ public interface BoltExchangeObservation extends Observation {
      */
     BoltExchangeObservation onWrite(String messageName);
 
+    /**
+     * A notification of Bolt message encoding. It is emitted before the {@link #onWrite(String)} notification of
+     * the same message, when the encoded size is known.
+     *
+     * @param messageName the message name
+     * @param bytes the encoded message size in bytes
+     * @return this observation
+     * @since 11.0.0
+     */
+    default BoltExchangeObservation onEncode(String messageName, int bytes) {
+        return this;
+    }
+
     /**
      * A notification of Bolt RECORD receipt.
      *
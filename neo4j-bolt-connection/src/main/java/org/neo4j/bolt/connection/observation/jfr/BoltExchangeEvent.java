@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.neo4j.bolt.connection.BoltExchange")
+@Label("Bolt Exchange")
+@Category({"Neo4j", "Bolt Connection"})
+@Description("An exchange of Bolt messages, from the first message write to the last summary")
+final class BoltExchangeEvent extends Event {
+    @Label("Host")
+    String host;
+
+    @Label("Port")
+    int port;
+
+    @Label("Bolt Version")
+    String boltVersion;
+
+    @Label("Messages")
+    @Description("The names of the written messages in order")
+    String messages;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Records")
+    long records;
+
+    @Label("Error")
+    String error;
+}
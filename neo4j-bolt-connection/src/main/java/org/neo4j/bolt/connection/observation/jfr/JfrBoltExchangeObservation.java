@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.jfr;
+
+import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
+
+final class JfrBoltExchangeObservation implements BoltExchangeObservation {
+    private final BoltExchangeEvent event;
+    private final StringBuilder messages = new StringBuilder();
+
+    JfrBoltExchangeObservation(BoltExchangeEvent event) {
+        this.event = event;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation onEncode(String messageName, int bytes) {
+        event.bytesWritten += bytes;
+        return this;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation onWrite(String messageName) {
+        if (!messages.isEmpty()) {
+            messages.append(' ');
+        }
+        messages.append(messageName);
+        return this;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation onRecord() {
+        event.records++;
+        return this;
+    }
+
+    @Override
+    public BoltExchangeObservation onSummary(String messageName) {
+        return this;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation error(Throwable error) {
+        event.error = JfrObservation.describe(error);
+        return this;
+    }
+
+    @Override
+    public synchronized void stop() {
+        event.messages = messages.toString();
+        event.commit();
+    }
+}
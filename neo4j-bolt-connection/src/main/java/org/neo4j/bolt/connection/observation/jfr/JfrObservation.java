@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.jfr;
+
+import java.util.function.BiConsumer;
+import jdk.jfr.Event;
+import org.neo4j.bolt.connection.observation.Observation;
+
+/**
+ * An {@link Observation} that commits a JFR {@link Event} when stopped.
+ *
+ * @param <E> the event type
+ */
+final class JfrObservation<E extends Event> implements Observation {
+    private final E event;
+    private final BiConsumer<E, String> errorSetter;
+
+    JfrObservation(E event, BiConsumer<E, String> errorSetter) {
+        this.event = event;
+        this.errorSetter = errorSetter;
+        event.begin();
+    }
+
+    @Override
+    public synchronized Observation error(Throwable error) {
+        errorSetter.accept(event, describe(error));
+        return this;
+    }
+
+    @Override
+    public synchronized void stop() {
+        event.commit();
+    }
+
+    static String describe(Throwable error) {
+        var message = error.getMessage();
+        return message != null
+                ? error.getClass().getName() + ": " + message
+                : error.getClass().getName();
+    }
+}
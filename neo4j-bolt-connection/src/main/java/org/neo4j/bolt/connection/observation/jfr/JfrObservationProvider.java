@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.jfr;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import jdk.jfr.Event;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
+import org.neo4j.bolt.connection.observation.HttpExchangeObservation;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+import org.neo4j.bolt.connection.observation.Observation;
+import org.neo4j.bolt.connection.observation.ObservationProvider;
+
+/**
+ * An {@link ObservationProvider} that emits Java Flight Recorder events.
+ * <p>
+ * Every Bolt exchange is recorded as an {@code org.neo4j.bolt.connection.BoltExchange} event with the written message
+ * names, the number of bytes written and the number of records received. When the event is not enabled in any
+ * recording, a shared no-op observation is returned, so the cost of the provider is limited to the enablement check.
+ * <p>
+ * HTTP exchanges are not recorded.
+ * <p>
+ * The {@code jdk.jfr} module is an optional dependency, so it must be present in the runtime image and, on the module
+ * path, be resolved, for instance with {@code --add-modules jdk.jfr}.
+ *
+ * @since 11.0.0
+ */
+public class JfrObservationProvider implements ObservationProvider {
+    /**
+     * Creates a new instance.
+     */
+    public JfrObservationProvider() {}
+
+    @Override
+    public BoltExchangeObservation boltExchange(
+            ImmutableObservation observationParent,
+            String host,
+            int port,
+            BoltProtocolVersion boltVersion,
+            BiConsumer<String, String> setter) {
+        var event = new BoltExchangeEvent();
+        if (!event.isEnabled()) {
+            return NoOpObservation.INSTANCE;
+        }
+        event.begin();
+        event.host = host;
+        event.port = port;
+        event.boltVersion = boltVersion.toString();
+        return new JfrBoltExchangeObservation(event);
+    }
+
+    @Override
+    public HttpExchangeObservation httpExchange(
+            ImmutableObservation observationParent,
+            URI uri,
+            String method,
+            String uriTemplate,
+            BiConsumer<String, String> setter) {
+        return NoOpObservation.INSTANCE;
+    }
+
+    @Override
+    public ImmutableObservation scopedObservation() {
+        return null;
+    }
+
+    @Override
+    public <T> T supplyInScope(ImmutableObservation observation, Supplier<T> supplier) {
+        return supplier.get();
+    }
+
+    /**
+     * Returns an {@link Observation} that commits the given event when stopped or a no-op observation if the event is
+     * not enabled.
+     *
+     * @param event the event
+     * @param errorSetter the setter that records the observed error description in the event
+     * @return the observation
+     * @param <E> the event type
+     */
+    protected static <E extends Event> Observation observe(E event, BiConsumer<E, String> errorSetter) {
+        return event.isEnabled() ? new JfrObservation<>(event, errorSetter) : NoOpObservation.INSTANCE;
+    }
+
+    /**
+     * Returns a shared {@link Observation} that does nothing.
+     *
+     * @return the no-op observation
+     */
+    protected static Observation noOpObservation() {
+        return NoOpObservation.INSTANCE;
+    }
+
+    private enum NoOpObservation implements BoltExchangeObservation, HttpExchangeObservation {
+        INSTANCE;
+
+        @Override
+        public NoOpObservation onWrite(String messageName) {
+            return this;
+        }
+
+        @Override
+        public NoOpObservation onRecord() {
+            return this;
+        }
+
+        @Override
+        public NoOpObservation onSummary(String messageName) {
+            return this;
+        }
+
+        @Override
+        public NoOpObservation onHeaders(Map<String, List<String>> headers) {
+            return this;
+        }
+
+        @Override
+        public NoOpObservation onResponse(Response response) {
+            return this;
+        }
+
+        @Override
+        public NoOpObservation error(Throwable error) {
+            return this;
+        }
+
+        @Override
+        public void stop() {}
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.metrics;
+
+/**
+ * A point-in-time copy of a histogram recorded by {@link MetricsObservationProvider}.
+ * <p>
+ * Values are grouped into log-linear buckets with a relative error of at most 6.25%. Since the snapshot is taken
+ * without locking, values recorded concurrently may be partially reflected in it.
+ *
+ * @since 11.0.0
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of recorded values.
+     *
+     * @return the sum of recorded values
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest recorded value or {@code 0} if there are none
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of recorded values.
+     *
+     * @return the mean of recorded values or {@code 0} if there are none
+     */
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value at the given percentile.
+     * <p>
+     * The returned value is the upper bound of the bucket that contains the percentile, capped by {@link #max()}.
+     *
+     * @param percentile the percentile in the range from {@code 0} to {@code 100}
+     * @return the value at the given percentile or {@code 0} if there are none
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in the range from 0 to 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        var target = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        var seen = 0L;
+        for (var i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(Histogram.bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Supplies every non-empty bucket to the given consumer in ascending order.
+     *
+     * @param consumer the bucket consumer
+     */
+    public void forEachBucket(BucketConsumer consumer) {
+        for (var i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                consumer.accept(Histogram.bucketLowerBound(i), Histogram.bucketUpperBound(i), counts[i]);
+            }
+        }
+    }
+
+    /**
+     * A consumer of histogram buckets.
+     *
+     * @since 11.0.0
+     */
+    @FunctionalInterface
+    public interface BucketConsumer {
+        /**
+         * Accepts a bucket.
+         *
+         * @param lowerBound the smallest value in the bucket, inclusive
+         * @param upperBound the largest value in the bucket, inclusive
+         * @param count the number of values in the bucket
+         */
+        void accept(long lowerBound, long upperBound, long count);
+    }
+}
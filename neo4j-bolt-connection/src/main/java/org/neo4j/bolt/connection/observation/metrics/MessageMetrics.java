@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.metrics;
+
+final class MessageMetrics {
+    private final String host;
+    private final int port;
+    private final String messageName;
+    final Histogram timeToFirstRecord = new Histogram();
+    final Histogram timeToSummary = new Histogram();
+    final Histogram recordsPerResponse = new Histogram();
+    final Histogram bytesPerMessage = new Histogram();
+
+    MessageMetrics(String host, int port, String messageName) {
+        this.host = host;
+        this.port = port;
+        this.messageName = messageName;
+    }
+
+    MessageMetricsSnapshot snapshot() {
+        return new MessageMetricsSnapshot(
+                host,
+                port,
+                messageName,
+                timeToFirstRecord.snapshot(),
+                timeToSummary.snapshot(),
+                recordsPerResponse.snapshot(),
+                bytesPerMessage.snapshot());
+    }
+}
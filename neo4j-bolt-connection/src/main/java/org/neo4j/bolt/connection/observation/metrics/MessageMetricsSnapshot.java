@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.metrics;
+
+/**
+ * A point-in-time copy of metrics recorded by {@link MetricsObservationProvider} for a given Bolt message type and
+ * server address.
+ * <p>
+ * Durations are measured in nanoseconds from the message write notification.
+ *
+ * @param host the server host
+ * @param port the server port
+ * @param messageName the Bolt message name, for instance {@code RUN} or {@code PULL}
+ * @param timeToFirstRecord the time to the first {@code RECORD} of a response, only recorded for responses with
+ *                          records
+ * @param timeToSummary the time to the summary of a response
+ * @param recordsPerResponse the number of {@code RECORD} messages per response
+ * @param bytesPerMessage the encoded size of the request message, including chunk headers and message boundary
+ * @since 11.0.0
+ */
+public record MessageMetricsSnapshot(
+        String host,
+        int port,
+        String messageName,
+        HistogramSnapshot timeToFirstRecord,
+        HistogramSnapshot timeToSummary,
+        HistogramSnapshot recordsPerResponse,
+        HistogramSnapshot bytesPerMessage) {}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.metrics;
+
+import java.util.function.LongSupplier;
+import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
+
+/**
+ * Tracks the responses pending in a single Bolt exchange.
+ * <p>
+ * Bolt responses arrive in the order the requests have been written, so the pending responses are kept in a FIFO ring
+ * that is only resized when an exchange pipelines more messages than it has seen before.
+ * <p>
+ * An instance is created per exchange rather than reused per connection, since
+ * {@link org.neo4j.bolt.connection.observation.ObservationProvider#boltExchange} does not identify the connection and
+ * notifications may still arrive after {@link #stop()}, which would be attributed to another exchange of a reused
+ * instance. The instance and its small ring are short-lived.
+ */
+final class MetricsBoltExchangeObservation implements BoltExchangeObservation {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final ServerMetrics serverMetrics;
+    private final LongSupplier nanoClock;
+
+    private MessageMetrics[] pendingMetrics = new MessageMetrics[INITIAL_CAPACITY];
+    private long[] pendingWriteNanos = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+    private long records;
+    private boolean stopped;
+
+    MetricsBoltExchangeObservation(ServerMetrics serverMetrics, LongSupplier nanoClock) {
+        this.serverMetrics = serverMetrics;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation onEncode(String messageName, int bytes) {
+        serverMetrics.messageMetrics(messageName).bytesPerMessage.record(bytes);
+        return this;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation onWrite(String messageName) {
+        if (!stopped) {
+            if (size == pendingMetrics.length) {
+                grow();
+            }
+            var index = (head + size) % pendingMetrics.length;
+            pendingMetrics[index] = serverMetrics.messageMetrics(messageName);
+            pendingWriteNanos[index] = nanoClock.getAsLong();
+            size++;
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation onRecord() {
+        if (size > 0) {
+            if (records == 0) {
+                pendingMetrics[head].timeToFirstRecord.record(nanoClock.getAsLong() - pendingWriteNanos[head]);
+            }
+            records++;
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation onSummary(String messageName) {
+        var metrics = serverMetrics.messageMetrics(messageName);
+        // skip responses that have not been reported, for instance due to a failure
+        while (size > 0 && pendingMetrics[head] != metrics) {
+            poll();
+        }
+        if (size > 0) {
+            metrics.timeToSummary.record(nanoClock.getAsLong() - pendingWriteNanos[head]);
+            metrics.recordsPerResponse.record(records);
+            poll();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized BoltExchangeObservation error(Throwable error) {
+        clear();
+        return this;
+    }
+
+    @Override
+    public synchronized void stop() {
+        stopped = true;
+        clear();
+    }
+
+    private void poll() {
+        pendingMetrics[head] = null;
+        head = (head + 1) % pendingMetrics.length;
+        size--;
+        records = 0;
+    }
+
+    private void clear() {
+        while (size > 0) {
+            poll();
+        }
+    }
+
+    private void grow() {
+        var capacity = pendingMetrics.length * 2;
+        var metrics = new MessageMetrics[capacity];
+        var writeNanos = new long[capacity];
+        for (var i = 0; i < size; i++) {
+            var index = (head + i) % pendingMetrics.length;
+            metrics[i] = pendingMetrics[index];
+            writeNanos[i] = pendingWriteNanos[index];
+        }
+        pendingMetrics = metrics;
+        pendingWriteNanos = writeNanos;
+        head = 0;
+    }
+}
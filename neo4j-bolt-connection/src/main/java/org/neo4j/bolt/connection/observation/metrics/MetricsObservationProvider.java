@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.metrics;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+import org.neo4j.bolt.connection.observation.BoltExchangeObservation;
+import org.neo4j.bolt.connection.observation.HttpExchangeObservation;
+import org.neo4j.bolt.connection.observation.ImmutableObservation;
+import org.neo4j.bolt.connection.observation.ObservationProvider;
+
+/**
+ * An {@link ObservationProvider} that aggregates Bolt exchange notifications into histograms.
+ * <p>
+ * The following histograms are maintained per Bolt message type and server address:
+ * <ul>
+ *     <li>time to first record - nanoseconds from a message write to the first {@code RECORD} of its response</li>
+ *     <li>time to summary - nanoseconds from a message write to its summary</li>
+ *     <li>records per response - the number of {@code RECORD} messages in a response</li>
+ *     <li>bytes per message - the encoded size of a message, when reported by the connection</li>
+ * </ul>
+ * <p>
+ * The histograms have a fixed size and are updated with atomic increments, so recording does not allocate or lock
+ * once a message type has been seen for a given server. The {@link #snapshot()} may be called from any thread at any
+ * time, for instance by a metrics scraper, and does not block recording.
+ * <p>
+ * HTTP exchanges are not measured.
+ *
+ * @since 11.0.0
+ */
+public final class MetricsObservationProvider implements ObservationProvider {
+    private final Map<String, ServerMetrics[]> serverMetrics = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates a new provider that uses {@link System#nanoTime()}.
+     */
+    public MetricsObservationProvider() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a new provider that uses the given nanosecond clock.
+     *
+     * @param nanoClock the clock returning nanoseconds, must be monotonic
+     */
+    public MetricsObservationProvider(LongSupplier nanoClock) {
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+    }
+
+    @Override
+    public BoltExchangeObservation boltExchange(
+            ImmutableObservation observationParent,
+            String host,
+            int port,
+            BoltProtocolVersion boltVersion,
+            BiConsumer<String, String> setter) {
+        return new MetricsBoltExchangeObservation(serverMetrics(host, port), nanoClock);
+    }
+
+    @Override
+    public HttpExchangeObservation httpExchange(
+            ImmutableObservation observationParent,
+            URI uri,
+            String method,
+            String uriTemplate,
+            BiConsumer<String, String> setter) {
+        return NoOpHttpExchangeObservation.INSTANCE;
+    }
+
+    @Override
+    public ImmutableObservation scopedObservation() {
+        return null;
+    }
+
+    @Override
+    public <T> T supplyInScope(ImmutableObservation observation, Supplier<T> supplier) {
+        return supplier.get();
+    }
+
+    /**
+     * Returns a snapshot of metrics for every message type and server address seen so far.
+     *
+     * @return the list of snapshots
+     */
+    public List<MessageMetricsSnapshot> snapshot() {
+        var snapshots = new ArrayList<MessageMetricsSnapshot>();
+        for (var hostMetrics : serverMetrics.values()) {
+            for (var metrics : hostMetrics) {
+                for (var messageMetrics : metrics.messageMetrics()) {
+                    snapshots.add(messageMetrics.snapshot());
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    private ServerMetrics serverMetrics(String host, int port) {
+        // servers are keyed by host and then scanned by port to avoid allocating a composite key per exchange
+        var hostMetrics = serverMetrics.get(host);
+        if (hostMetrics != null) {
+            for (var metrics : hostMetrics) {
+                if (metrics.port() == port) {
+                    return metrics;
+                }
+            }
+        }
+        var result = new ServerMetrics[1];
+        serverMetrics.compute(host, (ignored, existing) -> {
+            if (existing != null) {
+                for (var metrics : existing) {
+                    if (metrics.port() == port) {
+                        result[0] = metrics;
+                        return existing;
+                    }
+                }
+            }
+            result[0] = new ServerMetrics(host, port);
+            if (existing == null) {
+                return new ServerMetrics[] {result[0]};
+            }
+            var updated = Arrays.copyOf(existing, existing.length + 1);
+            updated[existing.length] = result[0];
+            return updated;
+        });
+        return result[0];
+    }
+
+    private enum NoOpHttpExchangeObservation implements HttpExchangeObservation {
+        INSTANCE;
+
+        @Override
+        public HttpExchangeObservation onHeaders(Map<String, List<String>> headers) {
+            return this;
+        }
+
+        @Override
+        public HttpExchangeObservation onResponse(Response response) {
+            return this;
+        }
+
+        @Override
+        public HttpExchangeObservation error(Throwable error) {
+            return this;
+        }
+
+        @Override
+        public void stop() {}
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.metrics;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ServerMetrics {
+    private final String host;
+    private final int port;
+    private final ConcurrentHashMap<String, MessageMetrics> messageMetrics = new ConcurrentHashMap<>();
+
+    ServerMetrics(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    int port() {
+        return port;
+    }
+
+    MessageMetrics messageMetrics(String messageName) {
+        // the lookup is done first to avoid allocating a mapping function for existing message types
+        var metrics = messageMetrics.get(messageName);
+        if (metrics == null) {
+            metrics = messageMetrics.computeIfAbsent(messageName, name -> new MessageMetrics(host, port, name));
+        }
+        return metrics;
+    }
+
+    Collection<MessageMetrics> messageMetrics() {
+        return messageMetrics.values();
+    }
+}
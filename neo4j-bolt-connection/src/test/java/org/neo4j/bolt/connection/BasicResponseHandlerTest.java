@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.values.Value;
+
+class BasicResponseHandlerTest {
+    @Test
+    void shouldHandOverSingleRecordBuffer() {
+        // given
+        var handler = new BasicResponseHandler(1024);
+        var buffer = mock(RecordBuffer.class);
+        List<Value> record = List.of(mock(Value.class));
+
+        // when
+        handler.onRecordBuffer(buffer);
+        handler.onRecord(record);
+        handler.onPullSummary(mock(PullSummary.class));
+        handler.onComplete();
+
+        // then
+        var summaries = handler.summaries().toCompletableFuture().join();
+        assertSame(buffer, summaries.recordBuffer());
+        assertEquals(List.of(record), summaries.valuesList());
+    }
+
+    @Test
+    void shouldCombineRecordBuffersWithoutReadingThem() {
+        // given
+        var handler = new BasicResponseHandler(1024);
+        List<Value> record1 = List.of(mock(Value.class));
+        List<Value> record2 = List.of(mock(Value.class));
+        List<Value> record3 = List.of(mock(Value.class));
+        List<Value> record4 = List.of(mock(Value.class));
+        var buffer1 = recordBuffer(record1);
+        var buffer2 = recordBuffer(record3);
+
+        // when
+        handler.onRecordBuffer(buffer1);
+        handler.onRecord(record2);
+        handler.onPullSummary(mock(PullSummary.class));
+        handler.onRecordBuffer(buffer2);
+        handler.onRecord(record4);
+        handler.onPullSummary(mock(PullSummary.class));
+        handler.onComplete();
+
+        // then
+        then(buffer1).should(never()).iterator();
+        then(buffer2).should(never()).iterator();
+        var summaries = handler.summaries().toCompletableFuture().join();
+        var recordBuffer = summaries.recordBuffer();
+        assertEquals(3, recordBuffer.size());
+        var records = new ArrayList<List<Value>>();
+        recordBuffer.forEach(records::add);
+        assertEquals(List.of(record1, record2, record3), records);
+        assertEquals(List.of(record4), summaries.valuesList());
+
+        // when
+        recordBuffer.close();
+
+        // then
+        then(buffer1).should().close();
+        then(buffer2).should().close();
+    }
+
+    private static RecordBuffer recordBuffer(List<Value> record) {
+        var buffer = mock(RecordBuffer.class);
+        given(buffer.size()).willReturn(1L);
+        given(buffer.iterator()).willAnswer(invocation -> List.of(record).iterator());
+        return buffer;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.exception.BoltClientException;
+import org.neo4j.bolt.connection.exception.BoltServiceUnavailableException;
+import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.bolt.connection.values.Value;
+
+class BlockingBoltConnectionTest {
+    @Test
+    void shouldWaitForSummaries() throws Exception {
+        // given
+        var connection = mock(BoltConnection.class);
+        var runSummary = mock(RunSummary.class);
+        var pullSummary = mock(PullSummary.class);
+        List<Value> record = List.of(mock(Value.class));
+        var executor = Executors.newSingleThreadExecutor();
+        given(connection.writeAndFlush(any(), anyList(), any())).willAnswer(invocation -> {
+            ResponseHandler handler = invocation.getArgument(0);
+            executor.execute(() -> {
+                handler.onRunSummary(runSummary);
+                handler.onRecord(record);
+                handler.onPullSummary(pullSummary);
+                handler.onComplete();
+            });
+            return CompletableFuture.completedStage(null);
+        });
+        var blockingConnection = new BlockingBoltConnection(connection);
+
+        // when
+        BasicResponseHandler.Summaries summaries;
+        try {
+            summaries = blockingConnection.execute(List.of(Messages.run("RETURN 1", Map.of()), Messages.pull(-1, -1)));
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertSame(runSummary, summaries.runSummary());
+        assertEquals(List.of(record), summaries.valuesList());
+        assertSame(pullSummary, summaries.pullSummary());
+    }
+
+    @Test
+    void shouldRethrowUnwrappedFailure() {
+        // given
+        var connection = mock(BoltConnection.class);
+        var error = new BoltServiceUnavailableException("unavailable");
+        given(connection.close()).willReturn(CompletableFuture.failedStage(error));
+        var blockingConnection = new BlockingBoltConnection(connection);
+
+        // when
+        var thrown = assertThrows(BoltServiceUnavailableException.class, blockingConnection::close);
+
+        // then
+        assertSame(error, thrown);
+    }
+
+    @Test
+    void shouldRestoreInterruptStatus() {
+        // given
+        var connection = mock(BoltConnection.class);
+        given(connection.close()).willReturn(new CompletableFuture<>());
+        var blockingConnection = new BlockingBoltConnection(connection);
+        Thread.currentThread().interrupt();
+
+        // when
+        var thrown = assertThrows(BoltClientException.class, blockingConnection::close);
+
+        // then
+        assertTrue(Thread.interrupted());
+        assertInstanceOf(InterruptedException.class, thrown.getCause());
+    }
+
+    @Test
+    void shouldServeConcurrentBlockingCallers() throws Exception {
+        // given
+        var source = mock(BoltConnectionSource.class);
+        var connection = mock(BoltConnection.class);
+        given(source.getConnection(any())).willAnswer(invocation -> CompletableFuture.supplyAsync(() -> connection));
+        given(connection.close()).willAnswer(invocation -> CompletableFuture.runAsync(() -> {}));
+        var executor = Executors.newFixedThreadPool(64);
+
+        // when
+        var futures = new ArrayList<Future<?>>();
+        try {
+            for (var i = 0; i < 1000; i++) {
+                futures.add(executor.submit(() -> {
+                    @SuppressWarnings("unchecked")
+                    var typedSource = (BoltConnectionSource<BoltConnectionParameters>) source;
+                    try (var blockingConnection =
+                            BlockingBoltConnection.acquire(typedSource, BoltConnectionParameters.defaultParameters())) {
+                        assertSame(connection, blockingConnection.connection());
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        then(connection).should(times(1000)).close();
+    }
+}
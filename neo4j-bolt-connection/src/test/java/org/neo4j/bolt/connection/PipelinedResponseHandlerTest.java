@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.bolt.connection.values.Value;
+
+class PipelinedResponseHandlerTest {
+    @Test
+    void shouldDispatchResponsesToRequestsInOrder() {
+        var handler1 = mock(ResponseHandler.class);
+        var handler2 = mock(ResponseHandler.class);
+        var handler = new PipelinedResponseHandler(List.of(runAndPull(handler1), runAndPull(handler2)));
+        var runSummary1 = mock(RunSummary.class);
+        var runSummary2 = mock(RunSummary.class);
+        var pullSummary1 = mock(PullSummary.class);
+        var pullSummary2 = mock(PullSummary.class);
+        List<Value> record1 = List.of(mock(Value.class));
+        List<Value> record2 = List.of(mock(Value.class));
+
+        handler.onRunSummary(runSummary1);
+        handler.onRecord(record1);
+        handler.onPullSummary(pullSummary1);
+        handler.onRunSummary(runSummary2);
+        handler.onRecord(record2);
+        handler.onPullSummary(pullSummary2);
+        handler.onComplete();
+
+        var inOrder = inOrder(handler1, handler2);
+        inOrder.verify(handler1).onRunSummary(runSummary1);
+        inOrder.verify(handler1).onRecord(record1);
+        inOrder.verify(handler1).onPullSummary(pullSummary1);
+        inOrder.verify(handler1).onComplete();
+        inOrder.verify(handler2).onRunSummary(runSummary2);
+        inOrder.verify(handler2).onRecord(record2);
+        inOrder.verify(handler2).onPullSummary(pullSummary2);
+        inOrder.verify(handler2).onComplete();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void shouldDispatchIgnoredResponsesAfterFailure() {
+        var handler1 = mock(ResponseHandler.class);
+        var handler2 = mock(ResponseHandler.class);
+        var handler3 = mock(ResponseHandler.class);
+        var handler =
+                new PipelinedResponseHandler(List.of(runAndPull(handler1), runAndPull(handler2), runAndPull(handler3)));
+        var error = new RuntimeException("failure");
+
+        handler.onRunSummary(mock(RunSummary.class));
+        handler.onPullSummary(mock(PullSummary.class));
+        handler.onError(error);
+        handler.onIgnored();
+        handler.onIgnored();
+        handler.onIgnored();
+        handler.onComplete();
+
+        then(handler1).should(never()).onError(any());
+        then(handler1).should().onComplete();
+        then(handler2).should().onError(error);
+        then(handler2).should().onIgnored();
+        then(handler2).should().onComplete();
+        then(handler3).should(never()).onError(any());
+        then(handler3).should(times(2)).onIgnored();
+        then(handler3).should().onComplete();
+    }
+
+    @Test
+    void shouldFailOutstandingRequestsOnUnrecoverableError() {
+        var handler1 = mock(ResponseHandler.class);
+        var handler2 = mock(ResponseHandler.class);
+        var handler3 = mock(ResponseHandler.class);
+        var handler =
+                new PipelinedResponseHandler(List.of(runAndPull(handler1), runAndPull(handler2), runAndPull(handler3)));
+        var error = new RuntimeException("connection failure");
+
+        handler.onRunSummary(mock(RunSummary.class));
+        handler.onPullSummary(mock(PullSummary.class));
+        handler.onError(error);
+        handler.onComplete();
+
+        then(handler1).should(never()).onError(any());
+        then(handler1).should().onComplete();
+        then(handler2).should().onError(error);
+        then(handler2).should().onComplete();
+        then(handler3).should().onError(error);
+        then(handler3).should().onComplete();
+    }
+
+    @Test
+    void shouldContinueDispatchingWhenHandlerThrows() {
+        var handler1 = mock(ResponseHandler.class);
+        var handler2 = mock(ResponseHandler.class);
+        var runSummary = mock(RunSummary.class);
+        doThrow(new RuntimeException()).when(handler1).onComplete();
+        var handler = new PipelinedResponseHandler(List.of(
+                new PipelinedRequest(handler1, Messages.run("RETURN 1", Map.of())),
+                new PipelinedRequest(handler2, Messages.run("RETURN 2", Map.of()))));
+
+        handler.onRunSummary(mock(RunSummary.class));
+        handler.onRunSummary(runSummary);
+        handler.onComplete();
+
+        then(handler2).should().onRunSummary(runSummary);
+        then(handler2).should().onComplete();
+    }
+
+    @Test
+    void shouldNotAccountQueuedMessagesToFirstRequest() {
+        var handler1 = mock(ResponseHandler.class);
+        var handler2 = mock(ResponseHandler.class);
+        var handler = new PipelinedResponseHandler(List.of(runAndPull(handler1), runAndPull(handler2)));
+        var queuedSummary = mock(RunSummary.class);
+        var runSummary1 = mock(RunSummary.class);
+        var runSummary2 = mock(RunSummary.class);
+        var pullSummary1 = mock(PullSummary.class);
+        var pullSummary2 = mock(PullSummary.class);
+
+        handler.onQueuedMessages(1);
+        handler.onRunSummary(queuedSummary);
+        handler.onRunSummary(runSummary1);
+        handler.onPullSummary(pullSummary1);
+        handler.onRunSummary(runSummary2);
+        handler.onPullSummary(pullSummary2);
+        handler.onComplete();
+
+        var inOrder = inOrder(handler1, handler2);
+        inOrder.verify(handler1).onRunSummary(queuedSummary);
+        inOrder.verify(handler1).onRunSummary(runSummary1);
+        inOrder.verify(handler1).onPullSummary(pullSummary1);
+        inOrder.verify(handler1).onComplete();
+        inOrder.verify(handler2).onRunSummary(runSummary2);
+        inOrder.verify(handler2).onPullSummary(pullSummary2);
+        inOrder.verify(handler2).onComplete();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void shouldDelegateRecordBufferToCurrentRequest() {
+        var handler1 = mock(ResponseHandler.class);
+        var handler2 = mock(ResponseHandler.class);
+        given(handler1.recordBufferLimit()).willReturn(1L);
+        given(handler2.recordBufferLimit()).willReturn(2L);
+        var handler = new PipelinedResponseHandler(List.of(runAndPull(handler1), runAndPull(handler2)));
+        var buffer = mock(RecordBuffer.class);
+
+        var limit1 = handler.recordBufferLimit();
+        handler.onRunSummary(mock(RunSummary.class));
+        handler.onPullSummary(mock(PullSummary.class));
+        handler.onRunSummary(mock(RunSummary.class));
+        var limit2 = handler.recordBufferLimit();
+        handler.onRecordBuffer(buffer);
+
+        assertEquals(1L, limit1);
+        assertEquals(2L, limit2);
+        then(handler1).should(never()).onRecordBuffer(any());
+        then(handler2).should().onRecordBuffer(buffer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteAllRequestMessagesInSingleFlush() {
+        var connection = mock(BoltConnection.class);
+        given(connection.writeAndFlushPipelined(anyList(), any())).willCallRealMethod();
+        given(connection.writeAndFlush(any(), anyList(), any())).willReturn(CompletableFuture.completedStage(null));
+        var request1 = runAndPull(mock(ResponseHandler.class));
+        var request2 = runAndPull(mock(ResponseHandler.class));
+
+        connection.writeAndFlushPipelined(List.of(request1, request2), null);
+
+        var messagesCaptor = ArgumentCaptor.forClass(List.class);
+        then(connection).should().writeAndFlush(any(PipelinedResponseHandler.class), messagesCaptor.capture(), any());
+        List<Message> expected = new ArrayList<>(request1.messages());
+        expected.addAll(request2.messages());
+        assertEquals(expected, messagesCaptor.getValue());
+    }
+
+    private static PipelinedRequest runAndPull(ResponseHandler handler) {
+        return new PipelinedRequest(handler, Messages.run("RETURN 1", Map.of()), Messages.pull(-1, -1));
+    }
+}
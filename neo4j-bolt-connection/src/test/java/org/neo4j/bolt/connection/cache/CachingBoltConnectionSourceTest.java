@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionParameters;
+import org.neo4j.bolt.connection.BoltConnectionSource;
+import org.neo4j.bolt.connection.CloseResult;
+import org.neo4j.bolt.connection.ResponseHandler;
+import org.neo4j.bolt.connection.TransactionType;
+import org.neo4j.bolt.connection.message.CommitMessage;
+import org.neo4j.bolt.connection.message.Message;
+import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.message.PullMessage;
+import org.neo4j.bolt.connection.message.RunMessage;
+import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.PullSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
+import org.neo4j.bolt.connection.values.Type;
+import org.neo4j.bolt.connection.values.Value;
+
+class CachingBoltConnectionSourceTest {
+    BoltConnectionSource<BoltConnectionParameters> delegateSource;
+    BoltConnection delegateConnection;
+    Clock clock;
+    List<Value> record;
+    String commitBookmark;
+    String autoCommitBookmark;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        delegateSource = mock(BoltConnectionSource.class);
+        delegateConnection = mock(BoltConnection.class);
+        clock = mock(Clock.class);
+        record = List.of(mock(Value.class));
+        given(delegateSource.getConnection()).willReturn(CompletableFuture.completedStage(delegateConnection));
+        given(delegateConnection.writeAndFlush(any(), anyList(), any())).willAnswer(invocation -> {
+            ResponseHandler handler = invocation.getArgument(0);
+            List<Message> messages = invocation.getArgument(1);
+            String queryType = null;
+            for (var message : messages) {
+                if (message instanceof RunMessage runMessage) {
+                    queryType = runMessage.query().startsWith("CREATE") ? "w" : "r";
+                    handler.onRunSummary(mock(RunSummary.class));
+                } else if (message instanceof PullMessage) {
+                    handler.onRecord(record);
+                    handler.onPullSummary(pullSummary(queryType, autoCommitBookmark));
+                } else if (message instanceof CommitMessage) {
+                    var commitSummary = mock(CommitSummary.class);
+                    given(commitSummary.bookmark()).willReturn(Optional.of(commitBookmark));
+                    handler.onCommitSummary(commitSummary);
+                }
+            }
+            handler.onComplete();
+            return CompletableFuture.completedStage(null);
+        });
+    }
+
+    @Test
+    void shouldServeCachedResultWithoutNetworkExchange() {
+        // given
+        var source = newSource(10);
+        var handler = mock(ResponseHandler.class);
+
+        // when
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+        read(source, "RETURN 1", handler);
+
+        // then
+        then(delegateConnection).should(times(1)).writeAndFlush(any(), anyList(), any());
+        then(handler).should().onRecord(record);
+        then(handler).should().onComplete();
+        assertEquals(new ResultCacheStatistics(1, 1, 0, 0, 1), source.statistics());
+    }
+
+    @Test
+    void shouldExpireResults() {
+        // given
+        var source = newSource(10);
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+        given(clock.millis()).willReturn(Duration.ofMinutes(1).toMillis());
+
+        // when
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+
+        // then
+        then(delegateConnection).should(times(2)).writeAndFlush(any(), anyList(), any());
+        assertEquals(new ResultCacheStatistics(0, 2, 1, 0, 1), source.statistics());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResults() {
+        // given
+        var source = newSource(1);
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+
+        // when
+        read(source, "RETURN 2", mock(ResponseHandler.class));
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+
+        // then
+        then(delegateConnection).should(times(3)).writeAndFlush(any(), anyList(), any());
+        assertEquals(new ResultCacheStatistics(0, 3, 2, 0, 1), source.statistics());
+    }
+
+    @ParameterizedTest
+    @EnumSource(AccessMode.class)
+    void shouldNotCacheWriteQueries(AccessMode accessMode) {
+        // given
+        var source = newSource(10);
+
+        // when
+        var connection = source.getConnection().toCompletableFuture().join();
+        for (var i = 0; i < 2; i++) {
+            connection
+                    .writeAndFlush(
+                            mock(ResponseHandler.class),
+                            List.of(run("CREATE ()", accessMode), Messages.pull(-1, -1)),
+                            null)
+                    .toCompletableFuture()
+                    .join();
+        }
+
+        // then
+        then(delegateConnection).should(times(2)).writeAndFlush(any(), anyList(), any());
+        // a write in read mode is looked up, but never stored
+        var misses = accessMode == AccessMode.READ ? 2 : 0;
+        assertEquals(new ResultCacheStatistics(0, misses, 0, 0, 0), source.statistics());
+    }
+
+    @Test
+    void shouldWriteMessagesThatCannotBeCachedToDelegate() {
+        // given
+        var source = newSource(10);
+        var connection = source.getConnection().toCompletableFuture().join();
+        var beginMessage = Messages.beginTransaction(
+                null, AccessMode.READ, null, Set.of(), TransactionType.DEFAULT, null, Map.of(), null);
+
+        // when
+        connection.write(beginMessage);
+
+        // then
+        then(delegateConnection).should().write(List.of(beginMessage));
+    }
+
+    @Test
+    void shouldWriteHeldBackMessagesToDelegateOnClose() {
+        // given
+        var source = newSource(10);
+        var connection = source.getConnection().toCompletableFuture().join();
+        var runMessage = run("RETURN 1", AccessMode.READ);
+        given(delegateConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+        given(delegateConnection.close()).willReturn(CompletableFuture.completedStage(null));
+        connection.write(runMessage);
+        then(delegateConnection).should(times(0)).write(anyList());
+
+        // when
+        connection.close().toCompletableFuture().join();
+
+        // then
+        var inOrder = inOrder(delegateConnection);
+        inOrder.verify(delegateConnection).write(List.of(runMessage));
+        inOrder.verify(delegateConnection).close();
+    }
+
+    @Test
+    void shouldInvalidateResultsOnNewCommitBookmark() {
+        // given
+        var source = newSource(10);
+        commit(source, "bookmark1");
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+
+        // when
+        commit(source, "bookmark2");
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+
+        // then
+        assertEquals(new ResultCacheStatistics(0, 2, 0, 1, 1), source.statistics());
+    }
+
+    @Test
+    void shouldInvalidateResultsOnWriteInReadMode() {
+        // given
+        var source = newSource(10);
+        autoCommitBookmark = "bookmark1";
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+        var connection = source.getConnection().toCompletableFuture().join();
+
+        // when
+        autoCommitBookmark = "bookmark2";
+        connection
+                .writeAndFlush(
+                        mock(ResponseHandler.class),
+                        List.of(run("CREATE ()", AccessMode.READ), Messages.pull(-1, -1)),
+                        null)
+                .toCompletableFuture()
+                .join();
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+
+        // then
+        then(delegateConnection).should(times(3)).writeAndFlush(any(), anyList(), any());
+        assertEquals(new ResultCacheStatistics(0, 3, 0, 1, 1), source.statistics());
+    }
+
+    @Test
+    void shouldForwardCloseWithDeadlineToDelegate() {
+        // given
+        var source = newSource(10);
+        var deadline = Duration.ofSeconds(5);
+        given(delegateSource.close(2, deadline)).willReturn(CompletableFuture.completedStage(CloseResult.EMPTY));
+
+        // when
+        var result = source.close(2, deadline).toCompletableFuture().join();
+
+        // then
+        assertEquals(CloseResult.EMPTY, result);
+        then(delegateSource).should().close(2, deadline);
+    }
+
+    @Test
+    void shouldCombineWrittenMessagesWithFlushedMessages() {
+        // given
+        var source = newSource(10);
+        read(source, "RETURN 1", mock(ResponseHandler.class));
+        var connection = source.getConnection().toCompletableFuture().join();
+        var handler = mock(ResponseHandler.class);
+
+        // when
+        connection.write(run("RETURN 1", AccessMode.READ));
+        connection.writeAndFlush(handler, Messages.pull(-1, -1), null);
+
+        // then
+        then(delegateConnection).should(times(1)).writeAndFlush(any(), anyList(), any());
+        then(delegateConnection).should(times(0)).write(anyList());
+        then(handler).should().onRecord(record);
+        assertEquals(1, source.statistics().hits());
+    }
+
+    private CachingBoltConnectionSource<BoltConnectionParameters> newSource(int maxEntries) {
+        return new CachingBoltConnectionSource<>(delegateSource, Duration.ofSeconds(10), maxEntries, 100, clock);
+    }
+
+    private void read(
+            CachingBoltConnectionSource<BoltConnectionParameters> source, String query, ResponseHandler handler) {
+        var connection = source.getConnection().toCompletableFuture().join();
+        connection
+                .writeAndFlush(handler, List.of(run(query, AccessMode.READ), Messages.pull(-1, -1)), null)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private void commit(CachingBoltConnectionSource<BoltConnectionParameters> source, String bookmark) {
+        var connection = source.getConnection().toCompletableFuture().join();
+        commitBookmark = bookmark;
+        connection.write(Messages.beginTransaction(
+                null, AccessMode.WRITE, null, Set.of(), TransactionType.DEFAULT, null, Map.of(), null));
+        connection
+                .writeAndFlush(mock(ResponseHandler.class), Messages.commit(), null)
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static PullSummary pullSummary(String queryType, String bookmark) {
+        var summary = mock(PullSummary.class);
+        var metadata = new HashMap<String, Value>();
+        metadata.put("type", stringValue(queryType));
+        if (bookmark != null) {
+            metadata.put("bookmark", stringValue(bookmark));
+        }
+        given(summary.metadata()).willReturn(metadata);
+        return summary;
+    }
+
+    private static Value stringValue(String string) {
+        var value = mock(Value.class);
+        given(value.boltValueType()).willReturn(Type.STRING);
+        given(value.asString()).willReturn(string);
+        return value;
+    }
+
+    private static Message run(String query, AccessMode accessMode) {
+        return Messages.run(null, accessMode, null, Set.of(), query, Map.of(), null, Map.of(), null);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+
+class JfrObservationProviderTest {
+    private static final String EVENT_NAME = "org.neo4j.bolt.connection.BoltExchange";
+
+    private final JfrObservationProvider provider = new JfrObservationProvider();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordBoltExchange() throws IOException {
+        // given
+        var file = tempDir.resolve("recording.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+
+            // when
+            provider.boltExchange(null, "host", 7687, new BoltProtocolVersion(5, 8), (k, v) -> {})
+                    .onEncode("RUN", 30)
+                    .onWrite("RUN")
+                    .onEncode("PULL", 12)
+                    .onWrite("PULL")
+                    .onSummary("RUN")
+                    .onRecord()
+                    .onRecord()
+                    .onSummary("PULL")
+                    .stop();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        var events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                .toList();
+        assertEquals(1, events.size());
+        var event = events.get(0);
+        assertEquals("host", event.getString("host"));
+        assertEquals(7687, event.getInt("port"));
+        assertEquals("5.8", event.getString("boltVersion"));
+        assertEquals("RUN PULL", event.getString("messages"));
+        assertEquals(42, event.getLong("bytesWritten"));
+        assertEquals(2, event.getLong("records"));
+        assertNull(event.getString("error"));
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabled() {
+        // when
+        var observation = provider.boltExchange(null, "host", 7687, new BoltProtocolVersion(5, 8), (k, v) -> {});
+
+        // then
+        assertFalse(observation instanceof JfrBoltExchangeObservation);
+        assertSame(observation, provider.httpExchange(null, null, "GET", "/", (k, v) -> {}));
+    }
+}
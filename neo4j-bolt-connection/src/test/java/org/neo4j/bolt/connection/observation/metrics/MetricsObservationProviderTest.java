@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.bolt.connection.observation.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.bolt.connection.BoltProtocolVersion;
+
+class MetricsObservationProviderTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final MetricsObservationProvider provider = new MetricsObservationProvider(nanos::get);
+
+    @Test
+    void shouldRecordPipelinedResponses() {
+        // given
+        var observation = provider.boltExchange(null, "host", 7687, new BoltProtocolVersion(5, 8), (k, v) -> {});
+
+        // when
+        observation.onEncode("RUN", 100);
+        observation.onWrite("RUN");
+        observation.onEncode("PULL", 20);
+        observation.onWrite("PULL");
+        nanos.set(10);
+        observation.onSummary("RUN");
+        nanos.set(30);
+        observation.onRecord();
+        nanos.set(40);
+        observation.onRecord();
+        observation.onRecord();
+        nanos.set(50);
+        observation.onSummary("PULL");
+        observation.stop();
+
+        // then
+        var snapshots = provider.snapshot().stream()
+                .collect(Collectors.toMap(MessageMetricsSnapshot::messageName, Function.identity()));
+        assertEquals(2, snapshots.size());
+        var run = snapshots.get("RUN");
+        assertEquals("host", run.host());
+        assertEquals(7687, run.port());
+        assertEquals(10, run.timeToSummary().max());
+        assertEquals(0, run.timeToFirstRecord().count());
+        assertEquals(0, run.recordsPerResponse().max());
+        assertEquals(100, run.bytesPerMessage().max());
+        var pull = snapshots.get("PULL");
+        assertEquals(30, pull.timeToFirstRecord().max());
+        assertEquals(50, pull.timeToSummary().max());
+        assertEquals(3, pull.recordsPerResponse().max());
+        assertEquals(20, pull.bytesPerMessage().max());
+    }
+
+    @Test
+    void shouldSplitByServerAddress() {
+        // given
+        var version = new BoltProtocolVersion(5, 8);
+
+        // when
+        provider.boltExchange(null, "host", 7687, version, (k, v) -> {})
+                .onWrite("RESET")
+                .onSummary("RESET");
+        provider.boltExchange(null, "host", 7688, version, (k, v) -> {})
+                .onWrite("RESET")
+                .onSummary("RESET");
+        provider.boltExchange(null, "host", 7688, version, (k, v) -> {})
+                .onWrite("RESET")
+                .onSummary("RESET");
+
+        // then
+        var counts = provider.snapshot().stream()
+                .collect(Collectors.toMap(MessageMetricsSnapshot::port, snapshot -> snapshot.timeToSummary()
+                        .count()));
+        assertEquals(1, counts.get(7687));
+        assertEquals(2, counts.get(7688));
+    }
+
+    @Test
+    void shouldDiscardPendingResponsesOnError() {
+        // given
+        var observation = provider.boltExchange(null, "host", 7687, new BoltProtocolVersion(5, 8), (k, v) -> {});
+        observation.onWrite("RUN");
+        observation.onWrite("PULL");
+
+        // when
+        observation.error(new RuntimeException());
+        observation.onSummary("PULL");
+
+        // then
+        provider.snapshot()
+                .forEach(snapshot -> assertEquals(0, snapshot.timeToSummary().count()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 15, 16, 17, 100, 1_000_000, Integer.MAX_VALUE, Long.MAX_VALUE})
+    void shouldBucketValueWithinBounds(long value) {
+        // when
+        var index = Histogram.bucketIndex(value);
+
+        // then
+        assertTrue(index >= 0 && index < Histogram.BUCKET_COUNT);
+        assertTrue(Histogram.bucketLowerBound(index) <= value);
+        assertTrue(Histogram.bucketUpperBound(index) >= value);
+    }
+
+    @Test
+    void shouldEstimatePercentiles() {
+        // given
+        var histogram = new Histogram();
+        for (var i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        // when
+        var snapshot = histogram.snapshot();
+
+        // then
+        assertEquals(1000, snapshot.count());
+        assertEquals(500500, snapshot.sum());
+        assertEquals(1000, snapshot.max());
+        var median = snapshot.valueAtPercentile(50);
+        assertTrue(median >= 500 && median <= 500 * 1.0625, String.valueOf(median));
+        assertEquals(1000, snapshot.valueAtPercentile(100));
+    }
+}